@@ -10,7 +10,6 @@ import io.jikkou.api.template.JinjaResourceTemplateRenderer;
 import io.jikkou.client.GlobalConfigurationContext;
 import io.jikkou.client.context.ConfigurationContext;
 import io.jikkou.core.ApiConfigurator;
-import io.jikkou.core.DefaultApi;
 import io.jikkou.core.JikkouApi;
 import io.jikkou.core.config.Configuration;
 import io.jikkou.core.extension.ClassExtensionAliasesGenerator;
@@ -19,12 +18,14 @@ import io.jikkou.core.extension.DefaultExtensionFactory;
 import io.jikkou.core.extension.DefaultExtensionRegistry;
 import io.jikkou.core.extension.ExtensionDescriptorRegistry;
 import io.jikkou.core.extension.ExtensionFactory;
+import io.jikkou.core.io.reader.ResourceFileCache;
 import io.jikkou.core.io.writer.DefaultResourceWriter;
 import io.jikkou.core.io.writer.ResourceWriter;
 import io.jikkou.core.repository.LocalResourceRepository;
 import io.jikkou.core.resource.DefaultResourceRegistry;
 import io.jikkou.core.resource.ResourceRegistry;
 import io.jikkou.core.template.ResourceTemplateRenderer;
+import io.jikkou.runtime.JikkouConfigProperties;
 import io.jikkou.runtime.JikkouContext;
 import io.jikkou.runtime.configurator.ReporterApiConfigurator;
 import io.jikkou.runtime.configurator.RepositoryApiConfigurator;
@@ -33,6 +34,7 @@ import io.jikkou.runtime.configurator.ValidationApiConfigurator;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Singleton;
+import java.nio.file.Path;
 
 /**
  * Factory class.
@@ -83,7 +85,7 @@ public final class BeanFactory {
     @Requires(missingBeans = ProxyConfiguration.class)
     @SuppressWarnings("rawtypes")
     public JikkouApi.ApiBuilder defaultApiBuilder(JikkouContext context) {
-        return new DefaultApi.Builder(context.getExtensionFactory(), context.getResourceRegistry());
+        return context.newApiBuilder();
     }
 
     @Singleton
@@ -107,6 +109,13 @@ public final class BeanFactory {
             .withPreserveRawTags(false)
             .withFailOnUnknownTokens(false);
         renderer.configure(configuration);
-        return new LocalResourceRepository(renderer);
+        ResourceFileCache cache = null;
+        if (JikkouConfigProperties.RESOURCE_CACHE_ENABLED.get(configuration)) {
+            cache = ResourceFileCache.open(
+                Path.of(JikkouConfigProperties.RESOURCE_CACHE_DIRECTORY.get(configuration)),
+                JikkouConfigProperties.RESOURCE_CACHE_MAX_ENTRIES.get(configuration)
+            );
+        }
+        return new LocalResourceRepository(renderer, cache);
     }
 }
@@ -6,10 +6,12 @@
  */
 package io.jikkou.client.command;
 
+import java.time.Duration;
 import picocli.CommandLine.Option;
 
 /**
- * Mixin class for the --provider, --provider-all, --provider-group, and --continue-on-error CLI options.
+ * Mixin class for the --provider, --provider-all, --provider-group, --continue-on-error,
+ * --provider-concurrency and --provider-timeout-ms CLI options.
  * Use this mixin to add provider selection support to commands that need
  * to target a specific provider instance or multiple providers when multiple
  * providers of the same type are configured.
@@ -42,6 +44,20 @@ public final class ProviderOptionMixin {
     )
     public boolean continueOnError;
 
+    @Option(
+            names = {"--provider-concurrency"},
+            description = "Maximum number of providers processed concurrently during batch operations (default: ${DEFAULT-VALUE})",
+            defaultValue = "1"
+    )
+    public int providerConcurrency;
+
+    @Option(
+            names = {"--provider-timeout-ms"},
+            description = "Timeout in milliseconds for each provider during batch operations (default: no timeout)",
+            defaultValue = "0"
+    )
+    public long providerTimeoutMs;
+
     /**
      * Gets the provider name.
      *
@@ -77,4 +93,22 @@ public final class ProviderOptionMixin {
     public boolean isContinueOnError() {
         return continueOnError;
     }
+
+    /**
+     * Gets the maximum number of providers processed concurrently.
+     *
+     * @return the provider concurrency, at least 1.
+     */
+    public int getProviderConcurrency() {
+        return Math.max(1, providerConcurrency);
+    }
+
+    /**
+     * Gets the timeout for each provider during batch operations.
+     *
+     * @return the provider timeout, or null if no timeout is set.
+     */
+    public Duration getProviderTimeout() {
+        return providerTimeoutMs > 0 ? Duration.ofMillis(providerTimeoutMs) : null;
+    }
 }
@@ -117,6 +117,8 @@ public final class ProviderResolver {
             .providerName(providerOptions.getProvider())
             .providerNames(providerNames)
             .continueOnError(providerOptions.isContinueOnError())
+            .providerConcurrency(providerOptions.getProviderConcurrency())
+            .providerTimeout(providerOptions.getProviderTimeout())
             .build();
     }
 }
@@ -21,12 +21,13 @@ import io.jikkou.core.ReconciliationContext;
 import io.jikkou.core.ReconciliationMode;
 import io.jikkou.core.config.Configuration;
 import io.jikkou.core.exceptions.ValidationException;
-import io.jikkou.core.models.ApiChangeResultList;
 import io.jikkou.core.models.HasItems;
+import io.jikkou.core.reconciler.ChangeResult;
 import io.jikkou.core.repository.LocalResourceRepository;
 import jakarta.inject.Inject;
 import java.io.IOException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Flow;
 import org.jetbrains.annotations.NotNull;
 import picocli.CommandLine;
 import picocli.CommandLine.Mixin;
@@ -60,13 +61,13 @@ public abstract class BaseResourceCommand extends CLIBaseCommand implements Call
     @Override
     public Integer call() throws IOException {
         try {
-            ApiChangeResultList results = api.reconcile(
+            Flow.Publisher<ChangeResult> results = api.reconcileStream(
                     getResources(),
                     getReconciliationMode(),
                     getReconciliationContext()
             );
             Printers printers = execOptions.format;
-            return printers.print(results, Jikkou.getExecutionTime(), execOptions.pretty);
+            return printers.print(results, isDryRun(), Jikkou::getExecutionTime, execOptions.pretty);
         } catch (ValidationException exception) {
             System.out.println(ValidationErrorsWriter.write(exception.errors()));
             return CommandLine.ExitCode.SOFTWARE;
@@ -8,7 +8,11 @@ package io.jikkou.client.printer;
 
 import io.jikkou.core.models.ApiChangeResultList;
 import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.ChangeResultPublisher;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.LongSupplier;
 
 public interface Printer {
     /**
@@ -21,6 +25,23 @@ public interface Printer {
      */
     int print(ApiChangeResultList result, long executionTimeMs, boolean pretty);
 
+    /**
+     * Print the execution results emitted by the specified publisher to stdout.
+     * <p>
+     * The default implementation waits for all the results to be published before printing them.
+     *
+     * @param results the publisher of the reconciliation changes to print.
+     * @param dryRun {@code true} if the reconciliation is executed in dry-run.
+     * @param executionTimeMs the supplier of the execution time in milliseconds, once all results are published.
+     * @param pretty Use a pretty-printer.
+     * @return the exit name.
+     */
+    default int print(Flow.Publisher<ChangeResult> results, boolean dryRun, LongSupplier executionTimeMs, boolean pretty) {
+        List<ChangeResult> all = new ArrayList<>();
+        ChangeResultPublisher.forEach(results, all::add);
+        return print(new ApiChangeResultList(dryRun, all), executionTimeMs.getAsLong(), pretty);
+    }
+
     static int getNumberOfFailedChange(final List<ChangeResult> results) {
         return (int) results.stream()
                 .filter(ChangeResult::isFailed)
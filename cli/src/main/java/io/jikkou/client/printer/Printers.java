@@ -8,6 +8,9 @@ package io.jikkou.client.printer;
 
 import io.jikkou.core.io.Jackson;
 import io.jikkou.core.models.ApiChangeResultList;
+import io.jikkou.core.reconciler.ChangeResult;
+import java.util.concurrent.Flow;
+import java.util.function.LongSupplier;
 import org.jetbrains.annotations.NotNull;
 
 public enum Printers implements Printer {
@@ -28,4 +31,10 @@ public enum Printers implements Printer {
     public int print(ApiChangeResultList result, long executionTimeInMillis, boolean pretty) {
         return printer.print(result, executionTimeInMillis, pretty);
     }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int print(Flow.Publisher<ChangeResult> results, boolean dryRun, LongSupplier executionTimeMs, boolean pretty) {
+        return printer.print(results, dryRun, executionTimeMs, pretty);
+    }
 }
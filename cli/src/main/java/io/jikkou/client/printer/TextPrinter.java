@@ -14,6 +14,7 @@ import io.jikkou.core.io.Jackson;
 import io.jikkou.core.models.ApiChangeResultList;
 import io.jikkou.core.models.CoreAnnotations;
 import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.ChangeResultPublisher;
 import io.jikkou.core.reconciler.Operation;
 import io.jikkou.core.reconciler.TextDescription;
 import java.io.PrintStream;
@@ -21,7 +22,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -75,7 +78,34 @@ public class TextPrinter implements Printer {
             }
         }
 
-        out().printf("%sEXECUTION in %s %s%n", isColor() ? Ansi.Color.WHITE : "", formatExecutionTime(executionTimeMs), result.dryRun() ? "(DRY_RUN)" : "");
+        return printSummary(counts, executionTimeMs, result.dryRun());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each result is printed as soon as it is published; a provider header is printed each time
+     * the provider of the results changes.
+     **/
+    @Override
+    public int print(Flow.Publisher<ChangeResult> results, boolean dryRun, LongSupplier executionTimeMs, boolean pretty) {
+        Counts counts = new Counts();
+        String[] lastProviderName = {""};
+        ChangeResultPublisher.forEach(results, change -> {
+            String providerName = Optional.ofNullable(change.change())
+                    .map(CoreAnnotations::getProvider)
+                    .orElse("");
+            if (!providerName.isEmpty() && !providerName.equals(lastProviderName[0])) {
+                printProviderHeader(providerName);
+            }
+            lastProviderName[0] = providerName;
+            printResult(change, counts);
+        });
+        return printSummary(counts, executionTimeMs.getAsLong(), dryRun);
+    }
+
+    private int printSummary(final Counts counts, final long executionTimeMs, final boolean dryRun) {
+        out().printf("%sEXECUTION in %s %s%n", isColor() ? Ansi.Color.WHITE : "", formatExecutionTime(executionTimeMs), dryRun ? "(DRY_RUN)" : "");
         out().printf("%sok : %d, created : %d, altered : %d, deleted : %d failed : %d%n", isColor() ? Ansi.Color.WHITE : "", counts.ok, counts.created, counts.changed, counts.deleted, counts.failed);
         return counts.failed > 0 ? 1 : 0;
     }
@@ -13,6 +13,7 @@ import io.jikkou.core.models.change.GenericResourceChange;
 import io.jikkou.core.models.change.ResourceChange;
 import io.jikkou.core.models.change.ResourceChangeSpec;
 import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.ChangeResultPublisher;
 import io.jikkou.core.reconciler.Operation;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -81,6 +82,23 @@ class TextPrinterTest {
         Assertions.assertEquals(1, code);
     }
 
+    @Test
+    void shouldPrintPublishedResults_whenResultsAreStreamed() {
+        ChangeResultPublisher publisher = new ChangeResultPublisher(emitter -> {
+            emitter.accept(ChangeResult.changed(changeWithOp(Operation.CREATE, "kafka-prod"), () -> "create topic on prod"));
+            emitter.accept(ChangeResult.failed(changeWithOp(Operation.UPDATE, "kafka-prod"), () -> "update topic on prod", List.of()));
+        });
+
+        int code = new TextPrinter(false).print(publisher, true, () -> 100L, false);
+
+        String output = captured.toString(StandardCharsets.UTF_8);
+        Assertions.assertEquals(1, code);
+        Assertions.assertEquals(output.indexOf("PROVIDER [kafka-prod]"), output.lastIndexOf("PROVIDER [kafka-prod]"), output);
+        Assertions.assertTrue(output.indexOf("update topic on prod") > output.indexOf("create topic on prod"), output);
+        Assertions.assertTrue(output.contains("(DRY_RUN)"), output);
+        Assertions.assertTrue(output.contains("created : 1, altered : 0, deleted : 0 failed : 1"), output);
+    }
+
     private static ResourceChange changeWithOp(Operation op, String provider) {
         ObjectMeta.ObjectMetaBuilder meta = ObjectMeta.builder();
         if (provider != null) {
@@ -9,7 +9,9 @@ package io.jikkou.common.utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -57,6 +59,22 @@ public class AsyncUtils {
         return Either.left(res);
     }
 
+    /**
+     * Waits, without any timeout, for the given future to complete.
+     *
+     * @param future the future to wait for.
+     * @return the future value, or the unwrapped cause of its failure.
+     */
+    public static <T> Either<T, Throwable> join(CompletableFuture<T> future) {
+        try {
+            return Either.left(future.join());
+        } catch (CompletionException e) {
+            return Either.right(e.getCause() != null ? e.getCause() : e);
+        } catch (CancellationException e) {
+            return Either.right(e);
+        }
+    }
+
     public static <T> Optional<T> getValue(CompletableFuture<T> future) {
         T res = null;
         try {
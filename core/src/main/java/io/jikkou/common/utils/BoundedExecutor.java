@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An executor that runs blocking tasks on virtual threads while bounding the number
+ * of tasks executing at the same time.
+ * <p>
+ * Tasks waiting for a permit are not guaranteed to start in submission order. The optional
+ * timeout is measured from the moment a task starts executing, not from the moment it was
+ * submitted: a task waiting for a permit never times out. When a task times out or is cancelled,
+ * its future is completed immediately and its thread is interrupted, but its permit is only
+ * released once the task returns, so that the bound holds even for tasks ignoring interrupts.
+ * <p>
+ * Closing the executor interrupts all tasks that are still running or waiting.
+ */
+public final class BoundedExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    /**
+     * Creates a new {@link BoundedExecutor} instance.
+     *
+     * @param threadNamePrefix the prefix used for naming threads.
+     * @param maxConcurrency   the maximum number of tasks executing concurrently.
+     * @param timeout          the per-task timeout, or {@code null} for no timeout.
+     */
+    public BoundedExecutor(@NotNull String threadNamePrefix,
+                           int maxConcurrency,
+                           @Nullable Duration timeout) {
+        Objects.requireNonNull(threadNamePrefix, "threadNamePrefix cannot be null");
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive, was: " + maxConcurrency);
+        }
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Submits the given task for execution.
+     *
+     * @param task the task to execute.
+     * @param <T>  the type of the task result.
+     * @return a future completed with the task result.
+     */
+    public <T> CompletableFuture<T> submit(@NotNull Supplier<T> task) {
+        Objects.requireNonNull(task, "task cannot be null");
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Future<?> running = executor.submit(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.cancel(false);
+                return;
+            }
+            try {
+                if (result.isDone()) {
+                    // Cancelled while waiting for a permit.
+                    return;
+                }
+                if (timeout != null) {
+                    result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (error != null) running.cancel(true);
+        });
+        return result;
+    }
+
+    /**
+     * Interrupts all tasks that are still running or waiting for a permit.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
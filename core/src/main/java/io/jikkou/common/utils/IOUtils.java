@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
@@ -42,6 +43,27 @@ public final class IOUtils {
      * @return a list of paths matching the pattern.
      */
     public static List<Path> findMatching(final Path startingDirectory, final String pattern) {
+        Predicate<Path> matcher = newFileMatcher(startingDirectory, pattern);
+        try (Stream<Path> pathStream = Files.walk(startingDirectory)) {
+            return pathStream
+                    .filter(Files::isRegularFile)
+                    .filter(matcher)
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to traverse directory: " + startingDirectory, e);
+        }
+    }
+
+    /**
+     * Creates a predicate matching the files of the specified directory against the given pattern,
+     * the same way as {@link #findMatching(Path, String)}.
+     *
+     * @param startingDirectory the directory the pattern is relative to.
+     * @param pattern           the glob pattern to match files against (e.g., "**&#47;*.{yaml,yml}").
+     * @return a predicate returning {@code true} for the paths matching the pattern.
+     * @since 1.2.0
+     */
+    public static Predicate<Path> newFileMatcher(final Path startingDirectory, final String pattern) {
         PathMatcher pathMatcher = getPathMatcher(pattern);
         // Create a secondary matcher for the filename only when pattern starts with **/
         // This handles files in the root directory since **/ requires at least one directory
@@ -50,24 +72,17 @@ public final class IOUtils {
                 normalizedPattern.startsWith(SYNTAX_REGEX) ? normalizedPattern.substring(SYNTAX_REGEX.length()) : normalizedPattern;
         PathMatcher fileNameMatcher =
                 normalizedPattern.startsWith("**/") ? getPathMatcher(normalizedPattern.substring(3)) : null;
-        try (Stream<Path> pathStream = Files.walk(startingDirectory)) {
-            return pathStream
-                    .filter(Files::isRegularFile)
-                    .filter(path -> {
-                        Path relativePath = startingDirectory.relativize(path);
-                        if (pathMatcher.matches(relativePath)) {
-                            return true;
-                        }
-                        // For files in root directory, also try matching just the filename
-                        if (fileNameMatcher != null && relativePath.getNameCount() == 1) {
-                            return fileNameMatcher.matches(relativePath.getFileName());
-                        }
-                        return false;
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to traverse directory: " + startingDirectory, e);
-        }
+        return path -> {
+            Path relativePath = startingDirectory.relativize(path);
+            if (pathMatcher.matches(relativePath)) {
+                return true;
+            }
+            // For files in root directory, also try matching just the filename
+            if (fileNameMatcher != null && relativePath.getNameCount() == 1) {
+                return fileNameMatcher.matches(relativePath.getFileName());
+            }
+            return false;
+        };
     }
 
     public static PathMatcher getPathMatcher(final String pattern) {
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread-safe cache holding at most a fixed number of entries, evicting the least recently
+ * used entry when full.
+ * <p>
+ * Values are computed outside the lock: concurrent misses on the same key may compute the value
+ * more than once, the last computed value wins.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @since 1.2.0
+ */
+public final class LruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * Creates a new {@link LruCache} instance.
+     *
+     * @param maxSize the maximum number of entries (must be positive).
+     * @throws IllegalArgumentException if the maximum size is not positive.
+     */
+    public LruCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive, was: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the value cached for the given key.
+     *
+     * @param key the key.
+     * @return the value, or {@code null} if absent.
+     */
+    public @Nullable V get(@NotNull final K key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Caches the given value for the given key.
+     *
+     * @param key   the key.
+     * @param value the value - cannot be {@code null}.
+     */
+    public void put(@NotNull final K key, @NotNull final V value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        synchronized (entries) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * Gets the value cached for the given key, computing and caching it if absent.
+     *
+     * @param key      the key.
+     * @param function the function computing the value - cannot return {@code null}.
+     * @return the value.
+     */
+    public @NotNull V computeIfAbsent(@NotNull final K key, @NotNull final Function<? super K, ? extends V> function) {
+        V value = get(key);
+        if (value == null) {
+            value = function.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value cached for the given key.
+     *
+     * @param key the key.
+     */
+    public void remove(@NotNull final K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the cached values.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached values.
+     *
+     * @return the number of values.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class for running CPU-bound tasks in parallel.
+ *
+ * @since 1.2.0
+ */
+public final class ParallelUtils {
+
+    /**
+     * Applies the given function to all the given elements, on a dedicated fork-join pool
+     * bounded to the given parallelism. Elements are processed sequentially, on the calling thread,
+     * when the parallelism is {@code 1} or when there is at most one element.
+     * <p>
+     * Results are returned in the order of the elements, whatever the order in which they are computed.
+     *
+     * @param elements    the elements.
+     * @param parallelism the maximum number of elements processed in parallel (must be positive).
+     * @param mapper      the function to apply on each element.
+     * @return the results, in the order of the elements.
+     * @throws IllegalArgumentException if the parallelism is not positive.
+     */
+    public static <T, R> List<R> mapOrdered(@NotNull List<T> elements,
+                                            int parallelism,
+                                            @NotNull Function<? super T, ? extends R> mapper) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, was: " + parallelism);
+        }
+        if (parallelism == 1 || elements.size() <= 1) {
+            return elements.stream().<R>map(mapper).toList();
+        }
+        // A parallel stream submitted from a fork-join pool runs on that pool, not on the common pool.
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return pool.submit(() -> elements.parallelStream().<R>map(mapper).toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private ParallelUtils() {}
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread-safe token bucket used for limiting the rate at which operations are performed.
+ * <p>
+ * The bucket is refilled continuously at the configured rate and holds at most {@code burst} tokens.
+ * A caller that cannot take a token immediately reserves the next one and waits until it is available,
+ * so that waiting callers are served in the order of their arrival.
+ */
+public final class TokenBucket {
+
+    private final double nanosPerToken;
+    private final int burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new {@link TokenBucket} instance.
+     *
+     * @param permitsPerSecond the number of tokens added to the bucket per second.
+     * @param burst            the maximum number of tokens the bucket can hold.
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive, was: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive, was: " + burst);
+        }
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket, waiting until one is available.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token from the bucket only if one is immediately available.
+     *
+     * @return {@code true} if a token was taken, otherwise {@code false}.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+    }
+}
@@ -304,14 +304,28 @@ public abstract class BaseApi implements JikkouApi {
         return ResourceList.of((List<HasMetadata>) filtered);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     protected ValidationChain newResourceValidationChain(ProviderSelectionContext context) {
-        return new ValidationChain((List) extensionFactory.getAllExtensions(Validation.class, Qualifiers.enabled(), context));
+        return newResourceValidationChain(context, 1);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected ValidationChain newResourceValidationChain(ProviderSelectionContext context, int parallelism) {
+        return new ValidationChain((List) extensionFactory.getAllExtensions(Validation.class, Qualifiers.enabled(), context), parallelism);
+    }
+
+    /**
+     * Gets the maximum number of resources transformed in parallel by stateless transformations.
+     *
+     * @return the transformation parallelism.
+     * @since 1.2.0
+     */
+    protected int transformationParallelism() {
+        return 1;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected TransformationChain newResourceTransformationChain(ProviderSelectionContext context) {
-        return new TransformationChain((List) extensionFactory.getAllExtensions(Transformation.class, Qualifiers.enabled(), context));
+        return new TransformationChain((List) extensionFactory.getAllExtensions(Transformation.class, Qualifiers.enabled(), context), transformationParallelism());
     }
 
     protected CombineChangeReporter newCombineReporter(ProviderSelectionContext context) {
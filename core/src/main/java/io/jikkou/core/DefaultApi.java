@@ -6,6 +6,10 @@
  */
 package io.jikkou.core;
 
+import io.jikkou.common.utils.AsyncUtils;
+import io.jikkou.common.utils.BoundedExecutor;
+import io.jikkou.common.utils.Either;
+import io.jikkou.common.utils.ParallelUtils;
 import io.jikkou.core.action.Action;
 import io.jikkou.core.action.ExecutionResultSet;
 import io.jikkou.core.annotation.Provider;
@@ -55,12 +59,18 @@ import io.jikkou.core.models.ObjectMeta;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.models.ResourceType;
 import io.jikkou.core.models.Verb;
+import io.jikkou.core.models.change.DefaultTextDescription;
 import io.jikkou.core.models.change.ResourceChange;
 import io.jikkou.core.models.generics.GenericResourceList;
+import io.jikkou.core.policy.CelResourceValue;
 import io.jikkou.core.policy.ResourcePolicy;
+import io.jikkou.core.policy.ResourcePolicyIndex;
 import io.jikkou.core.policy.ResourcePolicyResult;
 import io.jikkou.core.policy.model.ValidatingResourcePolicy;
+import io.jikkou.core.reconciler.ChangeError;
+import io.jikkou.core.reconciler.ChangeExecutionPolicy;
 import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.ChangeResultPublisher;
 import io.jikkou.core.reconciler.Collector;
 import io.jikkou.core.reconciler.Controller;
 import io.jikkou.core.reconciler.DefaultChangeResult;
@@ -80,8 +90,9 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -89,7 +100,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -122,6 +140,12 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
      */
     public static final class Builder extends BaseBuilder<DefaultApi, Builder> {
 
+        private int planConcurrency = 1;
+        private int applyConcurrency = 1;
+        private int validationParallelism = 1;
+        private int transformationParallelism = 1;
+        private ChangeExecutionPolicy changeExecutionPolicy = ChangeExecutionPolicy.UNBOUNDED;
+
         /**
          * Creates a new {@link ExtensionFactory} instance.
          *
@@ -133,16 +157,106 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
             super(extensionFactory, resourceRegistry);
         }
 
+        /**
+         * Sets the maximum number of resource types planned concurrently when computing changes.
+         *
+         * @param planConcurrency the maximum number of resource types planned concurrently (must be positive).
+         * @return the Builder.
+         * @since 1.2.0
+         */
+        public Builder planConcurrency(int planConcurrency) {
+            if (planConcurrency < 1) {
+                throw new IllegalArgumentException("planConcurrency must be positive, was: " + planConcurrency);
+            }
+            this.planConcurrency = planConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of resource types, sharing the same reconciliation order,
+         * for which changes are applied concurrently.
+         *
+         * @param applyConcurrency the maximum number of resource types applied concurrently (must be positive).
+         * @return the Builder.
+         * @since 1.2.0
+         */
+        public Builder applyConcurrency(int applyConcurrency) {
+            if (applyConcurrency < 1) {
+                throw new IllegalArgumentException("applyConcurrency must be positive, was: " + applyConcurrency);
+            }
+            this.applyConcurrency = applyConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of threads used to run validations and to evaluate
+         * validating resource policies. Errors are reported in the same order whatever the parallelism.
+         *
+         * @param validationParallelism the maximum number of validation threads (must be positive).
+         * @return the Builder.
+         * @since 1.2.0
+         */
+        public Builder validationParallelism(int validationParallelism) {
+            if (validationParallelism < 1) {
+                throw new IllegalArgumentException("validationParallelism must be positive, was: " + validationParallelism);
+            }
+            this.validationParallelism = validationParallelism;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of resources transformed in parallel, for resource types
+         * whose transformations are all stateless.
+         *
+         * @param transformationParallelism the maximum number of transformation threads (must be positive).
+         * @return the Builder.
+         * @since 1.2.0
+         */
+        public Builder transformationParallelism(int transformationParallelism) {
+            if (transformationParallelism < 1) {
+                throw new IllegalArgumentException("transformationParallelism must be positive, was: " + transformationParallelism);
+            }
+            this.transformationParallelism = transformationParallelism;
+            return this;
+        }
+
+        /**
+         * Sets the policy limiting how changes are executed, for reconciliations whose
+         * context doesn't define its own {@link ReconciliationContext#changeExecutionPolicy()}.
+         *
+         * @param changeExecutionPolicy the default change execution policy.
+         * @return the Builder.
+         * @since 1.2.0
+         */
+        public Builder changeExecutionPolicy(@NotNull ChangeExecutionPolicy changeExecutionPolicy) {
+            this.changeExecutionPolicy = Objects.requireNonNull(changeExecutionPolicy, "changeExecutionPolicy must not be null");
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          **/
         @Override
         public DefaultApi build() {
-            return new DefaultApi(extensionFactory, resourceRegistry, providerConfigurationRegistry);
+            return new DefaultApi(
+                extensionFactory,
+                resourceRegistry,
+                providerConfigurationRegistry,
+                planConcurrency,
+                applyConcurrency,
+                validationParallelism,
+                transformationParallelism,
+                changeExecutionPolicy
+            );
         }
     }
 
     private final ResourceRegistry resourceRegistry;
+    private final int planConcurrency;
+    private final int applyConcurrency;
+    private final int validationParallelism;
+    private final int transformationParallelism;
+    private final ChangeExecutionPolicy changeExecutionPolicy;
     private boolean enableBuiltInAnnotations = false;
 
     /**
@@ -150,9 +264,27 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
      */
     private DefaultApi(@NotNull final ExtensionFactory extensionFactory,
                        @NotNull final ResourceRegistry resourceRegistry,
-                       @NotNull final ProviderConfigurationRegistry providerConfigurationRegistry) {
+                       @NotNull final ProviderConfigurationRegistry providerConfigurationRegistry,
+                       final int planConcurrency,
+                       final int applyConcurrency,
+                       final int validationParallelism,
+                       final int transformationParallelism,
+                       @NotNull final ChangeExecutionPolicy changeExecutionPolicy) {
         super(extensionFactory, providerConfigurationRegistry);
         this.resourceRegistry = Objects.requireNonNull(resourceRegistry, "resourceRegistry must not be null");
+        this.planConcurrency = planConcurrency;
+        this.applyConcurrency = applyConcurrency;
+        this.validationParallelism = validationParallelism;
+        this.transformationParallelism = transformationParallelism;
+        this.changeExecutionPolicy = changeExecutionPolicy;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected int transformationParallelism() {
+        return transformationParallelism;
     }
 
     /**
@@ -538,6 +670,37 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
         return doPatch(policies, changes, mode, context);
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public Flow.Publisher<ChangeResult> reconcileStream(@NotNull final HasItems resources,
+                                                        @NotNull final ReconciliationMode mode,
+                                                        @NotNull final ReconciliationContext context) {
+        return new ChangeResultPublisher(emitter -> {
+            if (context.isMultiProvider()) {
+                executeForEachProvider(context, "reconcile", (providerName, singleContext) -> {
+                    doStreamReconcile(resources, mode, singleContext,
+                        result -> emitter.accept(tagChangeResultWithProvider(result, providerName))
+                    );
+                    return List.of();
+                });
+            } else {
+                doStreamReconcile(resources, mode, context, emitter);
+            }
+        });
+    }
+
+    private void doStreamReconcile(@NotNull final HasItems resources,
+                                   @NotNull final ReconciliationMode mode,
+                                   @NotNull final ReconciliationContext context,
+                                   @NotNull final Consumer<ChangeResult> emitter) {
+        ResourceList<HasMetadata> all = addAllResourcesFromRepositories(resources);
+        List<ResourceChange> changes = doDiff(all, NOOP_RESOURCE_CHANGE_FILTER, context).getItems();
+        List<ResourcePolicy> policies = getResourcePoliciesFrom(resources);
+        doStreamPatch(policies, changes, mode, context, emitter);
+    }
+
     /**
      * {@inheritDoc}
      **/
@@ -603,8 +766,8 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
     }
 
     /**
-     * Generic multi-provider operation executor. Iterates over each provider,
-     * executing the given operation and aggregating results.
+     * Generic multi-provider operation executor. Executes the given operation for each provider
+     * and aggregates results in provider order.
      *
      * @since 0.38.0
      */
@@ -614,38 +777,78 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
             @NotNull MultiProviderOperation operation,
             @NotNull ReconciliationContext context,
             @NotNull String operationName) {
-        List<ChangeResult> aggregatedResults = new LinkedList<>();
-        List<String> failedProviders = new LinkedList<>();
+        List<ChangeResult> aggregatedResults = executeForEachProvider(context, operationName,
+            (providerName, singleContext) -> operation.execute(resources, singleContext)
+                .results()
+                .stream()
+                .map(r -> tagChangeResultWithProvider(r, providerName))
+                .toList()
+        );
+        return new ApiChangeResultList(context.isDryRun(), new ObjectMeta(), aggregatedResults);
+    }
 
+    /**
+     * Executes the given task for each provider of the given context. Providers are processed
+     * concurrently when the context allows more than one provider at a time or defines a
+     * per-provider timeout; results are always merged in provider order.
+     *
+     * @param context       the multi-provider reconciliation context.
+     * @param operationName the operation name used for logging and error reporting.
+     * @param task          the task to execute for each provider.
+     * @return the results of all providers, in provider order.
+     * @since 1.2.0
+     */
+    @NotNull
+    private <T> List<T> executeForEachProvider(@NotNull ReconciliationContext context,
+                                               @NotNull String operationName,
+                                               @NotNull ProviderTask<T> task) {
         List<String> providerNames = context.providerNames();
-        for (int i = 0; i < providerNames.size(); i++) {
-            String providerName = providerNames.get(i);
-            LOG.info("Executing {} for provider '{}' ({} of {}).",
-                operationName, providerName, i + 1, providerNames.size()
-            );
-
-            ReconciliationContext singleContext = ReconciliationContext.builder()
-                .selector(context.selector())
-                .configuration(context.configuration())
-                .dryRun(context.isDryRun())
-                .labels(context.labels())
-                .annotations(context.annotations())
-                .providerName(providerName)
-                .build();
+        List<T> aggregated = new ArrayList<>();
+        List<String> failedProviders = new LinkedList<>();
 
-            try {
-                ApiChangeResultList result = operation.execute(resources, singleContext);
-                result.results().stream()
-                    .map(r -> tagChangeResultWithProvider(r, providerName))
-                    .forEach(aggregatedResults::add);
-            } catch (Exception e) {
-                LOG.error("{} failed for provider '{}': {}", operationName, providerName, e.getMessage(), e);
-                failedProviders.add(providerName);
-
-                if (!context.continueOnError()) {
-                    throw new JikkouRuntimeException(String.format(
-                        "%s failed for provider '%s'. Use --continue-on-error to continue with remaining providers. Cause: %s",
-                        operationName, providerName, e.getMessage()), e);
+        int concurrency = Math.min(context.providerConcurrency(), providerNames.size());
+        Duration timeout = context.providerTimeout();
+        if (concurrency <= 1 && timeout == null) {
+            for (int i = 0; i < providerNames.size(); i++) {
+                String providerName = providerNames.get(i);
+                LOG.info("Executing {} for provider '{}' ({} of {}).",
+                    operationName, providerName, i + 1, providerNames.size()
+                );
+                try {
+                    aggregated.addAll(task.execute(providerName, newSingleProviderContext(context, providerName)));
+                } catch (Exception e) {
+                    onProviderFailure(context, operationName, providerName, e, failedProviders);
+                }
+            }
+        } else {
+            LOG.info("Executing {} for {} providers (concurrency: {}, timeout: {}).",
+                operationName, providerNames.size(), concurrency, timeout != null ? timeout : "none"
+            );
+            try (BoundedExecutor executor = new BoundedExecutor("jikkou-provider-", concurrency, timeout)) {
+                List<CompletableFuture<List<T>>> futures = new ArrayList<>(providerNames.size());
+                for (int i = 0; i < providerNames.size(); i++) {
+                    final String providerName = providerNames.get(i);
+                    final int position = i + 1;
+                    futures.add(executor.submit(() -> {
+                        LOG.info("Executing {} for provider '{}' ({} of {}).",
+                            operationName, providerName, position, providerNames.size()
+                        );
+                        return task.execute(providerName, newSingleProviderContext(context, providerName));
+                    }));
+                }
+                for (int i = 0; i < providerNames.size(); i++) {
+                    String providerName = providerNames.get(i);
+                    Either<List<T>, Throwable> result = AsyncUtils.join(futures.get(i));
+                    if (result.isLeft()) {
+                        aggregated.addAll(result.left().get());
+                    } else {
+                        Throwable error = result.right().get();
+                        if (error instanceof TimeoutException) {
+                            error = new JikkouRuntimeException(String.format(
+                                "Timed out after %s", timeout), error);
+                        }
+                        onProviderFailure(context, operationName, providerName, error, failedProviders);
+                    }
                 }
             }
         }
@@ -653,8 +856,41 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
         if (!failedProviders.isEmpty()) {
             LOG.warn("{} completed with failures on providers: {}", operationName, failedProviders);
         }
+        return aggregated;
+    }
 
-        return new ApiChangeResultList(context.isDryRun(), new ObjectMeta(), aggregatedResults);
+    private static void onProviderFailure(@NotNull ReconciliationContext context,
+                                          @NotNull String operationName,
+                                          @NotNull String providerName,
+                                          @NotNull Throwable e,
+                                          @NotNull List<String> failedProviders) {
+        LOG.error("{} failed for provider '{}': {}", operationName, providerName, e.getMessage(), e);
+        failedProviders.add(providerName);
+
+        if (!context.continueOnError()) {
+            throw new JikkouRuntimeException(String.format(
+                "%s failed for provider '%s'. Use --continue-on-error to continue with remaining providers. Cause: %s",
+                operationName, providerName, e.getMessage()), e);
+        }
+    }
+
+    @NotNull
+    private static ReconciliationContext newSingleProviderContext(@NotNull ReconciliationContext context,
+                                                                  @NotNull String providerName) {
+        return ReconciliationContext.builder()
+            .selector(context.selector())
+            .configuration(context.configuration())
+            .dryRun(context.isDryRun())
+            .labels(context.labels())
+            .annotations(context.annotations())
+            .providerName(providerName)
+            .changeExecutionPolicy(context.changeExecutionPolicy())
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface ProviderTask<T> {
+        List<T> execute(@NotNull String providerName, @NotNull ReconciliationContext context);
     }
 
     @FunctionalInterface
@@ -711,6 +947,62 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
                                         @NotNull ReconciliationMode mode,
                                         @NotNull ReconciliationContext context) {
 
+        final List<ChangeResult> results = applyPatches(policies, changes, mode, context, UnaryOperator.identity());
+
+        if (!context.isDryRun()) {
+            List<ChangeResult> reportable = results.stream()
+                .filter(t -> !CoreAnnotations.isAnnotatedWithNoReport(t.change()))
+                .collect(Collectors.toList());
+            CombineChangeReporter reporter = newCombineReporter(createProviderContext(context));
+            reporter.report(reportable);
+        }
+        return new ApiChangeResultList(context.isDryRun(), new ObjectMeta(), results);
+    }
+
+    /**
+     * Applies the given changes, emitting the result of each change as soon as it completes, when the
+     * controller executes its changes through a {@link io.jikkou.core.reconciler.DefaultChangeExecutor},
+     * or else once its resource type is complete. Results are reported by batch, one per resource type,
+     * instead of once all changes are applied, and are not retained once the resource type is complete.
+     */
+    private void doStreamPatch(List<ResourcePolicy> policies,
+                               List<ResourceChange> changes,
+                               @NotNull ReconciliationMode mode,
+                               @NotNull ReconciliationContext context,
+                               @NotNull Consumer<ChangeResult> emitter) {
+        final CombineChangeReporter reporter = context.isDryRun() ? null : newCombineReporter(createProviderContext(context));
+        // The changes whose result was emitted by the change executor, until their resource type is complete.
+        final Set<ResourceChange> emitted = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+        final ReconciliationContext listening = context.toBuilder()
+            .changeResultListener(result -> {
+                // Results may complete concurrently: they are emitted one at a time.
+                synchronized (emitter) {
+                    emitted.add(result.change());
+                    emitter.accept(result);
+                }
+            })
+            .build();
+        applyPatches(policies, changes, mode, listening, batch -> {
+            synchronized (emitter) {
+                batch.stream()
+                    .filter(result -> !emitted.remove(result.change()))
+                    .forEach(emitter);
+            }
+            if (reporter != null) {
+                reporter.report(batch.stream()
+                    .filter(t -> !CoreAnnotations.isAnnotatedWithNoReport(t.change()))
+                    .collect(Collectors.toList())
+                );
+            }
+            return List.of();
+        });
+    }
+
+    private List<ChangeResult> applyPatches(List<ResourcePolicy> policies,
+                                            List<ResourceChange> changes,
+                                            @NotNull ReconciliationMode mode,
+                                            @NotNull ReconciliationContext context,
+                                            @NotNull UnaryOperator<List<ChangeResult>> onResults) {
         ResourceList<ResourceChange> validated = applyValidatingResourcePolicy(policies, changes).get();
 
         Map<Boolean, List<ResourceChange>> changesGroupByIsReplace = validated.stream().collect(Collectors.groupingBy(it -> Operation.REPLACE.equals(it.getOp())));
@@ -720,74 +1012,115 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
 
         final List<ChangeResult> results = new LinkedList<>();
         if (allChangesForAnyOtherOp != null) {
-            results.addAll(applyPatchesAndGetResults(mode, context, allChangesForAnyOtherOp));
+            results.addAll(applyPatchesAndGetResults(mode, context, allChangesForAnyOtherOp, onResults));
         }
 
         if (allChangesForReplaceOp != null) {
-            results.addAll(applyPatchesAndGetResults(mode, context, allChangesForReplaceOp.stream().map(it -> (ResourceChange) it.getSpec().getChanges().getLast("delete").getBefore()).toList()));
-            results.addAll(applyPatchesAndGetResults(mode, context, allChangesForReplaceOp.stream().map(it -> (ResourceChange) it.getSpec().getChanges().getLast("create").getAfter()).toList()));
-        }
-
-        if (!context.isDryRun()) {
-            List<ChangeResult> reportable = results.stream()
-                .filter(t -> !CoreAnnotations.isAnnotatedWithNoReport(t.change()))
-                .collect(Collectors.toList());
-            CombineChangeReporter reporter = newCombineReporter(createProviderContext(context));
-            reporter.report(reportable);
+            results.addAll(applyPatchesAndGetResults(mode, context, allChangesForReplaceOp.stream().map(it -> (ResourceChange) it.getSpec().getChanges().getLast("delete").getBefore()).toList(), onResults));
+            results.addAll(applyPatchesAndGetResults(mode, context, allChangesForReplaceOp.stream().map(it -> (ResourceChange) it.getSpec().getChanges().getLast("create").getAfter()).toList(), onResults));
         }
-        return new ApiChangeResultList(context.isDryRun(), new ObjectMeta(), results);
+        return results;
     }
 
-    private List<ChangeResult> applyPatchesAndGetResults(@NotNull ReconciliationMode mode, @NotNull ReconciliationContext context, List<ResourceChange> changes) {
+    /**
+     * Applies the given changes wave by wave. A wave groups all the resource types sharing the same
+     * reconciliation order: the types of a wave are applied concurrently, up to the configured apply
+     * concurrency, and a wave only starts once the previous one is complete. Waves are walked in
+     * ascending reconciliation order, or in descending order when all changes are deletions.
+     * The results of each resource type are passed to the given callback as soon as the type is complete.
+     * <p>
+     * A resource type whose controller fails does not abort the other types, which may already have
+     * applied their changes: all the changes of the failed type are reported as failed results,
+     * whatever the apply concurrency.
+     */
+    private List<ChangeResult> applyPatchesAndGetResults(@NotNull ReconciliationMode mode,
+                                                         @NotNull ReconciliationContext reconciliationContext,
+                                                         List<ResourceChange> changes,
+                                                         @NotNull UnaryOperator<List<ChangeResult>> onResults) {
+        final ReconciliationContext context = reconciliationContext.changeExecutionPolicy() != null ?
+            reconciliationContext :
+            reconciliationContext.toBuilder().changeExecutionPolicy(changeExecutionPolicy).build();
         ProviderSelectionContext providerContext = createProviderContext(context);
         Map<ResourceType, List<ResourceChange>> changesGroupByResourceType = ResourceList.of(changes).groupBy(ResourceType::of);
 
         boolean isDeleteOnly = changes.stream().allMatch(c -> Operation.DELETE.equals(c.getOp()));
 
-        // Sort resource types by reconciliation order (reverse for delete operations)
-        Comparator<ResourceType> orderComparator = Comparator
-                .comparingInt((ResourceType t) -> getReconciliationOrder(t))
-                .thenComparing(ResourceType::kind);
-        if (isDeleteOnly) {
-            orderComparator = orderComparator.reversed();
-        }
-
-        List<ResourceType> sortedTypes = changesGroupByResourceType.keySet().stream()
-                .sorted(orderComparator)
-                .toList();
+        // Group resource types by reconciliation order (reverse for delete operations)
+        final Comparator<Integer> orderComparator = isDeleteOnly ?
+            Comparator.reverseOrder() :
+            Comparator.naturalOrder();
+        final Comparator<ResourceType> typeComparator = isDeleteOnly ?
+            Comparator.comparing(ResourceType::kind).reversed() :
+            Comparator.comparing(ResourceType::kind);
+        Map<Integer, List<ResourceType>> waves = changesGroupByResourceType.keySet().stream()
+                .collect(Collectors.groupingBy(
+                    this::getReconciliationOrder,
+                    () -> new TreeMap<>(orderComparator),
+                    Collectors.collectingAndThen(Collectors.toList(), types -> types.stream()
+                        .sorted(typeComparator)
+                        .toList()
+                    )
+                ));
 
-        if (sortedTypes.size() > 1) {
+        if (changesGroupByResourceType.size() > 1) {
             LOG.info("Reconciliation order ({}): {}",
                 isDeleteOnly ? "delete" : "create/update",
-                sortedTypes.stream().map(ResourceType::kind).toList()
+                waves.values().stream().map(types -> types.stream().map(ResourceType::kind).toList()).toList()
             );
         }
 
-        return sortedTypes.stream().flatMap(type -> {
-            Controller<HasMetadata> controller = getMatchingController(type, providerContext);
-            List<ResourceChange> items = changesGroupByResourceType.get(type);
-            LOG.info("Applying {} changes for group={}, apiVersion={} and kind={} using controller: '{}' (mode: {}, dryRun: {}).",
-                items.size(),
-                type.group(),
-                type.apiVersion(),
-                type.kind(),
-                controller.getName(),
-                mode,
-                context.isDryRun()
-            );
-            Reconciler<HasMetadata> reconciler = new Reconciler<>(controller);
-            List<ChangeResult> results = reconciler.apply(items, mode, context);
-            LOG.info("Executed {} changes for group={}, apiVersion={} and kind={} using controller: '{}' (mode: {}, dryRun: {}).",
-                results.size(),
-                type.group(),
-                type.apiVersion(),
-                type.kind(),
-                controller.getName(),
-                mode,
-                context.isDryRun()
-            );
-            return results.stream();
-        }).toList();
+        List<ChangeResult> results = new ArrayList<>();
+        for (List<ResourceType> wave : waves.values()) {
+            results.addAll(executeForEachType(wave, applyConcurrency, "jikkou-apply-", "apply changes on", type -> {
+                List<ResourceChange> items = changesGroupByResourceType.get(type);
+                List<ChangeResult> applied;
+                try {
+                    applied = apply(type, items, mode, context, providerContext);
+                } catch (RuntimeException e) {
+                    JikkouRuntimeException failure = newTypeFailure("apply changes on", type, e);
+                    LOG.error(failure.getMessage(), e);
+                    applied = items.stream()
+                        .map(change -> ChangeResult.failed(
+                            change,
+                            new DefaultTextDescription(String.format("%s %s '%s'", change.getOp(), type.kind(), change.getMetadata().getName())),
+                            List.of(new ChangeError(failure.getMessage()))
+                        ))
+                        .toList();
+                }
+                return onResults.apply(applied);
+            }));
+        }
+        return results;
+    }
+
+    @NotNull
+    private List<ChangeResult> apply(@NotNull ResourceType type,
+                                     @NotNull List<ResourceChange> items,
+                                     @NotNull ReconciliationMode mode,
+                                     @NotNull ReconciliationContext context,
+                                     ProviderSelectionContext providerContext) {
+        Controller<HasMetadata> controller = getMatchingController(type, providerContext);
+        LOG.info("Applying {} changes for group={}, apiVersion={} and kind={} using controller: '{}' (mode: {}, dryRun: {}).",
+            items.size(),
+            type.group(),
+            type.apiVersion(),
+            type.kind(),
+            controller.getName(),
+            mode,
+            context.isDryRun()
+        );
+        Reconciler<HasMetadata> reconciler = new Reconciler<>(controller);
+        List<ChangeResult> applied = reconciler.apply(items, mode, context);
+        LOG.info("Executed {} changes for group={}, apiVersion={} and kind={} using controller: '{}' (mode: {}, dryRun: {}).",
+            applied.size(),
+            type.group(),
+            type.apiVersion(),
+            type.kind(),
+            controller.getName(),
+            mode,
+            context.isDryRun()
+        );
+        return applied;
     }
 
     private int getReconciliationOrder(@NotNull ResourceType type) {
@@ -857,7 +1190,7 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
     @NotNull
     private ApiValidationResult<HasMetadata> doValidate(@NotNull HasItems resources, @NotNull ReconciliationContext context) {
         List<HasMetadata> items = doPrepare(resources, context).getItems();
-        ValidationResult validationChainResult = this.newResourceValidationChain(createProviderContext(context)).validate(items);
+        ValidationResult validationChainResult = this.newResourceValidationChain(createProviderContext(context), validationParallelism).validate(items);
 
         // Get and apply all policies
         List<ResourcePolicy> policies = getResourcePoliciesFrom(resources);
@@ -932,7 +1265,7 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
     }
 
     /**
-     * Executes diff across multiple providers, aggregating results.
+     * Executes diff across multiple providers, aggregating results in provider order.
      *
      * @since 0.38.0
      */
@@ -940,40 +1273,15 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
     private ApiResourceChangeList doMultiProviderDiff(@NotNull HasItems resources,
                                                       @NotNull ResourceChangeFilter filter,
                                                       @NotNull ReconciliationContext context) {
-        List<ResourceChange> aggregatedChanges = new LinkedList<>();
-
-        List<String> providerNames = context.providerNames();
-        for (int i = 0; i < providerNames.size(); i++) {
-            String providerName = providerNames.get(i);
-            LOG.info("Computing diff for provider '{}' ({} of {}).",
-                providerName, i + 1, providerNames.size()
-            );
-
-            ReconciliationContext singleContext = ReconciliationContext.builder()
-                .selector(context.selector())
-                .configuration(context.configuration())
-                .dryRun(context.isDryRun())
-                .labels(context.labels())
-                .annotations(context.annotations())
-                .providerName(providerName)
-                .build();
-
-            try {
+        List<ResourceChange> aggregatedChanges = executeForEachProvider(context, "diff",
+            (providerName, singleContext) -> {
                 ResourceList<HasMetadata> all = addAllResourcesFromRepositories(resources);
-                ApiResourceChangeList result = doDiff(all, filter, singleContext);
-                result.getItems().stream()
+                return doDiff(all, filter, singleContext).getItems()
+                    .stream()
                     .map(change -> tagChangeWithProvider(change, providerName))
-                    .forEach(aggregatedChanges::add);
-            } catch (Exception e) {
-                LOG.error("Diff failed for provider '{}': {}", providerName, e.getMessage(), e);
-                if (!context.continueOnError()) {
-                    throw new JikkouRuntimeException(String.format(
-                        "Diff failed for provider '%s'. Use --continue-on-error to continue with remaining providers. Cause: %s",
-                        providerName, e.getMessage()), e);
-                }
+                    .toList();
             }
-        }
-
+        );
         return new ApiResourceChangeList(aggregatedChanges);
     }
 
@@ -1013,23 +1321,8 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
         ProviderSelectionContext providerContext = createProviderContext(context);
 
         // Diff
-        List<ResourceChange> results = resourcesByType.entrySet()
+        List<ResourceChange> results = planAll(resourcesByType, filter, context, providerContext)
             .stream()
-            .map(e -> {
-                final ResourceType type = e.getKey();
-                Controller<HasMetadata> controller = getMatchingController(type, providerContext);
-                List<HasMetadata> items = e.getValue();
-                LOG.info("Planning changes of {} resources for group={}, apiVersion={} and kind={} using controller: '{}'.",
-                    items.size(),
-                    type.group(),
-                    type.apiVersion(),
-                    type.kind(),
-                    controller.getName()
-                );
-                List<ResourceChange> changes = controller.plan(items, context);
-                return filter.filter(changes);
-            })
-            .flatMap(Collection::stream)
             // Tag planned changes with the provider for audit trail. The input resources
             // are deliberately left untouched: multi-provider runs reuse the same resource
             // instances for every provider, and a mutated provider annotation would exclude
@@ -1039,6 +1332,127 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
         return new ApiResourceChangeList(results);
     }
 
+    /**
+     * Plans the changes of each resource type. Resource types do not depend on each other during
+     * planning: they are planned concurrently, up to the configured plan concurrency. Changes are
+     * returned grouped by resource type, in reconciliation order, regardless of the completion order.
+     *
+     * @param resourcesByType the resources to plan, grouped by type.
+     * @param filter          the filter to apply on planned changes.
+     * @param context         the reconciliation context.
+     * @param providerContext the provider selection context.
+     * @return the planned changes.
+     */
+    @NotNull
+    private List<ResourceChange> planAll(@NotNull Map<ResourceType, List<HasMetadata>> resourcesByType,
+                                         @NotNull ResourceChangeFilter filter,
+                                         @NotNull ReconciliationContext context,
+                                         ProviderSelectionContext providerContext) {
+        List<ResourceType> types = resourcesByType.keySet()
+            .stream()
+            .sorted(Comparator
+                .comparingInt(this::getReconciliationOrder)
+                .thenComparing(ResourceType::group, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ResourceType::apiVersion, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ResourceType::kind))
+            .toList();
+
+        return executeForEachType(types, planConcurrency, "jikkou-plan-", "plan changes for",
+            type -> plan(type, resourcesByType.get(type), filter, context, providerContext)
+        );
+    }
+
+    /**
+     * Executes the given task for each resource type. Types are processed concurrently, up to the
+     * given concurrency, and results are merged in the order of the given types. The failure of a
+     * type is reported as a {@link JikkouRuntimeException} identifying that type, whatever the
+     * concurrency; when types are processed concurrently, the failures of the other types, if any,
+     * are added as suppressed exceptions.
+     *
+     * @param types            the resource types.
+     * @param maxConcurrency   the maximum number of types processed concurrently.
+     * @param threadNamePrefix the prefix used for naming threads.
+     * @param action           the action description used for error reporting.
+     * @param task             the task to execute for each type.
+     * @return the results of all types, in the order of the given types.
+     */
+    @NotNull
+    private static <T> List<T> executeForEachType(@NotNull List<ResourceType> types,
+                                                  int maxConcurrency,
+                                                  @NotNull String threadNamePrefix,
+                                                  @NotNull String action,
+                                                  @NotNull Function<ResourceType, List<T>> task) {
+        int concurrency = Math.min(maxConcurrency, types.size());
+        if (concurrency <= 1) {
+            List<T> results = new ArrayList<>();
+            for (ResourceType type : types) {
+                try {
+                    results.addAll(task.apply(type));
+                } catch (RuntimeException e) {
+                    throw newTypeFailure(action, type, e);
+                }
+            }
+            return results;
+        }
+
+        try (BoundedExecutor executor = new BoundedExecutor(threadNamePrefix, concurrency, null)) {
+            List<CompletableFuture<List<T>>> futures = types.stream()
+                .map(type -> executor.submit(() -> task.apply(type)))
+                .toList();
+
+            List<T> results = new ArrayList<>();
+            JikkouRuntimeException exception = null;
+            for (int i = 0; i < types.size(); i++) {
+                Either<List<T>, Throwable> result = AsyncUtils.join(futures.get(i));
+                if (result.isLeft()) {
+                    results.addAll(result.left().get());
+                    continue;
+                }
+                JikkouRuntimeException failure = newTypeFailure(action, types.get(i), result.right().get());
+                if (exception == null) {
+                    exception = failure;
+                } else {
+                    exception.addSuppressed(failure);
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            return results;
+        }
+    }
+
+    private static JikkouRuntimeException newTypeFailure(@NotNull String action,
+                                                         @NotNull ResourceType type,
+                                                         @NotNull Throwable error) {
+        return new JikkouRuntimeException(String.format(
+            "Failed to %s resources of type: group=%s, version=%s and kind=%s. Cause: %s",
+            action,
+            type.group(),
+            type.apiVersion(),
+            type.kind(),
+            error.getLocalizedMessage()
+        ), error);
+    }
+
+    @NotNull
+    private List<ResourceChange> plan(@NotNull ResourceType type,
+                                      @NotNull List<HasMetadata> items,
+                                      @NotNull ResourceChangeFilter filter,
+                                      @NotNull ReconciliationContext context,
+                                      ProviderSelectionContext providerContext) {
+        Controller<HasMetadata> controller = getMatchingController(type, providerContext);
+        LOG.info("Planning changes of {} resources for group={}, apiVersion={} and kind={} using controller: '{}'.",
+            items.size(),
+            type.group(),
+            type.apiVersion(),
+            type.kind(),
+            controller.getName()
+        );
+        List<ResourceChange> changes = controller.plan(items, context);
+        return filter.filter(changes);
+    }
+
     /**
      * {@inheritDoc}
      **/
@@ -1091,57 +1505,76 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
             return new ApiValidationResult<>(ResourceList.of(resources));
         }
 
+        final ResourcePolicyIndex index = new ResourcePolicyIndex(policies);
+        // Resources are evaluated independently, and results are merged in the order of the resources.
+        final List<PolicyEvaluation> evaluations = ParallelUtils.mapOrdered(
+            resources,
+            validationParallelism,
+            resource -> applyValidatingResourcePolicy(index, resource)
+        );
+
         final List<ValidationError> errors = new LinkedList<>();
         final List<T> filtered = new ArrayList<>(resources.size());
-        for (T resource : resources) {
-            boolean isResourceValidated = true;
-            for (ResourcePolicy policy : policies) {
-                if (!policy.canAccept(resource)) {
-                    continue;
-                }
+        for (int i = 0; i < resources.size(); i++) {
+            PolicyEvaluation evaluation = evaluations.get(i);
+            errors.addAll(evaluation.errors());
+            if (evaluation.isResourceValidated()) {
+                filtered.add(resources.get(i));
+            }
+        }
+        return errors.isEmpty() ?
+            new ApiValidationResult<>(ResourceList.of(filtered)) :
+            new ApiValidationResult<>(errors);
+    }
 
-                ResourcePolicyResult result = policy.evaluate(resource);
-                if (!result.hasErrors()) {
-                    continue;
-                }
+    private PolicyEvaluation applyValidatingResourcePolicy(final ResourcePolicyIndex index, final HasMetadata resource) {
+        boolean isResourceValidated = true;
+        List<ValidationError> errors = new ArrayList<>();
+        // The resource is adapted only once for all the policies evaluated on it.
+        CelResourceValue value = CelResourceValue.of(resource);
+        for (ResourcePolicy policy : index.candidates(resource)) {
+            if (!policy.canAccept(resource, value)) {
+                continue;
+            }
 
-                LOG.warn("ValidatingResourcePolicy '{}' failed on resource named '{}' with: {}. {}.",
-                    result.policyName(),
-                    resource.optionalMetadata().map(ObjectMeta::getName).orElse("<unknown>"),
-                    result.rules().getFirst().errorMessage(),
-                    result.failurePolicy().name()
-                );
-                switch (result.failurePolicy()) {
-                    case FAIL -> {
-                        errors.add(new ValidationError(
-                            result.policyName(),
-                            resource,
-                            String.format("ValidatingResourcePolicy '%s' failed on resource named '%s' with: %s",
-                                result.policyName(),
-                                resource.optionalMetadata().map(ObjectMeta::getName).orElse("<unknown>"),
-                                result.rules().getFirst().errorMessage()
-                            ),
-                            Map.of("rules", result.rules())
-                        ));
-                        isResourceValidated = false;
-                    }
-                    case CONTINUE -> {
-                        continue;
-                    }
-                    case FILTER -> {
-                        isResourceValidated = false;
-                        /* no nothing */
-                    }
-                }
+            ResourcePolicyResult result = policy.evaluate(value);
+            if (!result.hasErrors()) {
+                continue;
             }
 
-            if (isResourceValidated) {
-                filtered.add(resource);
+            LOG.warn("ValidatingResourcePolicy '{}' failed on resource named '{}' with: {}. {}.",
+                result.policyName(),
+                resource.optionalMetadata().map(ObjectMeta::getName).orElse("<unknown>"),
+                result.rules().getFirst().errorMessage(),
+                result.failurePolicy().name()
+            );
+            switch (result.failurePolicy()) {
+                case FAIL -> {
+                    errors.add(new ValidationError(
+                        result.policyName(),
+                        resource,
+                        String.format("ValidatingResourcePolicy '%s' failed on resource named '%s' with: %s",
+                            result.policyName(),
+                            resource.optionalMetadata().map(ObjectMeta::getName).orElse("<unknown>"),
+                            result.rules().getFirst().errorMessage()
+                        ),
+                        Map.of("rules", result.rules())
+                    ));
+                    isResourceValidated = false;
+                }
+                case CONTINUE -> {
+                    continue;
+                }
+                case FILTER -> {
+                    isResourceValidated = false;
+                    /* no nothing */
+                }
             }
         }
-        return errors.isEmpty() ?
-            new ApiValidationResult<>(ResourceList.of(filtered)) :
-            new ApiValidationResult<>(errors);
+        return new PolicyEvaluation(errors, isResourceValidated);
+    }
+
+    private record PolicyEvaluation(List<ValidationError> errors, boolean isResourceValidated) {
     }
 
     @SuppressWarnings("unchecked")
@@ -1174,7 +1607,12 @@ public final class DefaultApi extends BaseApi implements AutoCloseable, JikkouAp
      **/
     @Override
     public Builder toBuilder() {
-        return new Builder(extensionFactory.duplicate(), resourceRegistry);
+        return new Builder(extensionFactory.duplicate(), resourceRegistry)
+            .planConcurrency(planConcurrency)
+            .applyConcurrency(applyConcurrency)
+            .validationParallelism(validationParallelism)
+            .transformationParallelism(transformationParallelism)
+            .changeExecutionPolicy(changeExecutionPolicy);
     }
 
     /**
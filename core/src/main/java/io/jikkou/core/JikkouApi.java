@@ -32,12 +32,15 @@ import io.jikkou.core.models.HasItems;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.models.ResourceType;
+import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.ChangeResultPublisher;
 import io.jikkou.core.reconciler.Collector;
 import io.jikkou.core.reconciler.ResourceChangeFilter;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.spi.ExtensionProvider;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 
@@ -328,6 +331,29 @@ public interface JikkouApi extends AutoCloseable {
                                   @NotNull ReconciliationMode mode,
                                   @NotNull ReconciliationContext context);
 
+    /**
+     * Executes the reconciliation for the given resources, publishing the results of the changes
+     * as they complete. The reconciliation starts when a subscriber subscribes to the returned publisher;
+     * any error, including a validation error, is signaled through {@link Flow.Subscriber#onError(Throwable)}.
+     * <p>
+     * Results are published in completion order, not in the order of the resources. Streaming lets callers
+     * report progress and reduces the latency of the first results, but the resources and the computed
+     * changes are still held in memory during the reconciliation.
+     * <p>
+     * The default implementation publishes the results once the whole reconciliation is complete.
+     *
+     * @param resources the list of resource to be reconciled.
+     * @param mode      the reconciliation mode.
+     * @param context   the context to be used for conciliation.
+     * @return a single-subscriber publisher of the results of the changes applied on resources.
+     * @since 1.2.0
+     */
+    default Flow.Publisher<ChangeResult> reconcileStream(@NotNull HasItems resources,
+                                                         @NotNull ReconciliationMode mode,
+                                                         @NotNull ReconciliationContext context) {
+        return new ChangeResultPublisher(emitter -> reconcile(resources, mode, context).results().forEach(emitter));
+    }
+
     /**
      * Applies all the changes provided through the given list of resources.
      *
@@ -10,9 +10,13 @@ import io.jikkou.common.annotation.InterfaceStability;
 import io.jikkou.core.config.Configuration;
 import io.jikkou.core.models.NamedValue;
 import io.jikkou.core.models.NamedValueSet;
+import io.jikkou.core.reconciler.ChangeExecutionPolicy;
+import io.jikkou.core.reconciler.ChangeResult;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.core.selector.Selectors;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -88,6 +92,49 @@ public interface ReconciliationContext {
         return false;
     }
 
+    /**
+     * Returns the maximum number of providers processed concurrently during batch operations.
+     * A value of {@code 1} (default) processes the providers one after another.
+     *
+     * @return the maximum number of providers processed concurrently.
+     * @since 1.2.0
+     */
+    default int providerConcurrency() {
+        return 1;
+    }
+
+    /**
+     * Returns the maximum time allowed for a single provider to complete during batch operations.
+     * The timeout is measured from the moment the provider starts executing.
+     *
+     * @return the per-provider timeout, or {@code null} for no timeout.
+     * @since 1.2.0
+     */
+    default Duration providerTimeout() {
+        return null;
+    }
+
+    /**
+     * Returns the policy limiting how the changes of this reconciliation are executed.
+     *
+     * @return the change execution policy, or {@code null} to use the default policy of the API.
+     * @since 1.2.0
+     */
+    default ChangeExecutionPolicy changeExecutionPolicy() {
+        return null;
+    }
+
+    /**
+     * Returns the listener notified of the result of each change as soon as the change completes,
+     * possibly from different threads, before the results are returned by the controller.
+     *
+     * @return the listener of change results, or {@code null} if none.
+     * @since 1.2.0
+     */
+    default Consumer<ChangeResult> changeResultListener() {
+        return null;
+    }
+
     /**
      * Checks whether this context targets multiple providers (batch operation).
      *
@@ -107,6 +154,16 @@ public interface ReconciliationContext {
         return new Builder();
     }
 
+    /**
+     * Gets a new ReconciliationContext builder initialized from this context.
+     *
+     * @return a new {@link Builder} instance.
+     * @since 1.2.0
+     */
+    default Builder toBuilder() {
+        return new Builder(this);
+    }
+
     /**
      * An immutable class for building a new ReconciliationContext.
      */
@@ -137,7 +194,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -156,7 +217,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -175,7 +240,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -194,7 +263,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -213,7 +286,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -231,7 +308,11 @@ public interface ReconciliationContext {
                     NamedValueSet.setOf(annotations),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -249,7 +330,11 @@ public interface ReconciliationContext {
                     NamedValueSet.setOf(internal.annotations()).with(annotation),
                     internal.providerName(),
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -268,7 +353,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     providerName,
                     internal.providerNames(),
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -288,7 +377,11 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     providerNames,
-                    internal.continueOnError()
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
             ));
         }
 
@@ -308,7 +401,110 @@ public interface ReconciliationContext {
                     internal.annotations(),
                     internal.providerName(),
                     internal.providerNames(),
-                    continueOnError
+                    continueOnError,
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
+            ));
+        }
+
+        /**
+         * Returns a new builder with the given maximum number of providers processed concurrently.
+         *
+         * @param providerConcurrency the maximum number of providers processed concurrently (must be positive)
+         * @return a new {@link Builder}
+         * @since 1.2.0
+         */
+        public Builder providerConcurrency(int providerConcurrency) {
+            if (providerConcurrency < 1) {
+                throw new IllegalArgumentException("providerConcurrency must be positive, was: " + providerConcurrency);
+            }
+            return new Builder(new Default(
+                    internal.selector(),
+                    internal.configuration(),
+                    internal.isDryRun(),
+                    internal.labels(),
+                    internal.annotations(),
+                    internal.providerName(),
+                    internal.providerNames(),
+                    internal.continueOnError(),
+                    providerConcurrency,
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
+            ));
+        }
+
+        /**
+         * Returns a new builder with the given per-provider timeout.
+         *
+         * @param providerTimeout the per-provider timeout, or {@code null} for no timeout
+         * @return a new {@link Builder}
+         * @since 1.2.0
+         */
+        public Builder providerTimeout(Duration providerTimeout) {
+            return new Builder(new Default(
+                    internal.selector(),
+                    internal.configuration(),
+                    internal.isDryRun(),
+                    internal.labels(),
+                    internal.annotations(),
+                    internal.providerName(),
+                    internal.providerNames(),
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    providerTimeout,
+                    internal.changeExecutionPolicy(),
+                    internal.changeResultListener()
+            ));
+        }
+
+        /**
+         * Returns a new builder with the given change execution policy.
+         *
+         * @param changeExecutionPolicy the change execution policy, or {@code null} to use the default policy of the API
+         * @return a new {@link Builder}
+         * @since 1.2.0
+         */
+        public Builder changeExecutionPolicy(ChangeExecutionPolicy changeExecutionPolicy) {
+            return new Builder(new Default(
+                    internal.selector(),
+                    internal.configuration(),
+                    internal.isDryRun(),
+                    internal.labels(),
+                    internal.annotations(),
+                    internal.providerName(),
+                    internal.providerNames(),
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    changeExecutionPolicy,
+                    internal.changeResultListener()
+            ));
+        }
+
+        /**
+         * Returns a new builder with the given listener of change results.
+         *
+         * @param changeResultListener the listener notified of the result of each change, or {@code null}
+         * @return a new {@link Builder}
+         * @since 1.2.0
+         */
+        public Builder changeResultListener(Consumer<ChangeResult> changeResultListener) {
+            return new Builder(new Default(
+                    internal.selector(),
+                    internal.configuration(),
+                    internal.isDryRun(),
+                    internal.labels(),
+                    internal.annotations(),
+                    internal.providerName(),
+                    internal.providerNames(),
+                    internal.continueOnError(),
+                    internal.providerConcurrency(),
+                    internal.providerTimeout(),
+                    internal.changeExecutionPolicy(),
+                    changeResultListener
             ));
         }
 
@@ -332,6 +528,10 @@ public interface ReconciliationContext {
      * @param providerName    The selected provider name for this reconciliation operation.
      * @param providerNames   The list of provider names for batch operations.
      * @param continueOnError Whether to continue on error during batch operations.
+     * @param providerConcurrency The maximum number of providers processed concurrently during batch operations.
+     * @param providerTimeout The per-provider timeout during batch operations.
+     * @param changeExecutionPolicy The policy limiting how changes are executed.
+     * @param changeResultListener The listener notified of the result of each change.
      */
     record Default(Selector selector,
                    Configuration configuration,
@@ -340,7 +540,11 @@ public interface ReconciliationContext {
                    NamedValueSet annotations,
                    String providerName,
                    @NotNull List<String> providerNames,
-                   boolean continueOnError)
+                   boolean continueOnError,
+                   int providerConcurrency,
+                   Duration providerTimeout,
+                   ChangeExecutionPolicy changeExecutionPolicy,
+                   Consumer<ChangeResult> changeResultListener)
             implements ReconciliationContext {
 
         public static Default EMPTY = new Default(
@@ -351,7 +555,11 @@ public interface ReconciliationContext {
                 NamedValueSet.emptySet(),
                 null,
                 List.of(),
-                false
+                false,
+                1,
+                null,
+                null,
+                null
         );
     }
 }
@@ -17,6 +17,7 @@ import io.jikkou.core.extension.builder.ExtensionDescriptorBuilder;
 import io.jikkou.core.models.HasConfig;
 import io.jikkou.core.models.HasName;
 import io.jikkou.core.models.HasPriority;
+import io.jikkou.spi.ProviderIndex;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
@@ -31,15 +32,31 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default factory class to create new {@link ExtensionDescriptor} instance.
+ * <p>
+ * The annotations of the extension classes are read from the {@link ProviderIndex} generated
+ * at build time, if any, or using reflection otherwise.
  */
 public final class DefaultExtensionDescriptorFactory implements ExtensionDescriptorFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultExtensionDescriptorFactory.class);
 
+    private final boolean useIndex;
+
     /**
      * Creates a new {@link DefaultExtensionDescriptorFactory} instance.
      */
     public DefaultExtensionDescriptorFactory() {
+        this(true);
+    }
+
+    /**
+     * Creates a new {@link DefaultExtensionDescriptorFactory} instance.
+     *
+     * @param useIndex whether to read the annotations from the {@link ProviderIndex}, when available.
+     * @since 1.2.0
+     */
+    public DefaultExtensionDescriptorFactory(final boolean useIndex) {
+        this.useIndex = useIndex;
     }
 
     /**
@@ -51,6 +68,15 @@ public final class DefaultExtensionDescriptorFactory implements ExtensionDescrip
 
         final var classLoader = extensionType.getClassLoader();
 
+        if (useIndex) {
+            Optional<ExtensionDescriptor<T>> indexed = ProviderIndex.of(classLoader)
+                .extension(extensionType)
+                .flatMap(entry -> make(extensionType, extensionSupplier, entry));
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+
         final ExtensionMetadata metadata = getExtensionMetadata(extensionType);
 
         return new ExtensionDescriptorBuilder<T>()
@@ -69,6 +95,47 @@ public final class DefaultExtensionDescriptorFactory implements ExtensionDescrip
             .build();
     }
 
+    private <T> Optional<ExtensionDescriptor<T>> make(@NotNull final Class<T> extensionType,
+                                                      @NotNull final Supplier<T> extensionSupplier,
+                                                      @NotNull final ProviderIndex.ExtensionEntry entry) {
+        final var classLoader = extensionType.getClassLoader();
+        final ExtensionMetadata metadata = new ExtensionMetadata();
+        try {
+            for (ProviderIndex.AttributeEntry indexed : entry.attributes()) {
+                var attribute = new ExtensionAttribute(indexed.name());
+                for (var value : indexed.values().entrySet()) {
+                    ProviderIndex.ValueEntry defaultValue = indexed.defaultValues().get(value.getKey());
+                    attribute.add(
+                        value.getKey(),
+                        value.getValue().toValue(classLoader),
+                        defaultValue != null ? defaultValue.toValue(classLoader) : null
+                    );
+                }
+                metadata.addAttribute(attribute);
+            }
+        } catch (ClassNotFoundException | RuntimeException e) {
+            LOG.debug("Failed to read indexed annotations of extension '{}', falling back to reflection. Cause: {}",
+                extensionType.getName(), e.getMessage());
+            return Optional.empty();
+        }
+
+        return Optional.of(new ExtensionDescriptorBuilder<T>()
+            .type(extensionType)
+            .name(entry.name())
+            .title(entry.title())
+            .description(entry.description())
+            .examples(entry.examples().stream().map(ex -> new Example(ex.title(), ex.code().toArray(String[]::new))).toList())
+            .category(ExtensionCategory.valueOf(entry.category()))
+            .properties(getConfigProperties(extensionType, extensionSupplier))
+            .isEnabled(entry.enabled())
+            .supplier(extensionSupplier)
+            .classLoader(classLoader)
+            .metadata(metadata)
+            .priority(entry.priority())
+            .build()
+        );
+    }
+
     /**
      * Gets the title of the specified extension class.
      *
@@ -79,6 +79,8 @@ public final class ResourceLoader {
 
     /**
      * Loads resource definitions from the given locations, e.g., files, directories, or URLs.
+     * <p>
+     * All the files are read concurrently, and their resources are returned in the order of the locations.
      *
      * @param locations locations from which to resource definitions.
      * @return a list of {@link HasItems}.
@@ -88,10 +90,9 @@ public final class ResourceLoader {
             return ResourceList.empty();
         }
 
-        return ResourceList.of(locations.stream()
-                .map(location -> factory.create(URI.create(location)))
-                .flatMap(reader -> reader.readAll(options).stream())
-                .toList()
-        );
+        List<URI> uris = locations.stream().map(URI::create).toList();
+        try (var reader = factory.create(uris)) {
+            return ResourceList.of(reader.readAll(options));
+        }
     }
 }
@@ -9,14 +9,27 @@ package io.jikkou.core.io.reader;
 
 import static io.jikkou.core.models.CoreAnnotations.JKKOU_IO_MANAGED_BY_LOCATION;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jikkou.core.exceptions.InvalidResourceException;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.ObjectMeta;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -53,4 +66,83 @@ public abstract class AbstractResourceReader implements ResourceReader {
         metadata.addAnnotationIfAbsent(JKKOU_IO_MANAGED_BY_LOCATION, location.toString());
         return resource.withMetadata(metadata);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<HasMetadata> readAll(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
+        try (Stream<HasMetadata> resources = stream(options)) {
+            return resources.toList();
+        }
+    }
+
+    /**
+     * Binds the documents read from the given parser one at a time, as they are requested.
+     * Empty documents are skipped. Closing the returned stream closes the parser.
+     *
+     * @param parser the parser from which to read documents.
+     * @param type   the type of the documents.
+     * @return a stream of values.
+     * @throws IOException if the first document cannot be read.
+     */
+    protected <T> Stream<T> readValues(@NotNull final JsonParser parser,
+                                       @NotNull final Class<T> type) throws IOException {
+        final MappingIterator<T> values = mapper.readValues(parser, type);
+        final Iterator<T> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return values.hasNextValue();
+                } catch (IOException e) {
+                    throw newInvalidResourceException(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return values.nextValue();
+                } catch (IOException e) {
+                    throw newInvalidResourceException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .filter(Objects::nonNull)
+            .onClose(() -> {
+                try {
+                    values.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Closes the given input after a read failure, recording any close failure as suppressed.
+     *
+     * @param input the input to close.
+     * @param cause the read failure.
+     */
+    protected static void closeOnError(@NotNull final Closeable input, @NotNull final IOException cause) {
+        try {
+            input.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Creates the exception thrown when resources cannot be read.
+     *
+     * @param e the cause.
+     * @return a new {@link JikkouRuntimeException}.
+     */
+    protected JikkouRuntimeException newInvalidResourceException(@NotNull final IOException e) {
+        String errorMessage = location != null ?
+            "Failed to parse and/or render resource file at location '%s'.".formatted(location) :
+            "Failed to parse and/or render resource file.";
+        return new InvalidResourceException(errorMessage, e);
+    }
 }
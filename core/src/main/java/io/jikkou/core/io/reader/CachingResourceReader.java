@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import io.jikkou.common.utils.IOUtils;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.template.ResourceTemplateRenderer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads the resources of a local file through a {@link ResourceFileCache}: the file is read only
+ * once, and is only parsed, and rendered, when the cache has no entry for its current content.
+ *
+ * @see ResourceFileCache
+ */
+final class CachingResourceReader implements ResourceReader {
+
+    private final ResourceFileCache cache;
+    private final Path file;
+    private final ResourceTemplateRenderer renderer;
+    private final Function<Supplier<InputStream>, ResourceReader> readerFactory;
+
+    /**
+     * Creates a new {@link CachingResourceReader} instance.
+     *
+     * @param cache            the cache.
+     * @param file             the file to read.
+     * @param renderer         the renderer of the resources, or {@code null} if templating is disabled.
+     * @param readerFactory    the function creating the reader of the file content.
+     */
+    CachingResourceReader(@NotNull final ResourceFileCache cache,
+                          @NotNull final Path file,
+                          @Nullable final ResourceTemplateRenderer renderer,
+                          @NotNull final Function<Supplier<InputStream>, ResourceReader> readerFactory) {
+        this.cache = Objects.requireNonNull(cache, "'cache' must not be null");
+        this.file = Objects.requireNonNull(file, "'file' must not be null");
+        this.renderer = renderer;
+        this.readerFactory = Objects.requireNonNull(readerFactory, "'readerFactory' must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<HasMetadata> readAll(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
+        final BasicFileAttributes attributes;
+        final byte[] content;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            // Let the reader report the failure, as if there was no cache.
+            try (ResourceReader reader = readerFactory.apply(() -> IOUtils.newInputStream(file.toUri()))) {
+                return reader.readAll(options);
+            }
+        }
+
+        Optional<String> fingerprint = cache.fingerprint(options, renderer != null);
+        if (fingerprint.isEmpty()) {
+            return read(content, options);
+        }
+
+        String inputs = fingerprint.get();
+        if (renderer != null) {
+            String template = new String(content, StandardCharsets.UTF_8);
+            if (renderer.mayContainTokens(template)) {
+                inputs = inputs + ResourceFileCache.systemFingerprint(template);
+            }
+        }
+
+        String key = ResourceFileCache.key(file, attributes, content, inputs);
+        Optional<List<HasMetadata>> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        List<HasMetadata> resources = read(content, options);
+        cache.put(key, resources);
+        return resources;
+    }
+
+    private List<HasMetadata> read(final byte[] content, final ResourceReaderOptions options) {
+        try (ResourceReader reader = readerFactory.apply(() -> new ByteArrayInputStream(content))) {
+            return reader.readAll(options);
+        }
+    }
+}
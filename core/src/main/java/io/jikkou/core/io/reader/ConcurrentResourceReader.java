@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import io.jikkou.common.utils.IOUtils;
+import io.jikkou.common.utils.ParallelUtils;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import io.jikkou.core.models.HasMetadata;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the resources from multiple locations, e.g., files, directories, or URLs.
+ * <p>
+ * Directories are expanded into the files matching the {@link ResourceReaderOptions#pattern()},
+ * in lexicographic order. All the files are then read concurrently, on a dedicated pool bounded
+ * to the {@link ResourceReaderFactory#parallelism()}, and their resources are returned in the
+ * order of the locations and files, whatever the order in which they were read.
+ * <p>
+ * A failure to read a file does not interrupt the reading of the others: once all the files are
+ * read, the failure of the first failing file is thrown, with the failures of the next ones
+ * added as suppressed exceptions.
+ *
+ * @since 1.2.0
+ */
+public final class ConcurrentResourceReader implements ResourceReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentResourceReader.class);
+
+    private final List<URI> locations;
+
+    private final ResourceReaderFactory readerFactory;
+
+    /**
+     * Creates a new {@link ConcurrentResourceReader} instance.
+     *
+     * @param locations     the locations from which to read all resources.
+     * @param readerFactory the factory used for creating the reader of each file.
+     */
+    public ConcurrentResourceReader(@NotNull final List<URI> locations,
+                                    @NotNull final ResourceReaderFactory readerFactory) {
+        this.locations = List.copyOf(Objects.requireNonNull(locations, "'locations' must not be null"));
+        this.readerFactory = Objects.requireNonNull(readerFactory, "'readerFactory' must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<HasMetadata> readAll(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
+        long start = System.nanoTime();
+        List<URI> files = locations.stream()
+            .flatMap(location -> expand(location, options))
+            .toList();
+
+        List<FileResult> results = ParallelUtils.mapOrdered(
+            files,
+            readerFactory.parallelism(),
+            file -> read(file, options)
+        );
+
+        RuntimeException error = null;
+        for (FileResult result : results) {
+            if (result.error() != null) {
+                if (error == null) {
+                    error = result.error();
+                } else {
+                    error.addSuppressed(result.error());
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+
+        List<HasMetadata> resources = results.stream()
+            .flatMap(result -> result.resources().stream())
+            .toList();
+        LOG.info("Loaded {} resources from {} files in {}ms",
+            resources.size(),
+            files.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+        return resources;
+    }
+
+    private static Stream<URI> expand(final URI location, final ResourceReaderOptions options) {
+        if (!IOUtils.isLocalDirectory(location)) {
+            return Stream.of(location);
+        }
+        Path directory = location.isAbsolute() ? Path.of(location) : Path.of(location.getPath());
+        return IOUtils.findMatching(directory, options.pattern())
+            .stream()
+            .sorted()
+            .map(Path::toUri);
+    }
+
+    private FileResult read(final URI file, final ResourceReaderOptions options) {
+        long start = System.nanoTime();
+        try (var reader = readerFactory.create(file)) {
+            List<HasMetadata> resources = reader.readAll(options);
+            LOG.debug("Read {} resources from '{}' in {}ms",
+                resources.size(),
+                file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            );
+            return new FileResult(resources, null);
+        } catch (RuntimeException e) {
+            return new FileResult(List.of(), e);
+        }
+    }
+
+    private record FileResult(List<HasMetadata> resources, RuntimeException error) {
+    }
+}
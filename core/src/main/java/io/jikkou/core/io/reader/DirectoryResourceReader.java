@@ -6,7 +6,6 @@
  */
 package io.jikkou.core.io.reader;
 
-import io.jikkou.common.utils.IOUtils;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.models.HasMetadata;
 import java.nio.file.Files;
@@ -15,6 +14,11 @@ import java.util.List;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Reads the resources from all the files of a directory matching the {@link ResourceReaderOptions#pattern()}.
+ *
+ * @see ConcurrentResourceReader
+ */
 public class DirectoryResourceReader implements ResourceReader {
 
     private final Path directory;
@@ -40,12 +44,6 @@ public class DirectoryResourceReader implements ResourceReader {
      */
     @Override
     public List<HasMetadata> readAll(@NotNull ResourceReaderOptions options) throws JikkouRuntimeException {
-        return IOUtils.findMatching(directory, options.pattern())
-            .parallelStream()
-            .flatMap(path -> {
-                try (var reader = readerFactory.create(path.toUri())) {
-                    return reader.readAll(options).stream();
-                }
-            }).toList();
+        return new ConcurrentResourceReader(List.of(directory.toUri()), readerFactory).readAll(options);
     }
 }
@@ -8,8 +8,6 @@ package io.jikkou.core.io.reader;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.jikkou.core.exceptions.InvalidResourceException;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.Resource;
@@ -17,9 +15,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -39,31 +36,19 @@ public class InputStreamResourceReader extends AbstractResourceReader {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Each YAML document is bound directly to its concrete {@link Resource} type, as it is read.
      */
     @Override
-    public List<HasMetadata> readAll(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
-
-        var factory = mapper.getFactory();
-        try (var rawInputStream = resourceSupplier.get()) {
-
-            JsonParser parser = factory.createParser(rawInputStream);
-            // Reads all YAML object from
-            List<ObjectNode> objects = mapper
-                    .readValues(parser, ObjectNode.class)
-                    .readAll();
-
-            List<HasMetadata> list = new ArrayList<>();
-            for (ObjectNode object : objects) {
-                HasMetadata resource = (HasMetadata) mapper.treeToValue(object, Resource.class);
-                list.add(mayAddResourceAnnotationForLocation(resource));
-            }
-            return list;
-
+    public Stream<HasMetadata> stream(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
+        InputStream rawInputStream = resourceSupplier.get();
+        try {
+            JsonParser parser = mapper.getFactory().createParser(rawInputStream);
+            return readValues(parser, Resource.class)
+                .map(resource -> mayAddResourceAnnotationForLocation((HasMetadata) resource));
         } catch (IOException e) {
-            String errorMessage = location != null ?
-                "Failed to parse and/or render resource file at location '%s'.".formatted(location) :
-                "Failed to parse and/or render resource file.";
-            throw new InvalidResourceException(errorMessage, e);
+            closeOnError(rawInputStream, e);
+            throw newInvalidResourceException(e);
         }
     }
 }
@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.Resource;
+import io.jikkou.core.template.TemplateBindings;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An on-disk cache of the resources parsed from local files.
+ * <p>
+ * Entries are keyed by the file path, size, last-modified time and content hash, and by a
+ * fingerprint of the values and labels used for rendering. Files that may contain template tokens
+ * are also keyed by the system environment variables and properties they reference, or by all
+ * of them if the references cannot be determined. Each entry is stored as a gzip-compressed JSON file.
+ * <p>
+ * The least recently used entries are evicted when the cache is opened, so that it holds at most
+ * the maximum number of entries, plus the entries added while it is opened. Failures to read or
+ * write entries are logged and ignored: the resources are then read from the file.
+ * <p>
+ * Files included or imported by templates are not part of the key: changes to those files, and to
+ * the system values they reference, are not detected, and the cache must be cleared when they change.
+ *
+ * @since 1.2.0
+ */
+public final class ResourceFileCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceFileCache.class);
+
+    private static final String ENTRY_SUFFIX = ".json.gz";
+
+    private static final TypeReference<List<Resource>> RESOURCES_TYPE = new TypeReference<>() {};
+
+    private static final ObjectMapper MAPPER = Jackson.JSON_OBJECT_MAPPER;
+
+    // A reference to a system value, e.g. "system.env.HOME" or "system['props']['user.dir']".
+    private static final Pattern SYSTEM_VALUE_REFERENCE = Pattern.compile(
+        "\\bsystem\\s*(?:\\.\\s*(env|props)|\\[\\s*['\"](env|props)['\"]\\s*])"
+            + "\\s*(?:\\.\\s*([A-Za-z_]\\w*)|\\[\\s*['\"]([^'\"]+)['\"]\\s*])"
+    );
+
+    private static final Pattern SYSTEM_REFERENCE = Pattern.compile("\\bsystem\\b");
+
+    private final Path directory;
+
+    private volatile Fingerprint lastFingerprint;
+
+    /**
+     * Opens the cache stored in the given directory, creating the directory if necessary,
+     * and evicts the least recently used entries beyond the given maximum number of entries.
+     *
+     * @param directory  the cache directory.
+     * @param maxEntries the maximum number of entries (must be positive).
+     * @return a new {@link ResourceFileCache}.
+     * @throws JikkouRuntimeException if the directory cannot be created.
+     */
+    public static ResourceFileCache open(@NotNull final Path directory, final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive, was: " + maxEntries);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new JikkouRuntimeException("Cannot create resource cache directory: " + directory, e);
+        }
+        ResourceFileCache cache = new ResourceFileCache(directory);
+        cache.evict(maxEntries);
+        return cache;
+    }
+
+    private ResourceFileCache(@NotNull final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the resources cached for the given key.
+     *
+     * @param key the entry key.
+     * @return the resources, or an empty optional if there is no entry, or if it cannot be read.
+     */
+    public Optional<List<HasMetadata>> get(@NotNull final String key) {
+        Path entry = directory.resolve(key + ENTRY_SUFFIX);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(entry))) {
+            List<HasMetadata> resources = MAPPER.readValue(is, RESOURCES_TYPE)
+                .stream()
+                .map(HasMetadata.class::cast)
+                .toList();
+            // Record the access, for eviction.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(resources);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Cannot read resource cache entry '{}'. Cause: {}", entry, e.getMessage());
+            deleteQuietly(entry);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Caches the given resources for the given key.
+     *
+     * @param key       the entry key.
+     * @param resources the resources.
+     */
+    public void put(@NotNull final String key, @NotNull final List<HasMetadata> resources) {
+        Path entry = directory.resolve(key + ENTRY_SUFFIX);
+        Path temp = null;
+        try {
+            // Write to a temporary file first, so that concurrent readers never see a partial entry.
+            temp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                MAPPER.writeValue(os, resources);
+            }
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Cannot write resource cache entry '{}'. Cause: {}", entry, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /**
+     * Computes the key of the entry for the given file.
+     *
+     * @param file        the file path.
+     * @param attributes  the file attributes.
+     * @param content     the file content.
+     * @param fingerprint the fingerprint of the reader options.
+     * @return the entry key.
+     */
+    public static String key(@NotNull final Path file,
+                             @NotNull final BasicFileAttributes attributes,
+                             @NotNull final byte[] content,
+                             @NotNull final String fingerprint) {
+        MessageDigest digest = newDigest();
+        digest.update(file.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Long.toString(attributes.size()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Long.toString(attributes.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(newDigest().digest(content));
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the fingerprint of the given reader options. The last computed fingerprint is
+     * memoized, as the same options are used for reading all the files of a same location.
+     * <p>
+     * The system environment variables and properties are not part of this fingerprint,
+     * see {@link #systemFingerprint(String)}.
+     *
+     * @param options          the reader options.
+     * @param isTemplateEnable whether the resources are rendered.
+     * @return the fingerprint, or an empty optional if the options cannot be fingerprinted,
+     * e.g., because they contain values that cannot be serialized.
+     */
+    public Optional<String> fingerprint(@NotNull final ResourceReaderOptions options,
+                                        final boolean isTemplateEnable) {
+        Fingerprint last = lastFingerprint;
+        if (last != null && last.options() == options && last.isTemplateEnable() == isTemplateEnable) {
+            return last.value();
+        }
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("template", isTemplateEnable);
+        inputs.put("values", options.values().asMap());
+        inputs.put("labels", options.labels().asMap());
+        Optional<String> value;
+        try {
+            byte[] bytes = MAPPER.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValueAsBytes(inputs);
+            value = Optional.of(HexFormat.of().formatHex(newDigest().digest(bytes)));
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Cannot compute fingerprint of resource reader options. Cause: {}", e.getMessage());
+            value = Optional.empty();
+        }
+        lastFingerprint = new Fingerprint(options, isTemplateEnable, value);
+        return value;
+    }
+
+    /**
+     * Computes the fingerprint of the system environment variables and properties referenced by
+     * the given template, e.g. {@code system.env.HOME}. All the system values are part of the
+     * fingerprint if the template uses them otherwise, e.g. by iterating over them.
+     *
+     * @param template the template.
+     * @return the fingerprint.
+     */
+    public static String systemFingerprint(@NotNull final String template) {
+        Map<String, Object> values = new TreeMap<>();
+        long references = 0;
+        Matcher matcher = SYSTEM_VALUE_REFERENCE.matcher(template);
+        while (matcher.find()) {
+            references++;
+            String scope = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            String name = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+            values.put(scope + ":" + name, scope.equals("env") ? System.getenv(name) : System.getProperty(name));
+        }
+        if (references < SYSTEM_REFERENCE.matcher(template).results().count()) {
+            TemplateBindings bindings = TemplateBindings.defaults();
+            values.clear();
+            bindings.getSystemEnv().forEach((name, value) -> values.put("env:" + name, value));
+            bindings.getSystemProps().forEach((name, value) -> values.put("props:" + name, value));
+        }
+        MessageDigest digest = newDigest();
+        values.forEach((name, value) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update(value == null ? (byte) 1 : (byte) 0);
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void evict(final int maxEntries) {
+        try (Stream<Path> entries = Files.list(directory)) {
+            // Read the times once, as they may change while sorting.
+            List<Path> evicted = entries
+                .filter(path -> path.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                .map(path -> Map.entry(path, lastModifiedTime(path)))
+                .sorted(Map.Entry.<Path, FileTime>comparingByValue().reversed())
+                .skip(maxEntries)
+                .map(Map.Entry::getKey)
+                .toList();
+            evicted.forEach(ResourceFileCache::deleteQuietly);
+            if (!evicted.isEmpty()) {
+                LOG.debug("Evicted {} entries from resource cache '{}'", evicted.size(), directory);
+            }
+        } catch (IOException e) {
+            LOG.warn("Cannot evict entries from resource cache '{}'. Cause: {}", directory, e.getMessage());
+        }
+    }
+
+    private static FileTime lastModifiedTime(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.debug("Cannot delete resource cache file '{}'. Cause: {}", path, e.getMessage());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Fingerprint(ResourceReaderOptions options, boolean isTemplateEnable, Optional<String> value) {
+    }
+}
@@ -10,6 +10,7 @@ import io.jikkou.common.annotation.InterfaceStability.Evolving;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.models.HasMetadata;
 import java.util.List;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -23,6 +24,23 @@ public interface ResourceReader extends AutoCloseable {
      */
     List<HasMetadata> readAll(@NotNull ResourceReaderOptions options) throws JikkouRuntimeException;
 
+    /**
+     * Reads all the resources lazily, one at a time.
+     * <p>
+     * The returned stream holds the underlying input open and must be closed once consumed,
+     * e.g., using a try-with-resources statement.
+     * <p>
+     * Readers extending {@link AbstractResourceReader} implement {@link #readAll} by collecting
+     * this stream, so that no intermediate representation of all the documents is held.
+     *
+     * @param options the options for reading resources.
+     * @return a stream of resources.
+     * @since 1.2.0
+     */
+    default Stream<HasMetadata> stream(@NotNull ResourceReaderOptions options) throws JikkouRuntimeException {
+        return readAll(options).stream();
+    }
+
     /**
      * {@inheritDoc}
      */
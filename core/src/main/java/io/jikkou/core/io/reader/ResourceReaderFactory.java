@@ -11,7 +11,9 @@ import io.jikkou.common.utils.IOUtils;
 import io.jikkou.core.template.ResourceTemplateRenderer;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -22,14 +24,26 @@ import org.jetbrains.annotations.Nullable;
  * @see InputStreamResourceReader
  * @see TemplateResourceReader
  * @see DirectoryResourceReader
+ * @see ConcurrentResourceReader
  */
 public class ResourceReaderFactory {
 
+    /**
+     * The default maximum number of files read concurrently.
+     *
+     * @since 1.2.0
+     */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
     private final ObjectMapper objectMapper;
 
     private final ResourceTemplateRenderer templateRenderer;
 
     private final boolean isTemplateEnable;
+
+    private final int parallelism;
+
+    private final ResourceFileCache cache;
     
     /**
      * Creates a new {@link ResourceReaderFactory} instance.
@@ -62,12 +76,61 @@ public class ResourceReaderFactory {
                                  @Nullable ResourceTemplateRenderer renderer,
                                  boolean isTemplateEnable
                                  ) {
+        this(objectMapper, renderer, isTemplateEnable, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a new {@link ResourceReaderFactory} instance.
+     *
+     * @param objectMapper      the {@link ObjectMapper}.
+     * @param renderer          the {@link ResourceTemplateRenderer}.
+     * @param isTemplateEnable  whether templating is enabled.
+     * @param parallelism       the maximum number of files read concurrently (must be positive).
+     * @since 1.2.0
+     */
+    public ResourceReaderFactory(@NotNull ObjectMapper objectMapper,
+                                 @Nullable ResourceTemplateRenderer renderer,
+                                 boolean isTemplateEnable,
+                                 int parallelism) {
+        this(objectMapper, renderer, isTemplateEnable, parallelism, null);
+    }
+
+    /**
+     * Creates a new {@link ResourceReaderFactory} instance.
+     *
+     * @param objectMapper      the {@link ObjectMapper}.
+     * @param renderer          the {@link ResourceTemplateRenderer}.
+     * @param isTemplateEnable  whether templating is enabled.
+     * @param parallelism       the maximum number of files read concurrently (must be positive).
+     * @param cache             the cache of the resources read from local files, if any.
+     * @since 1.2.0
+     */
+    public ResourceReaderFactory(@NotNull ObjectMapper objectMapper,
+                                 @Nullable ResourceTemplateRenderer renderer,
+                                 boolean isTemplateEnable,
+                                 int parallelism,
+                                 @Nullable ResourceFileCache cache) {
         this.templateRenderer = renderer;
         this.isTemplateEnable = isTemplateEnable;
         this.objectMapper = objectMapper;
         if (isTemplateEnable && templateRenderer == null) {
             throw new IllegalArgumentException("A render must be configured when templating is enabled");
         }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, was: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the maximum number of files read concurrently by the readers of multiple files.
+     *
+     * @return the parallelism.
+     * @since 1.2.0
+     */
+    public int parallelism() {
+        return parallelism;
     }
 
     /**
@@ -98,12 +161,43 @@ public class ResourceReaderFactory {
      * @return a new {@link ResourceReader}.
      */
     public ResourceReader create(final URI location) {
-        return IOUtils.isLocalDirectory(location)?
-                !location.isAbsolute() ?
-                        new DirectoryResourceReader(Path.of(location.getPath()), this) :
-                        new DirectoryResourceReader(Path.of(location), this)
-                :
-                getResourceReader(() -> IOUtils.newInputStream(location), location);
+        if (IOUtils.isLocalDirectory(location)) {
+            return !location.isAbsolute() ?
+                    new DirectoryResourceReader(Path.of(location.getPath()), this) :
+                    new DirectoryResourceReader(Path.of(location), this);
+        }
+        if (cache != null) {
+            Path file = getLocalFile(location);
+            if (file != null && Files.isRegularFile(file)) {
+                return new CachingResourceReader(
+                        cache,
+                        file,
+                        isTemplateEnable ? templateRenderer : null,
+                        supplier -> getResourceReader(supplier, location)
+                );
+            }
+        }
+        return getResourceReader(() -> IOUtils.newInputStream(location), location);
+    }
+
+    @Nullable
+    private static Path getLocalFile(@NotNull URI location) {
+        String scheme = location.getScheme();
+        if (scheme == null) {
+            return Path.of(location.getPath());
+        }
+        return scheme.equalsIgnoreCase("file") ? Path.of(location) : null;
+    }
+
+    /**
+     * Creates a new {@link ResourceReader} to read the resource(s) at the given locations, concurrently.
+     *
+     * @param locations the {@link URI}s of the resource(s) to be read.
+     * @return a new {@link ResourceReader}.
+     * @since 1.2.0
+     */
+    public ResourceReader create(final List<URI> locations) {
+        return new ConcurrentResourceReader(locations, this);
     }
 
     @NotNull
@@ -7,9 +7,9 @@
 package io.jikkou.core.io.reader;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.jikkou.common.utils.IOUtils;
 import io.jikkou.core.exceptions.InvalidResourceException;
 import io.jikkou.core.exceptions.InvalidResourceFileException;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
@@ -19,18 +19,17 @@ import io.jikkou.core.models.Resource;
 import io.jikkou.core.models.generics.GenericResource;
 import io.jikkou.core.template.ResourceTemplateRenderer;
 import io.jikkou.core.template.TemplateBindings;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -54,47 +53,61 @@ public final class TemplateResourceReader extends AbstractResourceReader {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The file is rendered as a whole, then each YAML document is parsed and rendered
+     * a second time, with its local labels and values, as it is read.
      */
     @Override
-    public List<HasMetadata> readAll(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
+    public Stream<HasMetadata> stream(@NotNull final ResourceReaderOptions options) throws JikkouRuntimeException {
+        var bindings = TemplateBindings.defaults()
+                .addLabels(options.labels().asMap())
+                .addValues(options.values().asMap());
 
-        var factory =  mapper.getFactory();
+        final String rendered;
         try (var rawInputStream = resourceSupplier.get()) {
-
-            var bindings = TemplateBindings.defaults()
-                    .addLabels(options.labels().asMap())
-                    .addValues(options.values().asMap());
-
             // Run first template rendering
-            try (var renderedInputStream = renderTemplate(rawInputStream, bindings)) {
-
-                JsonParser parser = factory.createParser(renderedInputStream);
-
-                // Reads all YAML object from
-                List<ObjectNode> objects = mapper
-                        .readValues(parser, ObjectNode.class)
-                        .readAll();
+            rendered = renderTemplate(readTemplate(rawInputStream), bindings);
+        } catch (IOException e) {
+            throw newInvalidResourceException(e);
+        }
 
-                List<HasMetadata> list = new ArrayList<>();
-                for (ObjectNode object : objects) {
-                    // Run second template rendering
-                    HasMetadata resource = (HasMetadata) renderTemplate(object, options);
-                    list.add(mayAddResourceAnnotationForLocation(resource));
-                }
-                return list;
-            }
+        try {
+            JsonParser parser = mapper.getFactory().createParser(rendered);
+            return readValues(parser, ObjectNode.class)
+                    .map(object -> {
+                        try {
+                            // Run second template rendering
+                            HasMetadata resource = (HasMetadata) renderTemplate(object, options);
+                            return mayAddResourceAnnotationForLocation(resource);
+                        } catch (IOException e) {
+                            throw newInvalidResourceException(e);
+                        }
+                    });
         } catch (IOException e) {
-            var message = String.format(
-                    "Failed to parse and/or render resource file at location '%s'. Cause: %s",
-                    location,
-                    e.getLocalizedMessage()
-            );
-            throw new InvalidResourceException(message, e);
+            throw newInvalidResourceException(e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected JikkouRuntimeException newInvalidResourceException(@NotNull final IOException e) {
+        var message = String.format(
+                "Failed to parse and/or render resource file at location '%s'. Cause: %s",
+                location,
+                e.getLocalizedMessage()
+        );
+        return new InvalidResourceException(message, e);
+    }
+
     private Resource renderTemplate(@NotNull final ObjectNode objectNode,
                                     @NotNull final ResourceReaderOptions options) throws IOException {
+        // Fast path: a document without any template token renders to itself.
+        if (!mayContainTokens(objectNode)) {
+            return mapper.treeToValue(objectNode, Resource.class);
+        }
+
         GenericResource resource;
 
         resource = mapper.treeToValue(objectNode, GenericResource.class);
@@ -115,43 +128,55 @@ public final class TemplateResourceReader extends AbstractResourceReader {
                 .addValues(options.values().asMap())
                 .addValues(localValues);
 
-        try (var objectNodeInputStream = objectNodeToInputStreams(mapper, objectNode);
-             var renderedInputStream = renderTemplate(objectNodeInputStream, localBindings)) {
-            return mapper.readValue(renderedInputStream, Resource.class);
-        }
+        String rendered = renderTemplate(mapper.writeValueAsString(objectNode), localBindings);
+        return mapper.readValue(rendered, Resource.class);
     }
 
-    @NotNull
-    private static InputStream objectNodeToInputStreams(ObjectMapper mapper,
-                                                        ObjectNode object) throws IOException {
-        try(ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            mapper.writeValue(os, object);
-            os.flush();
-            return new ByteArrayInputStream(os.toByteArray());
+    private boolean mayContainTokens(@NotNull final JsonNode node) {
+        if (node.isTextual()) {
+            return renderer.mayContainTokens(node.textValue());
+        }
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (renderer.mayContainTokens(field.getKey()) || mayContainTokens(field.getValue())) {
+                    return true;
+                }
+            }
+            return false;
         }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                if (mayContainTokens(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
-    private InputStream renderTemplate(final @NotNull InputStream templateInputStream,
-                                       final @NotNull TemplateBindings templateBindings) {
-        final String resource;
-
+    private String readTemplate(final @NotNull InputStream templateInputStream) {
         try {
-            resource = new String(templateInputStream.readAllBytes(), StandardCharsets.UTF_8);
+            return new String(templateInputStream.readAllBytes(), StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new InvalidResourceFileException(
                     location,
                     e.getLocalizedMessage());
         }
+    }
 
+    private String renderTemplate(final @NotNull String resource,
+                                  final @NotNull TemplateBindings templateBindings) {
         if (resource.isEmpty()) {
             throw new InvalidResourceFileException(
                     location,
                     String.format("Resource file at location '%s' is empty", location)
             );
         }
-
-        final String rendered = renderer.render(resource, location, templateBindings);
-
-        return IOUtils.openStream(rendered);
+        if (!renderer.mayContainTokens(resource)) {
+            return resource;
+        }
+        return renderer.render(resource, location, templateBindings);
     }
 }
@@ -22,6 +22,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
@@ -29,6 +30,10 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Class which is used to represent a set of resource configuration.
+ * <p>
+ * Configs may be created on top of shared defaults, see {@link #withDefaults(Configs)}: only the values
+ * added to the configs are held by the instance, while all the methods expose the resolved view of
+ * the defaults overridden by the added values.
  **/
 @JsonSerialize(using = Configs.Serializer.class)
 @JsonDeserialize(using = Configs.Deserializer.class)
@@ -40,6 +45,22 @@ public class Configs implements Iterable<ConfigValue> {
 
     private final TreeMap<String, ConfigValue> configValues;
 
+    private final Configs defaults;
+
+    /**
+     * Static helper method to create a new empty {@link Configs} object on top of the given defaults.
+     * <p>
+     * The defaults are not copied: they can be shared by many configs, and must not be modified once
+     * shared. Values added to the returned configs override the default values with the same name.
+     *
+     * @param defaults the default config values.
+     * @return new {@link Configs}.
+     * @since 1.2.0
+     */
+    public static Configs withDefaults(@NotNull Configs defaults) {
+        return new Configs(new TreeMap<>(), Objects.requireNonNull(defaults, "defaults cannot be null"));
+    }
+
     /**
      * Static helper method to create a new {@link Configs} object containing a single config property.
      *
@@ -98,10 +119,15 @@ public class Configs implements Iterable<ConfigValue> {
      * @param values the config values.
      */
     public Configs(final Set<ConfigValue> values) {
-        this.configValues = new TreeMap<>();
+        this(new TreeMap<>(), null);
         values.forEach(this::add);
     }
 
+    private Configs(final TreeMap<String, ConfigValue> configValues, final Configs defaults) {
+        this.configValues = configValues;
+        this.defaults = defaults;
+    }
+
     /**
      * Adds a new {@link ConfigValue} to {@code this} configs.
      *
@@ -109,7 +135,8 @@ public class Configs implements Iterable<ConfigValue> {
      * @return the previous config containing into {@code this} configs.
      */
     public ConfigValue add(final ConfigValue value) {
-        return this.configValues.put(value.name(), value);
+        ConfigValue previous = this.configValues.put(value.name(), value);
+        return previous != null || defaults == null ? previous : defaults.get(value.name());
     }
 
     /**
@@ -127,7 +154,7 @@ public class Configs implements Iterable<ConfigValue> {
      * @param configs the config values to be added.
      */
     public void addAll(final Configs configs) {
-        this.configValues.putAll(configs.configValues);
+        this.configValues.putAll(configs.resolved());
     }
 
     /**
@@ -136,11 +163,11 @@ public class Configs implements Iterable<ConfigValue> {
      * @return a new {@link Set} of {@link ConfigValue}.
      */
     public Set<ConfigValue> values() {
-        return new LinkedHashSet<>(this.configValues.values());
+        return new LinkedHashSet<>(resolved().values());
     }
 
     public Configs filterAllNotContainedIn(final Configs configs) {
-        Set<ConfigValue> filteredConfigs = this.configValues.values()
+        Set<ConfigValue> filteredConfigs = resolved().values()
                 .stream()
                 .filter(v -> !configs.values().contains(v))
                 .collect(Collectors.toSet());
@@ -149,7 +176,7 @@ public class Configs implements Iterable<ConfigValue> {
 
 
     public int size() {
-        return this.configValues.size();
+        return resolved().size();
     }
 
     public boolean isEmpty() {
@@ -157,13 +184,14 @@ public class Configs implements Iterable<ConfigValue> {
     }
 
     public ConfigValue get(final String name) {
-        return this.configValues.get(name);
+        ConfigValue value = this.configValues.get(name);
+        return value != null || defaults == null ? value : defaults.get(name);
     }
 
     /** {@inheritDoc} */
     @Override
     public @NotNull Iterator<ConfigValue> iterator() {
-        return configValues.values().iterator();
+        return resolved().values().iterator();
     }
 
     public Configs flatten() {
@@ -171,7 +199,7 @@ public class Configs implements Iterable<ConfigValue> {
     }
 
     public Map<String, Object> toMap() {
-        return new TreeMap<>(configValues.values()
+        return new TreeMap<>(resolved().values()
                 .stream()
                 .filter(it -> it.value() != null)
                 .collect(Collectors.toMap(
@@ -185,23 +213,36 @@ public class Configs implements Iterable<ConfigValue> {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Configs that)) return false;
-        return Objects.equals(configValues, that.configValues);
+        return Objects.equals(resolved(), that.resolved());
     }
 
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
-        return Objects.hash(configValues);
+        return Objects.hash(resolved());
     }
 
     /** {@inheritDoc} */
     @Override
     public String toString() {
         return "Configs{" +
-                "values=" + configValues +
+                "values=" + resolved() +
                 '}';
     }
 
+    /**
+     * Gets the values of the defaults overridden by the values of {@code this} configs,
+     * without copying the values when there are no defaults.
+     */
+    private SortedMap<String, ConfigValue> resolved() {
+        if (defaults == null) {
+            return configValues;
+        }
+        TreeMap<String, ConfigValue> resolved = new TreeMap<>(defaults.resolved());
+        resolved.putAll(configValues);
+        return resolved;
+    }
+
     public static class Deserializer extends JsonDeserializer<Configs> {
 
         /** {@inheritDoc} */
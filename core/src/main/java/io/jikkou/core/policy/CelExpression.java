@@ -17,5 +17,17 @@ public interface CelExpression<T> {
      * @param resource The resource - cannot be {@code null}.
      * @return the expression evaluation result.
      */
-    T eval(Resource resource);
+    default T eval(Resource resource) {
+        return eval(CelResourceValue.of(resource));
+    }
+
+    /**
+     * Evaluates this expression on the given resource value, which can be shared
+     * by all the expressions evaluated on the same resource.
+     *
+     * @param resource The resource value - cannot be {@code null}.
+     * @return the expression evaluation result.
+     * @since 1.2.0
+     */
+    T eval(CelResourceValue resource);
 }
@@ -19,7 +19,7 @@ import dev.cel.parser.CelStandardMacro;
 import dev.cel.runtime.CelEvaluationException;
 import dev.cel.runtime.CelRuntime;
 import dev.cel.runtime.CelRuntimeFactory;
-import io.jikkou.core.io.Jackson;
+import io.jikkou.common.utils.LruCache;
 import java.util.Map;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +40,8 @@ public final class CelExpressionFactory<T> {
 
     public static final String RESOURCE_VAR = "resource";
 
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+
     static {
         // CelRuntime takes in a compiled expression and produces an evaluable instance.
         // CelRuntime can also be initialized statically and cached just like the
@@ -74,6 +76,7 @@ public final class CelExpressionFactory<T> {
     }
 
     private final CelCompiler celCompiler;
+    private final LruCache<String, CelExpression<T>> cache = new LruCache<>(MAX_CACHED_EXPRESSIONS);
 
     /**
      * Creates a new {@link CelExpressionFactory} instance.
@@ -100,40 +103,34 @@ public final class CelExpressionFactory<T> {
     }
 
     /**
-     * Compiles the given expression.
+     * Compiles the given expression. The expression is type-checked and planned only once:
+     * compiling a same expression again returns the cached {@link CelExpression}, the least
+     * recently used expressions being evicted once {@value #MAX_CACHED_EXPRESSIONS} are cached.
      *
      * @param expression The expression to compile
      * @return a new {@link CelExpression}.
      */
-    @SuppressWarnings("unchecked")
     public CelExpression<T> compile(final @NotNull String expression) {
+        Objects.requireNonNull(expression, "expression cannot be null");
+        return cache.computeIfAbsent(expression, this::newExpression);
+    }
 
+    @SuppressWarnings("unchecked")
+    private CelExpression<T> newExpression(final @NotNull String expression) {
         CelAbstractSyntaxTree ast = compileExpression(expression);
 
+        // Plan the program - programs are immutable and can be evaluated concurrently.
+        final CelRuntime.Program program;
+        try {
+            program = CEL_RUNTIME.createProgram(ast);
+        } catch (CelEvaluationException e) {
+            throw toIllegalArgumentExpression(expression, e);
+        }
+
         // Evaluate the program
         return resource -> {
             try {
-                // Serialize through JSON (not convertValue) so that every scalar is
-                // normalized to a JSON-native Java type: convertValue would preserve
-                // POJO field types such as Short (e.g. KafkaTopic spec.replicas) that
-                // the CEL runtime cannot adapt, breaking numeric expressions.
-                final Map<String, Object> json;
-                try {
-                    json = Jackson.json().readValue(Jackson.json().writeValueAsBytes(resource), Map.class);
-                } catch (java.io.IOException e) {
-                    throw new IllegalArgumentException("Failed to serialize resource for CEL evaluation", e);
-                }
-
-                // Plan the program
-                final CelRuntime.Program program;
-                try {
-                    program = CEL_RUNTIME.createProgram(ast);
-                } catch (CelEvaluationException e) {
-                    throw toIllegalArgumentExpression(expression, e);
-                }
-
-                return (T) program.eval(Map.of(RESOURCE_VAR, json));
-
+                return (T) program.eval(Map.of(RESOURCE_VAR, resource.value()));
             } catch (CelEvaluationException e) {
                 throw toIllegalArgumentExpression(expression, e);
             }
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.policy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.Resource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The value bound to the {@link CelExpressionFactory#RESOURCE_VAR} variable when evaluating
+ * a {@link CelExpression} on a resource.
+ * <p>
+ * The resource is adapted only once, on first use, so that a single instance can be shared by all
+ * the expressions evaluated on the same resource. Scalars are normalized to the types natively
+ * supported by CEL: integral numbers to {@link Long}, decimal numbers to {@link Double}.
+ *
+ * @since 1.2.0
+ */
+public final class CelResourceValue {
+
+    private final Resource resource;
+    private volatile Map<String, Object> value;
+
+    /**
+     * Creates a new {@link CelResourceValue} for the given resource.
+     *
+     * @param resource the resource - cannot be {@code null}.
+     * @return a new {@link CelResourceValue}.
+     */
+    public static CelResourceValue of(@NotNull Resource resource) {
+        return new CelResourceValue(resource);
+    }
+
+    private CelResourceValue(@NotNull Resource resource) {
+        this.resource = Objects.requireNonNull(resource, "resource cannot be null");
+    }
+
+    /**
+     * Gets the adapted resource.
+     *
+     * @return the resource.
+     */
+    public Resource resource() {
+        return resource;
+    }
+
+    /**
+     * Gets the resource as a CEL map value.
+     *
+     * @return the map value.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> value() {
+        Map<String, Object> result = value;
+        if (result == null) {
+            JsonNode node = Jackson.json().valueToTree(resource);
+            result = node != null && node.isObject() ?
+                (Map<String, Object>) adapt(node) :
+                Collections.emptyMap();
+            value = result;
+        }
+        return result;
+    }
+
+    private static Object adapt(final JsonNode node) {
+        return switch (node.getNodeType()) {
+            case OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>(node.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    map.put(field.getKey(), adapt(field.getValue()));
+                }
+                yield Collections.unmodifiableMap(map);
+            }
+            case ARRAY -> {
+                List<Object> list = new ArrayList<>(node.size());
+                for (JsonNode element : node) {
+                    list.add(adapt(element));
+                }
+                yield Collections.unmodifiableList(list);
+            }
+            case NUMBER -> {
+                if (node.isIntegralNumber() && node.canConvertToLong()) {
+                    yield node.longValue();
+                }
+                // Use the textual representation of floats so that, e.g., 0.1f is adapted to 0.1.
+                yield node instanceof FloatNode ? Double.parseDouble(node.asText()) : node.doubleValue();
+            }
+            case BOOLEAN -> node.booleanValue();
+            case STRING -> node.textValue();
+            case NULL, MISSING -> null;
+            case BINARY, POJO -> node.asText();
+        };
+    }
+}
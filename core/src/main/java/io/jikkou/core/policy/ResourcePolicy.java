@@ -11,7 +11,6 @@ import io.jikkou.core.models.Resource;
 import io.jikkou.core.policy.ResourcePolicyResult.RuleFailure;
 import io.jikkou.core.policy.model.ValidatingResourcePolicy;
 import io.jikkou.core.policy.model.ValidatingResourcePolicySpec;
-import io.jikkou.core.selector.AggregateSelector;
 import io.jikkou.core.selector.ExpressionSelector;
 import io.jikkou.core.selector.LabelSelector;
 import io.jikkou.core.selector.PreparedExpression;
@@ -23,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Represents a executable resource policy.
@@ -35,6 +35,15 @@ public final class ResourcePolicy {
 
     private final List<CompiledRule> rules;
 
+    // The selectors of this policy, or null if the policy has no selector.
+    private final List<Selector> selectors;
+
+    private final SelectorMatchingStrategy matchingStrategy;
+
+    // The resource selectors that must all match the type of accepted resources,
+    // or null if the policy may accept resources of any type.
+    private final List<ResourceSelector> typeSelectors;
+
     /**
      * Creates a new {@link ResourcePolicy} instance.
      *
@@ -50,29 +59,25 @@ public final class ResourcePolicy {
                     CelExpressionFactory.string().compile(rule.messageExpression());
                 return new CompiledRule(rule.name(), expression, message);
             }).toList();
-    }
 
-    /**
-     * Checks whether this policy accepts the given resource.
-     *
-     * @param resource The resource on which to apply the policy.
-     * @return {@code true} if the policy can be applied. Otherwise {@code false}.
-     */
-    public boolean canAccept(final HasMetadata resource) {
-        ValidatingResourcePolicySpec.ResourceSelector selector = this.policy.getSpec().selector();
+        ValidatingResourcePolicySpec.ResourceSelector selector = policy.getSpec().selector();
+        this.matchingStrategy = Optional.ofNullable(selector)
+            .map(ValidatingResourcePolicySpec.ResourceSelector::matchingStrategy)
+            .orElse(SelectorMatchingStrategy.ALL);
 
         if (selector == null) {
-            return false;
+            this.selectors = null;
+            this.typeSelectors = null;
+            return;
         }
 
-        List<Selector> selectors = new ArrayList<>();
-        selectors.addAll(Optional.ofNullable(selector.matchResources())
+        List<ResourceSelector> resourceSelectors = Optional.ofNullable(selector.matchResources())
             .stream()
             .flatMap(Collection::stream)
             .map(it -> new ResourceSelector(it.apiVersion(), it.kind()))
-            .toList()
-        );
+            .toList();
 
+        List<Selector> selectors = new ArrayList<>(resourceSelectors);
         selectors.addAll(Optional.ofNullable(selector.matchLabels())
             .stream()
             .flatMap(Collection::stream)
@@ -87,11 +92,60 @@ public final class ResourcePolicy {
             .toList()
         );
 
-        SelectorMatchingStrategy matchingStrategy = Optional
-            .ofNullable(selector.matchingStrategy()).
-            orElse(SelectorMatchingStrategy.ALL);
+        this.selectors = List.copyOf(selectors);
+        // Only with the ALL strategy must the type of a resource be matched by the resource selectors.
+        this.typeSelectors = matchingStrategy == SelectorMatchingStrategy.ALL && !resourceSelectors.isEmpty() ?
+            resourceSelectors :
+            null;
+    }
+
+    /**
+     * Checks whether this policy may accept resources of the given type, i.e., whether
+     * {@link #canAccept(HasMetadata)} can return {@code true} for a resource of that type.
+     *
+     * @param apiVersion The resource API version.
+     * @param kind       The resource kind.
+     * @return {@code true} if the policy may accept resources of the given type. Otherwise {@code false}.
+     * @since 1.2.0
+     */
+    public boolean canAcceptType(final String apiVersion, final String kind) {
+        if (selectors == null) {
+            return false;
+        }
+        return typeSelectors == null || typeSelectors.stream().allMatch(it -> it.apply(apiVersion, kind));
+    }
+
+    /**
+     * Checks whether this policy accepts the given resource.
+     *
+     * @param resource The resource on which to apply the policy.
+     * @return {@code true} if the policy can be applied. Otherwise {@code false}.
+     */
+    public boolean canAccept(final HasMetadata resource) {
+        return canAccept(resource, CelResourceValue.of(resource));
+    }
 
-        return new AggregateSelector(selectors, matchingStrategy).apply(resource);
+    /**
+     * Checks whether this policy accepts the given resource, evaluating the selector
+     * expressions on the given resource value.
+     *
+     * @param resource The resource on which to apply the policy.
+     * @param value    The resource value, which can be shared by all the policies evaluated on the same resource.
+     * @return {@code true} if the policy can be applied. Otherwise {@code false}.
+     * @since 1.2.0
+     */
+    public boolean canAccept(final HasMetadata resource, final CelResourceValue value) {
+        if (selectors == null) {
+            return false;
+        }
+        Predicate<Selector> matches = selector -> selector instanceof ExpressionSelector expression ?
+            expression.apply(value) :
+            selector.apply(resource);
+        return switch (matchingStrategy) {
+            case NONE -> selectors.stream().noneMatch(matches);
+            case ALL -> selectors.stream().allMatch(matches);
+            case ANY -> selectors.stream().anyMatch(matches);
+        };
     }
 
     /**
@@ -101,6 +155,18 @@ public final class ResourcePolicy {
      * @return the {@link ResourcePolicyResult}.
      */
     public ResourcePolicyResult evaluate(final Resource resource) {
+        return evaluate(CelResourceValue.of(resource));
+    }
+
+    /**
+     * Evaluates this policy on the given resource value, which can be shared by all
+     * the policies evaluated on the same resource.
+     *
+     * @param resource The resource value on which to apply the policy.
+     * @return the {@link ResourcePolicyResult}.
+     * @since 1.2.0
+     */
+    public ResourcePolicyResult evaluate(final CelResourceValue resource) {
         List<RuleFailure> failures =
             rules.stream()
                 .flatMap(rule -> rule.eval(resource).stream())
@@ -117,7 +183,7 @@ public final class ResourcePolicy {
                                 CelExpression<Boolean> expression,
                                 CelExpression<String> message) {
 
-        Optional<RuleFailure> eval(final Resource resource) {
+        Optional<RuleFailure> eval(final CelResourceValue resource) {
             if (!expression().eval(resource)) {
                 return Optional.of(new RuleFailure(name(), message().eval(resource)));
             }
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.policy;
+
+import io.jikkou.core.models.HasMetadata;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Indexes a list of {@link ResourcePolicy} by resource type, so that resources are only checked
+ * against the policies that can match their type.
+ * <p>
+ * Candidate policies are computed lazily, once per resource type, and are returned in the order
+ * of the indexed list.
+ *
+ * @since 1.2.0
+ */
+public final class ResourcePolicyIndex {
+
+    private final List<ResourcePolicy> policies;
+    private final Map<TypeKey, List<ResourcePolicy>> candidatesByType = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link ResourcePolicyIndex} instance.
+     *
+     * @param policies The policies to index.
+     */
+    public ResourcePolicyIndex(@NotNull List<ResourcePolicy> policies) {
+        this.policies = List.copyOf(Objects.requireNonNull(policies, "policies cannot be null"));
+    }
+
+    /**
+     * Checks whether this index contains no policy.
+     *
+     * @return {@code true} if there is no policy. Otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return policies.isEmpty();
+    }
+
+    /**
+     * Gets the policies that may accept the given resource, based on its type.
+     *
+     * @param resource The resource.
+     * @return The candidate policies.
+     */
+    public List<ResourcePolicy> candidates(@NotNull HasMetadata resource) {
+        // Keyed by the raw API version and kind, as these are what resource selectors match.
+        return candidatesByType.computeIfAbsent(
+            new TypeKey(resource.getApiVersion(), resource.getKind()),
+            key -> policies.stream()
+                .filter(policy -> policy.canAcceptType(key.apiVersion(), key.kind()))
+                .toList()
+        );
+    }
+
+    private record TypeKey(String apiVersion, String kind) {
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.reconciler;
+
+import io.jikkou.common.utils.TokenBucket;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Policy limiting how the changes of a reconciliation are executed by a {@link DefaultChangeExecutor}.
+ * <p>
+ * A bounded policy makes the executor submit changes to their {@link ChangeHandler} by chunks sized
+ * to the slots and tokens available, so that existing handlers, including those sending changes by
+ * batches, are subject to the following limits without any code change:
+ * <ul>
+ *     <li>a maximum number of changes in flight per handler;</li>
+ *     <li>a maximum rate of changes per second, shared by all reconciliations targeting a same provider;</li>
+ *     <li>a timeout for each change, after which the change is reported as failed;</li>
+ *     <li>a failure budget, after which the changes not yet submitted are cancelled.</li>
+ * </ul>
+ * A value of {@code 0} (or {@code null} for the timeout) disables the corresponding limit.
+ *
+ * @since 1.2.0
+ */
+public final class ChangeExecutionPolicy {
+
+    /**
+     * The policy which doesn't limit the execution of changes: all changes are passed at once to their handler.
+     */
+    public static final ChangeExecutionPolicy UNBOUNDED = builder().build();
+
+    private final int maxInFlightChanges;
+    private final double maxChangesPerSecond;
+    private final Duration changeTimeout;
+    private final int failureBudget;
+    private final ConcurrentMap<String, TokenBucket> rateLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a new {@link ChangeExecutionPolicy} builder.
+     *
+     * @return a new {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private ChangeExecutionPolicy(int maxInFlightChanges,
+                                  double maxChangesPerSecond,
+                                  Duration changeTimeout,
+                                  int failureBudget) {
+        this.maxInFlightChanges = maxInFlightChanges;
+        this.maxChangesPerSecond = maxChangesPerSecond;
+        this.changeTimeout = changeTimeout;
+        this.failureBudget = failureBudget;
+    }
+
+    /**
+     * Gets the maximum number of changes in flight per handler.
+     *
+     * @return the maximum number of changes, or {@code 0} if unlimited.
+     */
+    public int maxInFlightChanges() {
+        return maxInFlightChanges;
+    }
+
+    /**
+     * Gets the maximum number of changes executed per second for a same provider.
+     *
+     * @return the maximum rate, or {@code 0} if unlimited.
+     */
+    public double maxChangesPerSecond() {
+        return maxChangesPerSecond;
+    }
+
+    /**
+     * Gets the maximum time allowed for a change to complete.
+     *
+     * @return the timeout, or {@code null} if unlimited.
+     */
+    public @Nullable Duration changeTimeout() {
+        return changeTimeout;
+    }
+
+    /**
+     * Gets the number of failed changes after which the remaining changes are cancelled.
+     *
+     * @return the failure budget, or {@code 0} if unlimited.
+     */
+    public int failureBudget() {
+        return failureBudget;
+    }
+
+    /**
+     * Checks whether this policy doesn't define any limit.
+     *
+     * @return {@code true} if changes can be executed without limit.
+     */
+    public boolean isUnbounded() {
+        return maxInFlightChanges == 0 && maxChangesPerSecond == 0 && changeTimeout == null && failureBudget == 0;
+    }
+
+    /**
+     * Checks whether the given number of failed changes exhausts the failure budget.
+     *
+     * @param failures the number of failed changes.
+     * @return {@code true} if the remaining changes should be cancelled.
+     */
+    public boolean isFailureBudgetExhausted(int failures) {
+        return failureBudget > 0 && failures >= failureBudget;
+    }
+
+    /**
+     * Gets the rate limiter shared by all the executions targeting the given provider.
+     *
+     * @param providerName the provider name, or {@code null} for the default provider.
+     * @return the rate limiter, or an empty optional if the rate is unlimited.
+     */
+    public Optional<TokenBucket> rateLimiter(@Nullable String providerName) {
+        if (maxChangesPerSecond == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(rateLimiters.computeIfAbsent(
+            providerName != null ? providerName : "",
+            unused -> new TokenBucket(maxChangesPerSecond, (int) Math.ceil(maxChangesPerSecond))
+        ));
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String toString() {
+        return "ChangeExecutionPolicy[" +
+            "maxInFlightChanges=" + maxInFlightChanges +
+            ", maxChangesPerSecond=" + maxChangesPerSecond +
+            ", changeTimeout=" + changeTimeout +
+            ", failureBudget=" + failureBudget +
+            ']';
+    }
+
+    /**
+     * Builder for creating a new {@link ChangeExecutionPolicy}.
+     */
+    public static final class Builder {
+
+        private int maxInFlightChanges = 0;
+        private double maxChangesPerSecond = 0;
+        private Duration changeTimeout = null;
+        private int failureBudget = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of changes in flight per handler.
+         *
+         * @param maxInFlightChanges the maximum number of changes, or {@code 0} for no limit.
+         * @return the Builder.
+         */
+        public Builder maxInFlightChanges(int maxInFlightChanges) {
+            if (maxInFlightChanges < 0) {
+                throw new IllegalArgumentException("maxInFlightChanges must not be negative, was: " + maxInFlightChanges);
+            }
+            this.maxInFlightChanges = maxInFlightChanges;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of changes executed per second for a same provider.
+         *
+         * @param maxChangesPerSecond the maximum rate, or {@code 0} for no limit.
+         * @return the Builder.
+         */
+        public Builder maxChangesPerSecond(double maxChangesPerSecond) {
+            if (maxChangesPerSecond < 0) {
+                throw new IllegalArgumentException("maxChangesPerSecond must not be negative, was: " + maxChangesPerSecond);
+            }
+            this.maxChangesPerSecond = maxChangesPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time allowed for a change to complete. The handler is not interrupted
+         * on timeout: the change is reported as failed but may still complete on the target system.
+         *
+         * @param changeTimeout the timeout, or {@code null} for no limit.
+         * @return the Builder.
+         */
+        public Builder changeTimeout(@Nullable Duration changeTimeout) {
+            if (changeTimeout != null && (changeTimeout.isNegative() || changeTimeout.isZero())) {
+                throw new IllegalArgumentException("changeTimeout must be positive, was: " + changeTimeout);
+            }
+            this.changeTimeout = changeTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the number of failed changes after which the remaining changes are cancelled.
+         *
+         * @param failureBudget the failure budget, or {@code 0} for no limit.
+         * @return the Builder.
+         */
+        public Builder failureBudget(int failureBudget) {
+            if (failureBudget < 0) {
+                throw new IllegalArgumentException("failureBudget must not be negative, was: " + failureBudget);
+            }
+            this.failureBudget = failureBudget;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link ChangeExecutionPolicy} instance.
+         *
+         * @return a new {@link ChangeExecutionPolicy}.
+         */
+        public @NotNull ChangeExecutionPolicy build() {
+            return new ChangeExecutionPolicy(maxInFlightChanges, maxChangesPerSecond, changeTimeout, failureBudget);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.reconciler;
+
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Flow.Publisher} emitting {@link ChangeResult}s as they are produced by a reconciliation.
+ * <p>
+ * The publisher is cold and accepts a single subscriber: the reconciliation starts on a dedicated
+ * thread when the subscriber subscribes. Results are buffered up to {@link Flow#defaultBufferSize()}
+ * items; once the buffer is full, the reconciliation waits for the subscriber to request more
+ * results, so that a slow subscriber doesn't accumulate results in memory.
+ * <p>
+ * Note that this only bounds the results held for the subscriber: the resources, the computed changes
+ * and the results of each resource type are still held in memory by the reconciliation itself.
+ * <p>
+ * Cancelling the subscription stops the delivery of results, but not the reconciliation itself.
+ *
+ * @since 1.2.0
+ */
+public final class ChangeResultPublisher implements Flow.Publisher<ChangeResult> {
+
+    /**
+     * The source of the results to be published.
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * Produces all the results, passing them one at a time to the given emitter.
+         *
+         * @param emitter the emitter to which results must be passed.
+         */
+        void produce(@NotNull Consumer<ChangeResult> emitter);
+    }
+
+    private final Source source;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new {@link ChangeResultPublisher} instance.
+     *
+     * @param source the source of the results.
+     */
+    public ChangeResultPublisher(@NotNull Source source) {
+        this.source = Objects.requireNonNull(source, "source cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void subscribe(Flow.Subscriber<? super ChangeResult> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("ChangeResultPublisher only supports a single subscriber"));
+            return;
+        }
+        final SubmissionPublisher<ChangeResult> publisher = new SubmissionPublisher<>();
+        publisher.subscribe(subscriber);
+        Thread.ofVirtual().name("jikkou-reconcile").start(() -> {
+            try {
+                source.produce(result -> {
+                    if (!publisher.isClosed()) {
+                        publisher.submit(result);
+                    }
+                });
+                publisher.close();
+            } catch (Throwable e) {
+                publisher.closeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Subscribes to the given publisher and passes each published result to the given consumer, one at
+     * a time, on the thread delivering the results. Blocks until all the results are consumed.
+     *
+     * @param publisher the publisher of the results.
+     * @param consumer  the consumer of the results.
+     * @throws RuntimeException the error signaled by the publisher or thrown by the consumer, if any.
+     */
+    public static void forEach(@NotNull Flow.Publisher<? extends ChangeResult> publisher,
+                               @NotNull Consumer<? super ChangeResult> consumer) {
+        Objects.requireNonNull(publisher, "publisher cannot be null");
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<ChangeResult>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ChangeResult item) {
+                try {
+                    consumer.accept(item);
+                } catch (Throwable e) {
+                    subscription.cancel();
+                    done.completeExceptionally(e);
+                    return;
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new JikkouRuntimeException(cause);
+        }
+    }
+}
@@ -6,15 +6,26 @@
  */
 package io.jikkou.core.reconciler;
 
+import io.jikkou.common.utils.TokenBucket;
 import io.jikkou.core.ReconciliationContext;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.models.change.ResourceChange;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
@@ -26,9 +37,14 @@ public final class DefaultChangeExecutor implements ChangeExecutor {
 
     private final List<ResourceChange> changes;
     private final ReconciliationContext context;
+    private final ChangeExecutionPolicy policy;
 
     /**
      * Creates a new {@link DefaultChangeExecutor} instances.
+     * <p>
+     * Changes are executed according to the {@link ChangeExecutionPolicy} of the given context, if any,
+     * and the listener of change results of the given context, if any, is notified of each result as
+     * soon as the change completes.
      *
      * @param context the reconciliation context. Cannot be {@code null}.
      * @param changes the list of changes to be executed. Cannot be {@code null}.
@@ -37,6 +53,7 @@ public final class DefaultChangeExecutor implements ChangeExecutor {
                                  @NotNull List<ResourceChange> changes) {
         this.changes = Collections.unmodifiableList(changes);
         this.context = Objects.requireNonNull(context, "'context' must not be null");
+        this.policy = Optional.ofNullable(context.changeExecutionPolicy()).orElse(ChangeExecutionPolicy.UNBOUNDED);
     }
 
     /**
@@ -67,9 +84,12 @@ public final class DefaultChangeExecutor implements ChangeExecutor {
                 .filter(it -> handlersByType.containsKey(it.getSpec().getOp()))
                 .toList();
 
-        return context.isDryRun() ?
-                executeInDryRun(supportedChanges, handlersByType) :
-                execute(supportedChanges, handlersByType);
+        if (context.isDryRun()) {
+            return executeInDryRun(supportedChanges, handlersByType);
+        }
+        return policy.isUnbounded() ?
+                execute(supportedChanges, handlersByType) :
+                executeWithPolicy(supportedChanges, handlersByType);
     }
 
     private List<ChangeResult> executeInDryRun(List<ResourceChange> changes,
@@ -79,9 +99,11 @@ public final class DefaultChangeExecutor implements ChangeExecutor {
                     Operation operation = object.getSpec().getOp();
                     ChangeHandler handler = handlers.get(operation);
                     TextDescription description = handler.describe(object);
-                    return operation == Operation.NONE ?
+                    ChangeResult result = operation == Operation.NONE ?
                             ChangeResult.ok(object, description) :
                             ChangeResult.changed(object, description);
+                    Optional.ofNullable(context.changeResultListener()).ifPresent(listener -> listener.accept(result));
+                    return result;
                 })
                 .toList();
     }
@@ -103,26 +125,171 @@ public final class DefaultChangeExecutor implements ChangeExecutor {
                                                             final List<ResourceChange> changes) {
         return handler.handleChanges(changes)
                 .stream()
-                .map(response -> {
-                    CompletableFuture<? extends List<ChangeMetadata>> future = response.getResults();
-                    return future.thenApply(metadata -> {
-                        ResourceChange change = response.getChange();
+                .map(response -> notifyListener(toChangeResult(handler, response)));
+    }
 
-                        TextDescription description = handler.describe(change);
+    private CompletableFuture<ChangeResult> notifyListener(CompletableFuture<ChangeResult> future) {
+        Consumer<ChangeResult> listener = context.changeResultListener();
+        if (listener != null) {
+            future.thenAccept(listener);
+        }
+        return future;
+    }
 
-                        if (change.getSpec().getOp() == Operation.NONE) {
-                            return ChangeResult.ok(change, description);
-                        }
+    /**
+     * Executes the given changes while enforcing the execution policy. Changes are submitted to their
+     * handler by chunks: each chunk holds as many changes as there are slots available for that handler
+     * and tokens available from the rate limiter of the provider, and at least one change, so that
+     * handlers sending changes by batches still receive them together. A slot is released as soon as
+     * the change holding it completes. Once the failure budget is exhausted, the changes that are not
+     * yet submitted are reported as failed without being executed.
+     */
+    private List<ChangeResult> executeWithPolicy(List<ResourceChange> changes,
+                                                 Map<Operation, ChangeHandler> handlers) {
+        Map<Operation, List<ResourceChange>> changesByType = changes
+                .stream()
+                .collect(Collectors.groupingBy(it -> it.getSpec().getOp()));
 
-                        List<ChangeError> errors = metadata.stream()
-                                .map(ChangeMetadata::getError)
-                                .flatMap(Optional::stream)
-                                .toList();
+        Optional<TokenBucket> rateLimiter = policy.rateLimiter(context.providerName());
+        Map<ChangeHandler, Semaphore> inFlightByHandler = new IdentityHashMap<>();
+        AtomicInteger failures = new AtomicInteger();
 
-                        return errors.isEmpty() ?
-                                ChangeResult.changed(change, description) :
-                                ChangeResult.failed(change, description, errors);
+        List<CompletableFuture<ChangeResult>> results = new ArrayList<>();
+        for (Map.Entry<Operation, List<ResourceChange>> entry : changesByType.entrySet()) {
+            ChangeHandler handler = handlers.get(entry.getKey());
+            Semaphore inFlight = inFlightByHandler.computeIfAbsent(handler, unused -> new Semaphore(
+                policy.maxInFlightChanges() > 0 ? policy.maxInFlightChanges() : Integer.MAX_VALUE
+            ));
+            List<ResourceChange> pending = entry.getValue();
+            int next = 0;
+            while (next < pending.size()) {
+                int permits = acquire(inFlight, rateLimiter, failures, pending.size() - next);
+                if (permits == 0) {
+                    for (ResourceChange change : pending.subList(next, pending.size())) {
+                        results.add(notifyListener(CompletableFuture.completedFuture(ChangeResult.failed(
+                            change,
+                            handler.describe(change),
+                            List.of(new ChangeError("Change cancelled: the failure budget of " + policy.failureBudget() + " failed changes is exhausted"))
+                        ))));
+                    }
+                    break;
+                }
+                List<ResourceChange> chunk = pending.subList(next, next + permits);
+                next += permits;
+                List<ChangeResponse> responses;
+                try {
+                    responses = handler.handleChanges(chunk);
+                } catch (RuntimeException e) {
+                    inFlight.release(permits);
+                    throw e;
+                }
+                // Release the slots of the changes for which no response is returned.
+                if (responses.size() < permits) {
+                    inFlight.release(permits - responses.size());
+                }
+                for (int i = 0; i < responses.size(); i++) {
+                    ChangeResponse response = responses.get(i);
+                    boolean holdsSlot = i < permits;
+                    CompletableFuture<ChangeResult> future = notifyListener(
+                        withTimeout(toChangeResult(handler, response), handler, response.getChange())
+                    );
+                    future.whenComplete((result, error) -> {
+                        if (error != null || result.isFailed()) {
+                            failures.incrementAndGet();
+                        }
+                        if (holdsSlot) {
+                            inFlight.release();
+                        }
                     });
-                });
+                    results.add(future);
+                }
+            }
+        }
+        return results.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Acquires the slots and tokens for executing at most the given number of changes, waiting for
+     * the first ones only.
+     *
+     * @return the number of changes that can be executed, or {@code 0} if the failure budget is exhausted.
+     */
+    private int acquire(Semaphore inFlight, Optional<TokenBucket> rateLimiter, AtomicInteger failures, int max) {
+        if (policy.isFailureBudgetExhausted(failures.get())) {
+            return 0;
+        }
+        try {
+            inFlight.acquire();
+            // Failures may have been reported while waiting for a slot.
+            if (policy.isFailureBudgetExhausted(failures.get())) {
+                inFlight.release();
+                return 0;
+            }
+            int permits = 1;
+            while (permits < max && inFlight.tryAcquire()) {
+                permits++;
+            }
+            if (rateLimiter.isPresent()) {
+                try {
+                    rateLimiter.get().acquire();
+                } catch (InterruptedException e) {
+                    inFlight.release(permits);
+                    throw e;
+                }
+                int tokens = 1;
+                while (tokens < permits && rateLimiter.get().tryAcquire()) {
+                    tokens++;
+                }
+                inFlight.release(permits - tokens);
+                permits = tokens;
+            }
+            return permits;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JikkouRuntimeException("Interrupted while waiting to execute changes", e);
+        }
+    }
+
+    private CompletableFuture<ChangeResult> withTimeout(CompletableFuture<ChangeResult> future,
+                                                       ChangeHandler handler,
+                                                       ResourceChange change) {
+        Duration timeout = policy.changeTimeout();
+        if (timeout == null) {
+            return future;
+        }
+        return future
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionally(error -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                ChangeError changeError = cause instanceof TimeoutException ?
+                    new ChangeError("Change timed out after " + timeout.toMillis() + " ms") :
+                    ChangeMetadata.of(cause).getError().orElseThrow();
+                return ChangeResult.failed(change, handler.describe(change), List.of(changeError));
+            });
+    }
+
+    private static CompletableFuture<ChangeResult> toChangeResult(final ChangeHandler handler,
+                                                                  final ChangeResponse response) {
+        CompletableFuture<? extends List<ChangeMetadata>> future = response.getResults();
+        return future.thenApply(metadata -> {
+            ResourceChange change = response.getChange();
+
+            TextDescription description = handler.describe(change);
+
+            if (change.getSpec().getOp() == Operation.NONE) {
+                return ChangeResult.ok(change, description);
+            }
+
+            List<ChangeError> errors = metadata.stream()
+                    .map(ChangeMetadata::getError)
+                    .flatMap(Optional::stream)
+                    .toList();
+
+            return errors.isEmpty() ?
+                    ChangeResult.changed(change, description) :
+                    ChangeResult.failed(change, description, errors);
+        });
     }
 }
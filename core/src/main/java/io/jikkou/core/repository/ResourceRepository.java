@@ -11,6 +11,7 @@ import io.jikkou.core.extension.ExtensionCategory;
 import io.jikkou.core.extension.annotations.Category;
 import io.jikkou.core.models.HasMetadata;
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * Service interface for loading
@@ -24,4 +25,16 @@ public interface ResourceRepository extends Extension {
      * @return  The list of resources.
      */
     List<? extends HasMetadata> all();
+
+    /**
+     * Gets the generation of the resources of this repository, for repositories tracking changes
+     * to their resources. The generation is incremented each time the resources change, so that
+     * callers caching work derived from the resources can skip it when the generation is unchanged.
+     *
+     * @return  The current generation, or an empty optional if this repository does not track changes.
+     * @since 1.2.0
+     */
+    default OptionalLong generation() {
+        return OptionalLong.empty();
+    }
 }
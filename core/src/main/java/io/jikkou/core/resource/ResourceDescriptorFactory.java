@@ -15,6 +15,7 @@ import io.jikkou.core.models.HasPriority;
 import io.jikkou.core.models.Resource;
 import io.jikkou.core.models.ResourceType;
 import io.jikkou.core.models.Verb;
+import io.jikkou.spi.ProviderIndex;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -22,13 +23,36 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Factory to create new {@link ResourceDescriptor} instance.
+ * <p>
+ * The annotations of the resource classes are read from the {@link ProviderIndex} generated
+ * at build time, if any, or using reflection otherwise.
  */
 public final class ResourceDescriptorFactory {
 
+    private final boolean useIndex;
+
+    /**
+     * Creates a new {@link ResourceDescriptorFactory} instance.
+     */
+    public ResourceDescriptorFactory() {
+        this(true);
+    }
+
+    /**
+     * Creates a new {@link ResourceDescriptorFactory} instance.
+     *
+     * @param useIndex whether to read the annotations from the {@link ProviderIndex}, when available.
+     * @since 1.2.0
+     */
+    public ResourceDescriptorFactory(final boolean useIndex) {
+        this.useIndex = useIndex;
+    }
+
     /**
      * Makes a new {@link ResourceDescriptor} instance.
      *
@@ -41,6 +65,14 @@ public final class ResourceDescriptorFactory {
                                    @NotNull final Class<? extends Resource> resource) {
         Objects.requireNonNull(type, "Cannot make ResourceDescriptor for type 'null'");
         Objects.requireNonNull(type, "Cannot make ResourceDescriptor for resource 'null'");
+
+        if (useIndex) {
+            Optional<ProviderIndex.ResourceEntry> entry = ProviderIndex.of(resource.getClassLoader()).resource(resource);
+            if (entry.isPresent()) {
+                return make(type, resource, entry.get());
+            }
+        }
+
         String description = extractDescription(resource);
 
         Names names = resource.getAnnotation(Names.class);
@@ -76,6 +108,27 @@ public final class ResourceDescriptorFactory {
         return descriptor;
     }
 
+    private static ResourceDescriptor make(@NotNull final ResourceType type,
+                                           @NotNull final Class<? extends Resource> resource,
+                                           @NotNull final ProviderIndex.ResourceEntry entry) {
+        ProviderIndex.NamesEntry names = entry.names();
+        ResourceDescriptor descriptor = new ResourceDescriptor(
+                type,
+                entry.description(),
+                resource,
+                names != null && !Strings.isNullOrEmpty(names.singular()) ? names.singular() : null,
+                names != null && !Strings.isNullOrEmpty(names.plural()) ? names.plural() : null,
+                names != null ? new TreeSet<>(names.shortNames()) : Collections.emptySet(),
+                entry.verbs().stream().map(Verb::valueOf).collect(Collectors.toSet()),
+                entry.isTransient()
+        );
+        if (names != null && !Strings.isNullOrEmpty(names.local())) {
+            descriptor.setLocalName(names.local());
+        }
+        descriptor.setReconciliationOrder(entry.reconciliationOrder());
+        return descriptor;
+    }
+
     private static int extractReconciliationOrder(@NotNull Class<? extends Resource> resource) {
         return Optional.ofNullable(resource.getAnnotation(ReconciliationOrder.class))
                 .map(ReconciliationOrder::value)
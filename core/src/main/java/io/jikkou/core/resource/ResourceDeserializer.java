@@ -7,10 +7,13 @@
 package io.jikkou.core.resource;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.jikkou.core.annotation.Reflectable;
 import io.jikkou.core.models.Resource;
 import io.jikkou.core.models.ResourceType;
@@ -29,6 +32,10 @@ public final class ResourceDeserializer extends JsonDeserializer<Resource> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ResourceDeserializer.class);
 
+    private static final String API_VERSION = "apiVersion";
+
+    private static final String KIND = "kind";
+
     private static final Mapping mapping = new Mapping();
 
     private static final List<ResourceTypeResolver> resolvers = new LinkedList<>();
@@ -41,52 +48,113 @@ public final class ResourceDeserializer extends JsonDeserializer<Resource> {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The fields of the resource are only buffered until both its apiVersion and kind are read.
+     * The resource is then bound to its resolved type from the buffered fields followed by the rest
+     * of the input, without building an intermediate tree. A tree is only built for resources whose
+     * type must be resolved by a registered {@link ResourceTypeResolver}.
      */
     @Override
-    public Resource deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
-        JsonNode node = parser.readValueAsTree();
-        if (node.isObject()) {
-            return fromObjectNode(parser, node);
-        } else {
+    public Resource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            parser.skipChildren();
             return null;
         }
-    }
 
-    private static Resource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-        Class<? extends Resource> resourceType = null;
-        boolean resolvedByFallback = false;
+        TokenBuffer buffer = context.bufferForInputBuffering(parser);
+        buffer.writeStartObject();
+        String apiVersion = null;
+        String kind = null;
+        while (token == JsonToken.FIELD_NAME && (apiVersion == null || kind == null)) {
+            String name = parser.currentName();
+            buffer.writeFieldName(name);
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_STRING) {
+                if (API_VERSION.equals(name)) {
+                    apiVersion = parser.getText();
+                } else if (KIND.equals(name)) {
+                    kind = parser.getText();
+                }
+            }
+            buffer.copyCurrentStructure(parser);
+            token = parser.nextToken();
+        }
+        boolean isComplete = token != JsonToken.FIELD_NAME;
+        if (isComplete) {
+            buffer.writeEndObject();
+        }
 
-        ResourceType key = ResourceType.of(node);
+        ResourceType key = kind != null ? ResourceType.of(kind, apiVersion) : null;
+        Class<? extends Resource> resourceType = getForKey(key);
 
-        if (key != null) {
-            LOG.debug("Looking for specialized resource for: group={} apiVersion={}, kind={}.",
-                key.group(),
-                key.apiVersion(),
-                key.kind()
-            );
-            resourceType = mapping.getForKey(key);
-            // debug
-            if (resourceType == null) {
-                LOG.debug("Cannot found specialized resource for: group={} apiVersion={}, kind={}.",
+        if (resourceType == null && !resolvers.isEmpty()) {
+            if (!isComplete) {
+                while (token == JsonToken.FIELD_NAME) {
+                    buffer.copyCurrentStructure(parser);
+                    token = parser.nextToken();
+                }
+                buffer.writeEndObject();
+            }
+            JsonNode node;
+            try (JsonParser buffered = buffer.asParser(parser.getCodec())) {
+                node = buffered.readValueAsTree();
+            }
+            return fromObjectNode(parser, node, key);
+        }
+
+        if (resourceType == null) {
+            if (key != null) {
+                LOG.debug("No specific resource found for group={} apiVersion={}, kind={}. Use GenericResource.",
                     key.group(),
                     key.apiVersion(),
                     key.kind()
                 );
             }
+            resourceType = GenericResource.class;
+        } else {
+            LOG.debug("Read specific resource for apiVersion={}, kind={}.",
+                Resource.getApiVersion(resourceType),
+                Resource.getKind(resourceType)
+            );
         }
+        // The buffered fields are followed by the fields not read yet, if any.
+        JsonParser resource = isComplete ?
+            buffer.asParser(parser.getCodec()) :
+            JsonParserSequence.createFlattened(true, buffer.asParser(parser.getCodec()), parser);
+        resource.nextToken();
+        return context.readValue(resource, resourceType);
+    }
 
+    private static Class<? extends Resource> getForKey(final ResourceType key) {
+        if (key == null) {
+            return null;
+        }
+        LOG.debug("Looking for specialized resource for: group={} apiVersion={}, kind={}.",
+            key.group(),
+            key.apiVersion(),
+            key.kind()
+        );
+        Class<? extends Resource> resourceType = mapping.getForKey(key);
         if (resourceType == null) {
-            if (!resolvers.isEmpty()) {
-                LOG.debug("Looking for ResourceTypeResolver for untyped resource.");
-                for (ResourceTypeResolver r : resolvers) {
-                    resourceType = r.resolvesType(node);
-                    if (resourceType != null) {
-                        resolvedByFallback = true;
-                        break;
-                    }
-                }
-            } else {
-                LOG.debug("No resource type resolved registered.");
+            LOG.debug("Cannot found specialized resource for: group={} apiVersion={}, kind={}.",
+                key.group(),
+                key.apiVersion(),
+                key.kind()
+            );
+        }
+        return resourceType;
+    }
+
+    private static Resource fromObjectNode(JsonParser jp, JsonNode node, ResourceType key) throws IOException {
+        Class<? extends Resource> resourceType = null;
+        LOG.debug("Looking for ResourceTypeResolver for untyped resource.");
+        for (ResourceTypeResolver r : resolvers) {
+            resourceType = r.resolvesType(node);
+            if (resourceType != null) {
+                break;
             }
         }
 
@@ -109,8 +177,8 @@ public final class ResourceDeserializer extends JsonDeserializer<Resource> {
             // resolver (e.g., LatestApiVersionResourceTypeResolver). This ensures that the
             // deserialized resource carries the canonical apiVersion of the resolved class,
             // not the (potentially outdated) version from the YAML input.
-            if (resolvedByFallback && resolvedApiVersion != null && node.isObject()) {
-                ((ObjectNode) node).put("apiVersion", resolvedApiVersion);
+            if (resolvedApiVersion != null && node.isObject()) {
+                ((ObjectNode) node).put(API_VERSION, resolvedApiVersion);
             }
             return jp.getCodec().treeToValue(node, resourceType);
         }
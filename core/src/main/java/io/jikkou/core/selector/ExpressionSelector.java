@@ -9,6 +9,7 @@ package io.jikkou.core.selector;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.policy.CelExpression;
 import io.jikkou.core.policy.CelExpressionFactory;
+import io.jikkou.core.policy.CelResourceValue;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 
@@ -17,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ExpressionSelector implements Selector {
 
+    private final String source;
     private final CelExpression<Boolean> expression;
 
     /**
@@ -26,12 +28,35 @@ public class ExpressionSelector implements Selector {
      */
     public ExpressionSelector(final String expression) {
         Objects.requireNonNull(expression, "expression cannot be null");
+        this.source = expression;
         this.expression = CelExpressionFactory.bool().compile(expression);
     }
 
+    /**
+     * Gets the string expression of this selector.
+     *
+     * @return the string expression.
+     * @since 1.2.0
+     */
+    public String expression() {
+        return source;
+    }
+
     /** {@inheritDoc} **/
     @Override
     public boolean apply(@NotNull HasMetadata resource) {
         return expression.eval(resource);
     }
+
+    /**
+     * Evaluates this selector on the given resource value, which can be shared by all
+     * the expressions evaluated on the same resource.
+     *
+     * @param resource The resource value.
+     * @return {@code true} if the resource is matched. Otherwise {@code false}.
+     * @since 1.2.0
+     */
+    public boolean apply(@NotNull CelResourceValue resource) {
+        return expression.eval(resource);
+    }
 }
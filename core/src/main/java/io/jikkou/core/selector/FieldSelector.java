@@ -62,7 +62,7 @@ public final class FieldSelector implements Selector {
             if (key == null) {
                 throw new IllegalArgumentException("Cannot apply extractor with empty key");
             }
-            Object value = new PropertyAccessors().readPropertyValue(resource, key);
+            Object value = PropertyAccessors.getDefault().readPropertyValue(resource, key);
             return Optional.ofNullable(value).map(Object::toString).orElse(null);
         }
 
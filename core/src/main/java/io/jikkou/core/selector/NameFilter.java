@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.selector;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pre-filter on resource names extracted from a {@link Selector}.
+ * <p>
+ * A {@link NameFilter} never rejects the name of a resource that could be matched by the selector
+ * it was extracted from. Collectors can therefore use it to only describe the objects which may
+ * match the selector, but must still apply the selector on the collected resources.
+ * <p>
+ * The following constraints on the {@code metadata.name} property are extracted:
+ * <ul>
+ *     <li>{@link FieldSelector} with the {@code IN}, {@code NOTIN} and {@code MATCHES} operators.</li>
+ *     <li>{@link ExpressionSelector} of the form {@code resource.metadata.name == 'a'},
+ *     {@code resource.metadata.name in ['a', 'b']}, {@code resource.metadata.name.startsWith('a')}
+ *     or {@code resource.metadata.name.matches('a.*')}.</li>
+ * </ul>
+ * Constraints of selectors combined with the {@code ALL} strategy are intersected,
+ * and constraints of selectors combined with the {@code ANY} strategy are united.
+ * Any other selector doesn't constrain names.
+ *
+ * @since 1.2.0
+ */
+public final class NameFilter implements Predicate<String> {
+
+    /**
+     * The filter accepting all names.
+     */
+    public static final NameFilter ACCEPT_ALL = new NameFilter(null, null);
+
+    private static final String NAME_KEY = "metadata.name";
+    private static final String NAME_PATH = "resource\\.metadata\\.name";
+    private static final String LITERAL = "(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\")";
+
+    private static final Pattern CEL_EQUALS = Pattern.compile(
+        "^\\s*" + NAME_PATH + "\\s*==\\s*" + LITERAL + "\\s*$"
+    );
+    private static final Pattern CEL_IN = Pattern.compile(
+        "^\\s*" + NAME_PATH + "\\s+in\\s*\\[((?:\\s*" + LITERAL + "\\s*,?)*)]\\s*$"
+    );
+    private static final Pattern CEL_STARTS_WITH = Pattern.compile(
+        "^\\s*" + NAME_PATH + "\\.startsWith\\(\\s*" + LITERAL + "\\s*\\)\\s*$"
+    );
+    private static final Pattern CEL_MATCHES = Pattern.compile(
+        "^\\s*" + NAME_PATH + "\\.matches\\(\\s*" + LITERAL + "\\s*\\)\\s*$"
+    );
+    private static final Pattern CEL_LITERAL = Pattern.compile(LITERAL);
+
+    private final Set<String> names;
+    private final Predicate<String> predicate;
+
+    /**
+     * Extracts the {@link NameFilter} of the given selector.
+     *
+     * @param selector the selector.
+     * @return the {@link NameFilter}, or {@link #ACCEPT_ALL} if the selector doesn't constrain names.
+     */
+    public static NameFilter of(@NotNull Selector selector) {
+        Objects.requireNonNull(selector, "selector cannot be null");
+        return switch (selector) {
+            case FieldSelector field -> of(field.preparedExpression());
+            case ExpressionSelector expression -> ofExpression(expression.expression());
+            case AggregateSelector aggregate -> switch (aggregate.getSelectorMatchingStrategy()) {
+                case ALL -> aggregate.selectors.stream()
+                    .map(NameFilter::of)
+                    .reduce(ACCEPT_ALL, NameFilter::and);
+                case ANY -> aggregate.selectors.isEmpty() ?
+                    ACCEPT_ALL :
+                    aggregate.selectors.stream()
+                        .map(NameFilter::of)
+                        .reduce(NameFilter::or)
+                        .orElse(ACCEPT_ALL);
+                case NONE -> ACCEPT_ALL;
+            };
+            default -> ACCEPT_ALL;
+        };
+    }
+
+    /**
+     * Creates a {@link NameFilter} accepting only the given names.
+     *
+     * @param names the names.
+     * @return a new {@link NameFilter}.
+     */
+    public static NameFilter ofNames(@NotNull Set<String> names) {
+        Set<String> copy = Set.copyOf(names);
+        return new NameFilter(copy, copy::contains);
+    }
+
+    private static NameFilter of(final PreparedExpression expression) {
+        if (!NAME_KEY.equals(expression.key())) {
+            return ACCEPT_ALL;
+        }
+        List<String> values = expression.values();
+        return switch (expression.operator()) {
+            case IN -> ofNames(new HashSet<>(values));
+            case NOTIN -> new NameFilter(null, name -> !values.contains(name));
+            case MATCHES -> {
+                List<Pattern> patterns = values.stream().map(Pattern::compile).toList();
+                yield new NameFilter(null, name -> patterns.stream().allMatch(p -> p.matcher(name).matches()));
+            }
+            default -> ACCEPT_ALL;
+        };
+    }
+
+    private static NameFilter ofExpression(final String expression) {
+        Matcher matcher;
+        if ((matcher = CEL_EQUALS.matcher(expression)).matches()) {
+            return ofNames(Set.of(literal(matcher, 1)));
+        }
+        if ((matcher = CEL_IN.matcher(expression)).matches()) {
+            Matcher literals = CEL_LITERAL.matcher(matcher.group(1));
+            Set<String> names = new HashSet<>();
+            while (literals.find()) {
+                names.add(literal(literals, 1));
+            }
+            return ofNames(names);
+        }
+        if ((matcher = CEL_STARTS_WITH.matcher(expression)).matches()) {
+            String prefix = literal(matcher, 1);
+            return new NameFilter(null, name -> name.startsWith(prefix));
+        }
+        if ((matcher = CEL_MATCHES.matcher(expression)).matches()) {
+            // CEL 'matches' is satisfied by any match of the pattern within the string.
+            Pattern pattern = Pattern.compile(literal(matcher, 1));
+            return new NameFilter(null, name -> pattern.matcher(name).find());
+        }
+        return ACCEPT_ALL;
+    }
+
+    private static String literal(final Matcher matcher, final int group) {
+        String single = matcher.group(group);
+        return single != null ? single : matcher.group(group + 1);
+    }
+
+    private NameFilter(@Nullable Set<String> names, @Nullable Predicate<String> predicate) {
+        this.names = names;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Checks whether this filter accepts all names.
+     *
+     * @return {@code true} if all names are accepted. Otherwise {@code false}.
+     */
+    public boolean isAcceptAll() {
+        return predicate == null;
+    }
+
+    /**
+     * Gets the exhaustive set of the names accepted by this filter, if known.
+     * Collectors may use it to describe objects by name, without listing all of them.
+     *
+     * @return the optional set of names.
+     */
+    public Optional<Set<String>> names() {
+        return Optional.ofNullable(names);
+    }
+
+    /**
+     * Checks whether this filter accepts the given name.
+     *
+     * @param name the name.
+     * @return {@code true} if the name is accepted. Otherwise {@code false}.
+     */
+    @Override
+    public boolean test(final String name) {
+        return predicate == null || predicate.test(name);
+    }
+
+    /**
+     * Returns a filter accepting the names accepted by both this filter and the given one.
+     *
+     * @param other the other filter.
+     * @return a new {@link NameFilter}.
+     */
+    public NameFilter and(@NotNull NameFilter other) {
+        if (other.isAcceptAll()) return this;
+        if (this.isAcceptAll()) return other;
+        Predicate<String> both = this.predicate.and(other.predicate);
+        if (this.names != null) {
+            return new NameFilter(filter(this.names, both), both);
+        }
+        if (other.names != null) {
+            return new NameFilter(filter(other.names, both), both);
+        }
+        return new NameFilter(null, both);
+    }
+
+    /**
+     * Returns a filter accepting the names accepted by either this filter or the given one.
+     *
+     * @param other the other filter.
+     * @return a new {@link NameFilter}.
+     */
+    public NameFilter or(@NotNull NameFilter other) {
+        if (this.isAcceptAll() || other.isAcceptAll()) return ACCEPT_ALL;
+        Predicate<String> either = this.predicate.or(other.predicate);
+        if (this.names != null && other.names != null) {
+            Set<String> union = new HashSet<>(this.names);
+            union.addAll(other.names);
+            return new NameFilter(Set.copyOf(union), either);
+        }
+        return new NameFilter(null, either);
+    }
+
+    private static Set<String> filter(final Set<String> names, final Predicate<String> predicate) {
+        return names.stream().filter(predicate).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public String toString() {
+        return isAcceptAll() ? "NameFilter[*]" : "NameFilter[names=" + names + "]";
+    }
+}
@@ -23,14 +23,26 @@ public class ResourceSelector implements Selector {
     /** {@inheritDoc} **/
     @Override
     public boolean apply(@NotNull HasMetadata resource) {
+        return apply(resource.getApiVersion(), resource.getKind());
+    }
+
+    /**
+     * Checks whether this selector matches resources of the given type.
+     *
+     * @param apiVersion The resource API version.
+     * @param kind       The resource kind.
+     * @return {@code true} if the type is matched. Otherwise {@code false}.
+     * @since 1.2.0
+     */
+    public boolean apply(String apiVersion, String kind) {
         boolean matched = true;
 
-        if (apiVersion != null) {
-            matched = apiVersion.equals(resource.getApiVersion());
+        if (this.apiVersion != null) {
+            matched = this.apiVersion.equals(apiVersion);
         }
 
-        if (kind != null) {
-            matched = matched && kind.equals(resource.getKind());
+        if (this.kind != null) {
+            matched = matched && this.kind.equals(kind);
         }
 
         return matched;
@@ -7,13 +7,14 @@
 package io.jikkou.core.selector.internal;
 
 import io.jikkou.core.exceptions.SelectorException;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 public class MapAdaptablePropertyAccessor implements PropertyAccessor {
 
@@ -21,6 +22,16 @@ public class MapAdaptablePropertyAccessor implements PropertyAccessor {
     private static final String DOT = ".";
     private static final Object NO_VALUE = null;
 
+    private static final MethodType GETTER_BY_KEY_TYPE = MethodType.methodType(Object.class, Object.class, String.class);
+
+    // The 'get(String)' method of each type, resolved only once.
+    private static final ClassValue<Optional<MethodHandle>> GETTERS_BY_KEY = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            return findGetterByKeyMethodForProperty(type);
+        }
+    };
+
     /**
      * {@inheritDoc}
      */
@@ -59,24 +70,26 @@ public class MapAdaptablePropertyAccessor implements PropertyAccessor {
                                               final String key,
                                               final Class<?> type) {
         try {
-            Method method = findGetterByKeyMethodForProperty(type);
-            if (method != null && method.canAccess(target)) {
-                final Object result = method.invoke(target, key);
+            MethodHandle method = GETTERS_BY_KEY.get(type).orElse(null);
+            if (method != null) {
+                final Object result = method.invokeExact(target, key);
 
                 if (result != null) return result;
 
                 // If result is NULL, then we need to check whether the given key represents a dotted path.
                 if (isDotPropertyAccessPath(key)) {
                     String[] split = key.split("\\.", 2);
-                    Object rootObject = method.invoke(target, split[0]);
+                    Object rootObject = method.invokeExact(target, split[0]);
                     if (rootObject != null) {
-                        return new PropertyAccessors().readPropertyValue(rootObject, split[1]);
+                        return PropertyAccessors.getDefault().readPropertyValue(rootObject, split[1]);
                     }
                 }
             }
             return NO_VALUE;
 
-        } catch (IllegalAccessException | InvocationTargetException e) {
+        } catch (SelectorException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new SelectorException(e.getMessage());
         }
     }
@@ -93,25 +106,29 @@ public class MapAdaptablePropertyAccessor implements PropertyAccessor {
             if (target.containsKey(rootKey)) {
                 Object rootObject = target.get(rootKey);
                 if (rootObject != null) {
-                    return new PropertyAccessors().readPropertyValue(rootObject, split[1]);
+                    return PropertyAccessors.getDefault().readPropertyValue(rootObject, split[1]);
                 }
             }
         }
         return NO_VALUE;
     }
 
-    private Method findGetterByKeyMethodForProperty(final Class<?> target) {
-        return findMethodForProperty(target, this::isAccessibleByKey);
-    }
-
-    private Method findMethodForProperty(final Class<?> target, final Predicate<Method> predicate) {
-        Optional<Method> optional = Arrays.stream(target.getMethods())
-                .filter(predicate)
-                .findAny();
-        return optional.orElse(null);
+    private static Optional<MethodHandle> findGetterByKeyMethodForProperty(final Class<?> target) {
+        return Arrays.stream(target.getMethods())
+                .filter(MapAdaptablePropertyAccessor::isAccessibleByKey)
+                .findAny()
+                .flatMap(method -> {
+                    try {
+                        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                        return Optional.of(handle.asType(GETTER_BY_KEY_TYPE));
+                    } catch (IllegalAccessException e) {
+                        // The method isn't accessible, e.g., it's declared by a non-public class.
+                        return Optional.empty();
+                    }
+                });
     }
 
-    private boolean isAccessibleByKey(final Method m) {
+    private static boolean isAccessibleByKey(final Method m) {
         String methodName = m.getName();
         if (methodName.equals(GET_METHOD_NAME) && m.getParameterCount() == 1) {
             Class<?>[] parameterTypes = m.getParameterTypes();
@@ -14,14 +14,42 @@ import java.util.stream.Collectors;
 
 public class PropertyAccessors {
 
+    private static final PropertyAccessors DEFAULT = new PropertyAccessors();
+
+    /**
+     * Gets the shared {@link PropertyAccessors} instance.
+     *
+     * @return the {@link PropertyAccessors}.
+     * @since 1.2.0
+     */
+    public static PropertyAccessors getDefault() {
+        return DEFAULT;
+    }
+
     private final List<PropertyAccessor> accessors;
 
+    // The specific and generic accessors, computed once per target type.
+    private final ClassValue<List<PropertyAccessor>> specificAccessorsByType = new ClassValue<>() {
+        @Override
+        protected List<PropertyAccessor> computeValue(Class<?> type) {
+            return accessors
+                    .stream()
+                    .filter(accessor -> isAccessorSpecificForType(type, accessor))
+                    .toList();
+        }
+    };
+    private final List<PropertyAccessor> genericAccessors;
+
     public PropertyAccessors() {
         accessors = List.of(
                 new ConfigsPropertyAccessor(),
                 new MapAdaptablePropertyAccessor(),
                 new ReflectivePropertyAccessor()
         );
+        genericAccessors = accessors
+                .stream()
+                .filter(accessor -> !isSpecificAccessor(accessor))
+                .toList();
     }
 
     public Object readPropertyValue(final Object target,
@@ -70,9 +98,8 @@ public class PropertyAccessors {
      */
     public List<PropertyAccessor> findGenericAccessorsToRead(final Object target,
                                                              final String name) {
-        return accessors
+        return genericAccessors
                 .stream()
-                .filter(accessor -> !isSpecificAccessor(accessor))
                 .filter(accessor -> accessor.canRead(target, name))
                 .collect(Collectors.toList());
     }
@@ -87,9 +114,8 @@ public class PropertyAccessors {
     public List<PropertyAccessor> findSpecificAccessorsToRead(final Object target,
                                                               final String name) {
         Class<?> type = target instanceof Class ? (Class<?>) target : target.getClass();
-        return accessors
+        return specificAccessorsByType.get(type)
                 .stream()
-                .filter(accessor -> isAccessorSpecificForType(type, accessor))
                 .filter(accessor -> accessor.canRead(target, name))
                 .collect(Collectors.toList());
     }
@@ -7,15 +7,36 @@
 package io.jikkou.core.selector.internal;
 
 import io.jikkou.core.exceptions.SelectorException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Reads properties using getter methods.
+ * <p>
+ * Methods are resolved only once per target type and property name, and are then invoked
+ * through a cached {@link MethodHandle}.
+ */
 public class ReflectivePropertyAccessor implements PropertyAccessor {
 
     private static final String GETTER_PREFIX = "get";
     private static final String DOT = ".";
     private static final Object NO_VALUE = null;
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, CompiledProperty>> COMPILED_PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Map<String, CompiledProperty> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * {@inheritDoc}
      */
@@ -37,28 +58,55 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
         Class<?> type = (target instanceof Class) ? (Class<?>) target : target.getClass();
 
         try {
-            Method method = findGetterMethodForProperty(type, name);
-            if (method != null || (method = findAccessMethodForProperty(type, name)) != null) {
-                method.setAccessible(true);
-                return method.invoke(target);
+            CompiledProperty property = COMPILED_PROPERTIES.get(type).get(name);
+            if (property == null) {
+                property = compile(type, name);
+                COMPILED_PROPERTIES.get(type).putIfAbsent(name, property);
+            }
+
+            if (property.getter() != null) {
+                return property.getter().invokeExact(target);
             }
 
-            if (isDotPropertyAccessPath(name)) {
-                String[] split = name.split("\\.", 2);
-                Method rootMethod = findGetterMethodForProperty(type, split[0]);
-                if (rootMethod != null || (rootMethod = findAccessMethodForProperty(type, name)) != null) {
-                    rootMethod.setAccessible(true);
-                    Object rootObject = rootMethod.invoke(target);
-                    return new PropertyAccessors().readPropertyValue(rootObject, split[1]);
-                }
+            if (property.rootGetter() != null) {
+                Object rootObject = property.rootGetter().invokeExact(target);
+                return PropertyAccessors.getDefault().readPropertyValue(rootObject, property.remainingPath());
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             throw new SelectorException(e.getMessage());
         }
 
         return NO_VALUE;
     }
 
+    private CompiledProperty compile(final Class<?> type, final String name) throws IllegalAccessException {
+        Method method = findGetterMethodForProperty(type, name);
+        if (method != null || (method = findAccessMethodForProperty(type, name)) != null) {
+            return new CompiledProperty(toGetter(method), null, null);
+        }
+
+        if (isDotPropertyAccessPath(name)) {
+            String[] split = name.split("\\.", 2);
+            Method rootMethod = findGetterMethodForProperty(type, split[0]);
+            if (rootMethod != null || (rootMethod = findAccessMethodForProperty(type, name)) != null) {
+                return new CompiledProperty(null, toGetter(rootMethod), split[1]);
+            }
+        }
+        return CompiledProperty.NONE;
+    }
+
+    private static MethodHandle toGetter(final Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        if (handle.type().parameterCount() != 1) {
+            throw new IllegalAccessException("Method '" + method.getName() + "' is not a getter");
+        }
+        return handle.asType(GETTER_TYPE);
+    }
+
     private Method findGetterMethodForProperty(final Class<?> target, final String name) {
         for (Method m : target.getMethods()) {
             String methodName = m.getName();
@@ -86,4 +134,16 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
     private static boolean isDotPropertyAccessPath(final String name) {
         return name.contains(DOT);
     }
+
+    /**
+     * The methods resolved for reading a property from a given type.
+     *
+     * @param getter        the getter of the property, if any.
+     * @param rootGetter    the getter of the first segment of a dotted property path, if any.
+     * @param remainingPath the property path to read from the value of the root getter.
+     */
+    private record CompiledProperty(MethodHandle getter, MethodHandle rootGetter, String remainingPath) {
+
+        static final CompiledProperty NONE = new CompiledProperty(null, null, null);
+    }
 }
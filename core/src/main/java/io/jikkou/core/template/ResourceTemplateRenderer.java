@@ -28,4 +28,19 @@ public interface ResourceTemplateRenderer extends Configurable {
     String render(@NotNull String template,
                   @Nullable URI location,
                   @NotNull TemplateBindings bindings);
+
+    /**
+     * Checks whether the given text may contain template tokens, e.g. expressions or statements.
+     * <p>
+     * A text for which this method returns {@code false} must render to itself, whatever the
+     * bindings, so that callers can skip rendering it. The default implementation always
+     * returns {@code true}.
+     *
+     * @param text  the text to check.
+     * @return      {@code false} if the text cannot contain any template token.
+     * @since 1.2.0
+     */
+    default boolean mayContainTokens(@NotNull String text) {
+        return true;
+    }
 }
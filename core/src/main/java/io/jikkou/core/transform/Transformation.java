@@ -38,4 +38,16 @@ public interface Transformation<T extends HasMetadata> extends Interceptor {
     @NotNull Optional<T> transform(@NotNull T resource,
                                    @NotNull HasItems resources,
                                    @NotNull ReconciliationContext context);
+
+    /**
+     * Checks whether this transformation is stateless, i.e., whether it can be executed
+     * concurrently on multiple resources. A stateless transformation must not depend on the order
+     * in which resources are transformed.
+     *
+     * @return {@code true} if this transformation is stateless. Otherwise {@code false}.
+     * @since 1.2.0
+     */
+    default boolean isStateless() {
+        return false;
+    }
 }
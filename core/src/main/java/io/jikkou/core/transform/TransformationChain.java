@@ -6,20 +6,30 @@
  */
 package io.jikkou.core.transform;
 
+import io.jikkou.common.utils.ParallelUtils;
 import io.jikkou.core.ReconciliationContext;
 import io.jikkou.core.models.HasItems;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.ResourceType;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Transform an input {@link HasMetadata} into one ore multiple {@link HasMetadata}.
+ * <p>
+ * The transformations accepting a resource type are resolved only once per type. The number
+ * of resources transformed and the time spent by each transformation are reported once per
+ * call to {@link #transformAll(List, HasItems, ReconciliationContext)}.
  */
 public final class TransformationChain implements Transformation<HasMetadata> {
 
@@ -27,23 +37,72 @@ public final class TransformationChain implements Transformation<HasMetadata> {
 
     private final List<Transformation<HasMetadata>> transformations;
 
+    private final int parallelism;
+
+    private final Map<ResourceType, List<Transformation<HasMetadata>>> pipelinesByType = new ConcurrentHashMap<>();
+
+    private final Map<Transformation<HasMetadata>, TransformationStats> stats;
+
     /**
      * Creates a new {@link TransformationChain} instance.
      *
      * @param transformations   the chain of transformations.
      */
     public TransformationChain(final List<Transformation<HasMetadata>> transformations) {
+        this(transformations, 1);
+    }
+
+    /**
+     * Creates a new {@link TransformationChain} instance.
+     *
+     * @param transformations   the chain of transformations.
+     * @param parallelism       the maximum number of resources transformed in parallel (must be positive),
+     *                          when all the transformations of their type are stateless.
+     * @since 1.2.0
+     */
+    public TransformationChain(final List<Transformation<HasMetadata>> transformations,
+                               final int parallelism) {
         this.transformations = Objects.requireNonNull(transformations, "transformations can't be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, was: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.stats = new IdentityHashMap<>();
+        transformations.forEach(transformation -> stats.put(transformation, new TransformationStats()));
     }
 
     public @NotNull List<HasMetadata> transformAll(final @NotNull List<HasMetadata> toTransform,
                                                    final @NotNull HasItems otherResources,
                                                    final @NotNull ReconciliationContext context) {
         LOG.info("Starting transformation-chain execution on {} resources", toTransform.size());
-        return toTransform.stream()
-                .map(resource -> transform(resource, otherResources, context))
-                .flatMap(Optional::stream)
-                .toList();
+        stats.values().forEach(TransformationStats::reset);
+
+        boolean isParallel = parallelism > 1 && toTransform.stream()
+            .map(ResourceType::of)
+            .distinct()
+            .allMatch(type -> getPipeline(type).stream().allMatch(Transformation::isStateless));
+
+        List<HasMetadata> transformed = ParallelUtils.mapOrdered(
+                toTransform,
+                isParallel ? parallelism : 1,
+                resource -> transform(resource, otherResources, context)
+            )
+            .stream()
+            .flatMap(Optional::stream)
+            .toList();
+
+        for (Transformation<HasMetadata> transformation : transformations) {
+            TransformationStats stat = stats.get(transformation);
+            long count = stat.count.sum();
+            if (count > 0) {
+                LOG.info("Completed transformation '{}' on {} resources in {}ms",
+                    transformation.getName(),
+                    count,
+                    TimeUnit.NANOSECONDS.toMillis(stat.nanos.sum())
+                );
+            }
+        }
+        return transformed;
     }
 
     /**
@@ -54,20 +113,44 @@ public final class TransformationChain implements Transformation<HasMetadata> {
                                                     final @NotNull HasItems otherResources,
                                                     final @NotNull ReconciliationContext context) {
         Optional<HasMetadata> result = Optional.of(resource);
-        Iterator<Transformation<HasMetadata>> iterator = transformations.iterator();
+        Iterator<Transformation<HasMetadata>> iterator = getPipeline(ResourceType.of(resource)).iterator();
         while (iterator.hasNext() && result.isPresent()) {
             Transformation<HasMetadata> transformation = iterator.next();
-            ResourceType type = ResourceType.of(resource);
-            if (transformation.canAccept(type)) {
-                result = transformation.transform(result.get(), otherResources, context);
-                LOG.info("Completed transformation '{}' on resource of type: group={}, version={} and kind={}",
-                        transformation.getName(),
-                        type.group(),
-                        type.apiVersion(),
-                        type.kind()
-                );
-            }
+            long start = System.nanoTime();
+            result = transformation.transform(result.get(), otherResources, context);
+            stats.get(transformation).record(System.nanoTime() - start);
         }
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return transformations.stream().allMatch(Transformation::isStateless);
+    }
+
+    private List<Transformation<HasMetadata>> getPipeline(final ResourceType type) {
+        return pipelinesByType.computeIfAbsent(type, key -> transformations.stream()
+            .filter(transformation -> transformation.canAccept(key))
+            .toList()
+        );
+    }
+
+    private static final class TransformationStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(final long elapsedNanos) {
+            count.increment();
+            nanos.add(elapsedNanos);
+        }
+
+        void reset() {
+            count.reset();
+            nanos.reset();
+        }
+    }
 }
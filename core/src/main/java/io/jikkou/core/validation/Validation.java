@@ -60,4 +60,15 @@ public interface Validation<T extends HasMetadata> extends Interceptor {
     default ValidationResult validate(@NotNull final T resource) {
         return ValidationResult.success();
     }
+
+    /**
+     * Checks whether this validation is stateless, i.e., whether it validates each resource
+     * independently of the others and can be executed concurrently on multiple resources.
+     *
+     * @return {@code true} if this validation is stateless. Otherwise {@code false}.
+     * @since 1.2.0
+     */
+    default boolean isStateless() {
+        return false;
+    }
 }
@@ -6,12 +6,14 @@
  */
 package io.jikkou.core.validation;
 
+import io.jikkou.common.utils.ParallelUtils;
 import io.jikkou.core.exceptions.ValidationException;
 import io.jikkou.core.models.CoreAnnotations;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.models.ResourceType;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,13 +32,33 @@ public final class ValidationChain implements Validation<HasMetadata> {
 
     private final List<Validation<HasMetadata>> validations;
 
+    // The minimum number of resources validated by a same task.
+    private static final int MIN_CHUNK_SIZE = 32;
+
+    private final int parallelism;
+
     /**
      * Creates a new {@link ValidationChain} instance.
      *
      * @param validations the list of validations.
      */
     public ValidationChain(final List<Validation<HasMetadata>> validations) {
+        this(validations, 1);
+    }
+
+    /**
+     * Creates a new {@link ValidationChain} instance.
+     *
+     * @param validations the list of validations.
+     * @param parallelism the maximum number of validations run in parallel (must be positive).
+     * @since 1.2.0
+     */
+    public ValidationChain(final List<Validation<HasMetadata>> validations, final int parallelism) {
         this.validations = Objects.requireNonNull(validations, "validations can't be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, was: " + parallelism);
+        }
+        this.parallelism = parallelism;
     }
 
     /**
@@ -49,34 +71,90 @@ public final class ValidationChain implements Validation<HasMetadata> {
     }
 
     public ValidationResult validate(@NotNull final Map<ResourceType, List<HasMetadata>> resources) {
-        List<ValidationError> errors = new LinkedList<>();
+        List<ValidationTask> tasks = new ArrayList<>();
         for (Map.Entry<ResourceType, List<HasMetadata>> entry : resources.entrySet()) {
             ResourceType type = entry.getKey();
-            List<HasMetadata> resourcesHavingSameType = entry.getValue();
-
+            List<HasMetadata> candidates = null;
             for (Validation<HasMetadata> validation : validations) {
-                try {
-                    if (validation.canAccept(type)) {
-                        List<HasMetadata> hasMetadata = filterCandidateToValidation(resourcesHavingSameType);
-                        ValidationResult rs = validation.validate(hasMetadata);
-                        errors.addAll(rs.errors());
-                        LOG.info("Completed validation {} on resources of type: group={}, version={} and kind={}",
-                                validation.getName(),
-                                type.group(),
-                                type.apiVersion(),
-                                type.kind()
-                        );
-                    }
-                } catch (ValidationException e) {
-                    errors.add(new ValidationError(e.getLocalizedMessage()));
+                if (!validation.canAccept(type)) {
+                    continue;
+                }
+                if (candidates == null) {
+                    candidates = filterCandidateToValidation(entry.getValue());
+                }
+                // Resources of a same type are split across threads when the validation is stateless,
+                // so that a dominant type does not run sequentially.
+                List<List<HasMetadata>> chunks = parallelism > 1 && validation.isStateless()
+                    ? chunks(candidates, Math.max(MIN_CHUNK_SIZE, Math.ceilDiv(candidates.size(), parallelism)))
+                    : List.of(candidates);
+                for (int i = 0; i < chunks.size(); i++) {
+                    tasks.add(new ValidationTask(type, chunks.get(i), validation, i == chunks.size() - 1));
                 }
             }
         }
+
+        // Only stateless validations run in parallel, the others run sequentially on the calling thread.
+        // Errors are collected in the order of the tasks, whatever the order in which they run.
+        List<ValidationTask> statelessTasks = tasks.stream().filter(ValidationTask::isStateless).toList();
+        Iterator<List<ValidationError>> statelessErrors = ParallelUtils
+            .mapOrdered(statelessTasks, parallelism, ValidationTask::run)
+            .iterator();
+        List<ValidationError> errors = tasks.stream()
+            .map(task -> task.isStateless() ? statelessErrors.next() : task.run())
+            .flatMap(List::stream)
+            .toList();
+
         if (errors.isEmpty()) return ValidationResult.success();
 
         return new ValidationResult(errors);
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return validations.stream().allMatch(Validation::isStateless);
+    }
+
+    private static List<List<HasMetadata>> chunks(final List<HasMetadata> resources, final int size) {
+        if (resources.size() <= size) {
+            return List.of(resources);
+        }
+        List<List<HasMetadata>> chunks = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i += size) {
+            chunks.add(resources.subList(i, Math.min(i + size, resources.size())));
+        }
+        return chunks;
+    }
+
+    private record ValidationTask(ResourceType type,
+                                  List<HasMetadata> resources,
+                                  Validation<HasMetadata> validation,
+                                  boolean isLastChunk) {
+
+        boolean isStateless() {
+            return validation.isStateless();
+        }
+
+        List<ValidationError> run() {
+            try {
+                ValidationResult rs = validation.validate(resources);
+                if (isLastChunk) {
+                    LOG.info("Completed validation {} on resources of type: group={}, version={} and kind={}",
+                            validation.getName(),
+                            type.group(),
+                            type.apiVersion(),
+                            type.kind()
+                    );
+                }
+                return rs.errors();
+            } catch (ValidationException e) {
+                return List.of(new ValidationError(e.getLocalizedMessage()));
+            }
+        }
+    }
+
     @NotNull
     private static List<HasMetadata> filterCandidateToValidation(@NotNull List<HasMetadata> resources) {
         return resources.stream()
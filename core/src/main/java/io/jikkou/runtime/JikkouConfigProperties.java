@@ -8,6 +8,7 @@ package io.jikkou.runtime;
 
 import io.jikkou.core.config.ConfigProperty;
 import io.jikkou.runtime.configurator.ExtensionConfigEntry;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +63,61 @@ public final class JikkouConfigProperties {
         })
         .defaultValue(Map.of());
 
+    public static final ConfigProperty<Integer> RECONCILIATION_PLAN_CONCURRENCY = ConfigProperty
+        .ofInt("reconciliation.plan-concurrency")
+        .description("The maximum number of resource types for which changes are planned concurrently.")
+        .defaultValue(1);
+
+    public static final ConfigProperty<Integer> RECONCILIATION_APPLY_CONCURRENCY = ConfigProperty
+        .ofInt("reconciliation.apply-concurrency")
+        .description("The maximum number of resource types, sharing the same reconciliation order, for which changes are applied concurrently.")
+        .defaultValue(1);
+
+    public static final ConfigProperty<Integer> VALIDATION_PARALLELISM = ConfigProperty
+        .ofInt("validation.parallelism")
+        .description("The maximum number of threads used to run validations and to evaluate validating resource policies.")
+        .defaultValue(1);
+
+    public static final ConfigProperty<Integer> TRANSFORMATION_PARALLELISM = ConfigProperty
+        .ofInt("transformation.parallelism")
+        .description("The maximum number of resources transformed in parallel, for resource types whose transformations are all stateless.")
+        .defaultValue(1);
+
+    public static final ConfigProperty<Boolean> RESOURCE_CACHE_ENABLED = ConfigProperty
+        .ofBoolean("resource-cache.enabled")
+        .description("Specify whether the resources parsed from local files should be cached on disk, across executions.")
+        .defaultValue(false);
+
+    public static final ConfigProperty<String> RESOURCE_CACHE_DIRECTORY = ConfigProperty
+        .ofString("resource-cache.directory")
+        .description("The directory in which the resources parsed from local files are cached.")
+        .defaultValue(Path.of(System.getProperty("user.home"), ".jikkou", "cache", "resources").toString());
+
+    public static final ConfigProperty<Integer> RESOURCE_CACHE_MAX_ENTRIES = ConfigProperty
+        .ofInt("resource-cache.max-entries")
+        .description("The maximum number of files whose resources are cached, the least recently used ones being evicted first.")
+        .defaultValue(10000);
+
+    public static final ConfigProperty<Integer> RECONCILIATION_MAX_IN_FLIGHT_CHANGES = ConfigProperty
+        .ofInt("reconciliation.max-in-flight-changes")
+        .description("The maximum number of changes executed concurrently by a change handler (0 for no limit).")
+        .defaultValue(0);
+
+    public static final ConfigProperty<Double> RECONCILIATION_MAX_CHANGES_PER_SECOND = ConfigProperty
+        .ofDouble("reconciliation.max-changes-per-second")
+        .description("The maximum number of changes executed per second against a same provider (0 for no limit).")
+        .defaultValue(0d);
+
+    public static final ConfigProperty<Long> RECONCILIATION_CHANGE_TIMEOUT_MS = ConfigProperty
+        .ofLong("reconciliation.change-timeout-ms")
+        .description("The maximum time in milliseconds allowed for a change to complete (0 for no limit).")
+        .defaultValue(0L);
+
+    public static final ConfigProperty<Integer> RECONCILIATION_FAILURE_BUDGET = ConfigProperty
+        .ofInt("reconciliation.failure-budget")
+        .description("The number of failed changes after which the remaining changes are cancelled (0 for no limit).")
+        .defaultValue(0);
+
     public static final ConfigProperty<List<ExtensionConfigEntry>> VALIDATIONS_CONFIG = createExtensionConfig(
         "validations", "The list of custom validations to apply on resources.");
 
@@ -7,6 +7,14 @@
 package io.jikkou.runtime;
 
 import static io.jikkou.runtime.JikkouConfigProperties.EXTENSION_PATHS;
+import static io.jikkou.runtime.JikkouConfigProperties.RECONCILIATION_APPLY_CONCURRENCY;
+import static io.jikkou.runtime.JikkouConfigProperties.RECONCILIATION_CHANGE_TIMEOUT_MS;
+import static io.jikkou.runtime.JikkouConfigProperties.RECONCILIATION_FAILURE_BUDGET;
+import static io.jikkou.runtime.JikkouConfigProperties.RECONCILIATION_MAX_CHANGES_PER_SECOND;
+import static io.jikkou.runtime.JikkouConfigProperties.RECONCILIATION_MAX_IN_FLIGHT_CHANGES;
+import static io.jikkou.runtime.JikkouConfigProperties.RECONCILIATION_PLAN_CONCURRENCY;
+import static io.jikkou.runtime.JikkouConfigProperties.TRANSFORMATION_PARALLELISM;
+import static io.jikkou.runtime.JikkouConfigProperties.VALIDATION_PARALLELISM;
 
 import io.jikkou.core.ApiConfigurator;
 import io.jikkou.core.DefaultApi;
@@ -17,11 +25,13 @@ import io.jikkou.core.extension.DefaultExtensionDescriptorFactory;
 import io.jikkou.core.extension.DefaultExtensionFactory;
 import io.jikkou.core.extension.DefaultExtensionRegistry;
 import io.jikkou.core.extension.ExtensionFactory;
+import io.jikkou.core.reconciler.ChangeExecutionPolicy;
 import io.jikkou.core.resource.DefaultResourceRegistry;
 import io.jikkou.core.resource.LatestApiVersionResourceTypeResolver;
 import io.jikkou.core.resource.ResourceDeserializer;
 import io.jikkou.core.resource.ResourceRegistry;
 import io.jikkou.runtime.configurator.ProviderApiConfigurator;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -118,7 +128,22 @@ public final class JikkouContext {
     }
 
     public DefaultApi.Builder newApiBuilder() {
-        return new DefaultApi.Builder(extensionFactory, resourceRegistry);
+        return new DefaultApi.Builder(extensionFactory, resourceRegistry)
+            .planConcurrency(RECONCILIATION_PLAN_CONCURRENCY.get(configuration))
+            .applyConcurrency(RECONCILIATION_APPLY_CONCURRENCY.get(configuration))
+            .validationParallelism(VALIDATION_PARALLELISM.get(configuration))
+            .transformationParallelism(TRANSFORMATION_PARALLELISM.get(configuration))
+            .changeExecutionPolicy(newChangeExecutionPolicy());
+    }
+
+    private ChangeExecutionPolicy newChangeExecutionPolicy() {
+        long changeTimeoutMs = RECONCILIATION_CHANGE_TIMEOUT_MS.get(configuration);
+        return ChangeExecutionPolicy.builder()
+            .maxInFlightChanges(RECONCILIATION_MAX_IN_FLIGHT_CHANGES.get(configuration))
+            .maxChangesPerSecond(RECONCILIATION_MAX_CHANGES_PER_SECOND.get(configuration))
+            .changeTimeout(changeTimeoutMs > 0 ? Duration.ofMillis(changeTimeoutMs) : null)
+            .failureBudget(RECONCILIATION_FAILURE_BUDGET.get(configuration))
+            .build();
     }
 
     private @NotNull List<ApiConfigurator> defaultApiConfigurators() {
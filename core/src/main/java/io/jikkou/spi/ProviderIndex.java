@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.spi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The index of the extension and resource classes of the providers, generated at build time by the
+ * {@code ProviderProcessor} annotation processor.
+ * <p>
+ * The index holds the values read from the annotations of each class, so that the descriptors of
+ * the extensions and resources can be created without scanning their annotations at runtime. The
+ * classes missing from the index, e.g., classes of providers built without the annotation processor,
+ * are described using reflection.
+ *
+ * @since 1.2.0
+ */
+public final class ProviderIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProviderIndex.class);
+
+    /**
+     * The location of the index files.
+     */
+    public static final String INDEX_RESOURCE_FILE = "META-INF/jikkou/provider-index.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private static final ProviderIndex EMPTY = new ProviderIndex(new Index(Map.of(), Map.of()));
+
+    private static final Map<ClassLoader, ProviderIndex> INDEXES = new WeakHashMap<>();
+
+    private final Index index;
+
+    /**
+     * Gets the index of all the providers visible from the given class loader.
+     *
+     * @param classLoader the class loader.
+     * @return the index, possibly empty.
+     */
+    public static ProviderIndex of(@Nullable final ClassLoader classLoader) {
+        if (classLoader == null) {
+            return EMPTY;
+        }
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(classLoader, ProviderIndex::load);
+        }
+    }
+
+    private static ProviderIndex load(final ClassLoader classLoader) {
+        Map<String, ExtensionEntry> extensions = new HashMap<>();
+        Map<String, ResourceEntry> resources = new HashMap<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_RESOURCE_FILE);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try (InputStream is = url.openStream()) {
+                    Index index = read(is);
+                    extensions.putAll(index.extensions());
+                    resources.putAll(index.resources());
+                } catch (IOException e) {
+                    LOG.warn("Failed to read provider index '{}'. Cause: {}", url, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to list provider indexes. Cause: {}", e.getMessage());
+        }
+        return new ProviderIndex(new Index(extensions, resources));
+    }
+
+    private ProviderIndex(final Index index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the indexed entry of the given extension class.
+     *
+     * @param extensionType the extension class.
+     * @return the entry, or an empty optional if the class is not indexed.
+     */
+    public Optional<ExtensionEntry> extension(@NotNull final Class<?> extensionType) {
+        return Optional.ofNullable(index.extensions().get(extensionType.getName()));
+    }
+
+    /**
+     * Gets the indexed entry of the given resource class.
+     *
+     * @param resourceType the resource class.
+     * @return the entry, or an empty optional if the class is not indexed.
+     */
+    public Optional<ResourceEntry> resource(@NotNull final Class<?> resourceType) {
+        return Optional.ofNullable(index.resources().get(resourceType.getName()));
+    }
+
+    /**
+     * Reads an index file.
+     *
+     * @param is the input stream to read.
+     * @return the index.
+     * @throws IOException if the index cannot be read.
+     */
+    public static Index read(@NotNull final InputStream is) throws IOException {
+        Index index = MAPPER.readValue(is, Index.class);
+        return new Index(
+            index.extensions() != null ? index.extensions() : Map.of(),
+            index.resources() != null ? index.resources() : Map.of()
+        );
+    }
+
+    /**
+     * Writes an index file.
+     *
+     * @param index the index.
+     * @param os    the output stream to write to.
+     * @throws IOException if the index cannot be written.
+     */
+    public static void write(@NotNull final Index index, @NotNull final OutputStream os) throws IOException {
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(os, new Index(
+            new TreeMap<>(index.extensions()),
+            new TreeMap<>(index.resources())
+        ));
+    }
+
+    /**
+     * The content of an index file.
+     *
+     * @param extensions the extension entries, by binary class name.
+     * @param resources  the resource entries, by binary class name.
+     */
+    public record Index(Map<String, ExtensionEntry> extensions,
+                        Map<String, ResourceEntry> resources) {
+    }
+
+    /**
+     * The values read from the annotations of an extension class.
+     *
+     * @param name        the extension name.
+     * @param title       the title, if any.
+     * @param description the description, if any.
+     * @param category    the name of the extension category.
+     * @param enabled     whether the extension is enabled.
+     * @param priority    the extension priority.
+     * @param examples    the examples.
+     * @param attributes  the attributes of all the annotations of the class and its super types.
+     */
+    public record ExtensionEntry(String name,
+                                 String title,
+                                 String description,
+                                 String category,
+                                 boolean enabled,
+                                 int priority,
+                                 List<ExampleEntry> examples,
+                                 List<AttributeEntry> attributes) {
+    }
+
+    /**
+     * An extension example.
+     *
+     * @param title the example title.
+     * @param code  the lines of the example code.
+     */
+    public record ExampleEntry(String title, List<String> code) {
+    }
+
+    /**
+     * The members of an annotation.
+     *
+     * @param name          the attribute name.
+     * @param values        the values, by member name.
+     * @param defaultValues the default values, by member name.
+     */
+    public record AttributeEntry(String name,
+                                 Map<String, ValueEntry> values,
+                                 Map<String, ValueEntry> defaultValues) {
+    }
+
+    /**
+     * The value of an annotation member.
+     * <p>
+     * The type is either a primitive type name, {@code string}, {@code class}, {@code enum:<binary name>},
+     * or one of those followed by {@code []} for arrays. Classes are represented by their binary name,
+     * enum constants by their name, and arrays by lists.
+     *
+     * @param type  the value type.
+     * @param value the value.
+     */
+    public record ValueEntry(String type, Object value) {
+
+        /**
+         * Converts this entry to the value returned by the annotation member.
+         *
+         * @param classLoader the class loader used for loading the classes referenced by the value.
+         * @return the value.
+         * @throws ClassNotFoundException if a referenced class cannot be found.
+         */
+        public Object toValue(@NotNull final ClassLoader classLoader) throws ClassNotFoundException {
+            if (type.endsWith("[]")) {
+                String componentType = type.substring(0, type.length() - 2);
+                List<?> elements = (List<?>) value;
+                Object array = Array.newInstance(toClass(componentType, classLoader), elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, toValue(componentType, elements.get(i), classLoader));
+                }
+                return array;
+            }
+            return toValue(type, value, classLoader);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Object toValue(final String type,
+                                      final Object value,
+                                      final ClassLoader classLoader) throws ClassNotFoundException {
+            return switch (type) {
+                case "boolean" -> value;
+                case "byte" -> ((Number) value).byteValue();
+                case "short" -> ((Number) value).shortValue();
+                case "int" -> ((Number) value).intValue();
+                case "long" -> ((Number) value).longValue();
+                case "float" -> ((Number) value).floatValue();
+                case "double" -> ((Number) value).doubleValue();
+                case "char" -> ((String) value).charAt(0);
+                case "string" -> value;
+                case "class" -> Class.forName((String) value, false, classLoader);
+                default -> Enum.valueOf((Class<Enum>) toClass(type, classLoader), (String) value);
+            };
+        }
+
+        private static Class<?> toClass(final String type,
+                                        final ClassLoader classLoader) throws ClassNotFoundException {
+            return switch (type) {
+                case "boolean" -> boolean.class;
+                case "byte" -> byte.class;
+                case "short" -> short.class;
+                case "int" -> int.class;
+                case "long" -> long.class;
+                case "float" -> float.class;
+                case "double" -> double.class;
+                case "char" -> char.class;
+                case "string" -> String.class;
+                case "class" -> Class.class;
+                default -> {
+                    if (!type.startsWith("enum:")) {
+                        throw new IllegalArgumentException("Unsupported value type: " + type);
+                    }
+                    yield Class.forName(type.substring("enum:".length()), false, classLoader);
+                }
+            };
+        }
+    }
+
+    /**
+     * The values read from the annotations of a resource class.
+     *
+     * @param description         the description.
+     * @param names               the names, if the class is annotated with {@code @Names}.
+     * @param verbs               the names of the supported verbs.
+     * @param reconciliationOrder the reconciliation order.
+     * @param isTransient         whether the resource is transient.
+     */
+    public record ResourceEntry(String description,
+                                NamesEntry names,
+                                List<String> verbs,
+                                int reconciliationOrder,
+                                boolean isTransient) {
+    }
+
+    /**
+     * The names of a resource.
+     *
+     * @param singular   the singular name.
+     * @param plural     the plural name.
+     * @param shortNames the short names.
+     * @param local      the local name.
+     */
+    public record NamesEntry(String singular, String plural, List<String> shortNames, String local) {
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorTest {
+
+    @Test
+    void shouldNotExceedMaxConcurrency() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        // When
+        try (BoundedExecutor executor = new BoundedExecutor("test-", 2, null)) {
+            for (int i = 0; i < 8; i++) {
+                final int value = i;
+                futures.add(executor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                    return value;
+                }));
+            }
+            // Then
+            for (int i = 0; i < 8; i++) {
+                Assertions.assertEquals(i, AsyncUtils.join(futures.get(i)).left().get());
+            }
+        }
+        Assertions.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    void shouldFailTaskExceedingTimeout() {
+        // Given
+        try (BoundedExecutor executor = new BoundedExecutor("test-", 1, Duration.ofMillis(50))) {
+            // When
+            CompletableFuture<String> future = executor.submit(() -> {
+                sleep(5_000);
+                return "value";
+            });
+            // Then
+            Either<String, Throwable> result = AsyncUtils.join(future);
+            Assertions.assertTrue(result.isRight());
+            Assertions.assertInstanceOf(TimeoutException.class, result.right().get());
+        }
+    }
+
+    @Test
+    void shouldKeepPermitUntilTimedOutTaskReturns() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (BoundedExecutor executor = new BoundedExecutor("test-", 1, Duration.ofMillis(50))) {
+            // When
+            CompletableFuture<String> first = executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                // Ignore interrupts, and keep running after the timeout.
+                long deadline = System.nanoTime() + Duration.ofMillis(300).toNanos();
+                while (System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                running.decrementAndGet();
+                return "first";
+            });
+            CompletableFuture<String> second = executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                return "second";
+            });
+            // Then
+            Assertions.assertTrue(AsyncUtils.join(first).isRight());
+            Assertions.assertEquals("second", AsyncUtils.join(second).left().get());
+        }
+        Assertions.assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void shouldMeasureTimeoutFromTaskStart() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        try (BoundedExecutor executor = new BoundedExecutor("test-", 1, Duration.ofMillis(500))) {
+            // When
+            CompletableFuture<String> first = executor.submit(() -> {
+                sleep(300);
+                return "first";
+            });
+            CompletableFuture<String> second = executor.submit(() -> {
+                sleep(300);
+                latch.countDown();
+                return "second";
+            });
+            // Then
+            Assertions.assertEquals("first", AsyncUtils.join(first).left().get());
+            Assertions.assertEquals("second", AsyncUtils.join(second).left().get());
+        }
+        Assertions.assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    void shouldReturnTaskFailure() {
+        // Given
+        IllegalStateException error = new IllegalStateException("error");
+        try (BoundedExecutor executor = new BoundedExecutor("test-", 1, null)) {
+            // When
+            CompletableFuture<Object> future = executor.submit(() -> {
+                throw error;
+            });
+            // Then
+            Assertions.assertSame(error, AsyncUtils.join(future).right().get());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() {
+        // Given
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // When
+        cache.put("c", 3);
+
+        // Then
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void shouldComputeValueOnlyOnceGivenCachedKey() {
+        // Given
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        cache.computeIfAbsent("a", key -> computations.incrementAndGet());
+        Integer value = cache.computeIfAbsent("a", key -> computations.incrementAndGet());
+
+        // Then
+        Assertions.assertEquals(1, value);
+        Assertions.assertEquals(1, computations.get());
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParallelUtilsTest {
+
+    @Test
+    void shouldReturnResultsInOrderOfElements() {
+        // Given
+        List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+        // When
+        List<Integer> results = ParallelUtils.mapOrdered(elements, 4, it -> it * 2);
+        // Then
+        Assertions.assertEquals(elements.stream().map(it -> it * 2).toList(), results);
+    }
+
+    @Test
+    void shouldRethrowRuntimeExceptionOfFailedElement() {
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> ParallelUtils.mapOrdered(List.of(1, 2, 3), 2, it -> {
+                if (it == 2) throw new IllegalStateException("error");
+                return it;
+            }));
+    }
+
+    @Test
+    void shouldRejectNonPositiveParallelism() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelUtils.mapOrdered(List.of(1), 0, it -> it));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    @Test
+    void shouldNotExceedBurst() {
+        // Given
+        TokenBucket bucket = new TokenBucket(0.001, 2);
+        // When / Then
+        Assertions.assertTrue(bucket.tryAcquire());
+        Assertions.assertTrue(bucket.tryAcquire());
+        Assertions.assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void shouldWaitForNextTokenWhenEmpty() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(20, 1);
+        bucket.acquire();
+        // When
+        long start = System.nanoTime();
+        bucket.acquire();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        // Then
+        Assertions.assertTrue(elapsedMs >= 40, "elapsed: " + elapsedMs);
+    }
+
+    @Test
+    void shouldRejectNonPositiveRate() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core;
+
+import io.jikkou.core.annotation.ApiVersion;
+import io.jikkou.core.annotation.Kind;
+import io.jikkou.core.annotation.ReconciliationOrder;
+import io.jikkou.core.annotation.SupportedResource;
+import io.jikkou.core.extension.ClassExtensionAliasesGenerator;
+import io.jikkou.core.extension.DefaultExtensionDescriptorFactory;
+import io.jikkou.core.extension.DefaultExtensionFactory;
+import io.jikkou.core.extension.DefaultExtensionRegistry;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.ObjectMeta;
+import io.jikkou.core.models.ResourceList;
+import io.jikkou.core.models.change.GenericResourceChange;
+import io.jikkou.core.models.change.ResourceChange;
+import io.jikkou.core.models.change.ResourceChangeSpec;
+import io.jikkou.core.reconciler.ChangeExecutor;
+import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.Controller;
+import io.jikkou.core.reconciler.Operation;
+import io.jikkou.core.reconciler.annotations.ControllerConfiguration;
+import io.jikkou.core.resource.DefaultResourceRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultApiApplyTest {
+
+    private static CountDownLatch APPLYING;
+    private static List<String> APPLIED;
+
+    private DefaultApi.Builder builder;
+
+    @BeforeEach
+    void setUp() {
+        DefaultResourceRegistry registry = new DefaultResourceRegistry();
+        registry.register(FirstResource.class);
+        registry.register(SecondResource.class);
+        registry.register(LastResource.class);
+        builder = new DefaultApi.Builder(
+            new DefaultExtensionFactory(new DefaultExtensionRegistry(
+                new DefaultExtensionDescriptorFactory(),
+                new ClassExtensionAliasesGenerator())
+            ),
+            registry
+        );
+        APPLYING = new CountDownLatch(2);
+        APPLIED = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void shouldApplyResourceTypesOfSameWaveConcurrently() {
+        // Given
+        DefaultApi api = builder
+            .register(AwaitingFirstController.class, AwaitingFirstController::new)
+            .register(AwaitingSecondController.class, AwaitingSecondController::new)
+            .register(LastController.class, LastController::new)
+            .applyConcurrency(2)
+            .build();
+
+        // When
+        api.patch(
+            ResourceList.of(List.of(newChange("Last", Operation.CREATE), newChange("Second", Operation.CREATE), newChange("First", Operation.CREATE))),
+            ReconciliationMode.CREATE,
+            ReconciliationContext.builder().dryRun(true).build()
+        );
+
+        // Then
+        Assertions.assertEquals(3, APPLIED.size());
+        Assertions.assertEquals("Last", APPLIED.get(2));
+    }
+
+    @Test
+    void shouldApplyWavesInReverseOrderForDeletions() {
+        // Given
+        DefaultApi api = builder
+            .register(AwaitingFirstController.class, AwaitingFirstController::new)
+            .register(AwaitingSecondController.class, AwaitingSecondController::new)
+            .register(LastController.class, LastController::new)
+            .applyConcurrency(2)
+            .build();
+
+        // When
+        api.patch(
+            ResourceList.of(List.of(newChange("First", Operation.DELETE), newChange("Second", Operation.DELETE), newChange("Last", Operation.DELETE))),
+            ReconciliationMode.DELETE,
+            ReconciliationContext.builder().dryRun(true).build()
+        );
+
+        // Then
+        Assertions.assertEquals(3, APPLIED.size());
+        Assertions.assertEquals("Last", APPLIED.get(0));
+    }
+
+    @Test
+    void shouldReturnFailedResultsOfResourceTypeGivenConcurrentApply() {
+        // Given
+        DefaultApi api = builder
+            .register(FailingFirstController.class, FailingFirstController::new)
+            .register(AwaitingSecondController.class, AwaitingSecondController::new)
+            .register(LastController.class, LastController::new)
+            .applyConcurrency(2)
+            .build();
+        APPLYING = new CountDownLatch(1);
+
+        // When
+        List<ChangeResult> results = api.patch(
+            ResourceList.of(List.of(newChange("First", Operation.CREATE), newChange("Second", Operation.CREATE), newChange("Last", Operation.CREATE))),
+            ReconciliationMode.CREATE,
+            ReconciliationContext.builder().dryRun(true).build()
+        ).results();
+
+        // Then
+        assertFailedResultOfFirstType(results);
+        Assertions.assertEquals(List.of("Second", "Last"), APPLIED);
+    }
+
+    @Test
+    void shouldReturnFailedResultsOfResourceTypeGivenSequentialApply() {
+        // Given
+        DefaultApi api = builder
+            .register(FailingFirstController.class, FailingFirstController::new)
+            .register(AwaitingSecondController.class, AwaitingSecondController::new)
+            .register(LastController.class, LastController::new)
+            .build();
+        APPLYING = new CountDownLatch(1);
+
+        // When
+        List<ChangeResult> results = api.patch(
+            ResourceList.of(List.of(newChange("First", Operation.CREATE), newChange("Second", Operation.CREATE), newChange("Last", Operation.CREATE))),
+            ReconciliationMode.CREATE,
+            ReconciliationContext.builder().dryRun(true).build()
+        ).results();
+
+        // Then
+        assertFailedResultOfFirstType(results);
+        Assertions.assertEquals(List.of("Second", "Last"), APPLIED);
+    }
+
+    private static void assertFailedResultOfFirstType(List<ChangeResult> results) {
+        Assertions.assertEquals(3, results.size());
+        ChangeResult failed = results.stream()
+            .filter(result -> result.change().getMetadata().getName().equals("First"))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertTrue(failed.isFailed());
+        Assertions.assertTrue(failed.errors().getFirst().message().contains("kind=First"));
+        Assertions.assertEquals(2, results.stream().filter(result -> !result.isFailed()).count());
+    }
+
+    @Test
+    void shouldPublishChangeResultsOfReconciliation() throws Exception {
+        // Given
+        DefaultApi api = builder
+            .register(LastController.class, LastController::new)
+            .build();
+        CompletableFuture<List<ChangeResult>> published = new CompletableFuture<>();
+
+        // When
+        api.reconcileStream(
+            ResourceList.of(List.of(new LastResource().withMetadata(new ObjectMeta("last")))),
+            ReconciliationMode.CREATE,
+            ReconciliationContext.builder().dryRun(true).build()
+        ).subscribe(new Flow.Subscriber<>() {
+            private final List<ChangeResult> results = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ChangeResult item) {
+                results.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                published.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                published.complete(results);
+            }
+        });
+
+        // Then
+        List<ChangeResult> results = published.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertEquals("Last", results.getFirst().change().getMetadata().getName());
+    }
+
+    @Test
+    void shouldRejectNonPositiveApplyConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.applyConcurrency(0));
+    }
+
+    private static ResourceChange newChange(String kind, Operation operation) {
+        return GenericResourceChange.builder()
+            .withApiVersion("core/v1")
+            .withKind(kind)
+            .withMetadata(new ObjectMeta(kind))
+            .withSpec(ResourceChangeSpec.builder().withOperation(operation).build())
+            .build();
+    }
+
+    private static List<ChangeResult> awaitAndApply(String kind, ChangeExecutor executor) {
+        APPLYING.countDown();
+        try {
+            // Each controller waits for the other one: applying would time out if sequential.
+            if (!APPLYING.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Resource types were not applied concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        APPLIED.add(kind);
+        return executor.changes().stream()
+            .map(change -> ChangeResult.changed(change, null))
+            .toList();
+    }
+
+    @ApiVersion("core/v1")
+    @Kind("First")
+    @ReconciliationOrder(1)
+    public static class FirstResource extends BaseResource {
+    }
+
+    @ApiVersion("core/v1")
+    @Kind("Second")
+    @ReconciliationOrder(1)
+    public static class SecondResource extends BaseResource {
+    }
+
+    @ApiVersion("core/v1")
+    @Kind("Last")
+    @ReconciliationOrder(2)
+    public static class LastResource extends BaseResource {
+    }
+
+    abstract static class BaseResource implements HasMetadata {
+
+        private ObjectMeta meta;
+
+        @Override
+        public ObjectMeta getMetadata() {
+            return meta;
+        }
+
+        @Override
+        public BaseResource withMetadata(ObjectMeta metadata) {
+            this.meta = metadata;
+            return this;
+        }
+    }
+
+    @ControllerConfiguration(supportedModes = {ReconciliationMode.CREATE, ReconciliationMode.DELETE})
+    abstract static class BaseTestController<R extends HasMetadata> implements Controller<R> {
+
+        @Override
+        public List<ResourceChange> plan(@NotNull Collection<R> resources,
+                                         @NotNull ReconciliationContext context) {
+            return resources.stream()
+                .map(resource -> newChange(resource.getKind(), Operation.CREATE))
+                .toList();
+        }
+    }
+
+    @SupportedResource(type = FirstResource.class)
+    public static class AwaitingFirstController extends BaseTestController<FirstResource> {
+
+        @Override
+        public List<ChangeResult> execute(@NotNull ChangeExecutor executor,
+                                          @NotNull ReconciliationContext context) {
+            return awaitAndApply("First", executor);
+        }
+    }
+
+    @SupportedResource(type = SecondResource.class)
+    public static class AwaitingSecondController extends BaseTestController<SecondResource> {
+
+        @Override
+        public List<ChangeResult> execute(@NotNull ChangeExecutor executor,
+                                          @NotNull ReconciliationContext context) {
+            return awaitAndApply("Second", executor);
+        }
+    }
+
+    @SupportedResource(type = LastResource.class)
+    public static class LastController extends BaseTestController<LastResource> {
+
+        @Override
+        public List<ChangeResult> execute(@NotNull ChangeExecutor executor,
+                                          @NotNull ReconciliationContext context) {
+            APPLIED.add("Last");
+            return executor.changes().stream()
+                .map(change -> ChangeResult.changed(change, null))
+                .toList();
+        }
+    }
+
+    @SupportedResource(type = FirstResource.class)
+    public static class FailingFirstController extends BaseTestController<FirstResource> {
+
+        @Override
+        public List<ChangeResult> execute(@NotNull ChangeExecutor executor,
+                                          @NotNull ReconciliationContext context) {
+            throw new IllegalStateException("Cannot apply");
+        }
+    }
+}
@@ -30,6 +30,7 @@ import io.jikkou.core.reconciler.DefaultChangeResult;
 import io.jikkou.core.reconciler.Operation;
 import io.jikkou.core.reconciler.ResourceChangeFilter;
 import io.jikkou.core.resource.DefaultResourceRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -171,6 +172,59 @@ class DefaultApiMultiProviderTest {
         assertTrue(result.results().isEmpty());
     }
 
+    @Test
+    void shouldReconcileProvidersConcurrently() {
+        providerConfigRegistry.registerProviderConfiguration("provider-a", PROVIDER_TYPE, Configuration.empty(), false);
+        providerConfigRegistry.registerProviderConfiguration("provider-b", PROVIDER_TYPE, Configuration.empty(), false);
+        providerConfigRegistry.registerProviderConfiguration("provider-c", PROVIDER_TYPE, Configuration.empty(), false);
+        DefaultApi api = buildApi();
+
+        ReconciliationContext context = ReconciliationContext.builder()
+            .dryRun(true)
+            .providerNames(List.of("provider-a", "provider-b", "provider-c"))
+            .providerConcurrency(3)
+            .providerTimeout(Duration.ofMinutes(1))
+            .build();
+
+        var result = api.reconcile(ResourceList.empty(), ReconciliationMode.CREATE, context);
+        assertTrue(result.results().isEmpty());
+    }
+
+    @Test
+    void shouldDiffFailFastOnFirstFailingProviderInProviderOrderWhenConcurrent() {
+        providerConfigRegistry.registerProviderConfiguration("provider-a", PROVIDER_TYPE, Configuration.empty(), false);
+        // provider-b and provider-c not registered — both will fail
+        DefaultApi api = buildApi();
+
+        ReconciliationContext context = ReconciliationContext.builder()
+            .dryRun(true)
+            .providerNames(List.of("provider-a", "provider-b", "provider-c"))
+            .providerConcurrency(3)
+            .build();
+
+        JikkouRuntimeException exception = assertThrows(
+            JikkouRuntimeException.class,
+            () -> api.getDiff(ResourceList.empty(), new ResourceChangeFilter.Noop(), context)
+        );
+        assertTrue(exception.getMessage().contains("provider-b"));
+    }
+
+    @Test
+    void shouldDiffContinueOnErrorWhenConcurrent() {
+        providerConfigRegistry.registerProviderConfiguration("provider-a", PROVIDER_TYPE, Configuration.empty(), false);
+        DefaultApi api = buildApi();
+
+        ReconciliationContext context = ReconciliationContext.builder()
+            .dryRun(true)
+            .providerNames(List.of("provider-a", "provider-b"))
+            .providerConcurrency(2)
+            .continueOnError(true)
+            .build();
+
+        ApiResourceChangeList result = api.getDiff(ResourceList.empty(), new ResourceChangeFilter.Noop(), context);
+        assertTrue(result.getItems().isEmpty());
+    }
+
     @Test
     void shouldPreserveContextPropertiesInSingleProviderContext() {
         providerConfigRegistry.registerProviderConfiguration("provider-a", PROVIDER_TYPE, Configuration.empty(), false);
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core;
+
+import io.jikkou.core.annotation.ApiVersion;
+import io.jikkou.core.annotation.Kind;
+import io.jikkou.core.annotation.SupportedResource;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import io.jikkou.core.extension.ClassExtensionAliasesGenerator;
+import io.jikkou.core.extension.DefaultExtensionDescriptorFactory;
+import io.jikkou.core.extension.DefaultExtensionFactory;
+import io.jikkou.core.extension.DefaultExtensionRegistry;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.ObjectMeta;
+import io.jikkou.core.models.ResourceList;
+import io.jikkou.core.models.change.GenericResourceChange;
+import io.jikkou.core.models.change.ResourceChange;
+import io.jikkou.core.models.change.ResourceChangeSpec;
+import io.jikkou.core.reconciler.ChangeExecutor;
+import io.jikkou.core.reconciler.ChangeResult;
+import io.jikkou.core.reconciler.Controller;
+import io.jikkou.core.reconciler.Operation;
+import io.jikkou.core.reconciler.ResourceChangeFilter;
+import io.jikkou.core.resource.DefaultResourceRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultApiPlanTest {
+
+    private static CountDownLatch PLANNING;
+
+    private DefaultApi.Builder builder;
+
+    @BeforeEach
+    void setUp() {
+        builder = new DefaultApi.Builder(
+            new DefaultExtensionFactory(new DefaultExtensionRegistry(
+                new DefaultExtensionDescriptorFactory(),
+                new ClassExtensionAliasesGenerator())
+            ),
+            new DefaultResourceRegistry()
+        );
+        PLANNING = new CountDownLatch(2);
+    }
+
+    @Test
+    void shouldPlanResourceTypesConcurrently() {
+        // Given
+        DefaultApi api = builder
+            .register(AwaitingTestController.class, AwaitingTestController::new)
+            .register(AwaitingOtherController.class, AwaitingOtherController::new)
+            .planConcurrency(2)
+            .build();
+
+        // When
+        List<ResourceChange> changes = api.getDiff(
+            ResourceList.of(List.of(newOtherResource("other"), newTestResource("test"))),
+            new ResourceChangeFilter.Noop(),
+            ReconciliationContext.builder().dryRun(true).build()
+        ).getItems();
+
+        // Then
+        Assertions.assertEquals(
+            List.of("Other", "Test"),
+            changes.stream().map(change -> change.getMetadata().getName()).toList()
+        );
+    }
+
+    @Test
+    void shouldAttributePlanningFailureToResourceType() {
+        // Given
+        DefaultApi api = builder
+            .register(FailingTestController.class, FailingTestController::new)
+            .register(AwaitingOtherController.class, AwaitingOtherController::new)
+            .planConcurrency(2)
+            .build();
+        PLANNING = new CountDownLatch(1);
+
+        // When
+        JikkouRuntimeException exception = Assertions.assertThrows(JikkouRuntimeException.class, () -> api.getDiff(
+            ResourceList.of(List.of(newOtherResource("other"), newTestResource("test"))),
+            new ResourceChangeFilter.Noop(),
+            ReconciliationContext.builder().dryRun(true).build()
+        ));
+
+        // Then
+        Assertions.assertTrue(exception.getMessage().contains("kind=Test"));
+    }
+
+    @Test
+    void shouldRejectNonPositivePlanConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.planConcurrency(0));
+    }
+
+    private static TestResource newTestResource(String name) {
+        return new TestResource().withMetadata(new ObjectMeta(name));
+    }
+
+    private static OtherResource newOtherResource(String name) {
+        return new OtherResource().withMetadata(new ObjectMeta(name));
+    }
+
+    private static List<ResourceChange> awaitAndPlan(String kind) {
+        PLANNING.countDown();
+        try {
+            // Each controller waits for the other one: planning would time out if sequential.
+            if (!PLANNING.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Resource types were not planned concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return List.of(GenericResourceChange.builder()
+            .withMetadata(new ObjectMeta(kind))
+            .withSpec(ResourceChangeSpec.builder().withOperation(Operation.NONE).build())
+            .build()
+        );
+    }
+
+    @ApiVersion("core/v1")
+    @Kind("Other")
+    public static class OtherResource implements HasMetadata {
+
+        private ObjectMeta meta;
+
+        @Override
+        public ObjectMeta getMetadata() {
+            return meta;
+        }
+
+        @Override
+        public OtherResource withMetadata(ObjectMeta metadata) {
+            this.meta = metadata;
+            return this;
+        }
+    }
+
+    abstract static class BaseTestController<R extends HasMetadata> implements Controller<R> {
+
+        @Override
+        public List<ChangeResult> execute(@NotNull ChangeExecutor executor,
+                                          @NotNull ReconciliationContext context) {
+            return List.of();
+        }
+    }
+
+    @SupportedResource(type = TestResource.class)
+    public static class AwaitingTestController extends BaseTestController<TestResource> {
+
+        @Override
+        public List<ResourceChange> plan(@NotNull Collection<TestResource> resources,
+                                         @NotNull ReconciliationContext context) {
+            return awaitAndPlan("Test");
+        }
+    }
+
+    @SupportedResource(type = OtherResource.class)
+    public static class AwaitingOtherController extends BaseTestController<OtherResource> {
+
+        @Override
+        public List<ResourceChange> plan(@NotNull Collection<OtherResource> resources,
+                                         @NotNull ReconciliationContext context) {
+            return awaitAndPlan("Other");
+        }
+    }
+
+    @SupportedResource(type = TestResource.class)
+    public static class FailingTestController extends BaseTestController<TestResource> {
+
+        @Override
+        public List<ResourceChange> plan(@NotNull Collection<TestResource> resources,
+                                         @NotNull ReconciliationContext context) {
+            throw new IllegalStateException("Cannot plan");
+        }
+    }
+}
@@ -9,7 +9,9 @@ package io.jikkou.core;
 import io.jikkou.core.config.Configuration;
 import io.jikkou.core.models.NamedValue;
 import io.jikkou.core.models.NamedValueSet;
+import io.jikkou.core.reconciler.ChangeExecutionPolicy;
 import io.jikkou.core.selector.Selectors;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -35,7 +37,11 @@ class ReconciliationContextTest {
                 NamedValueSet.setOf(new NamedValue("annotation", "value")),
                 null,
                 List.of(),
-                false
+                false,
+                1,
+                null,
+                null,
+                null
         ), context);
     }
 
@@ -60,6 +66,38 @@ class ReconciliationContextTest {
         Assertions.assertTrue(context.isMultiProvider());
     }
 
+    @Test
+    void shouldBuildContextWithProviderConcurrencyAndTimeout() {
+        ReconciliationContext context = ReconciliationContext.builder()
+            .providerNames(List.of("kafka-prod", "kafka-staging"))
+            .providerConcurrency(2)
+            .providerTimeout(Duration.ofMinutes(5))
+            .build();
+
+        Assertions.assertEquals(2, context.providerConcurrency());
+        Assertions.assertEquals(Duration.ofMinutes(5), context.providerTimeout());
+    }
+
+    @Test
+    void shouldRejectNonPositiveProviderConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ReconciliationContext.builder().providerConcurrency(0));
+    }
+
+    @Test
+    void shouldPreserveChangeExecutionPolicyInNewBuilder() {
+        ChangeExecutionPolicy policy = ChangeExecutionPolicy.builder().maxInFlightChanges(10).build();
+        ReconciliationContext context = ReconciliationContext.builder()
+            .changeExecutionPolicy(policy)
+            .build()
+            .toBuilder()
+            .dryRun(false)
+            .build();
+
+        Assertions.assertSame(policy, context.changeExecutionPolicy());
+        Assertions.assertFalse(context.isDryRun());
+    }
+
     @Test
     void shouldDefaultToEmptyProviderNames() {
         ReconciliationContext context = ReconciliationContext.builder().build();
@@ -67,6 +105,8 @@ class ReconciliationContextTest {
         Assertions.assertTrue(context.providerNames().isEmpty());
         Assertions.assertFalse(context.isMultiProvider());
         Assertions.assertFalse(context.continueOnError());
+        Assertions.assertEquals(1, context.providerConcurrency());
+        Assertions.assertNull(context.providerTimeout());
     }
 
     @Test
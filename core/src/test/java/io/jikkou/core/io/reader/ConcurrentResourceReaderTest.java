@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import io.jikkou.core.exceptions.InvalidResourceException;
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.HasMetadata;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConcurrentResourceReaderTest {
+
+    private final ResourceReaderFactory factory = new ResourceReaderFactory(Jackson.YAML_OBJECT_MAPPER, null, false, 4);
+
+    @Test
+    void shouldReadResourcesInOrderOfLocationsAndFiles(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path directory = Files.createDirectories(tempDir.resolve("resources"));
+        Files.createDirectories(directory.resolve("sub"));
+        for (String name : List.of("c", "a", "sub/d", "b")) {
+            writeResource(directory.resolve(name + ".yaml"), name);
+        }
+        Path file = writeResource(tempDir.resolve("first.yaml"), "first");
+        ConcurrentResourceReader reader = new ConcurrentResourceReader(
+            List.of(file.toUri(), directory.toUri()),
+            factory
+        );
+
+        // When
+        List<HasMetadata> resources = reader.readAll(ResourceReaderOptions.DEFAULTS);
+
+        // Then
+        Assertions.assertEquals(
+            List.of("first", "a", "b", "c", "sub/d"),
+            resources.stream().map(it -> it.getMetadata().getName()).toList()
+        );
+    }
+
+    @Test
+    void shouldThrowFirstFailureInFileOrder(@TempDir Path tempDir) throws IOException {
+        // Given
+        writeResource(tempDir.resolve("a.yaml"), "a");
+        Files.writeString(tempDir.resolve("b.yaml"), "[invalid");
+        Files.writeString(tempDir.resolve("c.yaml"), "[invalid");
+        ConcurrentResourceReader reader = new ConcurrentResourceReader(List.of(tempDir.toUri()), factory);
+
+        // When
+        InvalidResourceException exception = Assertions.assertThrows(
+            InvalidResourceException.class,
+            () -> reader.readAll(ResourceReaderOptions.DEFAULTS)
+        );
+
+        // Then
+        Assertions.assertTrue(exception.getMessage().contains("b.yaml"));
+        Assertions.assertEquals(1, exception.getSuppressed().length);
+        Assertions.assertTrue(exception.getSuppressed()[0].getMessage().contains("c.yaml"));
+    }
+
+    private static Path writeResource(Path file, String name) throws IOException {
+        return Files.writeString(file, """
+            apiVersion: "test.jikkou.io/v1"
+            kind: "Test"
+            metadata:
+              name: "%s"
+            """.formatted(name));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import static io.jikkou.core.models.CoreAnnotations.JKKOU_IO_MANAGED_BY_LOCATION;
+
+import io.jikkou.common.utils.IOUtils;
+import io.jikkou.core.exceptions.InvalidResourceException;
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.generics.GenericResource;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InputStreamResourceReaderTest {
+
+    private static final String RESOURCES = """
+        apiVersion: "test.jikkou.io/v1"
+        kind: "Test"
+        metadata:
+          name: "first"
+        ---
+        ---
+        apiVersion: "test.jikkou.io/v1"
+        kind: "Test"
+        metadata:
+          name: "second"
+        """;
+
+    @Test
+    void shouldReadAllDocumentsSkippingEmptyOnes() {
+        // Given
+        InputStreamResourceReader reader = new InputStreamResourceReader(
+            () -> IOUtils.openStream(RESOURCES),
+            Jackson.YAML_OBJECT_MAPPER,
+            URI.create("file:///test.yaml")
+        );
+
+        // When
+        List<HasMetadata> resources = reader.readAll(ResourceReaderOptions.DEFAULTS);
+
+        // Then
+        Assertions.assertEquals(List.of("first", "second"), resources.stream().map(it -> it.getMetadata().getName()).toList());
+        Assertions.assertInstanceOf(GenericResource.class, resources.getFirst());
+        Assertions.assertEquals(
+            Optional.of("file:///test.yaml"),
+            resources.getFirst().getMetadata().findAnnotationByKey(JKKOU_IO_MANAGED_BY_LOCATION)
+        );
+    }
+
+    @Test
+    void shouldReadDocumentsLazily() {
+        // Given
+        InputStreamResourceReader reader = new InputStreamResourceReader(
+            () -> IOUtils.openStream(RESOURCES + "---\n[invalid"),
+            Jackson.YAML_OBJECT_MAPPER,
+            null
+        );
+
+        // When
+        Optional<HasMetadata> first;
+        try (Stream<HasMetadata> resources = reader.stream(ResourceReaderOptions.DEFAULTS)) {
+            first = resources.findFirst();
+        }
+
+        // Then
+        Assertions.assertEquals("first", first.map(it -> it.getMetadata().getName()).orElse(null));
+        Assertions.assertThrows(InvalidResourceException.class, () -> reader.readAll(ResourceReaderOptions.DEFAULTS));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.NamedValue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResourceFileCacheTest {
+
+    private static final String RESOURCE = """
+        apiVersion: "test.jikkou.io/v1"
+        kind: "Test"
+        metadata:
+          name: "<<%s>>"
+        """;
+
+    @Test
+    void shouldReadResourcesFromCacheGivenUnchangedFile(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("resource.yaml"), RESOURCE.formatted("first"));
+        TemplateResourceReaderTest.RecordingRenderer renderer = new TemplateResourceReaderTest.RecordingRenderer();
+        ResourceReaderFactory factory = newFactory(renderer, tempDir.resolve("cache"));
+
+        // When
+        List<HasMetadata> first = factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+        List<HasMetadata> second = factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+
+        // Then
+        Assertions.assertEquals(1, renderer.rendered.size());
+        Assertions.assertEquals("first", second.getFirst().getMetadata().getName());
+        Assertions.assertEquals(first.getFirst().getMetadata(), second.getFirst().getMetadata());
+    }
+
+    @Test
+    void shouldReadResourcesFromFileGivenChangedFileOrValues(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("resource.yaml"), RESOURCE.formatted("first"));
+        TemplateResourceReaderTest.RecordingRenderer renderer = new TemplateResourceReaderTest.RecordingRenderer();
+        ResourceReaderFactory factory = newFactory(renderer, tempDir.resolve("cache"));
+        factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+
+        // When
+        factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS.withValue(new NamedValue("key", "value")));
+        Files.writeString(file, RESOURCE.formatted("second"));
+        List<HasMetadata> changed = factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+
+        // Then
+        Assertions.assertEquals(3, renderer.rendered.size());
+        Assertions.assertEquals("second", changed.getFirst().getMetadata().getName());
+    }
+
+    @Test
+    void shouldReadResourcesFromCacheGivenChangedUnreferencedSystemValue(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path file = Files.writeString(
+            tempDir.resolve("resource.yaml"),
+            RESOURCE.formatted("first") + "# {{ system.props['jikkou.test.referenced'] }}\n"
+        );
+        TemplateResourceReaderTest.RecordingRenderer renderer = new TemplateResourceReaderTest.RecordingRenderer();
+        ResourceReaderFactory factory = newFactory(renderer, tempDir.resolve("cache"));
+        try {
+            System.setProperty("jikkou.test.unreferenced", "first");
+            factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+
+            // When
+            System.setProperty("jikkou.test.unreferenced", "second");
+            factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+            System.setProperty("jikkou.test.referenced", "value");
+            factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+
+            // Then
+            Assertions.assertEquals(2, renderer.rendered.size());
+        } finally {
+            System.clearProperty("jikkou.test.unreferenced");
+            System.clearProperty("jikkou.test.referenced");
+        }
+    }
+
+    @Test
+    void shouldComputeSystemFingerprintFromReferencedValues() {
+        // Given
+        String template = "{{ system.env.HOME }} {{ system['props']['user.dir'] }}";
+
+        // When
+        String fingerprint = ResourceFileCache.systemFingerprint(template);
+
+        // Then
+        Assertions.assertEquals(fingerprint, ResourceFileCache.systemFingerprint("{{ system.props['user.dir'] }} {{ system.env.HOME }}"));
+        Assertions.assertNotEquals(fingerprint, ResourceFileCache.systemFingerprint("{{ system.env.HOME }}"));
+        Assertions.assertNotEquals(fingerprint, ResourceFileCache.systemFingerprint("{% for name in system.env %}{% endfor %}"));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesWhenOpened(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path directory = tempDir.resolve("cache");
+        ResourceReaderFactory factory = newFactory(new TemplateResourceReaderTest.RecordingRenderer(), directory);
+        for (String name : List.of("a", "b", "c")) {
+            Path file = Files.writeString(tempDir.resolve(name + ".yaml"), RESOURCE.formatted(name));
+            factory.create(file.toUri()).readAll(ResourceReaderOptions.DEFAULTS);
+        }
+
+        // When
+        ResourceFileCache.open(directory, 2);
+
+        // Then
+        try (Stream<Path> entries = Files.list(directory)) {
+            Assertions.assertEquals(2, entries.count());
+        }
+    }
+
+    private static ResourceReaderFactory newFactory(TemplateResourceReaderTest.RecordingRenderer renderer, Path directory) {
+        return new ResourceReaderFactory(
+            Jackson.YAML_OBJECT_MAPPER,
+            renderer,
+            true,
+            1,
+            ResourceFileCache.open(directory, 10)
+        );
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.io.reader;
+
+import io.jikkou.common.utils.IOUtils;
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.template.ResourceTemplateRenderer;
+import io.jikkou.core.template.TemplateBindings;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TemplateResourceReaderTest {
+
+    @Test
+    void shouldOnlyRenderDocumentsContainingTokens() {
+        // Given
+        String resources = """
+            apiVersion: "test.jikkou.io/v1"
+            kind: "Test"
+            metadata:
+              name: "plain"
+            ---
+            apiVersion: "test.jikkou.io/v1"
+            kind: "Test"
+            metadata:
+              name: "<<<<templated>>>>"
+            """;
+        RecordingRenderer renderer = new RecordingRenderer();
+        TemplateResourceReader reader = new TemplateResourceReader(
+            renderer,
+            () -> IOUtils.openStream(resources),
+            Jackson.YAML_OBJECT_MAPPER,
+            null
+        );
+
+        // When
+        List<HasMetadata> result = reader.readAll(ResourceReaderOptions.DEFAULTS);
+
+        // Then
+        Assertions.assertEquals(List.of("plain", "templated"), result.stream().map(it -> it.getMetadata().getName()).toList());
+        // The whole file, then the templated document only.
+        Assertions.assertEquals(2, renderer.rendered.size());
+        Assertions.assertTrue(renderer.rendered.getLast().contains("<<templated>>"));
+    }
+
+    @Test
+    void shouldNotRenderFileWithoutTokens() {
+        // Given
+        RecordingRenderer renderer = new RecordingRenderer();
+        TemplateResourceReader reader = new TemplateResourceReader(
+            renderer,
+            () -> IOUtils.openStream("""
+                apiVersion: "test.jikkou.io/v1"
+                kind: "Test"
+                metadata:
+                  name: "plain"
+                """),
+            Jackson.YAML_OBJECT_MAPPER,
+            null
+        );
+
+        // When
+        List<HasMetadata> result = reader.readAll(ResourceReaderOptions.DEFAULTS);
+
+        // Then
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertTrue(renderer.rendered.isEmpty());
+    }
+
+    static final class RecordingRenderer implements ResourceTemplateRenderer {
+
+        final List<String> rendered = new ArrayList<>();
+
+        @Override
+        public String render(@NotNull String template,
+                             @Nullable URI location,
+                             @NotNull TemplateBindings bindings) {
+            rendered.add(template);
+            // Strips one level of delimiters, e.g. "<<<<name>>>>" is rendered to "<<name>>", then to "name".
+            return template.replaceAll("<<(<*\\w+>*)>>", "$1");
+        }
+
+        @Override
+        public boolean mayContainTokens(@NotNull String text) {
+            return text.contains("<<");
+        }
+    }
+}
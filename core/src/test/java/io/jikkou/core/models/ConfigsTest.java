@@ -103,4 +103,33 @@ class ConfigsTest {
                 .boxed()
                 .forEach(idx -> Assertions.assertEquals(idx, result.get("k" + idx).value()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_resolve_values_overriding_defaults() {
+        Configs configs = Configs.withDefaults(defaultTopicConfigs);
+        configs.add(new ConfigValue("key3", "bar"));
+        configs.add(new ConfigValue("key4", "10000"));
+
+        Assertions.assertEquals(4, configs.size());
+        Assertions.assertSame(defaultTopicConfigs.get("key1"), configs.get("key1"));
+        Assertions.assertEquals("bar", configs.get("key3").value());
+        Assertions.assertEquals("foo", defaultTopicConfigs.get("key3").value());
+        Assertions.assertEquals(
+            Map.of("key1", "1", "key2", "false", "key3", "bar", "key4", "10000"),
+            configs.toMap()
+        );
+    }
+
+    @Test
+    void should_compare_configs_with_defaults_to_resolved_configs() {
+        Configs configs = Configs.withDefaults(defaultTopicConfigs);
+        configs.add(new ConfigValue("key3", "bar"));
+
+        Configs resolved = new Configs(defaultTopicConfigs.values());
+        resolved.add(new ConfigValue("key3", "bar"));
+
+        Assertions.assertEquals(resolved, configs);
+        Assertions.assertEquals(configs, resolved);
+        Assertions.assertEquals(resolved.hashCode(), configs.hashCode());
+    }
+}
@@ -163,4 +163,37 @@ class CelExpressionFactoryTest {
             exception.getMessage()
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnCachedExpressionForSameExpression() {
+        // When
+        CelExpression<Boolean> first = CelExpressionFactory.bool().compile("resource.kind == 'Cached'");
+        CelExpression<Boolean> second = CelExpressionFactory.bool().compile("resource.kind == 'Cached'");
+
+        // Then
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void shouldShareResourceValueBetweenExpressions() {
+        // Given
+        var resource = new GenericResource(
+            "io.jikkou/v1",
+            "Test",
+            new ObjectMeta("name"),
+            null,
+            Map.of("spec", Map.of("replicas", (short) 3, "ratio", 0.1f))
+        );
+        CelResourceValue value = CelResourceValue.of(resource);
+
+        // When
+        boolean replicas = CelExpressionFactory.bool().compile("resource.spec.replicas == 3").eval(value);
+        boolean ratio = CelExpressionFactory.bool().compile("resource.spec.ratio == 0.1").eval(value);
+
+        // Then
+        Assertions.assertTrue(replicas);
+        Assertions.assertTrue(ratio);
+        Assertions.assertSame(value.value(), value.value());
+        Assertions.assertEquals(3L, ((Map<?, ?>) value.value().get("spec")).get("replicas"));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.policy;
+
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.ObjectMeta;
+import io.jikkou.core.policy.model.FailurePolicy;
+import io.jikkou.core.policy.model.ValidatingResourcePolicy;
+import io.jikkou.core.policy.model.ValidatingResourcePolicySpec;
+import io.jikkou.core.policy.model.ValidatingResourcePolicySpec.ResourceSelector;
+import io.jikkou.core.selector.SelectorMatchingStrategy;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ResourcePolicyIndexTest {
+
+    @Test
+    void shouldReturnPoliciesMatchingResourceType() {
+        // Given
+        ResourcePolicy mock = newPolicy("mock", SelectorMatchingStrategy.ALL, "Mock");
+        ResourcePolicy other = newPolicy("other", SelectorMatchingStrategy.ALL, "Other");
+        ResourcePolicyIndex index = new ResourcePolicyIndex(List.of(mock, other));
+
+        // When
+        List<ResourcePolicy> candidates = index.candidates(newResource("Mock"));
+
+        // Then
+        Assertions.assertEquals(List.of(mock), candidates);
+    }
+
+    @Test
+    void shouldReturnPoliciesNotRestrictedByTypeInOrder() {
+        // Given
+        ResourcePolicy any = newPolicy("any", SelectorMatchingStrategy.ANY, "Other");
+        ResourcePolicy mock = newPolicy("mock", SelectorMatchingStrategy.ALL, "Mock");
+        ResourcePolicy none = newPolicy("none", SelectorMatchingStrategy.NONE, "Mock");
+        ResourcePolicyIndex index = new ResourcePolicyIndex(List.of(any, mock, none));
+
+        // When
+        List<ResourcePolicy> candidates = index.candidates(newResource("Mock"));
+
+        // Then
+        Assertions.assertEquals(List.of(any, mock, none), candidates);
+    }
+
+    private static HasMetadata newResource(String kind) {
+        HasMetadata resource = Mockito.mock(HasMetadata.class);
+        Mockito.when(resource.getApiVersion()).thenReturn("v1");
+        Mockito.when(resource.getKind()).thenReturn(kind);
+        return resource;
+    }
+
+    private static ResourcePolicy newPolicy(String name,
+                                            SelectorMatchingStrategy strategy,
+                                            String kind) {
+        return new ResourcePolicy(new ValidatingResourcePolicy.Builder()
+            .withMetadata(ObjectMeta.builder().withName(name).build())
+            .withSpec(
+                new ValidatingResourcePolicySpec(
+                    FailurePolicy.FAIL,
+                    new ResourceSelector(
+                        strategy,
+                        List.of(new ValidatingResourcePolicySpec.MatchResource(null, kind)),
+                        null,
+                        null
+                    ),
+                    List.of()
+                )
+            )
+            .build());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.reconciler;
+
+import io.jikkou.core.models.change.GenericResourceChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ChangeResultPublisherTest {
+
+    @Test
+    void shouldPublishAllResultsWithBackpressure() throws Exception {
+        // Given
+        int count = Flow.defaultBufferSize() * 4;
+        ChangeResultPublisher publisher = new ChangeResultPublisher(emitter -> {
+            for (int i = 0; i < count; i++) {
+                emitter.accept(ChangeResult.ok(GenericResourceChange.builder().build(), null));
+            }
+        });
+        CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        // When
+        publisher.subscribe(subscriber);
+
+        // Then
+        Assertions.assertEquals(count, subscriber.completion.get(10, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void shouldSignalSourceError() {
+        // Given
+        IllegalStateException error = new IllegalStateException("error");
+        ChangeResultPublisher publisher = new ChangeResultPublisher(emitter -> {
+            throw error;
+        });
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        // When
+        publisher.subscribe(subscriber);
+
+        // Then
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> subscriber.completion.get(10, TimeUnit.SECONDS));
+        Assertions.assertSame(error, exception.getCause());
+    }
+
+    @Test
+    void shouldRejectSecondSubscriber() throws Exception {
+        // Given
+        ChangeResultPublisher publisher = new ChangeResultPublisher(emitter -> {});
+        publisher.subscribe(new CollectingSubscriber(Long.MAX_VALUE));
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        // When
+        publisher.subscribe(subscriber);
+
+        // Then
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> subscriber.completion.get(10, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    static final class CollectingSubscriber implements Flow.Subscriber<ChangeResult> {
+
+        final CompletableFuture<List<ChangeResult>> completion = new CompletableFuture<>();
+        private final List<ChangeResult> results = new ArrayList<>();
+        private final long batchSize;
+        private Flow.Subscription subscription;
+
+        CollectingSubscriber(long batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(ChangeResult item) {
+            results.add(item);
+            if (batchSize != Long.MAX_VALUE) {
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(results);
+        }
+    }
+}
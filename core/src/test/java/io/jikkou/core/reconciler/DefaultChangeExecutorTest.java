@@ -7,12 +7,20 @@
 package io.jikkou.core.reconciler;
 
 import io.jikkou.core.ReconciliationContext;
+import io.jikkou.core.models.ObjectMeta;
 import io.jikkou.core.models.change.GenericResourceChange;
 import io.jikkou.core.models.change.ResourceChange;
 import io.jikkou.core.models.change.ResourceChangeSpec;
 import io.jikkou.core.reconciler.change.BaseChangeHandler;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -118,6 +126,163 @@ class DefaultChangeExecutorTest {
     }
 
 
+    @Test
+    void shouldLimitInFlightChangesPerHandler() {
+        // Given
+        AsyncChangeHandler handler = new AsyncChangeHandler(change -> CompletableFuture.supplyAsync(
+            ChangeMetadata::empty,
+            CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS)
+        ));
+        ChangeExecutor executor = new DefaultChangeExecutor(
+                contextWithPolicy(ChangeExecutionPolicy.builder().maxInFlightChanges(2).build()),
+                newChanges(10)
+        );
+
+        // When
+        List<ChangeResult> results = executor.applyChanges(List.of(handler));
+
+        // Then
+        Assertions.assertEquals(10, results.size());
+        Assertions.assertTrue(results.stream().allMatch(ChangeResult::isChanged));
+        Assertions.assertEquals(2, handler.maxInFlight.get());
+    }
+
+    @Test
+    void shouldSubmitChangesByChunksOfAvailableSlots() {
+        // Given
+        AsyncChangeHandler handler = new AsyncChangeHandler(change -> CompletableFuture.completedFuture(ChangeMetadata.empty()));
+        ChangeExecutor executor = new DefaultChangeExecutor(
+                contextWithPolicy(ChangeExecutionPolicy.builder().maxInFlightChanges(4).build()),
+                newChanges(10)
+        );
+
+        // When
+        List<ChangeResult> results = executor.applyChanges(List.of(handler));
+
+        // Then
+        Assertions.assertEquals(10, results.size());
+        Assertions.assertTrue(results.stream().allMatch(ChangeResult::isChanged));
+        Assertions.assertEquals(List.of(4, 4, 2), handler.chunkSizes);
+    }
+
+    @Test
+    void shouldCancelRemainingChangesWhenFailureBudgetIsExhausted() {
+        // Given
+        AsyncChangeHandler handler = new AsyncChangeHandler(change ->
+            CompletableFuture.failedFuture(new IllegalStateException("error"))
+        );
+        ChangeExecutor executor = new DefaultChangeExecutor(
+                contextWithPolicy(ChangeExecutionPolicy.builder().maxInFlightChanges(1).failureBudget(2).build()),
+                newChanges(5)
+        );
+
+        // When
+        List<ChangeResult> results = executor.applyChanges(List.of(handler));
+
+        // Then
+        Assertions.assertEquals(5, results.size());
+        Assertions.assertTrue(results.stream().allMatch(ChangeResult::isFailed));
+        Assertions.assertEquals(2, handler.capturedChanges.size());
+    }
+
+    @Test
+    void shouldFailChangeExceedingTimeout() {
+        // Given
+        AsyncChangeHandler handler = new AsyncChangeHandler(change -> new CompletableFuture<>());
+        ChangeExecutor executor = new DefaultChangeExecutor(
+                contextWithPolicy(ChangeExecutionPolicy.builder().changeTimeout(Duration.ofMillis(50)).build()),
+                newChanges(1)
+        );
+
+        // When
+        List<ChangeResult> results = executor.applyChanges(List.of(handler));
+
+        // Then
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertTrue(results.getFirst().isFailed());
+        Assertions.assertEquals(
+            "Change timed out after 50 ms",
+            results.getFirst().errors().getFirst().message()
+        );
+    }
+
+    @Test
+    void shouldNotifyListenerOfEachResultAsSoonAsChangeCompletes() throws Exception {
+        // Given
+        CompletableFuture<ChangeMetadata> pending = new CompletableFuture<>();
+        List<ResourceChange> changes = newChanges(2);
+        AsyncChangeHandler handler = new AsyncChangeHandler(change -> change == changes.getFirst() ?
+            CompletableFuture.completedFuture(ChangeMetadata.empty()) :
+            pending
+        );
+        CompletableFuture<ChangeResult> notified = new CompletableFuture<>();
+        ChangeExecutor executor = new DefaultChangeExecutor(
+                CONTEXT_DRY_RUN_FALSE.toBuilder().changeResultListener(notified::complete).build(),
+                changes
+        );
+
+        // When
+        CompletableFuture<List<ChangeResult>> results = CompletableFuture.supplyAsync(() -> executor.applyChanges(List.of(handler)));
+
+        // Then
+        Assertions.assertSame(changes.getFirst(), notified.get(10, TimeUnit.SECONDS).change());
+        Assertions.assertFalse(results.isDone());
+        pending.complete(ChangeMetadata.empty());
+        Assertions.assertEquals(2, results.get(10, TimeUnit.SECONDS).size());
+    }
+
+    private static ReconciliationContext contextWithPolicy(ChangeExecutionPolicy policy) {
+        return ReconciliationContext.builder()
+                .dryRun(false)
+                .changeExecutionPolicy(policy)
+                .build();
+    }
+
+    private static List<ResourceChange> newChanges(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> (ResourceChange) GenericResourceChange
+                        .builder()
+                        .withMetadata(new ObjectMeta("change-" + i))
+                        .withSpec(ResourceChangeSpec.builder()
+                                .withOperation(Operation.CREATE)
+                                .build()
+                        )
+                        .build()
+                )
+                .toList();
+    }
+
+    public static class AsyncChangeHandler extends BaseChangeHandler {
+
+        final List<ResourceChange> capturedChanges = new CopyOnWriteArrayList<>();
+        final List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        private final Function<ResourceChange, CompletableFuture<ChangeMetadata>> function;
+
+        public AsyncChangeHandler(Function<ResourceChange, CompletableFuture<ChangeMetadata>> function) {
+            super(Operation.CREATE);
+            this.function = function;
+        }
+
+        @Override
+        public List<ChangeResponse> handleChanges(@NotNull List<ResourceChange> changes) {
+            this.capturedChanges.addAll(changes);
+            this.chunkSizes.add(changes.size());
+            return changes.stream().map(change -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<ChangeMetadata> future = function.apply(change)
+                        .whenComplete((metadata, error) -> inFlight.decrementAndGet());
+                return new ChangeResponse(change, future);
+            }).toList();
+        }
+
+        @Override
+        public TextDescription describe(@NotNull ResourceChange change) {
+            return null;
+        }
+    }
+
     public static class TestChangeHandler extends BaseChangeHandler {
 
         List<ResourceChange> capturedChanges = new ArrayList<>();
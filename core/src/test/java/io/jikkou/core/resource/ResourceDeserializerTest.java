@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.resource;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.jikkou.core.annotation.ApiVersion;
+import io.jikkou.core.annotation.Kind;
+import io.jikkou.core.io.Jackson;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.ObjectMeta;
+import io.jikkou.core.models.Resource;
+import io.jikkou.core.models.generics.GenericResource;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ResourceDeserializerTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        ResourceDeserializer.registerKind(TestSpecResource.class);
+    }
+
+    @Test
+    void shouldBindRegisteredResourceGivenFieldsAroundApiVersionAndKind() throws Exception {
+        // Given
+        String yaml = """
+            metadata:
+              name: "test"
+            apiVersion: "test.jikkou.io/v1beta1"
+            kind: "ResourceDeserializerTest"
+            spec:
+              key: "value"
+            """;
+
+        // When
+        Resource resource = Jackson.YAML_OBJECT_MAPPER.readValue(yaml, Resource.class);
+
+        // Then
+        TestSpecResource result = Assertions.assertInstanceOf(TestSpecResource.class, resource);
+        Assertions.assertEquals("test", result.getMetadata().getName());
+        Assertions.assertEquals(Map.of("key", "value"), result.spec);
+    }
+
+    @Test
+    void shouldBindGenericResourceGivenUnregisteredKind() throws Exception {
+        // Given
+        String yaml = """
+            apiVersion: "test.jikkou.io/v1beta1"
+            kind: "Unknown"
+            metadata:
+              name: "test"
+            """;
+
+        // When
+        Resource resource = Jackson.YAML_OBJECT_MAPPER.readValue(yaml, Resource.class);
+
+        // Then
+        GenericResource result = Assertions.assertInstanceOf(GenericResource.class, resource);
+        Assertions.assertEquals("Unknown", result.getKind());
+        Assertions.assertEquals("test", result.getMetadata().getName());
+    }
+
+    @ApiVersion("test.jikkou.io/v1beta1")
+    @Kind("ResourceDeserializerTest")
+    @JsonDeserialize
+    static final class TestSpecResource implements HasMetadata {
+
+        @JsonProperty("metadata")
+        ObjectMeta metadata;
+
+        @JsonProperty("spec")
+        Map<String, Object> spec;
+
+        /** {@inheritDoc} **/
+        @Override
+        public ObjectMeta getMetadata() {
+            return metadata;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public HasMetadata withMetadata(ObjectMeta metadata) {
+            TestSpecResource resource = new TestSpecResource();
+            resource.metadata = metadata;
+            resource.spec = spec;
+            return resource;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.selector;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NameFilterTest {
+
+    private final SelectorFactory factory = new SelectorFactory();
+
+    @Test
+    void shouldExtractNamesFromFieldSelectorIn() {
+        // Given
+        Selector selector = Selectors.allMatch(factory.make(List.of("metadata.name IN (a, b)")));
+        // When
+        NameFilter filter = NameFilter.of(selector);
+        // Then
+        Assertions.assertEquals(Optional.of(Set.of("a", "b")), filter.names());
+        Assertions.assertTrue(filter.test("a"));
+        Assertions.assertFalse(filter.test("c"));
+    }
+
+    @Test
+    void shouldExtractRegexFromFieldSelectorMatches() {
+        // Given
+        Selector selector = Selectors.allMatch(factory.make(List.of("metadata.name MATCHES (topic-.*)")));
+        // When
+        NameFilter filter = NameFilter.of(selector);
+        // Then
+        Assertions.assertTrue(filter.names().isEmpty());
+        Assertions.assertTrue(filter.test("topic-a"));
+        Assertions.assertFalse(filter.test("other"));
+    }
+
+    @Test
+    void shouldExtractNamesFromCelExpressions() {
+        Assertions.assertEquals(Optional.of(Set.of("a")),
+            NameFilter.of(new ExpressionSelector("resource.metadata.name == 'a'")).names());
+        Assertions.assertEquals(Optional.of(Set.of("a", "b")),
+            NameFilter.of(new ExpressionSelector("resource.metadata.name in [\"a\", 'b']")).names());
+    }
+
+    @Test
+    void shouldExtractPrefixAndRegexFromCelExpressions() {
+        // Given
+        NameFilter prefix = NameFilter.of(new ExpressionSelector("resource.metadata.name.startsWith('topic-')"));
+        NameFilter regex = NameFilter.of(new ExpressionSelector("resource.metadata.name.matches('-a$')"));
+        // When / Then
+        Assertions.assertTrue(prefix.test("topic-b"));
+        Assertions.assertFalse(prefix.test("b-topic-"));
+        Assertions.assertTrue(regex.test("topic-a"));
+        Assertions.assertFalse(regex.test("topic-b"));
+    }
+
+    @Test
+    void shouldIntersectConstraintsGivenAllMatch() {
+        // Given
+        Selector selector = Selectors.allMatch(List.of(
+            new ExpressionSelector("resource.metadata.name in ['topic-a', 'other']"),
+            new ExpressionSelector("resource.metadata.name.startsWith('topic-')")
+        ));
+        // When
+        NameFilter filter = NameFilter.of(selector);
+        // Then
+        Assertions.assertEquals(Optional.of(Set.of("topic-a")), filter.names());
+    }
+
+    @Test
+    void shouldAcceptAllGivenAnyMatchWithUnconstrainedSelector() {
+        // Given
+        Selector selector = Selectors.anyMatch(List.of(
+            new ExpressionSelector("resource.metadata.name == 'a'"),
+            new ExpressionSelector("has(resource.metadata.labels.env)")
+        ));
+        // When / Then
+        Assertions.assertTrue(NameFilter.of(selector).isAcceptAll());
+    }
+
+    @Test
+    void shouldAcceptAllGivenUnsupportedSelectors() {
+        Assertions.assertTrue(NameFilter.of(Selectors.NO_SELECTOR).isAcceptAll());
+        Assertions.assertTrue(NameFilter.of(new ExpressionSelector("resource.metadata.name == 'a' || true")).isAcceptAll());
+        Assertions.assertTrue(NameFilter.of(Selectors.noneMatch(factory.make(List.of("metadata.name IN (a)")))).isAcceptAll());
+    }
+}
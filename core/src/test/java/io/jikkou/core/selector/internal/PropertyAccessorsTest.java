@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.selector.internal;
+
+import io.jikkou.core.exceptions.SelectorException;
+import io.jikkou.core.models.Configs;
+import io.jikkou.core.models.ObjectMeta;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PropertyAccessorsTest {
+
+    static final TestObject TEST_OBJECT = new TestObject(
+        ObjectMeta.builder()
+            .withName("test")
+            .withLabel("a-label.key", "value")
+            .build(),
+        Configs.of("retention.ms", 1000)
+    );
+
+    @Test
+    void shouldReadPropertyFromGetter() {
+        Assertions.assertEquals("test", PropertyAccessors.getDefault().readPropertyValue(TEST_OBJECT, "metadata.name"));
+    }
+
+    @Test
+    void shouldReadPropertyFromMapGivenDottedKey() {
+        Assertions.assertEquals("value", PropertyAccessors.getDefault().readPropertyValue(TEST_OBJECT, "metadata.labels.a-label.key"));
+    }
+
+    @Test
+    void shouldReadPropertyFromConfigsGivenDottedKey() {
+        Assertions.assertEquals(1000, PropertyAccessors.getDefault().readPropertyValue(TEST_OBJECT, "configs.retention.ms"));
+    }
+
+    @Test
+    void shouldReadPropertyGivenAccessMethod() {
+        Assertions.assertEquals(Map.of("k", "v"), PropertyAccessors.getDefault().readPropertyValue(new TestRecord(Map.of("k", "v")), "values"));
+    }
+
+    @Test
+    void shouldReturnNullGivenUnknownProperty() {
+        Assertions.assertNull(PropertyAccessors.getDefault().readPropertyValue(TEST_OBJECT, "unknown"));
+    }
+
+    @Test
+    void shouldThrowSelectorExceptionGivenMethodWithArguments() {
+        Assertions.assertThrows(SelectorException.class,
+            () -> PropertyAccessors.getDefault().readPropertyValue(TEST_OBJECT, "value"));
+    }
+
+    @Test
+    void shouldReturnSameValueWhenReadingTwice() {
+        PropertyAccessors accessors = PropertyAccessors.getDefault();
+        Assertions.assertEquals(
+            accessors.readPropertyValue(TEST_OBJECT, "metadata.name"),
+            accessors.readPropertyValue(TEST_OBJECT, "metadata.name")
+        );
+    }
+
+    private record TestRecord(Map<String, String> values) {
+    }
+
+    private static final class TestObject {
+
+        private final ObjectMeta metadata;
+        private final Configs configs;
+
+        TestObject(ObjectMeta metadata, Configs configs) {
+            this.metadata = metadata;
+            this.configs = configs;
+        }
+
+        public ObjectMeta getMetadata() {
+            return metadata;
+        }
+
+        public Configs getConfigs() {
+            return configs;
+        }
+
+        public String getValue(String key) {
+            return key;
+        }
+    }
+}
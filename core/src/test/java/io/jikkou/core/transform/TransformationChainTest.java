@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.transform;
+
+import io.jikkou.core.ReconciliationContext;
+import io.jikkou.core.TestResource;
+import io.jikkou.core.models.HasItems;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.ObjectMeta;
+import io.jikkou.core.models.ResourceList;
+import io.jikkou.core.models.ResourceType;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TransformationChainTest {
+
+    @Test
+    void shouldResolveAcceptingTransformationsOncePerType() {
+        // Given
+        AtomicInteger canAcceptCalls = new AtomicInteger();
+        TestTransformation transformation = new TestTransformation(false) {
+            @Override
+            public boolean canAccept(@NotNull ResourceType type) {
+                canAcceptCalls.incrementAndGet();
+                return true;
+            }
+        };
+        TransformationChain chain = new TransformationChain(List.of(transformation));
+
+        // When
+        List<HasMetadata> result = chain.transformAll(newResources(10), ResourceList.empty(), ReconciliationContext.Default.EMPTY);
+
+        // Then
+        Assertions.assertEquals(10, result.size());
+        Assertions.assertEquals(1, canAcceptCalls.get());
+    }
+
+    @Test
+    void shouldTransformInParallelAndKeepOrderGivenStatelessTransformations() {
+        // Given
+        TestTransformation transformation = new TestTransformation(true);
+        TransformationChain chain = new TransformationChain(List.of(transformation), 4);
+        List<HasMetadata> resources = newResources(100);
+
+        // When
+        List<HasMetadata> result = chain.transformAll(resources, ResourceList.empty(), ReconciliationContext.Default.EMPTY);
+
+        // Then
+        Assertions.assertEquals(
+            resources.stream().map(it -> it.getMetadata().getName()).toList(),
+            result.stream().map(it -> it.getMetadata().getName()).toList()
+        );
+        Assertions.assertTrue(transformation.threads.size() >= 1);
+    }
+
+    @Test
+    void shouldTransformSequentiallyGivenStatefulTransformation() {
+        // Given
+        TestTransformation transformation = new TestTransformation(false);
+        TransformationChain chain = new TransformationChain(List.of(transformation), 4);
+
+        // When
+        chain.transformAll(newResources(100), ResourceList.empty(), ReconciliationContext.Default.EMPTY);
+
+        // Then
+        Assertions.assertEquals(Set.of(Thread.currentThread().getName()), transformation.threads);
+    }
+
+    private static List<HasMetadata> newResources(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> (HasMetadata) new TestResource().withMetadata(new ObjectMeta("resource-" + i)))
+            .toList();
+    }
+
+    static class TestTransformation implements Transformation<HasMetadata> {
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private final boolean stateless;
+
+        TestTransformation(boolean stateless) {
+            this.stateless = stateless;
+        }
+
+        @Override
+        public @NotNull Optional<HasMetadata> transform(@NotNull HasMetadata resource,
+                                                        @NotNull HasItems resources,
+                                                        @NotNull ReconciliationContext context) {
+            threads.add(Thread.currentThread().getName());
+            return Optional.of(resource);
+        }
+
+        @Override
+        public boolean isStateless() {
+            return stateless;
+        }
+    }
+}
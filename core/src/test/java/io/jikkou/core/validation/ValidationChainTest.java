@@ -12,6 +12,12 @@ import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.ObjectMeta;
 import io.jikkou.core.models.ResourceType;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -59,4 +65,95 @@ class ValidationChainTest {
         // Then
         Mockito.verify(validation, Mockito.times(1)).validate(Mockito.anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnErrorsInSameOrderGivenParallelism() {
+        // Given
+        List<Validation<HasMetadata>> validations = IntStream.range(0, 16)
+            .mapToObj(i -> (Validation<HasMetadata>) new Validation<>() {
+                @Override
+                public boolean canAccept(@NotNull ResourceType type) {
+                    return true;
+                }
+
+                @Override
+                public ValidationResult validate(@NotNull List<HasMetadata> resources) {
+                    return ValidationResult.failure(new ValidationError("error-" + i));
+                }
+            })
+            .toList();
+        List<HasMetadata> resources = List.of(new TestResource().withMetadata(new ObjectMeta("test")));
+
+        // When
+        ValidationResult sequential = new ValidationChain(validations).validate(resources);
+        ValidationResult parallel = new ValidationChain(validations, 4).validate(resources);
+
+        // Then
+        Assertions.assertEquals(16, parallel.errors().size());
+        Assertions.assertEquals(
+            sequential.errors().stream().map(ValidationError::message).toList(),
+            parallel.errors().stream().map(ValidationError::message).toList()
+        );
+    }
+
+    @Test
+    void shouldSplitResourcesOfSameTypeGivenStatelessValidation() {
+        // Given
+        Validation<HasMetadata> stateless = new Validation<>() {
+            @Override
+            public boolean canAccept(@NotNull ResourceType type) {
+                return true;
+            }
+
+            @Override
+            public ValidationResult validate(@NotNull HasMetadata resource) {
+                return ValidationResult.failure(new ValidationError(resource.getMetadata().getName()));
+            }
+
+            @Override
+            public boolean isStateless() {
+                return true;
+            }
+        };
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Validation<HasMetadata> perResource = new Validation<>() {
+            @Override
+            public boolean canAccept(@NotNull ResourceType type) {
+                return true;
+            }
+
+            @Override
+            public ValidationResult validate(@NotNull HasMetadata resource) {
+                threads.add(Thread.currentThread());
+                return ValidationResult.success();
+            }
+        };
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        Validation<HasMetadata> crossResource = new Validation<>() {
+            @Override
+            public boolean canAccept(@NotNull ResourceType type) {
+                return true;
+            }
+
+            @Override
+            public ValidationResult validate(@NotNull List<HasMetadata> resources) {
+                sizes.add(resources.size());
+                return ValidationResult.success();
+            }
+        };
+        List<HasMetadata> resources = IntStream.range(0, 1000)
+            .<HasMetadata>mapToObj(i -> new TestResource().withMetadata(new ObjectMeta("test-" + i)))
+            .toList();
+
+        // When
+        ValidationResult result = new ValidationChain(List.of(stateless, perResource, crossResource), 4).validate(resources);
+
+        // Then
+        Assertions.assertEquals(
+            resources.stream().map(resource -> resource.getMetadata().getName()).toList(),
+            result.errors().stream().map(ValidationError::message).toList()
+        );
+        Assertions.assertEquals(List.of(1000), sizes);
+        Assertions.assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+}
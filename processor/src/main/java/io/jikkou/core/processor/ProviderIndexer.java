@@ -0,0 +1,402 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.processor;
+
+import io.jikkou.core.annotation.Description;
+import io.jikkou.core.annotation.Enabled;
+import io.jikkou.core.annotation.Example;
+import io.jikkou.core.annotation.Named;
+import io.jikkou.core.annotation.Names;
+import io.jikkou.core.annotation.Priority;
+import io.jikkou.core.annotation.ReconciliationOrder;
+import io.jikkou.core.annotation.Title;
+import io.jikkou.core.annotation.Transient;
+import io.jikkou.core.annotation.Verbs;
+import io.jikkou.core.extension.ExtensionCategory;
+import io.jikkou.core.extension.annotations.Category;
+import io.jikkou.core.models.HasPriority;
+import io.jikkou.spi.ProviderIndex;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+
+/**
+ * Reads the annotations of extension and resource classes at compile time, the same way as
+ * {@code DefaultExtensionDescriptorFactory} and {@code ResourceDescriptorFactory} read them at
+ * runtime using reflection, to build the {@link ProviderIndex} entries of those classes.
+ */
+final class ProviderIndexer {
+
+    private final Elements elements;
+
+    /**
+     * Creates a new {@link ProviderIndexer} instance.
+     *
+     * @param elements the element utilities.
+     */
+    ProviderIndexer(final Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Builds the index entry of the given extension class.
+     *
+     * @param type the extension class.
+     * @return the entry, or an empty optional if an annotation has a value that cannot be indexed.
+     */
+    Optional<ProviderIndex.ExtensionEntry> extension(final TypeElement type) {
+        List<ProviderIndex.AttributeEntry> attributes = new ArrayList<>();
+        for (AnnotationMirror annotation : findAllAnnotations(type)) {
+            Optional<ProviderIndex.AttributeEntry> attribute = attribute(annotation);
+            if (attribute.isEmpty()) {
+                return Optional.empty();
+            }
+            attributes.add(attribute.get());
+        }
+
+        String category = findAllAnnotationsByType(type, Category.class.getName())
+            .stream()
+            .map(annotation -> ((VariableElement) value(annotation, "value").getValue()).getSimpleName().toString())
+            .filter(name -> !name.equals(ExtensionCategory.EXTENSION.name()))
+            .findFirst()
+            .orElse(ExtensionCategory.EXTENSION.name());
+
+        List<ProviderIndex.ExampleEntry> examples = annotationsByType(type, Example.class.getName())
+            .stream()
+            .map(annotation -> new ProviderIndex.ExampleEntry(
+                (String) value(annotation, "title").getValue(),
+                values(value(annotation, "code")).stream()
+                    .map(value -> (String) value.getValue())
+                    .toList()
+            ))
+            .toList();
+
+        return Optional.of(new ProviderIndex.ExtensionEntry(
+            annotation(type, Named.class.getName())
+                .map(annotation -> (String) value(annotation, "value").getValue())
+                .orElse(type.getSimpleName().toString()),
+            annotation(type, Title.class.getName())
+                .map(annotation -> (String) value(annotation, "value").getValue())
+                .orElse(null),
+            annotation(type, Description.class.getName())
+                .map(annotation -> (String) value(annotation, "value").getValue())
+                .orElse(null),
+            category,
+            isAnnotatedWith(type, Enabled.class.getName()),
+            annotation(type, Priority.class.getName())
+                .map(annotation -> (Integer) value(annotation, "value").getValue())
+                .orElse(HasPriority.NO_ORDER),
+            examples,
+            attributes
+        ));
+    }
+
+    /**
+     * Builds the index entry of the given resource class.
+     *
+     * @param type the resource class.
+     * @return the entry.
+     */
+    ProviderIndex.ResourceEntry resource(final TypeElement type) {
+        ProviderIndex.NamesEntry names = annotation(type, Names.class.getName())
+            .map(annotation -> new ProviderIndex.NamesEntry(
+                (String) value(annotation, "singular").getValue(),
+                (String) value(annotation, "plural").getValue(),
+                values(value(annotation, "shortNames")).stream()
+                    .map(value -> (String) value.getValue())
+                    .toList(),
+                (String) value(annotation, "local").getValue()
+            ))
+            .orElse(null);
+
+        List<String> verbs = annotation(type, Verbs.class.getName())
+            .map(annotation -> values(value(annotation, "value")).stream()
+                .map(value -> ((VariableElement) value.getValue()).getSimpleName().toString())
+                .toList())
+            .orElse(List.of());
+
+        return new ProviderIndex.ResourceEntry(
+            annotation(type, Description.class.getName())
+                .map(annotation -> (String) value(annotation, "value").getValue())
+                .orElse(""),
+            names,
+            verbs,
+            annotation(type, ReconciliationOrder.class.getName())
+                .map(annotation -> (Integer) value(annotation, "value").getValue())
+                .orElse(HasPriority.NO_ORDER),
+            isAnnotatedWith(type, Transient.class.getName())
+        );
+    }
+
+    /**
+     * Equivalent of {@code AnnotationResolver.findAllAnnotations}.
+     */
+    private List<AnnotationMirror> findAllAnnotations(final TypeElement type) {
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        for (TypeElement t : getAllSuperTypes(type)) {
+            List<AnnotationMirror> declared = declaredAnnotations(t).stream()
+                .filter(annotation -> !isJavaOrKotlin(annotation))
+                .flatMap(annotation -> mayUnwrapAnnotationContainer(annotation).stream())
+                .toList();
+            annotations.addAll(declared);
+            declared.forEach(annotation -> annotations.addAll(findAllAnnotations(annotationType(annotation))));
+        }
+        return annotations;
+    }
+
+    /**
+     * Equivalent of {@code AnnotationResolver.findAllAnnotationsByType}.
+     */
+    private List<AnnotationMirror> findAllAnnotationsByType(final TypeElement type, final String annotationType) {
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        for (TypeElement t : getAllSuperTypes(type)) {
+            annotations.addAll(declaredAnnotationsByType(t, annotationType));
+            declaredAnnotations(t).stream()
+                .filter(annotation -> !isJavaOrKotlin(annotation))
+                .filter(annotation -> !isOfType(annotation, annotationType))
+                .forEach(annotation -> annotations.addAll(
+                    findAllAnnotationsByType(annotationType(annotation), annotationType)
+                ));
+        }
+        return annotations;
+    }
+
+    /**
+     * Equivalent of {@code AnnotationResolver.isAnnotatedWith}.
+     */
+    private boolean isAnnotatedWith(final TypeElement type, final String annotationType) {
+        return getAllSuperTypes(type).stream()
+            .anyMatch(t -> !declaredAnnotationsByType(t, annotationType).isEmpty());
+    }
+
+    /**
+     * Equivalent of {@code Class.getAnnotation}, which includes inherited annotations.
+     */
+    private Optional<AnnotationMirror> annotation(final TypeElement type, final String annotationType) {
+        return elements.getAllAnnotationMirrors(type).stream()
+            .filter(annotation -> isOfType(annotation, annotationType))
+            .map(AnnotationMirror.class::cast)
+            .findFirst();
+    }
+
+    /**
+     * Equivalent of {@code Class.getAnnotationsByType}, which includes inherited annotations.
+     */
+    private List<AnnotationMirror> annotationsByType(final TypeElement type, final String annotationType) {
+        return byType(new ArrayList<>(elements.getAllAnnotationMirrors(type)), annotationType);
+    }
+
+    /**
+     * Equivalent of {@code Class.getDeclaredAnnotationsByType}.
+     */
+    private List<AnnotationMirror> declaredAnnotationsByType(final TypeElement type, final String annotationType) {
+        return byType(declaredAnnotations(type), annotationType);
+    }
+
+    private List<AnnotationMirror> byType(final List<AnnotationMirror> annotations, final String annotationType) {
+        // Include the repeatable annotations wrapped in a container.
+        return annotations.stream()
+            .flatMap(annotation -> mayUnwrapAnnotationContainer(annotation).stream())
+            .filter(annotation -> isOfType(annotation, annotationType))
+            .toList();
+    }
+
+    /**
+     * Equivalent of {@code Class.getDeclaredAnnotations}, which only includes runtime annotations.
+     */
+    private List<AnnotationMirror> declaredAnnotations(final TypeElement type) {
+        return type.getAnnotationMirrors().stream()
+            .filter(annotation -> {
+                Retention retention = annotationType(annotation).getAnnotation(Retention.class);
+                return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+            })
+            .map(AnnotationMirror.class::cast)
+            .toList();
+    }
+
+    /**
+     * Equivalent of {@code Classes.getAllSuperTypes}.
+     */
+    private Set<TypeElement> getAllSuperTypes(final TypeElement type) {
+        Set<TypeElement> result = new LinkedHashSet<>();
+        if (type != null && !type.getQualifiedName().contentEquals(Object.class.getName())) {
+            result.add(type);
+            List<TypeMirror> superTypes = new ArrayList<>();
+            superTypes.add(type.getSuperclass());
+            superTypes.addAll(type.getInterfaces());
+            for (TypeMirror superType : superTypes) {
+                if (superType.getKind() == TypeKind.DECLARED) {
+                    result.addAll(getAllSuperTypes((TypeElement) ((DeclaredType) superType).asElement()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<AnnotationMirror> mayUnwrapAnnotationContainer(final AnnotationMirror annotation) {
+        if (!isAnnotationContainer(annotationType(annotation))) {
+            return List.of(annotation);
+        }
+        return values(value(annotation, "value")).stream()
+            .map(value -> (AnnotationMirror) value.getValue())
+            .toList();
+    }
+
+    private static boolean isAnnotationContainer(final TypeElement annotationType) {
+        return methods(annotationType).stream()
+            .filter(method -> method.getSimpleName().contentEquals("value"))
+            .map(ExecutableElement::getReturnType)
+            .anyMatch(returnType -> returnType instanceof ArrayType array
+                && array.getComponentType() instanceof DeclaredType component
+                && component.asElement().getKind() == ElementKind.ANNOTATION_TYPE
+            );
+    }
+
+    private Optional<ProviderIndex.AttributeEntry> attribute(final AnnotationMirror annotation) {
+        TypeElement annotationType = annotationType(annotation);
+        Map<String, ProviderIndex.ValueEntry> values = new HashMap<>();
+        Map<String, ProviderIndex.ValueEntry> defaultValues = new HashMap<>();
+        Map<? extends ExecutableElement, ? extends AnnotationValue> valuesWithDefaults =
+            elements.getElementValuesWithDefaults(annotation);
+        for (ExecutableElement method : methods(annotationType)) {
+            String member = method.getSimpleName().toString();
+            Optional<ProviderIndex.ValueEntry> value = valueEntry(method.getReturnType(), valuesWithDefaults.get(method));
+            if (value.isEmpty()) {
+                return Optional.empty();
+            }
+            values.put(member, value.get());
+            if (method.getDefaultValue() != null) {
+                Optional<ProviderIndex.ValueEntry> defaultValue = valueEntry(method.getReturnType(), method.getDefaultValue());
+                if (defaultValue.isEmpty()) {
+                    return Optional.empty();
+                }
+                defaultValues.put(member, defaultValue.get());
+            }
+        }
+        String name = annotationType.getSimpleName().toString().toLowerCase();
+        return Optional.of(new ProviderIndex.AttributeEntry(name, values, defaultValues));
+    }
+
+    private Optional<ProviderIndex.ValueEntry> valueEntry(final TypeMirror type, final AnnotationValue value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (type instanceof ArrayType array) {
+            Optional<String> componentType = typeName(array.getComponentType());
+            if (componentType.isEmpty()) {
+                return Optional.empty();
+            }
+            List<Object> elementValues = new ArrayList<>();
+            for (AnnotationValue element : values(value)) {
+                Optional<Object> elementValue = rawValue(element);
+                if (elementValue.isEmpty()) {
+                    return Optional.empty();
+                }
+                elementValues.add(elementValue.get());
+            }
+            return Optional.of(new ProviderIndex.ValueEntry(componentType.get() + "[]", elementValues));
+        }
+        Optional<String> typeName = typeName(type);
+        Optional<Object> rawValue = rawValue(value);
+        if (typeName.isEmpty() || rawValue.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ProviderIndex.ValueEntry(typeName.get(), rawValue.get()));
+    }
+
+    private Optional<String> typeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return Optional.of(type.getKind().name().toLowerCase());
+        }
+        if (type instanceof DeclaredType declared) {
+            TypeElement element = (TypeElement) declared.asElement();
+            if (element.getQualifiedName().contentEquals(String.class.getName())) {
+                return Optional.of("string");
+            }
+            if (element.getQualifiedName().contentEquals(Class.class.getName())) {
+                return Optional.of("class");
+            }
+            if (element.getKind() == ElementKind.ENUM) {
+                return Optional.of("enum:" + elements.getBinaryName(element));
+            }
+        }
+        // Annotations are not supported.
+        return Optional.empty();
+    }
+
+    private Optional<Object> rawValue(final AnnotationValue value) {
+        Object object = value.getValue();
+        if (object instanceof TypeMirror type) {
+            if (type instanceof DeclaredType declared) {
+                return Optional.of(elements.getBinaryName((TypeElement) declared.asElement()).toString());
+            }
+            // Primitive and array classes are not supported.
+            return Optional.empty();
+        }
+        if (object instanceof VariableElement constant) {
+            return Optional.of(constant.getSimpleName().toString());
+        }
+        if (object instanceof Character character) {
+            return Optional.of(character.toString());
+        }
+        if (object instanceof AnnotationMirror || object instanceof List) {
+            return Optional.empty();
+        }
+        return Optional.of(object);
+    }
+
+    private AnnotationValue value(final AnnotationMirror annotation, final String member) {
+        return elements.getElementValuesWithDefaults(annotation).entrySet().stream()
+            .filter(entry -> entry.getKey().getSimpleName().contentEquals(member))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "No member '" + member + "' for annotation: " + annotation));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> values(final AnnotationValue value) {
+        return (List<? extends AnnotationValue>) value.getValue();
+    }
+
+    private static List<ExecutableElement> methods(final TypeElement annotationType) {
+        return annotationType.getEnclosedElements().stream()
+            .filter(element -> element.getKind() == ElementKind.METHOD)
+            .map(ExecutableElement.class::cast)
+            .toList();
+    }
+
+    private static TypeElement annotationType(final AnnotationMirror annotation) {
+        return (TypeElement) annotation.getAnnotationType().asElement();
+    }
+
+    private static boolean isOfType(final AnnotationMirror annotation, final String annotationType) {
+        return annotationType(annotation).getQualifiedName().contentEquals(annotationType);
+    }
+
+    private static boolean isJavaOrKotlin(final AnnotationMirror annotation) {
+        String name = annotationType(annotation).getQualifiedName().toString();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("kotlin.");
+    }
+}
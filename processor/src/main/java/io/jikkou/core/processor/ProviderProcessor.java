@@ -8,12 +8,16 @@ package io.jikkou.core.processor;
 
 import io.jikkou.common.utils.Exceptions;
 import io.jikkou.core.annotation.Provider;
+import io.jikkou.spi.ProviderIndex;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import javax.annotation.processing.AbstractProcessor;
@@ -29,6 +33,7 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.SimpleElementVisitor8;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
@@ -40,6 +45,10 @@ import javax.tools.StandardLocation;
  * Processes {@link Provider} annotations and generates the service provider
  * configuration files described in {@link java.util.ServiceLoader}.
  * <p>
+ * The processor also generates the {@link ProviderIndex} of the extension and resource
+ * classes compiled along with the providers, so that their annotations do not have to be
+ * scanned at runtime.
+ * <p>
  * Processor Options:<ul>
  * <li>{@code -Adebug} - turns on debug statements</li>
  * <li>{@code -Averify=true} - turns on extra verification</li>
@@ -57,6 +66,13 @@ public class ProviderProcessor extends AbstractProcessor {
      * {@link io.jikkou.spi.ExtensionProvider} interface.
      */
     private final Set<String> providers = new HashSet<>();
+
+    /**
+     * Contains the index entries of the concrete extension and resource classes, by binary name.
+     */
+    private final Map<String, ProviderIndex.ExtensionEntry> extensions = new HashMap<>();
+    private final Map<String, ProviderIndex.ResourceEntry> resources = new HashMap<>();
+
     private javax.lang.model.util.Elements elementUtils;
 
     @Override
@@ -104,8 +120,10 @@ public class ProviderProcessor extends AbstractProcessor {
     private void processImpl(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
             generateExtensionConfigFiles();
+            generateProviderIndexFile();
         } else {
             processAnnotations(annotations, roundEnv);
+            processIndexedTypes(roundEnv);
         }
     }
 
@@ -135,6 +153,81 @@ public class ProviderProcessor extends AbstractProcessor {
         }
     }
 
+    private void processIndexedTypes(RoundEnvironment roundEnv) {
+        TypeMirror extensionType = erasure("io.jikkou.core.extension.Extension");
+        TypeMirror resourceType = erasure("io.jikkou.core.models.Resource");
+        ProviderIndexer indexer = new ProviderIndexer(elementUtils);
+        for (TypeElement type : getAllTypes(roundEnv.getRootElements())) {
+            if (type.getKind() != ElementKind.CLASS || !isNotAbstract(type)) {
+                continue;
+            }
+            String name = getBinaryName(type);
+            Types types = processingEnv.getTypeUtils();
+            if (extensionType != null && types.isSubtype(types.erasure(type.asType()), extensionType)) {
+                // Classes with annotation values that cannot be indexed are described at runtime.
+                indexer.extension(type).ifPresentOrElse(
+                    entry -> extensions.put(name, entry),
+                    () -> log("extension not indexed: " + name)
+                );
+            }
+            if (resourceType != null && types.isSubtype(types.erasure(type.asType()), resourceType)) {
+                resources.put(name, indexer.resource(type));
+            }
+        }
+    }
+
+    private TypeMirror erasure(String typeName) {
+        TypeElement type = elementUtils.getTypeElement(typeName);
+        return type != null ? processingEnv.getTypeUtils().erasure(type.asType()) : null;
+    }
+
+    private static List<TypeElement> getAllTypes(Set<? extends Element> elements) {
+        List<TypeElement> types = new ArrayList<>();
+        for (Element element : elements) {
+            if (element.getKind().isClass() || element.getKind().isInterface()) {
+                TypeElement type = asTypeElement(element);
+                types.add(type);
+                types.addAll(getAllTypes(new HashSet<>(type.getEnclosedElements())));
+            }
+        }
+        return types;
+    }
+
+    private void generateProviderIndexFile() {
+        if (extensions.isEmpty() && resources.isEmpty()) {
+            log("No index entries being added.");
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        log("Working on resource file: " + ProviderIndex.INDEX_RESOURCE_FILE);
+        try {
+            Map<String, ProviderIndex.ExtensionEntry> allExtensions = new HashMap<>();
+            Map<String, ProviderIndex.ResourceEntry> allResources = new HashMap<>();
+            try {
+                FileObject existingFile = filer.getResource(StandardLocation.CLASS_OUTPUT, "", ProviderIndex.INDEX_RESOURCE_FILE);
+                log("Looking for existing resource file at " + existingFile.toUri());
+                try (InputStream is = existingFile.openInputStream()) {
+                    ProviderIndex.Index existing = ProviderIndex.read(is);
+                    allExtensions.putAll(existing.extensions());
+                    allResources.putAll(existing.resources());
+                }
+            } catch (IOException e) {
+                // See generateExtensionConfigFiles.
+                log("Resource file did not already exist.");
+            }
+            allExtensions.putAll(extensions);
+            allResources.putAll(resources);
+
+            FileObject fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", ProviderIndex.INDEX_RESOURCE_FILE);
+            try (OutputStream out = fileObject.openOutputStream()) {
+                ProviderIndex.write(new ProviderIndex.Index(allExtensions, allResources), out);
+            }
+            log("Wrote to: " + fileObject.toUri());
+        } catch (IOException e) {
+            fatalError("Unable to create " + ProviderIndex.INDEX_RESOURCE_FILE + ", " + e);
+        }
+    }
+
     private void generateExtensionConfigFiles() {
         Filer filer = processingEnv.getFiler();
         log("Working on resource file: " + PROVIDER_RESOURCE_FILE);
@@ -14,7 +14,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.JavaFileObjects;
+import io.jikkou.spi.ProviderIndex;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Set;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
@@ -222,4 +225,99 @@ class ProviderProcessorTest {
                 .contentsAsUtf8String()
                 .contains("com.example.Outer$InnerProvider");
     }
+
+    @Test
+    void shouldGenerateIndexForExtensionAndResourceClasses() throws IOException {
+        JavaFileObject provider = JavaFileObjects.forSourceString(
+                "com.example.TestProvider",
+                VALID_PROVIDER_TEMPLATE.formatted("test-provider", "TestProvider", "TestProvider"));
+
+        JavaFileObject extension = JavaFileObjects.forSourceString(
+                "com.example.TestExtension",
+                """
+                package com.example;
+
+                import io.jikkou.core.annotation.Description;
+                import io.jikkou.core.annotation.Enabled;
+                import io.jikkou.core.annotation.Example;
+                import io.jikkou.core.annotation.Named;
+                import io.jikkou.core.annotation.SupportedResource;
+                import io.jikkou.core.annotation.Title;
+                import io.jikkou.core.extension.Extension;
+
+                @Named("test")
+                @Title("Test extension")
+                @Description("A test extension")
+                @Enabled
+                @Example(title = "Example", code = {"line 1", "line 2"})
+                @SupportedResource(type = TestResource.class)
+                @SupportedResource(kind = "Other")
+                public class TestExtension implements Extension {
+                }
+                """);
+
+        JavaFileObject resource = JavaFileObjects.forSourceString(
+                "com.example.TestResource",
+                """
+                package com.example;
+
+                import io.jikkou.core.annotation.Description;
+                import io.jikkou.core.annotation.Names;
+                import io.jikkou.core.annotation.ReconciliationOrder;
+                import io.jikkou.core.annotation.Transient;
+                import io.jikkou.core.annotation.Verbs;
+                import io.jikkou.core.models.HasMetadata;
+                import io.jikkou.core.models.ObjectMeta;
+                import io.jikkou.core.models.Verb;
+
+                @Description("A test resource")
+                @Names(singular = "test", plural = "tests", shortNames = {"t"})
+                @Verbs({Verb.LIST, Verb.GET})
+                @ReconciliationOrder(5)
+                @Transient
+                public class TestResource implements HasMetadata {
+                    @Override public ObjectMeta getMetadata() { return null; }
+                    @Override public HasMetadata withMetadata(ObjectMeta metadata) { return this; }
+                }
+                """);
+
+        Compilation compilation = javac()
+                .withProcessors(new ProviderProcessor())
+                .compile(provider, extension, resource);
+
+        assertThat(compilation).succeeded();
+        var indexFile = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, ProviderIndex.INDEX_RESOURCE_FILE);
+        assertTrue(indexFile.isPresent());
+
+        ProviderIndex.Index index;
+        try (InputStream is = indexFile.get().openInputStream()) {
+            index = ProviderIndex.read(is);
+        }
+
+        ProviderIndex.ExtensionEntry extensionEntry = index.extensions().get("com.example.TestExtension");
+        assertEquals("test", extensionEntry.name());
+        assertEquals("Test extension", extensionEntry.title());
+        assertEquals("A test extension", extensionEntry.description());
+        assertEquals("EXTENSION", extensionEntry.category());
+        assertTrue(extensionEntry.enabled());
+        assertEquals(List.of(new ProviderIndex.ExampleEntry("Example", List.of("line 1", "line 2"))), extensionEntry.examples());
+
+        List<ProviderIndex.AttributeEntry> supportedResources = extensionEntry.attributes().stream()
+                .filter(attribute -> attribute.name().equals("supportedresource"))
+                .toList();
+        assertEquals(2, supportedResources.size());
+        assertEquals(
+                new ProviderIndex.ValueEntry("class", "com.example.TestResource"),
+                supportedResources.getFirst().values().get("type"));
+        assertEquals(
+                new ProviderIndex.ValueEntry("string", "Other"),
+                supportedResources.get(1).values().get("kind"));
+
+        ProviderIndex.ResourceEntry resourceEntry = index.resources().get("com.example.TestResource");
+        assertEquals("A test resource", resourceEntry.description());
+        assertEquals(new ProviderIndex.NamesEntry("test", "tests", List.of("t"), ""), resourceEntry.names());
+        assertEquals(List.of("LIST", "GET"), resourceEntry.verbs());
+        assertEquals(5, resourceEntry.reconciliationOrder());
+        assertTrue(resourceEntry.isTransient());
+    }
 }
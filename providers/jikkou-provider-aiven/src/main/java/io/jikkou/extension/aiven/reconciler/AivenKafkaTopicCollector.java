@@ -22,6 +22,7 @@ import io.jikkou.core.io.Jackson;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.models.generics.GenericResourceList;
 import io.jikkou.core.reconciler.Collector;
+import io.jikkou.core.selector.NameFilter;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.core.selector.Selectors;
 import io.jikkou.extension.aiven.AivenExtensionProvider;
@@ -95,9 +96,11 @@ public class AivenKafkaTopicCollector extends ContextualExtension implements Col
                     )
                 );
             }
+            // Only describe the topics whose names may match the selector.
             List<String> topics = response.topics()
                 .stream()
                 .map(KafkaTopicListResponse.KafkaTopicInfoGet::topicName)
+                .filter(NameFilter.of(selector))
                 .toList();
 
             return listAll(configuration, topics, selector, api);
@@ -20,6 +20,7 @@ import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.io.Jackson;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.reconciler.Collector;
+import io.jikkou.core.selector.NameFilter;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.extension.aiven.AivenExtensionProvider;
 import io.jikkou.extension.aiven.ApiVersions;
@@ -110,7 +111,12 @@ public class AivenSchemaRegistrySubjectCollector implements Collector<V1SchemaRe
                         )
                 );
             }
-            return collectSubjects(response.subjects(), api);
+            // Only describe the subjects whose names may match the selector.
+            List<String> subjects = response.subjects()
+                    .stream()
+                    .filter(NameFilter.of(selector))
+                    .toList();
+            return collectSubjects(subjects, api);
         } catch (WebApplicationException e) {
             throw newListException(e);
         } finally {
@@ -48,4 +48,12 @@ public class SchemaRegistryAclEntryValidation implements Validation<V1SchemaRegi
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
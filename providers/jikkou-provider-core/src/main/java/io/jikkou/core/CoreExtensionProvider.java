@@ -15,6 +15,7 @@ import io.jikkou.core.models.ConfigMapList;
 import io.jikkou.core.policy.model.ValidatingResourcePolicy;
 import io.jikkou.core.repository.GitHubResourceRepository;
 import io.jikkou.core.repository.LocalResourceRepository;
+import io.jikkou.core.repository.WatchingLocalResourceRepository;
 import io.jikkou.core.resource.ResourceRegistry;
 import io.jikkou.core.transform.ConfigMapsTransformation;
 import io.jikkou.core.transform.EnrichMetadataTransformation;
@@ -41,6 +42,7 @@ public final class CoreExtensionProvider implements ExtensionProvider {
         registry.register(SystemTimeAction.class, SystemTimeAction::new);
         registry.register(LocalResourceRepository.class, LocalResourceRepository::new);
         registry.register(GitHubResourceRepository.class, GitHubResourceRepository::new);
+        registry.register(WatchingLocalResourceRepository.class, WatchingLocalResourceRepository::new);
     }
 
     /**
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.jikkou.common.utils.LruCache;
+import io.jikkou.core.io.Jackson;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the content fetched from GitHub: the commit each ref resolves to, with the ETag of
+ * the response, the tree of each commit, and the content of each blob.
+ * <p>
+ * Trees and blobs are keyed by their git SHA: as they are immutable, they never need to be
+ * invalidated. Only the most recently used trees and blobs are kept in memory; when a directory
+ * is given, all of them are also kept on disk, so that they survive across executions and are
+ * read again once evicted from memory. Failures to read or write the directory are logged and ignored.
+ */
+final class GitHubContentCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubContentCache.class);
+
+    private static final TypeReference<List<TreeEntry>> TREE_TYPE = new TypeReference<>() {};
+
+    static final int MAX_CACHED_TREES = 64;
+
+    static final int MAX_CACHED_BLOBS = 1024;
+
+    private final Path directory;
+    private final Map<String, CommitRef> refs = new ConcurrentHashMap<>();
+    private final LruCache<String, List<TreeEntry>> trees = new LruCache<>(MAX_CACHED_TREES);
+    private final LruCache<String, byte[]> blobs = new LruCache<>(MAX_CACHED_BLOBS);
+
+    /**
+     * Creates a new {@link GitHubContentCache} instance.
+     *
+     * @param directory the directory in which to persist the content, or {@code null} to only keep it in memory.
+     */
+    GitHubContentCache(@Nullable final Path directory) {
+        this.directory = directory;
+    }
+
+    Optional<CommitRef> getRef(@NotNull final String repository, @NotNull final String ref) {
+        String key = refKey(repository, ref);
+        return Optional.ofNullable(refs.computeIfAbsent(key, k -> read("refs", k)
+            .map(bytes -> readJson(bytes, CommitRef.class))
+            .orElse(null)));
+    }
+
+    void putRef(@NotNull final String repository, @NotNull final String ref, @NotNull final CommitRef commit) {
+        String key = refKey(repository, ref);
+        refs.put(key, commit);
+        write("refs", key, writeJson(commit));
+    }
+
+    Optional<List<TreeEntry>> getTree(@NotNull final String sha) {
+        List<TreeEntry> entries = trees.get(sha);
+        if (entries == null) {
+            entries = read("trees", sha).map(bytes -> readJson(bytes, TREE_TYPE)).orElse(null);
+            if (entries != null) {
+                trees.put(sha, entries);
+            }
+        }
+        return Optional.ofNullable(entries);
+    }
+
+    void putTree(@NotNull final String sha, @NotNull final List<TreeEntry> entries) {
+        trees.put(sha, List.copyOf(entries));
+        write("trees", sha, writeJson(entries));
+    }
+
+    Optional<byte[]> getBlob(@NotNull final String sha) {
+        byte[] content = blobs.get(sha);
+        if (content == null) {
+            content = read("blobs", sha).orElse(null);
+            if (content != null) {
+                blobs.put(sha, content);
+            }
+        }
+        return Optional.ofNullable(content);
+    }
+
+    void putBlob(@NotNull final String sha, @NotNull final byte[] content) {
+        blobs.put(sha, content);
+        write("blobs", sha, content);
+    }
+
+    private Optional<byte[]> read(final String kind, final String key) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(kind).resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(file));
+        } catch (IOException e) {
+            LOG.warn("Cannot read GitHub cache file '{}'. Cause: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(final String kind, final String key, final byte[] content) {
+        if (directory == null || content == null) {
+            return;
+        }
+        Path file = directory.resolve(kind).resolve(key);
+        try {
+            Files.createDirectories(file.getParent());
+            // Write to a temporary file first, so that concurrent readers never see a partial file.
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Cannot write GitHub cache file '{}'. Cause: {}", file, e.getMessage());
+        }
+    }
+
+    private static <T> T readJson(final byte[] bytes, final Class<T> type) {
+        try {
+            return Jackson.JSON_OBJECT_MAPPER.readValue(bytes, type);
+        } catch (IOException e) {
+            LOG.warn("Cannot read GitHub cache entry. Cause: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static <T> T readJson(final byte[] bytes, final TypeReference<T> type) {
+        try {
+            return Jackson.JSON_OBJECT_MAPPER.readValue(bytes, type);
+        } catch (IOException e) {
+            LOG.warn("Cannot read GitHub cache entry. Cause: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] writeJson(final Object value) {
+        try {
+            return Jackson.JSON_OBJECT_MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            LOG.warn("Cannot write GitHub cache entry. Cause: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String refKey(final String repository, final String ref) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((repository + "@" + ref).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The commit a ref resolved to.
+     *
+     * @param sha  the commit SHA.
+     * @param etag the ETag of the response that resolved the ref, if any.
+     */
+    record CommitRef(String sha, String etag) {
+    }
+
+    /**
+     * A blob of a git tree.
+     *
+     * @param path the blob path.
+     * @param sha  the blob SHA.
+     */
+    record TreeEntry(String path, String sha) {
+    }
+}
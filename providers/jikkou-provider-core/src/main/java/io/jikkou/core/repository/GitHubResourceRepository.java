@@ -10,6 +10,8 @@ import static io.jikkou.core.io.Jackson.YAML_OBJECT_MAPPER;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.jikkou.api.template.JinjaResourceTemplateRenderer;
+import io.jikkou.common.utils.AsyncUtils;
+import io.jikkou.common.utils.BoundedExecutor;
 import io.jikkou.common.utils.IOUtils;
 import io.jikkou.common.utils.Pair;
 import io.jikkou.core.annotation.Description;
@@ -28,27 +30,36 @@ import io.jikkou.core.io.reader.ValuesReaderOptions;
 import io.jikkou.core.models.HasItems;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.NamedValueSet;
+import io.jikkou.core.repository.GitHubContentCache.CommitRef;
+import io.jikkou.core.repository.GitHubContentCache.TreeEntry;
 import io.jikkou.core.template.ResourceTemplateRenderer;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A {@link ResourceRepository} implementation for loading resources from GitHub repository.
+ * <p>
+ * The configured branch or ref is first resolved to a commit, using a conditional request.
+ * The tree of that commit is then listed once, recursively, and the matching files are
+ * downloaded concurrently. Trees and files are cached by their SHA, in memory and, optionally,
+ * on disk: when the ref did not move, loading the resources costs a single request.
  */
 @Title("GitHub resource repository")
 @Description("Loads resources from a GitHub repository.")
@@ -62,6 +73,10 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
 
     private ResourceReaderFactory resourceReaderFactory;
     private HttpClient httpClient;
+    private GitHubContentCache cache;
+    private String apiUrl;
+    private String rawUrl;
+    private int maxConcurrentDownloads;
 
     /**
      * {@inheritDoc}
@@ -76,7 +91,11 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
             Config.TOKEN_CONFIG,
             Config.VALUE_FILES_CONFIG,
             Config.VALUE_FILE_PATTERN_CONFIG,
-            Config.LABEL_CONFIG
+            Config.LABEL_CONFIG,
+            Config.API_URL_CONFIG,
+            Config.RAW_URL_CONFIG,
+            Config.MAX_CONCURRENT_DOWNLOADS_CONFIG,
+            Config.CACHE_DIRECTORY_CONFIG
         );
     }
 
@@ -99,6 +118,19 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
         this.httpClient = HttpClient.newBuilder()
             .connectTimeout(HTTP_CLIENT_CONNECT_DURATION)
             .build();
+        Configuration configuration = context.configuration();
+        this.apiUrl = trimTrailingSlashes(Config.API_URL_CONFIG.get(configuration));
+        this.rawUrl = trimTrailingSlashes(Config.RAW_URL_CONFIG.get(configuration));
+        this.maxConcurrentDownloads = Config.MAX_CONCURRENT_DOWNLOADS_CONFIG.get(configuration);
+        if (maxConcurrentDownloads < 1) {
+            throw new IllegalArgumentException(
+                "max-concurrent-downloads must be positive, was: " + maxConcurrentDownloads);
+        }
+        this.cache = new GitHubContentCache(Config.CACHE_DIRECTORY_CONFIG.getOptional(configuration)
+            .filter(directory -> !directory.isBlank())
+            .map(Path::of)
+            .orElse(null)
+        );
     }
 
     /**
@@ -111,8 +143,14 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
 
     public HasItems all(final Config configs) {
         try {
+            Optional<String> commit = resolveCommit(configs);
+            if (commit.isEmpty()) {
+                return List::of;
+            }
+            List<TreeEntry> tree = listTree(configs, commit.get());
+
             // Load values first
-            NamedValueSet values = loadValuesFromGitHub(configs);
+            NamedValueSet values = loadValuesFromGitHub(configs, commit.get(), tree);
             values = values.with(configs.values());
 
             // Create resource reader options
@@ -121,11 +159,8 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
                 .withValues(values)
                 .withPattern(configs.resourceFilePattern());
 
-            // Load resources from GitHub and combine them
-            List<HasMetadata> allResources = new ArrayList<>();
-            ResourceLoader loader = new ResourceLoader(resourceReaderFactory, readerOptions);
-
             PathMatcher pathMatcher = IOUtils.getPathMatcher(configs.resourceFilePattern());
+            List<TreeEntry> files = new ArrayList<>();
             for (String path : configs.resourceFileLocations()) {
                 LOG.debug(
                     "Listing resources from GitHub repository '{}' and branch '{}' for path '{}'",
@@ -133,17 +168,20 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
                     configs.branch(),
                     path
                 );
-                List<GitHubFile> files = listFilesInPath(configs.repository(), configs.branch(), path, configs.token());
-
-                for (GitHubFile file : files) {
-                    if (pathMatcher.matches(Path.of(file.path()))) {
-                        LOG.debug("Reading resource content from path {}", file.path());
-                        String content = downloadFileContent(file, configs.token());
-                        try (InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
-                            HasItems items = loader.load(inputStream, file.uri());
-                            allResources.addAll(items.getItems());
-                        }
-                    }
+                listFilesInPath(configs, tree, path).stream()
+                    .filter(file -> pathMatcher.matches(Path.of(file.path())))
+                    .forEach(files::add);
+            }
+
+            // Load resources from GitHub and combine them, in the order of the files.
+            List<HasMetadata> allResources = new ArrayList<>();
+            ResourceLoader loader = new ResourceLoader(resourceReaderFactory, readerOptions);
+            List<byte[]> contents = downloadFileContents(configs, commit.get(), files);
+            for (int i = 0; i < files.size(); i++) {
+                LOG.debug("Reading resource content from path {}", files.get(i).path());
+                try (InputStream inputStream = new ByteArrayInputStream(contents.get(i))) {
+                    HasItems items = loader.load(inputStream, uri(configs, configs.branch(), files.get(i)));
+                    allResources.addAll(items.getItems());
                 }
             }
 
@@ -154,103 +192,216 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
         }
     }
 
-    private NamedValueSet loadValuesFromGitHub(Config configs) throws Exception {
+    private NamedValueSet loadValuesFromGitHub(Config configs, String commit, List<TreeEntry> tree) throws Exception {
         if (configs.valuesFileLocations().isEmpty()) {
             return NamedValueSet.emptySet();
         }
 
-        NamedValueSet result = NamedValueSet.emptySet();
-
+        List<TreeEntry> files = new ArrayList<>();
         for (String path : configs.valuesFileLocations()) {
-            List<GitHubFile> files = listFilesInPath(configs.repository(), configs.branch(), path, configs.token());
-
-            for (GitHubFile file : files) {
-                if (file.path().endsWith(".yaml") || file.path().endsWith(".yml")) {
-                    String content = downloadFileContent(file, configs.token());
-                    try (InputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
-                        NamedValueSet values = ValuesLoader.loadFromInputStreams(
-                            List.of(Pair.of(stream, file.uri())),
-                            ValuesReaderOptions.of(configs.valuesFilePattern())
-                        );
-                        result = result.with(values);
-                    }
-                }
-            }
+            listFilesInPath(configs, tree, path).stream()
+                .filter(file -> file.path().endsWith(".yaml") || file.path().endsWith(".yml"))
+                .forEach(files::add);
         }
 
+        NamedValueSet result = NamedValueSet.emptySet();
+        List<byte[]> contents = downloadFileContents(configs, commit, files);
+        for (int i = 0; i < files.size(); i++) {
+            try (InputStream stream = new ByteArrayInputStream(contents.get(i))) {
+                NamedValueSet values = ValuesLoader.loadFromInputStreams(
+                    List.of(Pair.of(stream, uri(configs, configs.branch(), files.get(i)))),
+                    ValuesReaderOptions.of(configs.valuesFilePattern())
+                );
+                result = result.with(values);
+            }
+        }
         return result;
     }
 
-    private List<GitHubFile> listFilesInPath(String repository, String branch, String path, String token) throws Exception {
-        String url = String.format("%s/repos/%s/contents/%s?ref=%s", GITHUB_API_BASE, repository, path, branch);
+    /**
+     * Resolves the configured branch or ref to a commit SHA. The request is conditional on
+     * the ETag of the last response, so that GitHub answers with a 304 if the ref did not move.
+     */
+    private Optional<String> resolveCommit(Config configs) throws Exception {
+        String url = String.format("%s/repos/%s/commits/%s", apiUrl, configs.repository(), configs.branch());
+        Optional<CommitRef> cached = cache.getRef(configs.repository(), configs.branch());
+
+        HttpRequest.Builder requestBuilder = newRequest(URI.create(url), configs.token())
+            .header("Accept", "application/vnd.github.sha");
+        cached.map(CommitRef::etag)
+            .ifPresent(etag -> requestBuilder.header("If-None-Match", etag));
 
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .uri(new URI(url))
-            .GET()
-            .timeout(HTTP_CLIENT_CONNECT_DURATION);
+        HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
 
-        if (!token.isEmpty()) {
-            requestBuilder.header("Authorization", "Bearer " + token);
+        if (response.statusCode() == 304 && cached.isPresent()) {
+            LOG.debug("Ref '{}' of GitHub repository '{}' is unchanged (commit: {})",
+                configs.branch(), configs.repository(), cached.get().sha());
+            return Optional.of(cached.get().sha());
         }
-        requestBuilder.header("Accept", "application/vnd.github.v3+json");
-
-        HttpRequest request = requestBuilder.build();
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
 
         if (response.statusCode() != 200) {
-            LOG.warn("Failed to list files from GitHub repository '{}' for path '{}'. Error: {}", repository, path, response.body());
-            return List.of();
+            LOG.warn("Failed to resolve ref '{}' from GitHub repository '{}'. Error: {}",
+                configs.branch(), configs.repository(), response.body());
+            return Optional.empty();
         }
 
-        JsonNode jsonResponse = Jackson.json().readTree(response.body());
-        List<GitHubFile> result = new ArrayList<>();
-
-        if (jsonResponse.isArray()) {
-            for (JsonNode item : jsonResponse) {
-                String type = item.get("type").asText();
-                String itemPath = item.get("path").asText();
+        String sha = response.body().trim();
+        response.headers().firstValue("ETag")
+            .ifPresent(etag -> cache.putRef(configs.repository(), configs.branch(), new CommitRef(sha, etag)));
+        return Optional.of(sha);
+    }
 
-                if ("file".equals(type)) {
-                    result.add(new GitHubFile(repository, branch, itemPath, type));
-                } else if ("dir".equals(type)) {
-                    // Recursively list files in subdirectories
-                    result.addAll(listFilesInPath(repository, branch, itemPath, token));
+    /**
+     * Lists all the files of the given commit, with a single request when the tree is not truncated.
+     */
+    private List<TreeEntry> listTree(Config configs, String commit) throws Exception {
+        Optional<List<TreeEntry>> cached = cache.getTree(commit);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        JsonNode tree = getTree(configs, commit, true);
+        List<TreeEntry> entries = new ArrayList<>();
+        if (tree.path("truncated").asBoolean(false)) {
+            // The recursive listing is limited in size by GitHub, fall back to listing each subtree.
+            LOG.debug("Tree of commit '{}' is truncated, listing subtrees one by one", commit);
+            listSubtree(configs, getTree(configs, commit, false), "", entries);
+        } else {
+            for (JsonNode item : tree.path("tree")) {
+                if ("blob".equals(item.path("type").asText())) {
+                    entries.add(new TreeEntry(item.path("path").asText(), item.path("sha").asText()));
                 }
             }
         }
+        cache.putTree(commit, entries);
+        return entries;
+    }
+
+    private void listSubtree(Config configs, JsonNode tree, String prefix, List<TreeEntry> entries) throws Exception {
+        for (JsonNode item : tree.path("tree")) {
+            String itemPath = prefix + item.path("path").asText();
+            String type = item.path("type").asText();
+            if ("blob".equals(type)) {
+                entries.add(new TreeEntry(itemPath, item.path("sha").asText()));
+            } else if ("tree".equals(type)) {
+                listSubtree(configs, getTree(configs, item.path("sha").asText(), false), itemPath + "/", entries);
+            }
+        }
+    }
+
+    private JsonNode getTree(Config configs, String sha, boolean recursive) throws Exception {
+        String url = String.format("%s/repos/%s/git/trees/%s%s", apiUrl, configs.repository(), sha, recursive ? "?recursive=1" : "");
+
+        HttpRequest request = newRequest(URI.create(url), configs.token())
+            .header("Accept", "application/vnd.github.v3+json")
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != 200) {
+            throw new JikkouRuntimeException(String.format(
+                "Failed to list files from GitHub repository '%s' for tree '%s'. Error: %s",
+                configs.repository(), sha, response.body()
+            ));
+        }
+        return Jackson.JSON_OBJECT_MAPPER.readTree(response.body());
+    }
 
+    private static List<TreeEntry> listFilesInPath(Config configs, List<TreeEntry> tree, String path) {
+        String directory = normalizePath(path);
+        List<TreeEntry> result = tree.stream()
+            .filter(entry -> directory.isEmpty()
+                || entry.path().equals(directory)
+                || entry.path().startsWith(directory + "/"))
+            .toList();
+        if (result.isEmpty()) {
+            LOG.warn("Failed to list files from GitHub repository '{}' for path '{}'. Error: path not found",
+                configs.repository(), path);
+        }
         return result;
     }
 
-    private String downloadFileContent(GitHubFile file, String token) throws Exception {
+    private static String trimTrailingSlashes(String url) {
+        String trimmed = url.trim();
+        while (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
 
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .uri(file.uri())
-            .GET()
-            .timeout(HTTP_CLIENT_CONNECT_DURATION);
+    private static String normalizePath(String path) {
+        String normalized = path.trim();
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        if (normalized.equals(".")) {
+            return "";
+        }
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return trimTrailingSlashes(normalized);
+    }
 
-        if (!token.isEmpty()) {
-            requestBuilder.header("Authorization", "Bearer " + token);
+    /**
+     * Downloads the content of the given files concurrently, returning them in the same order.
+     * Files are downloaded from the resolved commit, so that they are consistent with the tree.
+     */
+    private List<byte[]> downloadFileContents(Config configs, String commit, List<TreeEntry> files) {
+        if (files.isEmpty()) {
+            return List.of();
         }
+        try (BoundedExecutor executor = new BoundedExecutor("jikkou-github-", maxConcurrentDownloads, null)) {
+            List<CompletableFuture<byte[]>> futures = files.stream()
+                .map(file -> cache.getBlob(file.sha())
+                    .map(CompletableFuture::completedFuture)
+                    .orElseGet(() -> executor.submit(() -> downloadFileContent(configs, commit, file)))
+                )
+                .toList();
+            return futures.stream()
+                .map(future -> AsyncUtils.getValueOrThrowException(future, t -> t instanceof RuntimeException e
+                    ? e
+                    : new JikkouRuntimeException(t)
+                ))
+                .toList();
+        }
+    }
 
-        HttpRequest request = requestBuilder.build();
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    private byte[] downloadFileContent(Config configs, String commit, TreeEntry file) {
+        HttpRequest request = newRequest(uri(configs, commit, file), configs.token()).build();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new JikkouRuntimeException("Failed to download file from GitHub: " + file.path(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JikkouRuntimeException("Interrupted while downloading file from GitHub: " + file.path(), e);
+        }
 
         if (response.statusCode() != 200) {
-            throw new RuntimeException("Failed to download file from GitHub: " + file.path());
+            throw new JikkouRuntimeException("Failed to download file from GitHub: " + file.path());
         }
 
+        cache.putBlob(file.sha(), response.body());
         return response.body();
     }
 
-    private record GitHubFile(String repository, String branch, String path, String type) {
+    private HttpRequest.Builder newRequest(URI uri, String token) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .uri(uri)
+            .GET()
+            .timeout(HTTP_CLIENT_CONNECT_DURATION);
+
+        if (!token.isEmpty()) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        return requestBuilder;
+    }
 
-        public URI uri() {
-            try {
-                return new URI("%s/%s/%s/%s".formatted(GITHUB_RAW_BASE, repository, branch, path));
-            } catch (URISyntaxException e) {
-                throw new RuntimeException(e);
-            }
+    private URI uri(Config configs, String ref, TreeEntry file) {
+        try {
+            return new URI("%s/%s/%s/%s".formatted(rawUrl, configs.repository(), ref, file.path()));
+        } catch (URISyntaxException e) {
+            throw new JikkouRuntimeException(e);
         }
     }
 
@@ -324,6 +475,32 @@ public class GitHubResourceRepository extends ContextualExtension implements Res
             .description("The labels to be added to all resources loaded from the repository")
             .defaultValue(Map::of);
 
+        public static final ConfigProperty<String> API_URL_CONFIG = ConfigProperty
+            .ofString("api-url")
+            .displayName("API URL")
+            .description("The base URL of the GitHub REST API")
+            .defaultValue(GITHUB_API_BASE);
+
+        public static final ConfigProperty<String> RAW_URL_CONFIG = ConfigProperty
+            .ofString("raw-url")
+            .displayName("Raw URL")
+            .description("The base URL from which the raw content of the files is downloaded")
+            .defaultValue(GITHUB_RAW_BASE);
+
+        public static final ConfigProperty<Integer> MAX_CONCURRENT_DOWNLOADS_CONFIG = ConfigProperty
+            .ofInt("max-concurrent-downloads")
+            .displayName("Max Concurrent Downloads")
+            .description("The maximum number of files downloaded concurrently")
+            .defaultValue(8);
+
+        public static final ConfigProperty<String> CACHE_DIRECTORY_CONFIG = ConfigProperty
+            .ofString("cache-directory")
+            .displayName("Cache Directory")
+            .description("""
+                The directory in which to cache the content downloaded from GitHub, across executions.
+                If not set, the content is only cached in memory.
+                """);
+
         public static Config of(final Configuration c) {
             return new Config(
                 REPOSITORY_CONFIG.get(c),
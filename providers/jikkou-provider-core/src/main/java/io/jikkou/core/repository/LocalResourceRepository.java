@@ -17,6 +17,7 @@ import io.jikkou.core.extension.ContextualExtension;
 import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.io.ResourceLoader;
 import io.jikkou.core.io.ValuesLoader;
+import io.jikkou.core.io.reader.ResourceFileCache;
 import io.jikkou.core.io.reader.ResourceReaderFactory;
 import io.jikkou.core.io.reader.ResourceReaderOptions;
 import io.jikkou.core.io.reader.ValuesReaderOptions;
@@ -27,6 +28,7 @@ import io.jikkou.core.template.ResourceTemplateRenderer;
 import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A {@link ResourceRepository} implementation for loading resources from local file-system.
@@ -89,6 +91,8 @@ public class LocalResourceRepository extends ContextualExtension implements Reso
 
     private ResourceReaderFactory resourceReaderFactory;
 
+    private ResourceFileCache cache;
+
     /**
      * {@inheritDoc}
      */
@@ -115,8 +119,21 @@ public class LocalResourceRepository extends ContextualExtension implements Reso
      * @param renderer The {@link ResourceTemplateRenderer}.
      */
     public LocalResourceRepository(final ResourceTemplateRenderer renderer) {
+        this(renderer, null);
+    }
+
+    /**
+     * Creates a new {@link LocalResourceRepository} instance.
+     *
+     * @param renderer The {@link ResourceTemplateRenderer}.
+     * @param cache    The cache of the resources parsed from local files, if any.
+     * @since 1.2.0
+     */
+    public LocalResourceRepository(final ResourceTemplateRenderer renderer,
+                                   @Nullable final ResourceFileCache cache) {
         this.renderer = renderer;
-        this.resourceReaderFactory = new ResourceReaderFactory(YAML_OBJECT_MAPPER, renderer);
+        this.cache = cache;
+        this.resourceReaderFactory = newResourceReaderFactory();
     }
 
     /**
@@ -130,7 +147,17 @@ public class LocalResourceRepository extends ContextualExtension implements Reso
                 .withPreserveRawTags(false)
                 .withFailOnUnknownTokens(false);
         }
-        resourceReaderFactory = new ResourceReaderFactory(YAML_OBJECT_MAPPER, renderer);
+        resourceReaderFactory = newResourceReaderFactory();
+    }
+
+    private ResourceReaderFactory newResourceReaderFactory() {
+        return new ResourceReaderFactory(
+            YAML_OBJECT_MAPPER,
+            renderer,
+            renderer != null,
+            ResourceReaderFactory.DEFAULT_PARALLELISM,
+            cache
+        );
     }
 
     /**
@@ -160,7 +187,7 @@ public class LocalResourceRepository extends ContextualExtension implements Reso
             .withPattern(inputs.getResourceFilePattern());
     }
 
-    private record InternalLocalResourceOptions(Configuration configuration) implements LocalResourceOptions {
+    record InternalLocalResourceOptions(Configuration configuration) implements LocalResourceOptions {
 
         @Override
         public List<String> getResourceFileLocations() {
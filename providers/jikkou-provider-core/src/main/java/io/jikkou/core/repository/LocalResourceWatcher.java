@@ -0,0 +1,402 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.repository;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import io.jikkou.common.utils.IOUtils;
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import io.jikkou.core.io.ValuesLoader;
+import io.jikkou.core.io.reader.ResourceReaderFactory;
+import io.jikkou.core.io.reader.ResourceReaderOptions;
+import io.jikkou.core.io.reader.ValuesReaderOptions;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.NamedValueSet;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the resources parsed from local files in memory, and re-parses only the files that
+ * changed, as reported by a {@link WatchService}.
+ * <p>
+ * Changes are not processed in the background, but each time the resources are requested:
+ * the watch events received since the previous request are drained, the changed files are
+ * re-parsed, and the generation is incremented if any resource file changed. All the files
+ * are reloaded when a values file changes, or when some events were lost.
+ * <p>
+ * Files included or imported by templates are not watched. Once closed, a watcher cannot be used anymore.
+ */
+final class LocalResourceWatcher implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalResourceWatcher.class);
+
+    private final List<Location> locations;
+    private final List<Location> valuesLocations;
+    private final String valuesFilePattern;
+    private final NamedValueSet labels;
+    private final NamedValueSet values;
+    private final String resourceFilePattern;
+    private final ResourceReaderFactory readerFactory;
+
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, List<HasMetadata>> resourcesByFile = new HashMap<>();
+    private final Set<Path> pendingChanges = new LinkedHashSet<>();
+
+    private WatchService watchService;
+    private ResourceReaderOptions options;
+    private List<HasMetadata> resources = List.of();
+    private boolean loaded = false;
+    private boolean closed = false;
+    private long generation = 0L;
+    private long lastAccessNanos = System.nanoTime();
+
+    /**
+     * Creates a new {@link LocalResourceWatcher} instance.
+     *
+     * @param options       the options of the repository.
+     * @param readerFactory the factory used for creating the reader of each file.
+     */
+    LocalResourceWatcher(@NotNull final LocalResourceOptions options,
+                         @NotNull final ResourceReaderFactory readerFactory) {
+        this.resourceFilePattern = options.getResourceFilePattern();
+        this.locations = options.getResourceFileLocations().stream()
+            .map(location -> Location.of(location, resourceFilePattern))
+            .toList();
+        this.valuesFilePattern = options.getValuesFilePattern();
+        this.valuesLocations = options.getValuesFileLocations().stream()
+            .map(location -> Location.of(location, valuesFilePattern))
+            .toList();
+        this.labels = options.getLabels();
+        this.values = options.getValues();
+        this.readerFactory = readerFactory;
+    }
+
+    /**
+     * Gets the resources, after processing the changes received since the last call.
+     *
+     * @return the resources.
+     * @throws ClosedWatchServiceException if this watcher is closed.
+     */
+    synchronized List<HasMetadata> resources() {
+        refresh();
+        return resources;
+    }
+
+    /**
+     * Gets the generation of the resources, after processing the changes received since the last call.
+     *
+     * @return the generation.
+     * @throws ClosedWatchServiceException if this watcher is closed.
+     */
+    synchronized long generation() {
+        refresh();
+        return generation;
+    }
+
+    private void refresh() {
+        if (closed) {
+            throw new ClosedWatchServiceException();
+        }
+        lastAccessNanos = System.nanoTime();
+        if (!loaded) {
+            load();
+            return;
+        }
+        boolean overflow = drainEvents();
+        if (overflow || pendingChanges.stream().anyMatch(this::isValuesFile)) {
+            LOG.info("Reloading all resources from {} locations", locations.size());
+            load();
+            return;
+        }
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        JikkouRuntimeException error = null;
+        int changed = 0;
+        for (Path path : List.copyOf(pendingChanges)) {
+            try {
+                changed += apply(path);
+                pendingChanges.remove(path);
+            } catch (RuntimeException e) {
+                // Keep the change pending, so that it is retried on the next call.
+                JikkouRuntimeException exception = e instanceof JikkouRuntimeException jre
+                    ? jre
+                    : new JikkouRuntimeException("Failed to read resources from: " + path, e);
+                if (error == null) {
+                    error = exception;
+                } else {
+                    error.addSuppressed(exception);
+                }
+            }
+        }
+        if (changed > 0) {
+            updateResources();
+            LOG.info("Reloaded {} changed resource files (generation: {})", changed, generation);
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void load() {
+        closeWatchService();
+        pendingChanges.clear();
+        resourcesByFile.clear();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // Register the directories before reading, so that no change is missed.
+            for (Location location : locations) {
+                register(location.watchedDirectory(), location.isDirectory());
+            }
+            for (Location location : valuesLocations) {
+                register(location.watchedDirectory(), location.isDirectory());
+            }
+        } catch (IOException e) {
+            closeWatchService();
+            throw new JikkouRuntimeException("Failed to watch resource files", e);
+        }
+
+        NamedValueSet allValues = NamedValueSet.emptySet();
+        if (!valuesLocations.isEmpty()) {
+            allValues = ValuesLoader.loadFromLocations(
+                valuesLocations.stream().map(Location::location).toList(),
+                ValuesReaderOptions.of(valuesFilePattern)
+            );
+        }
+        options = ResourceReaderOptions.DEFAULTS
+            .withLabels(labels)
+            .withValues(allValues.with(values))
+            .withPattern(resourceFilePattern);
+
+        try {
+            for (Location location : locations) {
+                for (Path file : location.files()) {
+                    resourcesByFile.put(file, read(file));
+                }
+            }
+        } catch (RuntimeException e) {
+            // Load everything again on the next call.
+            closeWatchService();
+            loaded = false;
+            throw e;
+        }
+        loaded = true;
+        updateResources();
+    }
+
+    private boolean drainEvents() {
+        boolean overflow = false;
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    overflow = true;
+                } else if (directory != null) {
+                    pendingChanges.add(directory.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+        }
+        return overflow;
+    }
+
+    /**
+     * Applies the change of the given path.
+     *
+     * @return the number of resource files that changed.
+     */
+    private int apply(final Path path) {
+        if (!Files.exists(path)) {
+            // The path is either a deleted file, or a deleted directory.
+            List<Path> deleted = resourcesByFile.keySet().stream()
+                .filter(file -> file.startsWith(path))
+                .toList();
+            deleted.forEach(resourcesByFile::remove);
+            LOG.debug("Removed resources from {} deleted files under '{}'", deleted.size(), path);
+            return deleted.size();
+        }
+        if (Files.isDirectory(path)) {
+            List<Location> parents = locations.stream()
+                .filter(location -> location.isDirectory() && path.startsWith(location.path()))
+                .toList();
+            if (parents.isEmpty()) {
+                return 0;
+            }
+            try {
+                register(path, true);
+            } catch (IOException e) {
+                throw new JikkouRuntimeException("Failed to watch directory: " + path, e);
+            }
+            // Only read the new files: the changes of the files already read have their own events.
+            List<Path> created = regularFiles(path).stream()
+                .filter(file -> !resourcesByFile.containsKey(file))
+                .filter(file -> parents.stream().anyMatch(location -> location.contains(file)))
+                .toList();
+            created.forEach(file -> resourcesByFile.put(file, read(file)));
+            return created.size();
+        }
+        if (locations.stream().noneMatch(location -> location.contains(path))) {
+            return 0;
+        }
+        resourcesByFile.put(path, read(path));
+        LOG.debug("Reloaded resources from changed file '{}'", path);
+        return 1;
+    }
+
+    private List<HasMetadata> read(final Path file) {
+        try (var reader = readerFactory.create(file.toUri())) {
+            return reader.readAll(options);
+        }
+    }
+
+    private void updateResources() {
+        resources = locations.stream()
+            .flatMap(location -> resourcesByFile.keySet().stream()
+                .filter(location::contains)
+                .sorted()
+                .flatMap(file -> resourcesByFile.get(file).stream())
+            )
+            .toList();
+        generation++;
+    }
+
+    private boolean isValuesFile(final Path path) {
+        return valuesLocations.stream().anyMatch(location -> location.isDirectory()
+            ? path.startsWith(location.path())
+            : path.equals(location.path())
+        );
+    }
+
+    /**
+     * Registers the given directory, and its sub-directories if recursive. The parent directory
+     * of a file location is not registered recursively, as only the file itself is watched.
+     */
+    private void register(final Path directory, final boolean recursive) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        if (!recursive) {
+            register(directory);
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isDirectory).toList()) {
+                register(path);
+            }
+        }
+    }
+
+    private void register(final Path directory) throws IOException {
+        if (!watchedDirectories.containsValue(directory)) {
+            watchedDirectories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+        }
+    }
+
+    private static List<Path> regularFiles(final Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            throw new JikkouRuntimeException("Failed to traverse directory: " + directory, e);
+        }
+    }
+
+    private void closeWatchService() {
+        watchedDirectories.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOG.debug("Failed to close watch service. Cause: {}", e.getMessage());
+            }
+            watchService = null;
+        }
+    }
+
+    /**
+     * Closes this watcher if it was not used for the given duration.
+     *
+     * @param idleTimeoutNanos the maximum idle duration, in nanoseconds.
+     * @return {@code true} if this watcher is closed.
+     */
+    synchronized boolean closeIfIdle(final long idleTimeoutNanos) {
+        if (!closed && System.nanoTime() - lastAccessNanos >= idleTimeoutNanos) {
+            close();
+        }
+        return closed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() {
+        closeWatchService();
+        resourcesByFile.clear();
+        resources = List.of();
+        loaded = false;
+        closed = true;
+    }
+
+    /**
+     * A watched location: a file, or a directory whose files match a pattern.
+     */
+    private record Location(String location, Path path, boolean isDirectory, Predicate<Path> matcher) {
+
+        static Location of(final String location, final String pattern) {
+            URI uri = URI.create(location);
+            if (uri.getScheme() != null && !uri.getScheme().equalsIgnoreCase("file")) {
+                throw new JikkouRuntimeException("Cannot watch non-local location: " + location);
+            }
+            Path path = (uri.isAbsolute() ? Path.of(uri) : Path.of(uri.getPath())).toAbsolutePath().normalize();
+            boolean isDirectory = Files.isDirectory(path);
+            Predicate<Path> matcher = isDirectory ? IOUtils.newFileMatcher(path, pattern) : path::equals;
+            return new Location(location, path, isDirectory, matcher);
+        }
+
+        Path watchedDirectory() {
+            return isDirectory ? path : path.getParent();
+        }
+
+        boolean contains(final Path file) {
+            return isDirectory ? file.startsWith(path) && matcher.test(file) : path.equals(file);
+        }
+
+        List<Path> files() {
+            if (!isDirectory) {
+                return List.of(path);
+            }
+            return regularFiles(path).stream()
+                .filter(matcher)
+                .sorted()
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.repository;
+
+import static io.jikkou.core.io.Jackson.YAML_OBJECT_MAPPER;
+
+import io.jikkou.api.template.JinjaResourceTemplateRenderer;
+import io.jikkou.core.annotation.Description;
+import io.jikkou.core.annotation.Title;
+import io.jikkou.core.config.ConfigProperty;
+import io.jikkou.core.extension.ContextualExtension;
+import io.jikkou.core.io.reader.ResourceReaderFactory;
+import io.jikkou.core.models.HasMetadata;
+import io.jikkou.core.models.NamedValueSet;
+import io.jikkou.core.template.ResourceTemplateRenderer;
+import java.nio.file.ClosedWatchServiceException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ResourceRepository} implementation for loading resources from local file-system,
+ * and keeping them in memory across calls.
+ * <p>
+ * This repository is intended for long-running processes, e.g., the API server, which load the
+ * resources for every request. The files are parsed once, then watched: only the files that
+ * changed since the previous call are parsed again. The {@link #generation()} is incremented
+ * each time the resources change.
+ * <p>
+ * As extensions are created each time they are used, the watched state is shared between all
+ * the instances configured with the same locations, patterns and labels. The state of a configuration
+ * that is not used for {@link #IDLE_TIMEOUT} is discarded, and its files are no longer watched.
+ *
+ * @since 1.2.0
+ */
+@Title("Watching local resource repository")
+@Description("Loads resources from a local file system directory, and reloads only the files that changed.")
+public class WatchingLocalResourceRepository extends ContextualExtension implements ResourceRepository {
+
+    /**
+     * The duration after which the files of an unused configuration are no longer watched.
+     */
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final Map<WatcherKey, LocalResourceWatcher> WATCHERS = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ConfigProperty<?>> configProperties() {
+        return List.of(
+            LocalResourceRepository.Config.FILES_CONFIG,
+            LocalResourceRepository.Config.FILE_NAME_CONFIG,
+            LocalResourceRepository.Config.VALUE_FILES_CONFIG,
+            LocalResourceRepository.Config.VALUE_FILE_NAME_CONFIG,
+            LocalResourceRepository.Config.LABEL_CONFIG
+        );
+    }
+
+    /**
+     * Creates a new {@link WatchingLocalResourceRepository} instance.
+     */
+    public WatchingLocalResourceRepository() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<? extends HasMetadata> all() {
+        return withWatcher(LocalResourceWatcher::resources);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalLong generation() {
+        return OptionalLong.of(withWatcher(LocalResourceWatcher::generation));
+    }
+
+    private <T> T withWatcher(final Function<LocalResourceWatcher, T> function) {
+        closeIdle(IDLE_TIMEOUT);
+        WatcherKey key = watcherKey();
+        while (true) {
+            LocalResourceWatcher watcher = WATCHERS.computeIfAbsent(key, unused -> newWatcher());
+            try {
+                return function.apply(watcher);
+            } catch (ClosedWatchServiceException e) {
+                // The watcher was closed as idle concurrently: use a new one.
+                WATCHERS.remove(key, watcher);
+            }
+        }
+    }
+
+    private WatcherKey watcherKey() {
+        LocalResourceOptions options = new LocalResourceRepository.InternalLocalResourceOptions(
+            extensionContext().configuration()
+        );
+        return new WatcherKey(
+            options.getResourceFileLocations(),
+            options.getResourceFilePattern(),
+            options.getValuesFileLocations(),
+            options.getValuesFilePattern(),
+            options.getLabels()
+        );
+    }
+
+    private LocalResourceWatcher newWatcher() {
+        LocalResourceOptions options = new LocalResourceRepository.InternalLocalResourceOptions(
+            extensionContext().configuration()
+        );
+        ResourceTemplateRenderer renderer = new JinjaResourceTemplateRenderer()
+            .withPreserveRawTags(false)
+            .withFailOnUnknownTokens(false);
+        return new LocalResourceWatcher(options, new ResourceReaderFactory(YAML_OBJECT_MAPPER, renderer));
+    }
+
+    /**
+     * Stops watching the files of the repositories not used for the given duration, and discards their resources.
+     *
+     * @param idleTimeout the maximum idle duration.
+     */
+    static void closeIdle(final Duration idleTimeout) {
+        long idleTimeoutNanos = idleTimeout.toNanos();
+        WATCHERS.forEach((key, watcher) -> {
+            if (watcher.closeIfIdle(idleTimeoutNanos)) {
+                WATCHERS.remove(key, watcher);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of configurations whose files are watched.
+     *
+     * @return the number of watchers.
+     */
+    static int watchers() {
+        return WATCHERS.size();
+    }
+
+    /**
+     * Stops watching the files of all the repositories, and discards their resources.
+     */
+    static void closeAll() {
+        WATCHERS.values().forEach(LocalResourceWatcher::close);
+        WATCHERS.clear();
+    }
+
+    private record WatcherKey(@NotNull List<String> files,
+                              @NotNull String filePattern,
+                              @NotNull List<String> valuesFiles,
+                              @NotNull String valuesFilePattern,
+                              @NotNull NamedValueSet labels) {
+    }
+}
@@ -15,15 +15,20 @@ import io.jikkou.core.annotation.SupportedResources;
 import io.jikkou.core.annotation.Title;
 import io.jikkou.core.exceptions.InvalidResourceException;
 import io.jikkou.core.models.ConfigMap;
-import io.jikkou.core.models.ConfigMapList;
 import io.jikkou.core.models.Configs;
 import io.jikkou.core.models.HasConfigRefs;
 import io.jikkou.core.models.HasItems;
 import io.jikkou.core.models.HasMetadata;
 import io.jikkou.core.models.HasPriority;
 import io.jikkou.core.models.HasSpec;
+import io.jikkou.core.models.ObjectMeta;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -40,6 +45,10 @@ import org.jetbrains.annotations.NotNull;
 @SupportedResources
 public class ConfigMapsTransformation implements Transformation<HasMetadata> {
 
+    // The indexes of the resource lists being transformed, one per HasItems instance (compared
+    // by identity), so that concurrent chains transforming different lists never share an index.
+    // Indexes are looked up without locking: the list is only copied when an index is added.
+    private final List<ConfigMapIndex> indexes = new CopyOnWriteArrayList<>();
 
     /**
      * {@inheritDoc
@@ -58,6 +67,14 @@ public class ConfigMapsTransformation implements Transformation<HasMetadata> {
         return Optional.of(result);
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
     private HasMetadata doTransform(final HasSpec<HasConfigRefs> resource,
                                     final HasItems list) {
         HasConfigRefs spec = resource.getSpec();
@@ -67,23 +84,7 @@ public class ConfigMapsTransformation implements Transformation<HasMetadata> {
             return resource;
         }
 
-        ConfigMapList configMapList = ConfigMapList.builder()
-                .withItems(list.getAllByClass(ConfigMap.class))
-                .build();
-
-        var configsFromConfigMaps = new HashMap<String, Object>();
-
-        for (String configMapRef : configMapRefs) {
-            ConfigMap configMap = configMapList.findByName(configMapRef)
-                    .orElseThrow(() -> new InvalidResourceException(String.format(
-                            "Failed to process resource '%s/%s'. Cannot find ConfigMap for '%s'.",
-                            resource.getApiVersion(),
-                            resource.getKind(),
-                            configMapRef)
-                    ));
-            Optional.ofNullable(configMap.getData())
-                    .ifPresent(configsFromConfigMaps::putAll);
-        }
+        Configs configsFromConfigMaps = getIndex(list).getMergedConfigs(resource, List.copyOf(configMapRefs));
 
         var allConfigs = Optional
                 .ofNullable(spec.getConfigs())
@@ -95,4 +96,87 @@ public class ConfigMapsTransformation implements Transformation<HasMetadata> {
 
         return resource;
     }
+
+    private ConfigMapIndex getIndex(final HasItems list) {
+        ConfigMapIndex index = findIndex(list);
+        if (index != null) {
+            return index;
+        }
+        synchronized (indexes) {
+            index = findIndex(list);
+            if (index == null) {
+                indexes.removeIf(ConfigMapIndex::isCleared);
+                index = new ConfigMapIndex(list);
+                indexes.add(index);
+            }
+            return index;
+        }
+    }
+
+    private ConfigMapIndex findIndex(final HasItems list) {
+        for (ConfigMapIndex index : indexes) {
+            if (index.isIndexOf(list)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The ConfigMaps of a list of resources indexed by name, with the configs merged
+     * once for each distinct list of references. Merged configs are never modified:
+     * they are only copied into the configs of resources.
+     */
+    private static final class ConfigMapIndex {
+
+        private final WeakReference<HasItems> items;
+        private final Map<String, ConfigMap> configMapsByName = new HashMap<>();
+        private final Map<List<String>, Configs> mergedConfigsByRefs = new ConcurrentHashMap<>();
+
+        ConfigMapIndex(final HasItems items) {
+            this.items = new WeakReference<>(items);
+            for (ConfigMap configMap : items.getAllByClass(ConfigMap.class)) {
+                Optional.ofNullable(configMap.getMetadata())
+                        .map(ObjectMeta::getName)
+                        // Keep the first ConfigMap for a given name.
+                        .ifPresent(name -> configMapsByName.putIfAbsent(name, configMap));
+            }
+        }
+
+        boolean isIndexOf(final HasItems list) {
+            return items.get() == list;
+        }
+
+        boolean isCleared() {
+            return items.get() == null;
+        }
+
+        Configs getMergedConfigs(final HasSpec<HasConfigRefs> resource,
+                                 final List<String> configMapRefs) {
+            Configs merged = mergedConfigsByRefs.get(configMapRefs);
+            if (merged == null) {
+                merged = merge(resource, configMapRefs);
+                mergedConfigsByRefs.putIfAbsent(configMapRefs, merged);
+            }
+            return merged;
+        }
+
+        private Configs merge(final HasSpec<HasConfigRefs> resource,
+                              final List<String> configMapRefs) {
+            var configsFromConfigMaps = new HashMap<String, Object>();
+
+            for (String configMapRef : configMapRefs) {
+                ConfigMap configMap = Optional.ofNullable(configMapsByName.get(configMapRef))
+                        .orElseThrow(() -> new InvalidResourceException(String.format(
+                                "Failed to process resource '%s/%s'. Cannot find ConfigMap for '%s'.",
+                                resource.getApiVersion(),
+                                resource.getKind(),
+                                configMapRef)
+                        ));
+                Optional.ofNullable(configMap.getData())
+                        .ifPresent(configsFromConfigMaps::putAll);
+            }
+            return Configs.of(configsFromConfigMaps);
+        }
+    }
 }
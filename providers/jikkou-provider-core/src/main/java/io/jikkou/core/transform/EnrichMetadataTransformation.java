@@ -50,4 +50,12 @@ public class EnrichMetadataTransformation implements Transformation<HasMetadata>
         }
         return Optional.of(toTransform.withMetadata(metadata));
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -39,4 +39,12 @@ public class ExcludeIgnoreResourceTransformation implements Transformation<HasMe
                                                     @NotNull ReconciliationContext context) {
         return CoreAnnotations.isAnnotatedWithIgnore(resource) ? Optional.empty() : Optional.of(resource);
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core;
+
+import io.jikkou.core.extension.DefaultExtensionDescriptorFactory;
+import io.jikkou.core.extension.ExtensionAttribute;
+import io.jikkou.core.extension.ExtensionDescriptor;
+import io.jikkou.core.models.Resource;
+import io.jikkou.core.models.ResourceType;
+import io.jikkou.core.resource.ResourceDescriptor;
+import io.jikkou.core.resource.ResourceDescriptorFactory;
+import io.jikkou.spi.ProviderIndex;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the descriptors created from the index generated at build time are the same
+ * as the descriptors created using reflection.
+ */
+class ProviderIndexTest {
+
+    private static ProviderIndex.Index INDEX;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+        try (InputStream is = CoreExtensionProvider.class.getClassLoader()
+            .getResourceAsStream(ProviderIndex.INDEX_RESOURCE_FILE)) {
+            Assertions.assertNotNull(is, "Missing " + ProviderIndex.INDEX_RESOURCE_FILE);
+            INDEX = ProviderIndex.read(is);
+        }
+    }
+
+    @Test
+    void shouldMakeSameExtensionDescriptorsFromIndex() throws ClassNotFoundException {
+        // Given
+        Assertions.assertFalse(INDEX.extensions().isEmpty());
+
+        for (Map.Entry<String, ProviderIndex.ExtensionEntry> entry : INDEX.extensions().entrySet()) {
+            Class<?> type = Class.forName(entry.getKey());
+
+            // When
+            ExtensionDescriptor<?> expected = make(new DefaultExtensionDescriptorFactory(false), type);
+            ExtensionDescriptor<?> actual = make(new DefaultExtensionDescriptorFactory(true), type);
+
+            // Then
+            String message = "Descriptor mismatch for " + type.getName();
+            Assertions.assertEquals(expected.name(), actual.name(), message);
+            Assertions.assertEquals(expected.title(), actual.title(), message);
+            Assertions.assertEquals(expected.description(), actual.description(), message);
+            Assertions.assertEquals(expected.category(), actual.category(), message);
+            Assertions.assertEquals(expected.isEnabled(), actual.isEnabled(), message);
+            Assertions.assertEquals(expected.priority(), actual.priority(), message);
+            Assertions.assertEquals(expected.examples().size(), actual.examples().size(), message);
+            for (int i = 0; i < expected.examples().size(); i++) {
+                Assertions.assertEquals(expected.examples().get(i).title(), actual.examples().get(i).title(), message);
+                Assertions.assertArrayEquals(expected.examples().get(i).code(), actual.examples().get(i).code(), message);
+            }
+            Assertions.assertEquals(expected.properties(), actual.properties(), message);
+
+            List<ExtensionAttribute> expectedAttributes = new ArrayList<>(expected.metadata().attributes());
+            List<ExtensionAttribute> actualAttributes = new ArrayList<>(actual.metadata().attributes());
+            Assertions.assertEquals(
+                expectedAttributes.stream().map(ExtensionAttribute::name).toList(),
+                actualAttributes.stream().map(ExtensionAttribute::name).toList(),
+                message
+            );
+            List<ProviderIndex.AttributeEntry> indexed = entry.getValue().attributes();
+            for (int i = 0; i < indexed.size(); i++) {
+                for (String member : indexed.get(i).values().keySet()) {
+                    Assertions.assertTrue(
+                        Objects.deepEquals(expectedAttributes.get(i).value(member), actualAttributes.get(i).value(member)),
+                        message + ", attribute: " + indexed.get(i).name() + ", member: " + member
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMakeSameResourceDescriptorsFromIndex() throws ClassNotFoundException {
+        // Given
+        Assertions.assertFalse(INDEX.resources().isEmpty());
+
+        for (String name : INDEX.resources().keySet()) {
+            Class<? extends Resource> type = (Class<? extends Resource>) Class.forName(name);
+
+            // When
+            ResourceDescriptor expected = new ResourceDescriptorFactory(false).make(ResourceType.of(type), type);
+            ResourceDescriptor actual = new ResourceDescriptorFactory(true).make(ResourceType.of(type), type);
+
+            // Then
+            String message = "Descriptor mismatch for " + type.getName();
+            Assertions.assertEquals(expected.description(), actual.description(), message);
+            Assertions.assertEquals(expected.singularName(), actual.singularName(), message);
+            Assertions.assertEquals(expected.pluralName(), actual.pluralName(), message);
+            Assertions.assertEquals(expected.localName(), actual.localName(), message);
+            Assertions.assertEquals(expected.shortNames(), actual.shortNames(), message);
+            Assertions.assertEquals(expected.verbs(), actual.verbs(), message);
+            Assertions.assertEquals(expected.reconciliationOrder(), actual.reconciliationOrder(), message);
+            Assertions.assertEquals(expected.isTransient(), actual.isTransient(), message);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ExtensionDescriptor<T> make(DefaultExtensionDescriptorFactory factory, Class<?> type) {
+        Class<T> extensionType = (Class<T>) type;
+        return factory.make(extensionType, () -> {
+            try {
+                return extensionType.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
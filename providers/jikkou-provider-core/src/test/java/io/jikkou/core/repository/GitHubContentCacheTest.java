@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GitHubContentCacheTest {
+
+    @Test
+    void shouldReadEvictedBlobFromDirectory(@TempDir Path tempDir) {
+        // Given
+        GitHubContentCache cache = new GitHubContentCache(tempDir);
+        for (int i = 0; i <= GitHubContentCache.MAX_CACHED_BLOBS; i++) {
+            cache.putBlob("sha-" + i, ("content-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // When
+        Optional<byte[]> blob = cache.getBlob("sha-0");
+
+        // Then
+        Assertions.assertEquals("content-0", blob.map(bytes -> new String(bytes, StandardCharsets.UTF_8)).orElseThrow());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBlobGivenNoDirectory() {
+        // Given
+        GitHubContentCache cache = new GitHubContentCache(null);
+        for (int i = 0; i <= GitHubContentCache.MAX_CACHED_BLOBS; i++) {
+            cache.putBlob("sha-" + i, ("content-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // When / Then
+        Assertions.assertTrue(cache.getBlob("sha-0").isEmpty());
+        Assertions.assertTrue(cache.getBlob("sha-" + GitHubContentCache.MAX_CACHED_BLOBS).isPresent());
+    }
+}
@@ -6,15 +6,176 @@
  */
 package io.jikkou.core.repository;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import io.jikkou.core.config.Configuration;
 import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.models.HasMetadata;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class GitHubResourceRepositoryTest {
 
+    private static final String COMMIT_SHA = "c0ffee";
+    private static final String ETAG = "\"etag-c0ffee\"";
+
+    private static final Map<String, String> FILES = Map.of(
+        "examples/topics.yaml", """
+            apiVersion: "kafka.jikkou.io/v1beta2"
+            kind: "KafkaTopic"
+            metadata:
+              name: "topic-a"
+            ---
+            apiVersion: "kafka.jikkou.io/v1beta2"
+            kind: "KafkaTopic"
+            metadata:
+              name: "topic-b"
+            """,
+        "examples/README.md", "Not a resource",
+        "other/topics.yaml", """
+            apiVersion: "kafka.jikkou.io/v1beta2"
+            kind: "KafkaTopic"
+            metadata:
+              name: "topic-c"
+            """
+    );
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/repos/owner/repo/commits/main", exchange -> {
+            count("commits");
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                respond(exchange, 304, "");
+            } else {
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                respond(exchange, 200, COMMIT_SHA);
+            }
+        });
+        server.createContext("/api/repos/owner/repo/git/trees/" + COMMIT_SHA, exchange -> {
+            count("trees");
+            StringBuilder tree = new StringBuilder("{\"sha\":\"" + COMMIT_SHA + "\",\"truncated\":false,\"tree\":[");
+            tree.append("{\"path\":\"examples\",\"type\":\"tree\",\"sha\":\"t1\"}");
+            FILES.keySet().forEach(path -> tree
+                .append(",{\"path\":\"").append(path)
+                .append("\",\"type\":\"blob\",\"sha\":\"").append(blobSha(path)).append("\"}"));
+            respond(exchange, 200, tree.append("]}").toString());
+        });
+        server.createContext("/raw/owner/repo/" + COMMIT_SHA + "/", exchange -> {
+            count("raw");
+            String path = exchange.getRequestURI().getPath().substring(("/raw/owner/repo/" + COMMIT_SHA + "/").length());
+            String content = FILES.get(path);
+            respond(exchange, content != null ? 200 : 404, content != null ? content : "");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldLoadResourcesFromTreeOfResolvedCommit() {
+        // Given
+        GitHubResourceRepository repository = newMockRepository(null);
+
+        // When
+        List<? extends HasMetadata> resources = repository.all();
+
+        // Then
+        Assertions.assertEquals(
+            List.of("topic-a", "topic-b"),
+            resources.stream().map(resource -> resource.getMetadata().getName()).toList()
+        );
+        Assertions.assertEquals(1, requests("commits"));
+        Assertions.assertEquals(1, requests("trees"));
+        Assertions.assertEquals(1, requests("raw"));
+    }
+
+    @Test
+    void shouldOnlySendConditionalRequestGivenUnchangedRef() {
+        // Given
+        GitHubResourceRepository repository = newMockRepository(null);
+        repository.all();
+
+        // When
+        List<? extends HasMetadata> resources = repository.all();
+
+        // Then
+        Assertions.assertEquals(2, resources.size());
+        Assertions.assertEquals(2, requests("commits"));
+        Assertions.assertEquals(1, requests("trees"));
+        Assertions.assertEquals(1, requests("raw"));
+    }
+
+    @Test
+    void shouldReuseContentCachedOnDiskAcrossInstances(@TempDir Path directory) {
+        // Given
+        newMockRepository(directory).all();
+
+        // When
+        List<? extends HasMetadata> resources = newMockRepository(directory).all();
+
+        // Then
+        Assertions.assertEquals(2, resources.size());
+        Assertions.assertEquals(2, requests("commits"));
+        Assertions.assertEquals(1, requests("trees"));
+        Assertions.assertEquals(1, requests("raw"));
+    }
+
+    private GitHubResourceRepository newMockRepository(Path cacheDirectory) {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(GitHubResourceRepository.Config.REPOSITORY_CONFIG.key(), "owner/repo");
+        configs.put(GitHubResourceRepository.Config.PATHS_CONFIG.key(), List.of("./examples/"));
+        configs.put(GitHubResourceRepository.Config.API_URL_CONFIG.key(), baseUrl + "/api");
+        configs.put(GitHubResourceRepository.Config.RAW_URL_CONFIG.key(), baseUrl + "/raw/");
+        if (cacheDirectory != null) {
+            configs.put(GitHubResourceRepository.Config.CACHE_DIRECTORY_CONFIG.key(), cacheDirectory.toString());
+        }
+        GitHubResourceRepository repository = new GitHubResourceRepository();
+        repository.init(ExtensionContext.fromConfiguration(Configuration.from(configs)));
+        return repository;
+    }
+
+    private void count(String kind) {
+        requests.computeIfAbsent(kind, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private int requests(String kind) {
+        return requests.getOrDefault(kind, new AtomicInteger()).get();
+    }
+
+    private static String blobSha(String path) {
+        return Integer.toHexString(path.hashCode());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
     @Test
     void shouldLoadResourceFromPublicGithubRepository() {
         // Given
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.core.repository;
+
+import io.jikkou.core.config.Configuration;
+import io.jikkou.core.extension.DefaultExtensionContext;
+import io.jikkou.core.extension.DefaultExtensionDescriptorFactory;
+import io.jikkou.core.extension.ExtensionDescriptor;
+import io.jikkou.core.extension.ExtensionDescriptorModifiers;
+import io.jikkou.core.models.HasMetadata;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WatchingLocalResourceRepositoryTest {
+
+    private static final ExtensionDescriptor<WatchingLocalResourceRepository> DESCRIPTOR =
+        new DefaultExtensionDescriptorFactory().make(
+            WatchingLocalResourceRepository.class,
+            WatchingLocalResourceRepository::new
+        );
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        WatchingLocalResourceRepository.closeAll();
+    }
+
+    @Test
+    void shouldKeepGenerationGivenNoChange() throws IOException {
+        // Given
+        write("a.yaml", "topic-a");
+        long generation = newRepository().generation().orElseThrow();
+
+        // When
+        List<String> names = names(newRepository().all());
+
+        // Then
+        Assertions.assertEquals(List.of("topic-a"), names);
+        Assertions.assertEquals(generation, newRepository().generation().orElseThrow());
+    }
+
+    @Test
+    void shouldReloadChangedCreatedAndDeletedFiles() throws IOException {
+        // Given
+        write("a.yaml", "topic-a");
+        write("b.yaml", "topic-b");
+        long generation = newRepository().generation().orElseThrow();
+
+        // When
+        write("a.yaml", "topic-a2");
+        Files.createDirectories(directory.resolve("sub"));
+        write("sub/c.yaml", "topic-c");
+        Files.delete(directory.resolve("b.yaml"));
+
+        // Then
+        awaitUntil(() -> names(newRepository().all()).equals(List.of("topic-a2", "topic-c")));
+        Assertions.assertTrue(newRepository().generation().orElseThrow() > generation);
+    }
+
+    @Test
+    void shouldIgnoreChangesToFilesNotMatchingPattern() throws IOException, InterruptedException {
+        // Given
+        write("a.yaml", "topic-a");
+        long generation = newRepository().generation().orElseThrow();
+
+        // When
+        Files.writeString(directory.resolve("README.md"), "Not a resource");
+        Thread.sleep(200);
+
+        // Then
+        Assertions.assertEquals(generation, newRepository().generation().orElseThrow());
+    }
+
+    @Test
+    void shouldReloadChangedFileGivenFileLocation() throws IOException {
+        // Given
+        write("a.yaml", "topic-a");
+        write("b.yaml", "topic-b");
+        Path file = directory.resolve("a.yaml");
+        long generation = newRepository(file).generation().orElseThrow();
+
+        // When
+        write("a.yaml", "topic-a2");
+        write("b.yaml", "topic-b2");
+
+        // Then
+        awaitUntil(() -> names(newRepository(file).all()).equals(List.of("topic-a2")));
+        Assertions.assertTrue(newRepository(file).generation().orElseThrow() > generation);
+    }
+
+    @Test
+    void shouldCloseIdleWatchers() throws IOException {
+        // Given
+        write("a.yaml", "topic-a");
+        newRepository().all();
+        newRepository(directory.resolve("a.yaml")).all();
+
+        // When
+        WatchingLocalResourceRepository.closeIdle(Duration.ZERO);
+
+        // Then
+        Assertions.assertEquals(0, WatchingLocalResourceRepository.watchers());
+        Assertions.assertEquals(List.of("topic-a"), names(newRepository().all()));
+        Assertions.assertEquals(1, WatchingLocalResourceRepository.watchers());
+    }
+
+    private WatchingLocalResourceRepository newRepository() {
+        return newRepository(directory);
+    }
+
+    private WatchingLocalResourceRepository newRepository(Path location) {
+        ExtensionDescriptor<WatchingLocalResourceRepository> descriptor = ExtensionDescriptorModifiers.withConfiguration(
+            Configuration.from(Map.of(
+                LocalResourceRepository.Config.FILES_CONFIG.key(), List.of(location.toString())
+            ))
+        ).apply(DESCRIPTOR);
+        WatchingLocalResourceRepository repository = new WatchingLocalResourceRepository();
+        repository.init(new DefaultExtensionContext(null, descriptor, null));
+        return repository;
+    }
+
+    private void write(String file, String name) throws IOException {
+        Files.writeString(directory.resolve(file), """
+            apiVersion: "kafka.jikkou.io/v1beta2"
+            kind: "KafkaTopic"
+            metadata:
+              name: "%s"
+            """.formatted(name));
+    }
+
+    private static List<String> names(List<? extends HasMetadata> resources) {
+        return resources.stream().map(resource -> resource.getMetadata().getName()).toList();
+    }
+
+    private static void awaitUntil(Supplier<Boolean> condition) {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.get()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assertions.fail("Condition not met before timeout");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail(e);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package io.jikkou.core.transform;
 
 import io.jikkou.core.ReconciliationContext;
+import io.jikkou.core.exceptions.InvalidResourceException;
 import io.jikkou.core.models.ConfigMap;
 import io.jikkou.core.models.Configs;
 import io.jikkou.core.models.HasConfigRefs;
@@ -90,6 +91,65 @@ class ConfigMapsTransformationTest {
         Assertions.assertEquals("v1", configs.get(TEST_CONFIG_K1).value());
     }
 
+    @Test
+    void shouldNotShareConfigsBetweenResourcesReferencingSameConfigMaps() {
+        // Given
+        var transformation = new ConfigMapsTransformation();
+        var resources = ResourceList.of(TEST_CONFIG_MAP);
+        var first = new TestResource(new TestConfigMapsObject(Configs.of(TEST_CONFIG_K2, "v2"), Set.of(TEST_CONFIG_MAP_NAME)));
+        var second = new TestResource(new TestConfigMapsObject(null, Set.of(TEST_CONFIG_MAP_NAME)));
+
+        // When
+        transformation.transform(first, resources, ReconciliationContext.Default.EMPTY);
+        transformation.transform(second, resources, ReconciliationContext.Default.EMPTY);
+
+        // Then
+        Assertions.assertEquals(2, first.getSpec().getConfigs().size());
+        Assertions.assertEquals(1, second.getSpec().getConfigs().size());
+        Assertions.assertEquals("v1", second.getSpec().getConfigs().get(TEST_CONFIG_K1).value());
+    }
+
+    @Test
+    void shouldThrowGivenMissingConfigMapInNewResourceList() {
+        // Given
+        var transformation = new ConfigMapsTransformation();
+        transformation.transform(
+            new TestResource(new TestConfigMapsObject(null, Set.of(TEST_CONFIG_MAP_NAME))),
+            ResourceList.of(TEST_CONFIG_MAP),
+            ReconciliationContext.Default.EMPTY
+        );
+        var resource = new TestResource(new TestConfigMapsObject(null, Set.of(TEST_CONFIG_MAP_NAME)));
+
+        // When / Then
+        Assertions.assertThrows(InvalidResourceException.class, () -> transformation
+            .transform(resource, ResourceList.of(), ReconciliationContext.Default.EMPTY));
+    }
+
+    @Test
+    void shouldUseConfigMapsOfEachListGivenInterleavedLists() {
+        // Given
+        var transformation = new ConfigMapsTransformation();
+        var otherConfigMap = ConfigMap.builder()
+            .withMetadata(ObjectMeta.builder().withName(TEST_CONFIG_MAP_NAME).build())
+            .withData(Map.of(TEST_CONFIG_K1, "other"))
+            .build();
+        var resources = ResourceList.of(TEST_CONFIG_MAP);
+        var otherResources = ResourceList.of(otherConfigMap);
+        var first = new TestResource(new TestConfigMapsObject(null, Set.of(TEST_CONFIG_MAP_NAME)));
+        var second = new TestResource(new TestConfigMapsObject(null, Set.of(TEST_CONFIG_MAP_NAME)));
+        var third = new TestResource(new TestConfigMapsObject(null, Set.of(TEST_CONFIG_MAP_NAME)));
+
+        // When
+        transformation.transform(first, resources, ReconciliationContext.Default.EMPTY);
+        transformation.transform(second, otherResources, ReconciliationContext.Default.EMPTY);
+        transformation.transform(third, resources, ReconciliationContext.Default.EMPTY);
+
+        // Then
+        Assertions.assertEquals("v1", first.getSpec().getConfigs().get(TEST_CONFIG_K1).value());
+        Assertions.assertEquals("other", second.getSpec().getConfigs().get(TEST_CONFIG_K1).value());
+        Assertions.assertEquals("v1", third.getSpec().getConfigs().get(TEST_CONFIG_K1).value());
+    }
+
     public static class TestConfigMapsObject implements HasConfigRefs {
 
         private Configs configs;
@@ -16,6 +16,7 @@ import io.jikkou.core.extension.ContextualExtension;
 import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.reconciler.Collector;
+import io.jikkou.core.selector.NameFilter;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.kafka.connect.KafkaConnectClusterConfigs;
 import io.jikkou.kafka.connect.KafkaConnectExtensionProvider;
@@ -31,6 +32,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -87,29 +89,46 @@ public final class KafkaConnectorCollector extends ContextualExtension implement
 
         List<V1KafkaConnector> list = clusters
                 .stream()
-                .flatMap(connectCluster -> listAll(connectCluster, expandStatus).stream())
+                .flatMap(connectCluster -> listAll(connectCluster, expandStatus, NameFilter.of(selector)).stream())
                 .collect(Collectors.toList());
         return new V1KafkaConnectorList.Builder().withItems(list).build();
     }
 
     public List<V1KafkaConnector> listAll(final String connectClusterName,
                                           final boolean expandStatus) {
+        return listAll(connectClusterName, expandStatus, connector -> true);
+    }
+
+    public List<V1KafkaConnector> listAll(final String connectClusterName,
+                                          final boolean expandStatus,
+                                          final Predicate<String> connectorNamePredicate) {
         KafkaConnectClientConfig connectClientConfig = configuration
                 .getConfigForCluster(connectClusterName)
                 .orElseThrow(() -> new KafkaConnectClusterNotFoundException(String.format(
                         "Failed to list connectors for cluster %s. No configuration was found.", connectClusterName
                 )));
 
-        return listAll(connectClusterName, connectClientConfig, expandStatus);
+        return listAll(connectClusterName, connectClientConfig, expandStatus, connectorNamePredicate);
     }
 
     public List<V1KafkaConnector> listAll(final String connectClusterName,
                                           final KafkaConnectClientConfig connectClientConfig,
                                           final boolean expandStatus) {
+        return listAll(connectClusterName, connectClientConfig, expandStatus, connector -> true);
+    }
+
+    public List<V1KafkaConnector> listAll(final String connectClusterName,
+                                          final KafkaConnectClientConfig connectClientConfig,
+                                          final boolean expandStatus,
+                                          final Predicate<String> connectorNamePredicate) {
         List<V1KafkaConnector> results = new LinkedList<>();
         KafkaConnectApi api = KafkaConnectApiFactory.create(connectClientConfig);
         try {
-            final List<String> connectors = api.listConnectors();
+            // Only describe the connectors whose names may match the selector.
+            final List<String> connectors = api.listConnectors()
+                    .stream()
+                    .filter(connectorNamePredicate)
+                    .toList();
             for (String connector : connectors) {
                 try {
                     KafkaConnectClusterService service = new KafkaConnectClusterService(connectClusterName, api);
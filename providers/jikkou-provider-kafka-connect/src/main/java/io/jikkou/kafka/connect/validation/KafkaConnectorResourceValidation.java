@@ -72,4 +72,12 @@ public class KafkaConnectorResourceValidation implements Validation<V1KafkaConne
             message
         );
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -22,9 +22,11 @@ import io.jikkou.kafka.collections.V1KafkaPrincipalAuthorizationList;
 import io.jikkou.kafka.collections.V1KafkaTopicList;
 import io.jikkou.kafka.health.KafkaBrokerHealthIndicator;
 import io.jikkou.kafka.internals.KafkaUtils;
+import io.jikkou.kafka.internals.ThrottleAwareBatchExecutor;
 import io.jikkou.kafka.internals.admin.AdminClientContextFactory;
 import io.jikkou.kafka.internals.admin.AdminClientFactory;
 import io.jikkou.kafka.internals.admin.DefaultAdminClientFactory;
+import io.jikkou.kafka.internals.admin.SharedAdminClientPool;
 import io.jikkou.kafka.internals.consumer.ConsumerFactory;
 import io.jikkou.kafka.internals.consumer.DefaultConsumerFactory;
 import io.jikkou.kafka.internals.producer.DefaultProducerFactory;
@@ -32,6 +34,7 @@ import io.jikkou.kafka.internals.producer.ProducerFactory;
 import io.jikkou.kafka.model.user.V1KafkaUser;
 import io.jikkou.kafka.models.*;
 import io.jikkou.kafka.reconciler.*;
+import io.jikkou.kafka.reconciler.service.KafkaTopicService;
 import io.jikkou.kafka.reporter.KafkaChangeReporter;
 import io.jikkou.kafka.transform.*;
 import io.jikkou.kafka.validation.*;
@@ -41,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
@@ -66,6 +70,12 @@ public final class KafkaExtensionProvider extends BaseExtensionProvider {
             .description("The kafka client configuration properties.")
             .defaultValue(HashMap::new);
 
+        ConfigProperty<Boolean> ADMIN_CLIENT_SHARED = ConfigProperty
+            .ofBoolean("adminClient.shared")
+            .displayName("Shared Admin Client")
+            .description("Whether a single Kafka AdminClient should be shared by all the extensions using the same client configuration, instead of creating a new client for each call.")
+            .defaultValue(true);
+
         ConfigProperty<List<Pattern>> TOPIC_DELETE_EXCLUDE_PATTERNS = ConfigProperty
             .ofList("topics.deletion.exclude")
             .displayName("Topic Deletion Exclude Patterns")
@@ -88,6 +98,30 @@ public final class KafkaExtensionProvider extends BaseExtensionProvider {
             .defaultValue(() -> List.of(
                 Pattern.compile("^confluent.*")
             ));
+
+        ConfigProperty<Integer> TOPICS_DESCRIBE_BATCH_SIZE = ConfigProperty
+            .ofInt("topics.describe.batchSize")
+            .displayName("Topic Describe Batch Size")
+            .description("The maximum number of topics described per request when listing topics.")
+            .defaultValue(KafkaTopicService.DEFAULT_BATCH_SIZE);
+
+        ConfigProperty<Integer> TOPICS_DESCRIBE_MAX_IN_FLIGHT_BATCHES = ConfigProperty
+            .ofInt("topics.describe.maxInFlightBatches")
+            .displayName("Topic Describe Max In-Flight Batches")
+            .description("The maximum number of batches of topics being described concurrently when listing topics.")
+            .defaultValue(KafkaTopicService.DEFAULT_MAX_IN_FLIGHT_BATCHES);
+
+        ConfigProperty<Integer> TOPICS_MUTATION_BATCH_SIZE = ConfigProperty
+            .ofInt("topics.mutation.batchSize")
+            .displayName("Topic Mutation Batch Size")
+            .description("The maximum number of topics created or altered per request when applying topic changes.")
+            .defaultValue(ThrottleAwareBatchExecutor.DEFAULT_BATCH_SIZE);
+
+        ConfigProperty<Integer> TOPICS_MUTATION_MAX_THROTTLED_RETRIES = ConfigProperty
+            .ofInt("topics.mutation.maxThrottledRetries")
+            .displayName("Topic Mutation Max Throttled Retries")
+            .description("The maximum number of times a topic change throttled by the brokers, because of a controller mutation quota, is retried.")
+            .defaultValue(ThrottleAwareBatchExecutor.DEFAULT_MAX_THROTTLED_RETRIES);
     }
 
     /**
@@ -95,7 +129,16 @@ public final class KafkaExtensionProvider extends BaseExtensionProvider {
      */
     @Override
     public List<ConfigProperty<?>> configProperties() {
-        return List.of(Config.CLIENT, Config.TOPIC_DELETE_EXCLUDE_PATTERNS, Config.TOPICS_VALIDATION_IGNORE_CONFIG_KEYS);
+        return List.of(
+            Config.CLIENT,
+            Config.ADMIN_CLIENT_SHARED,
+            Config.TOPIC_DELETE_EXCLUDE_PATTERNS,
+            Config.TOPICS_VALIDATION_IGNORE_CONFIG_KEYS,
+            Config.TOPICS_DESCRIBE_BATCH_SIZE,
+            Config.TOPICS_DESCRIBE_MAX_IN_FLIGHT_BATCHES,
+            Config.TOPICS_MUTATION_BATCH_SIZE,
+            Config.TOPICS_MUTATION_MAX_THROTTLED_RETRIES
+        );
     }
 
     public List<Pattern> topicDeleteExcludePatterns() {
@@ -106,16 +149,75 @@ public final class KafkaExtensionProvider extends BaseExtensionProvider {
         return Config.TOPICS_VALIDATION_IGNORE_CONFIG_KEYS.get(configuration);
     }
 
+    /**
+     * Creates a new {@link KafkaTopicService} for the given client, describing topics by batches
+     * as configured for this provider.
+     *
+     * @param client the {@link AdminClient}.
+     * @return a new {@link KafkaTopicService}.
+     * @since 1.2.0
+     */
+    public KafkaTopicService newKafkaTopicService(final AdminClient client) {
+        return new KafkaTopicService(
+            client,
+            Config.TOPICS_DESCRIBE_BATCH_SIZE.get(configuration),
+            Config.TOPICS_DESCRIBE_MAX_IN_FLIGHT_BATCHES.get(configuration)
+        );
+    }
+
+    /**
+     * Creates a new {@link ThrottleAwareBatchExecutor} for applying topic changes by batches
+     * as configured for this provider.
+     *
+     * @return a new {@link ThrottleAwareBatchExecutor}.
+     * @since 1.2.0
+     */
+    public ThrottleAwareBatchExecutor newTopicMutationExecutor() {
+        return new ThrottleAwareBatchExecutor(
+            Config.TOPICS_MUTATION_BATCH_SIZE.get(configuration),
+            Config.TOPICS_MUTATION_MAX_THROTTLED_RETRIES.get(configuration)
+        );
+    }
+
+    /**
+     * Creates a new {@link AdminClientContextFactory}. The contexts share a pooled {@link AdminClient}
+     * unless {@link Config#ADMIN_CLIENT_SHARED} is disabled.
+     *
+     * @return a new {@link AdminClientContextFactory}.
+     */
     public AdminClientContextFactory newAdminClientContextFactory() {
-        return new AdminClientContextFactory(configuration, newAdminClientFactory());
+        return newAdminClientContextFactory(getAdminClientConfigs());
     }
 
-    public AdminClientFactory newAdminClientFactory() {
-        return new DefaultAdminClientFactory(
-            Config.CLIENT.map(KafkaUtils::getAdminClientConfigs).get(configuration)
+    /**
+     * Creates a new {@link AdminClientContextFactory} for the given client configs. The contexts share
+     * a pooled {@link AdminClient} unless {@link Config#ADMIN_CLIENT_SHARED} is disabled.
+     *
+     * @param clientConfigs the configs of the AdminClient.
+     * @return a new {@link AdminClientContextFactory}.
+     * @since 1.2.0
+     */
+    public AdminClientContextFactory newAdminClientContextFactory(final Map<String, Object> clientConfigs) {
+        AdminClientFactory factory = new DefaultAdminClientFactory(clientConfigs);
+        if (!Config.ADMIN_CLIENT_SHARED.get(configuration)) {
+            return new AdminClientContextFactory(configuration, factory);
+        }
+        return new AdminClientContextFactory(
+            configuration,
+            factory,
+            SharedAdminClientPool.getDefault(),
+            clientConfigs
         );
     }
 
+    public AdminClientFactory newAdminClientFactory() {
+        return new DefaultAdminClientFactory(getAdminClientConfigs());
+    }
+
+    private Map<String, Object> getAdminClientConfigs() {
+        return Config.CLIENT.map(KafkaUtils::getAdminClientConfigs).get(configuration);
+    }
+
     public ConsumerFactory<byte[], byte[]> newConsumerFactory() {
         return newConsumerFactory(new ByteArrayDeserializer(), new ByteArrayDeserializer());
     }
@@ -21,15 +21,16 @@ import io.jikkou.core.reconciler.ChangeResponse;
 import io.jikkou.core.reconciler.Operation;
 import io.jikkou.core.reconciler.TextDescription;
 import io.jikkou.core.reconciler.change.BaseChangeHandler;
-import io.jikkou.kafka.internals.Futures;
-import java.util.HashMap;
+import io.jikkou.kafka.internals.ThrottleAwareBatchExecutor;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
-import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -44,14 +45,29 @@ public final class CreateTopicChangeHandler extends BaseChangeHandler {
 
     private final AdminClient client;
 
+    private final ThrottleAwareBatchExecutor executor;
+
     /**
      * Creates a new {@link CreateTopicChangeHandler} instance.
      *
      * @param client the {@link AdminClient} to be used.
      */
     public CreateTopicChangeHandler(final AdminClient client) {
+        this(client, new ThrottleAwareBatchExecutor());
+    }
+
+    /**
+     * Creates a new {@link CreateTopicChangeHandler} instance.
+     *
+     * @param client   the {@link AdminClient} to be used.
+     * @param executor the executor used to create the topics by batches.
+     * @since 1.2.0
+     */
+    public CreateTopicChangeHandler(final AdminClient client,
+                                    final ThrottleAwareBatchExecutor executor) {
         super(Operation.CREATE);
         this.client = client;
+        this.executor = Objects.requireNonNull(executor, "'executor' cannot be null");
     }
 
     /**
@@ -67,20 +83,19 @@ public final class CreateTopicChangeHandler extends BaseChangeHandler {
      */
     @Override
     public @NotNull List<ChangeResponse> handleChanges(final @NotNull List<ResourceChange> changes) {
-        List<NewTopic> topics = changes
+        Map<String, NewTopic> topics = changes
                 .stream()
                 .map(this::toNewTopic)
-                .collect(Collectors.toList());
-
-        CreateTopicsResult result = client.createTopics(topics, new CreateTopicsOptions());
+                .collect(Collectors.toMap(NewTopic::name, Function.identity(), (a, b) -> b, LinkedHashMap::new));
 
         Map<String, ResourceChange> changesByTopicName = CollectionUtils
                 .keyBy(changes, it -> it.getMetadata().getName());
 
-        final Map<String, CompletableFuture<Void>> results = new HashMap<>(result.values())
-                .entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> Futures.toCompletableFuture(e.getValue())));
+        // Quota violations are retried by the executor, only for the throttled topics.
+        final Map<String, CompletableFuture<Void>> results = executor.execute(topics, batch -> client
+                .createTopics(batch.values(), new CreateTopicsOptions().retryOnQuotaViolation(false))
+                .values()
+        );
 
         return results.entrySet()
                 .stream()
@@ -20,10 +20,11 @@ import io.jikkou.core.reconciler.ChangeResponse;
 import io.jikkou.core.reconciler.Operation;
 import io.jikkou.core.reconciler.TextDescription;
 import io.jikkou.core.reconciler.change.BaseChangeHandler;
-import io.jikkou.kafka.internals.Futures;
+import io.jikkou.kafka.internals.ThrottleAwareBatchExecutor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreatePartitionsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.common.config.ConfigResource;
 import org.jetbrains.annotations.NotNull;
@@ -46,14 +48,29 @@ public final class UpdateTopicChangeHandler extends BaseChangeHandler {
 
     private final AdminClient client;
 
+    private final ThrottleAwareBatchExecutor executor;
+
     /**
      * Creates a new {@link UpdateTopicChangeHandler} instance.
      *
      * @param client the {@link AdminClient} to be used.
      */
     public UpdateTopicChangeHandler(final @NotNull AdminClient client) {
+        this(client, new ThrottleAwareBatchExecutor());
+    }
+
+    /**
+     * Creates a new {@link UpdateTopicChangeHandler} instance.
+     *
+     * @param client   the {@link AdminClient} to be used.
+     * @param executor the executor used to alter the topics by batches.
+     * @since 1.2.0
+     */
+    public UpdateTopicChangeHandler(final @NotNull AdminClient client,
+                                    final @NotNull ThrottleAwareBatchExecutor executor) {
         super(Operation.UPDATE);
         this.client = Objects.requireNonNull(client, "'client' cannot be null");
+        this.executor = Objects.requireNonNull(executor, "'executor' cannot be null");
     }
 
     /**
@@ -70,8 +87,8 @@ public final class UpdateTopicChangeHandler extends BaseChangeHandler {
     @Override
     public @NotNull List<ChangeResponse> handleChanges(final @NotNull List<ResourceChange> items) {
 
-        final Map<ConfigResource, Collection<AlterConfigOp>> alterConfigs = new HashMap<>();
-        final Map<String, NewPartitions> newPartitions = new HashMap<>();
+        final Map<ConfigResource, Collection<AlterConfigOp>> alterConfigs = new LinkedHashMap<>();
+        final Map<String, NewPartitions> newPartitions = new LinkedHashMap<>();
 
         final Map<String, List<CompletableFuture<Void>>> results = new HashMap<>();
 
@@ -110,9 +127,8 @@ public final class UpdateTopicChangeHandler extends BaseChangeHandler {
 
         // Update topic's configs
         if (!alterConfigs.isEmpty()) {
-            client.incrementalAlterConfigs(alterConfigs).values()
-                    .forEach((k, v) -> {
-                        CompletableFuture<Void> future = Futures.toCompletableFuture(v);
+            executor.execute(alterConfigs, batch -> client.incrementalAlterConfigs(batch).values())
+                    .forEach((k, future) -> {
                         if (LOG.isDebugEnabled()) {
                             future = future.thenAccept(unused -> {
                                 LOG.debug("Completed config changes for topic: {}", k.name());
@@ -123,9 +139,12 @@ public final class UpdateTopicChangeHandler extends BaseChangeHandler {
         }
         // Update topic's partitions
         if (!newPartitions.isEmpty()) {
-            client.createPartitions(newPartitions).values()
-                    .forEach((k, v) -> {
-                        CompletableFuture<Void> future = Futures.toCompletableFuture(v);
+            // Quota violations are retried by the executor, only for the throttled topics.
+            executor.execute(newPartitions, batch -> client
+                            .createPartitions(batch, new CreatePartitionsOptions().retryOnQuotaViolation(false))
+                            .values()
+                    )
+                    .forEach((k, future) -> {
                         if (LOG.isDebugEnabled()) {
                             future = future.thenAccept(unused -> {
                                 LOG.debug("Completed partitions creation for topic: {}", k);
@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.kafka.internals;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the requests of an admin operation (e.g., {@code createTopics}, {@code createPartitions})
+ * by batches, one batch at a time.
+ * <p>
+ * The requests rejected by the brokers because a controller mutation quota is exceeded are sent
+ * again, before the remaining requests, once the throttle time returned by the brokers has elapsed.
+ * The other requests of a batch are not retried.
+ *
+ * @since 1.2.0
+ */
+public final class ThrottleAwareBatchExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThrottleAwareBatchExecutor.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    public static final int DEFAULT_MAX_THROTTLED_RETRIES = 20;
+
+    // Used when the brokers do not return a throttle time.
+    static final long DEFAULT_RETRY_BACKOFF_MS = 100L;
+
+    private final int batchSize;
+    private final int maxThrottledRetries;
+
+    /**
+     * Creates a new {@link ThrottleAwareBatchExecutor} instance with default settings.
+     */
+    public ThrottleAwareBatchExecutor() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_MAX_THROTTLED_RETRIES);
+    }
+
+    /**
+     * Creates a new {@link ThrottleAwareBatchExecutor} instance.
+     *
+     * @param batchSize           the maximum number of requests sent at once.
+     * @param maxThrottledRetries the maximum number of times a throttled request is sent again.
+     */
+    public ThrottleAwareBatchExecutor(final int batchSize, final int maxThrottledRetries) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, was: " + batchSize);
+        }
+        if (maxThrottledRetries < 0) {
+            throw new IllegalArgumentException("maxThrottledRetries must not be negative, was: " + maxThrottledRetries);
+        }
+        this.batchSize = batchSize;
+        this.maxThrottledRetries = maxThrottledRetries;
+    }
+
+    /**
+     * Sends the given requests by batches.
+     *
+     * @param requests the requests to send, by key.
+     * @param sender   the function sending a batch of requests and returning the result of each request.
+     * @param <K>      the type of the request keys, e.g., the topic names.
+     * @param <V>      the type of the requests.
+     * @return the result of each request, by key.
+     */
+    public <K, V> Map<K, CompletableFuture<Void>> execute(@NotNull final Map<K, V> requests,
+                                                          @NotNull final Function<Map<K, V>, Map<K, KafkaFuture<Void>>> sender) {
+        Execution<K, V> execution = new Execution<>(requests, sender);
+        execution.sendNextBatch();
+        return execution.results;
+    }
+
+    private final class Execution<K, V> {
+
+        private final Map<K, V> requests;
+        private final Function<Map<K, V>, Map<K, KafkaFuture<Void>>> sender;
+        private final Map<K, CompletableFuture<Void>> results = new LinkedHashMap<>();
+        private final Map<K, Integer> retries = new HashMap<>();
+        private final Deque<K> pending;
+        private long throttleTimeMs;
+
+        Execution(final Map<K, V> requests,
+                  final Function<Map<K, V>, Map<K, KafkaFuture<Void>>> sender) {
+            this.requests = requests;
+            this.sender = sender;
+            this.pending = new ArrayDeque<>(requests.keySet());
+            requests.keySet().forEach(key -> results.put(key, new CompletableFuture<>()));
+        }
+
+        void sendNextBatch() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Map<K, V> batch = new LinkedHashMap<>();
+            while (!pending.isEmpty() && batch.size() < batchSize) {
+                K key = pending.poll();
+                batch.put(key, requests.get(key));
+            }
+
+            Map<K, KafkaFuture<Void>> futures;
+            try {
+                futures = sender.apply(batch);
+            } catch (RuntimeException e) {
+                batch.keySet().forEach(key -> results.get(key).completeExceptionally(e));
+                sendNextBatch();
+                return;
+            }
+
+            List<K> throttled = new ArrayList<>();
+            CompletableFuture<?>[] completions = batch.keySet().stream()
+                .map(key -> {
+                    KafkaFuture<Void> future = futures.get(key);
+                    if (future == null) {
+                        results.get(key).completeExceptionally(
+                            new IllegalStateException("No result returned for request: " + key)
+                        );
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return Futures.toCompletableFuture(future).handle((unused, error) -> {
+                        Throwable cause = unwrap(error);
+                        if (cause == null) {
+                            results.get(key).complete(null);
+                        } else if (!(cause instanceof ThrottlingQuotaExceededException e) || !retry(key, e, throttled)) {
+                            results.get(key).completeExceptionally(cause);
+                        }
+                        return null;
+                    });
+                })
+                .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(completions).thenRun(() -> {
+                long delayMs = 0L;
+                if (!throttled.isEmpty()) {
+                    delayMs = throttleTimeMs > 0 ? throttleTimeMs : DEFAULT_RETRY_BACKOFF_MS;
+                    throttleTimeMs = 0L;
+                    LOG.info("Requests for {} resource(s) were throttled by the brokers. Retrying in {}ms.",
+                        throttled.size(),
+                        delayMs
+                    );
+                    // Throttled requests are sent again before the remaining ones.
+                    ListIterator<K> iterator = throttled.listIterator(throttled.size());
+                    while (iterator.hasPrevious()) {
+                        pending.addFirst(iterator.previous());
+                    }
+                }
+                CompletableFuture.runAsync(
+                    this::sendNextBatch,
+                    CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS)
+                );
+            });
+        }
+
+        private synchronized boolean retry(final K key,
+                                           final ThrottlingQuotaExceededException error,
+                                           final List<K> throttled) {
+            if (retries.merge(key, 1, Integer::sum) > maxThrottledRetries) {
+                return false;
+            }
+            throttled.add(key);
+            throttleTimeMs = Math.max(throttleTimeMs, error.throttleTimeMs());
+            return true;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -34,6 +34,11 @@ public class AdminClientContext implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(AdminClientContext.class);
 
+    /**
+     * The cluster id returned when the cluster cannot be described.
+     */
+    protected static final String UNKNOWN_CLUSTER_ID = "unknown";
+
     private final AdminClientFactory adminClientFactory;
 
     private String clusterId;
@@ -137,7 +142,7 @@ public class AdminClientContext implements AutoCloseable {
                 LOG.error("Failed to describe Kafka ClusterID due to an unexpected error", e);
                 result = Optional.empty();
             }
-            clusterId = result.orElse("unknown");
+            clusterId = result.orElse(UNKNOWN_CLUSTER_ID);
         }
         return clusterId;
     }
@@ -161,13 +166,7 @@ public class AdminClientContext implements AutoCloseable {
             LOG.info("Retrieving Kafka AdminClient instance.");
             adminClient = adminClientFactory.createAdminClient();
             if (isWaitForKafkaBrokersEnabled) {
-                final boolean isReady = new KafkaBrokersReady(options).waitForBrokers(adminClient);
-                if (!isReady) {
-                    throw new JikkouRuntimeException(
-                            "Timeout expired. The timeout period elapsed prior to " +
-                                    "the requested number of kafka brokers is available."
-                    );
-                }
+                waitForKafkaBrokers(adminClient);
             }
             return adminClient;
         } finally {
@@ -175,6 +174,23 @@ public class AdminClientContext implements AutoCloseable {
         }
     }
 
+    /**
+     * Waits for the number of kafka brokers configured through the {@link #getOptions() options}
+     * to be available.
+     *
+     * @param adminClient the {@link AdminClient}.
+     * @throws JikkouRuntimeException if the timeout expires.
+     */
+    protected void waitForKafkaBrokers(final @NotNull AdminClient adminClient) {
+        final boolean isReady = new KafkaBrokersReady(options).waitForBrokers(adminClient);
+        if (!isReady) {
+            throw new JikkouRuntimeException(
+                    "Timeout expired. The timeout period elapsed prior to " +
+                            "the requested number of kafka brokers is available."
+            );
+        }
+    }
+
     public void enabledWaitForKafkaBrokers(final boolean isWaitForKafkaBrokersEnabled) {
         this.isWaitForKafkaBrokersEnabled = isWaitForKafkaBrokersEnabled;
     }
@@ -43,6 +43,8 @@ public final class AdminClientContextFactory {
 
     private final AdminClientFactory factory;
     private final Configuration configuration;
+    private final SharedAdminClientPool pool;
+    private final Object poolKey;
 
     /**
      * Creates a new {@link AdminClientContextFactory} instance.
@@ -54,6 +56,28 @@ public final class AdminClientContextFactory {
                                      @NotNull final AdminClientFactory factory) {
         this.factory = Objects.requireNonNull(factory, "factory must not be null");
         this.configuration = Objects.requireNonNull(configuration, "configuration must not be null");
+        this.pool = null;
+        this.poolKey = null;
+    }
+
+    /**
+     * Creates a new {@link AdminClientContextFactory} instance creating contexts
+     * that share the clients of the given pool.
+     *
+     * @param configuration the configuration.
+     * @param factory       the AdminClient factory.
+     * @param pool          the pool of AdminClients.
+     * @param poolKey       the key identifying the clients created by the factory in the pool.
+     * @since 1.2.0
+     */
+    public AdminClientContextFactory(@NotNull final Configuration configuration,
+                                     @NotNull final AdminClientFactory factory,
+                                     @NotNull final SharedAdminClientPool pool,
+                                     @NotNull final Object poolKey) {
+        this.factory = Objects.requireNonNull(factory, "factory must not be null");
+        this.configuration = Objects.requireNonNull(configuration, "configuration must not be null");
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        this.poolKey = Objects.requireNonNull(poolKey, "poolKey must not be null");
     }
 
     /**
@@ -63,7 +87,9 @@ public final class AdminClientContextFactory {
      */
     @NotNull
     public AdminClientContext createAdminClientContext() {
-        AdminClientContext context = new AdminClientContext(factory);
+        AdminClientContext context = pool != null ?
+            pool.newAdminClientContext(poolKey, factory) :
+            new AdminClientContext(factory);
         context.enabledWaitForKafkaBrokers(KAFKA_BROKERS_WAIT_FOR_ENABLED.get(configuration));
         context.setOptions(KafkaBrokersReady.Options.withDefaults()
             .withRetryBackoffMs(KAFKA_BROKERS_WAIT_FOR_RETRY_BACKOFF_MS.get(configuration))
@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.kafka.internals.admin;
+
+import io.jikkou.common.memory.ResourceInitializer;
+import io.jikkou.common.memory.SharedResources;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of {@link AdminClient} instances shared by all the {@link AdminClientContext} created
+ * for the same client configuration.
+ * <p>
+ * Each context holds a lease on the pooled client while it is open, and the pool holds its own lease
+ * on every client it creates, so that a client is reused across all the extensions of a run, and
+ * across the requests served by a long-running process, instead of opening new connections to the
+ * brokers for each call.
+ * <p>
+ * A client that is not used by any context for longer than the idle timeout of the pool is evicted
+ * and closed when a new context is created, so that a long-running process doesn't keep the clients
+ * and the configurations, which may contain credentials, of every cluster it ever connected to.
+ * Closing the pool evicts all the clients; clients still used by a context are closed when the last
+ * context using them is closed.
+ * <p>
+ * The identifier of the cluster and the availability of the brokers are checked once per pooled client.
+ *
+ * @since 1.2.0
+ */
+public final class SharedAdminClientPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedAdminClientPool.class);
+
+    /**
+     * The default duration after which a client that is not used by any context is evicted.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final SharedAdminClientPool DEFAULT = new SharedAdminClientPool();
+
+    private final SharedResources resources = new SharedResources();
+
+    private final Map<Object, Entry> entries = new HashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Object poolLeaseHolder = new Object();
+
+    private final long idleTimeoutNanos;
+
+    /**
+     * Gets the pool shared by all the providers loaded in the current process.
+     *
+     * @return the default pool.
+     */
+    public static SharedAdminClientPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new {@link SharedAdminClientPool} instance with the {@link #DEFAULT_IDLE_TIMEOUT}.
+     */
+    public SharedAdminClientPool() {
+        this(DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Creates a new {@link SharedAdminClientPool} instance.
+     *
+     * @param idleTimeout the duration after which a client that is not used by any context is evicted.
+     */
+    public SharedAdminClientPool(@NotNull final Duration idleTimeout) {
+        Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("idleTimeout must not be negative, was: " + idleTimeout);
+        }
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Creates a new {@link AdminClientContext} using a pooled {@link AdminClient}.
+     *
+     * @param key     the key identifying the clients created by the factory, e.g. the client configuration.
+     * @param factory the factory used to create the client if no client exists yet for the given key.
+     * @return a new {@link AdminClientContext}.
+     */
+    public @NotNull AdminClientContext newAdminClientContext(@NotNull final Object key,
+                                                             @NotNull final AdminClientFactory factory) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(factory, "factory must not be null");
+        evictIdleClients();
+        return new PooledAdminClientContext(key, factory);
+    }
+
+    private Entry acquire(final Object key,
+                          final AdminClientFactory factory,
+                          final Object leaseHolder) {
+        Entry entry;
+        lock.lock();
+        try {
+            // Resource names are generated rather than derived from the keys so that the client
+            // configurations, which may contain credentials, are never logged.
+            entry = entries.computeIfAbsent(key, unused -> new Entry("kafka-admin-client-" + sequence.incrementAndGet()));
+            entry.contexts++;
+        } finally {
+            lock.unlock();
+        }
+        final String name = entry.name;
+        ResourceInitializer<PooledAdminClient> initializer = () -> {
+            LOG.info("Creating new Kafka AdminClient instance for shared resource '{}'.", name);
+            return new PooledAdminClient(factory.createAdminClient());
+        };
+        try {
+            // The pool's own lease keeps the client open when no context is using it.
+            resources.getOrCreateSharedResource(name, initializer, poolLeaseHolder);
+            entry.client = resources.getOrCreateSharedResource(name, initializer, leaseHolder);
+            return entry;
+        } catch (RuntimeException e) {
+            release(entry, leaseHolder);
+            throw e;
+        }
+    }
+
+    private void release(final Entry entry, final Object leaseHolder) {
+        release(entry.name, leaseHolder);
+        lock.lock();
+        try {
+            if (--entry.contexts == 0) {
+                entry.idleSinceNanos = System.nanoTime();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(final String name, final Object leaseHolder) {
+        try {
+            resources.release(name, leaseHolder);
+        } catch (Exception e) {
+            LOG.warn("Failed to close Kafka AdminClient for shared resource '{}'.", name, e);
+        }
+    }
+
+    private void evictIdleClients() {
+        List<Entry> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> {
+                boolean idle = entry.contexts == 0 && now - entry.idleSinceNanos >= idleTimeoutNanos;
+                if (idle) {
+                    evicted.add(entry);
+                }
+                return idle;
+            });
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(entry -> {
+            LOG.info("Evicting idle Kafka AdminClient for shared resource '{}'.", entry.name);
+            release(entry.name, poolLeaseHolder);
+        });
+    }
+
+    /**
+     * Releases all the pooled clients. Clients still used by a context are closed
+     * when the last context using them is closed.
+     */
+    @Override
+    public void close() {
+        List<Entry> evicted;
+        lock.lock();
+        try {
+            evicted = new ArrayList<>(entries.values());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(entry -> release(entry.name, poolLeaseHolder));
+    }
+
+    private static final class Entry {
+
+        private final String name;
+        private volatile PooledAdminClient client;
+        // Guarded by the lock of the pool.
+        private int contexts;
+        private long idleSinceNanos = System.nanoTime();
+
+        Entry(final String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class PooledAdminClient implements AutoCloseable {
+
+        private final AdminClient client;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile String clusterId;
+        private volatile boolean brokersReady;
+
+        PooledAdminClient(final AdminClient client) {
+            this.client = Objects.requireNonNull(client, "client must not be null");
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public void close() {
+            client.close();
+        }
+    }
+
+    private final class PooledAdminClientContext extends AdminClientContext {
+
+        private final Object key;
+        private final AdminClientFactory factory;
+        private final ReentrantLock lock = new ReentrantLock();
+        private Entry pooled;
+
+        PooledAdminClientContext(final Object key, final AdminClientFactory factory) {
+            super(factory);
+            this.key = key;
+            this.factory = factory;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public @NotNull AdminClient getAdminClient() {
+            return acquire().client;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public @NotNull String getClusterId() {
+            PooledAdminClient client = acquire();
+            if (client.clusterId == null) {
+                String clusterId = super.getClusterId();
+                if (UNKNOWN_CLUSTER_ID.equals(clusterId)) {
+                    return clusterId;
+                }
+                client.clusterId = clusterId;
+            }
+            return client.clusterId;
+        }
+
+        private PooledAdminClient acquire() {
+            PooledAdminClient client;
+            lock.lock();
+            try {
+                if (pooled == null) {
+                    pooled = SharedAdminClientPool.this.acquire(key, factory, this);
+                }
+                client = pooled.client;
+            } finally {
+                lock.unlock();
+            }
+            if (isWaitForKafkaBrokersEnabled() && !client.brokersReady) {
+                client.lock.lock();
+                try {
+                    if (!client.brokersReady) {
+                        waitForKafkaBrokers(client.client);
+                        client.brokersReady = true;
+                    }
+                } finally {
+                    client.lock.unlock();
+                }
+            }
+            return client;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (pooled == null) {
+                    return;
+                }
+                Entry entry = pooled;
+                pooled = null;
+                release(entry, this);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
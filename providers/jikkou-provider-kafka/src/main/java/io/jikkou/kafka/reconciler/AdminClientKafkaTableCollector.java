@@ -22,6 +22,7 @@ import io.jikkou.kafka.KafkaExtensionProvider;
 import io.jikkou.kafka.collections.V1KafkaTableRecordList;
 import io.jikkou.kafka.internals.KafkaRecord;
 import io.jikkou.kafka.internals.admin.AdminClientContext;
+import io.jikkou.kafka.internals.admin.AdminClientContextFactory;
 import io.jikkou.kafka.internals.admin.AdminClientFactory;
 import io.jikkou.kafka.internals.consumer.ConsumerFactory;
 import io.jikkou.kafka.internals.consumer.ConsumerRecordCallback;
@@ -53,6 +54,8 @@ public final class AdminClientKafkaTableCollector extends ContextualExtension im
 
     private AdminClientFactory adminClientFactory;
 
+    private AdminClientContextFactory adminClientContextFactory;
+
     /**
      * Creates a new {@link AdminClientKafkaTableCollector} instance.
      */
@@ -83,7 +86,7 @@ public final class AdminClientKafkaTableCollector extends ContextualExtension im
         }
 
         if (adminClientFactory == null) {
-            adminClientFactory = context.<KafkaExtensionProvider>provider().newAdminClientFactory();
+            adminClientContextFactory = context.<KafkaExtensionProvider>provider().newAdminClientContextFactory();
         }
     }
 
@@ -96,7 +99,9 @@ public final class AdminClientKafkaTableCollector extends ContextualExtension im
 
         final String topicName = TopicConfig.TOPIC_NAME.get(configuration);
         LOG.debug("Checking if kafka topic {} is compacted", topicName);
-        try (AdminClientContext client = new AdminClientContext(adminClientFactory)) {
+        try (AdminClientContext client = adminClientContextFactory != null ?
+                adminClientContextFactory.createAdminClientContext() :
+                new AdminClientContext(adminClientFactory)) {
             boolean isCompacted = client.isTopicCleanupPolicyCompact(topicName, false);
             if (!isCompacted) {
                 throw new JikkouRuntimeException(
@@ -18,8 +18,8 @@ import io.jikkou.core.extension.ContextualExtension;
 import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.reconciler.Collector;
+import io.jikkou.core.selector.NameFilter;
 import io.jikkou.core.selector.Selector;
-import io.jikkou.core.selector.Selectors;
 import io.jikkou.kafka.KafkaExtensionProvider;
 import io.jikkou.kafka.KafkaLabelAndAnnotations;
 import io.jikkou.kafka.collections.V1KafkaTopicList;
@@ -29,9 +29,13 @@ import io.jikkou.kafka.internals.admin.AdminClientContextFactory;
 import io.jikkou.kafka.models.V1KafkaTopic;
 import io.jikkou.kafka.reconciler.service.KafkaTopicService;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +60,8 @@ public final class AdminClientKafkaTopicCollector extends ContextualExtension im
 
     private AdminClientContextFactory adminClientContextFactory;
 
+    private Function<AdminClient, KafkaTopicService> topicServiceFactory = KafkaTopicService::new;
+
     /**
      * Creates a new {@link AdminClientKafkaTopicCollector} instance.
      */
@@ -78,9 +84,11 @@ public final class AdminClientKafkaTopicCollector extends ContextualExtension im
     @Override
     public void init(@NotNull ExtensionContext context) {
         super.init(context);
+        KafkaExtensionProvider provider = context.provider();
         if (adminClientContextFactory == null) {
-            this.adminClientContextFactory = context.<KafkaExtensionProvider>provider().newAdminClientContextFactory();
+            this.adminClientContextFactory = provider.newAdminClientContextFactory();
         }
+        this.topicServiceFactory = provider::newKafkaTopicService;
     }
 
     /**
@@ -99,7 +107,7 @@ public final class AdminClientKafkaTopicCollector extends ContextualExtension im
 
             boolean status = Config.STATUS_CONFIG.get(configuration);
 
-            List<V1KafkaTopic> resources = new KafkaTopicService(context.getAdminClient())
+            List<V1KafkaTopic> resources = topicServiceFactory.apply(context.getAdminClient())
                     .listAll(Set.of(name), predicate, status);
 
             if (resources.isEmpty()) {
@@ -112,12 +120,32 @@ public final class AdminClientKafkaTopicCollector extends ContextualExtension im
         }
     }
 
-    ResourceList<V1KafkaTopic> listAll() {
-        return listAll(Configuration.from(Map.of(
-                DEFAULT_CONFIGS.key(), true,
-                DYNAMIC_BROKER_CONFIGS.key(), true,
-                STATIC_BROKER_CONFIGS.key(), true
-        )), Selectors.NO_SELECTOR);
+    /**
+     * Lists the topics whose names are accepted by the given filter and that match the given predicate,
+     * with only the config entries matching the given predicate. When the filter has an exhaustive set
+     * of names, the topics are described by name, without listing all the topics of the cluster.
+     * <p>
+     * The topic predicate is evaluated on each topic with all its config entries, before the config entries
+     * not matching the config predicate are removed.
+     *
+     * @param topicFilter     the filter on topic names.
+     * @param topicPredicate  the predicate for matching topics.
+     * @param configPredicate the predicate for matching config entries.
+     * @return the topics.
+     */
+    ResourceList<V1KafkaTopic> listAll(@NotNull final NameFilter topicFilter,
+                                       @NotNull final Predicate<V1KafkaTopic> topicPredicate,
+                                       @NotNull final Predicate<ConfigEntry> configPredicate) {
+        try (AdminClientContext context = adminClientContextFactory.createAdminClientContext()) {
+            String clusterId = context.getClusterId();
+            KafkaTopicService service = topicServiceFactory.apply(context.getAdminClient());
+            List<V1KafkaTopic> items = topicFilter.names()
+                .map(names -> service.stream(names, topicPredicate, configPredicate, false))
+                .orElseGet(() -> service.stream(topicFilter, topicPredicate, configPredicate, false))
+                .map(resource -> addClusterIdToMetadataAnnotations(resource, clusterId))
+                .toList();
+            return new V1KafkaTopicList.Builder().withItems(items).build();
+        }
     }
 
     /**
@@ -136,24 +164,31 @@ public final class AdminClientKafkaTopicCollector extends ContextualExtension im
 
             boolean status = Config.STATUS_CONFIG.get(configuration);
 
-            List<V1KafkaTopic> resources = new KafkaTopicService(context.getAdminClient())
-                    .listAll(predicate, status);
-
-            if (LOG.isInfoEnabled()) {
-                LOG.info("Found '{}' kafka topics matching the given selector(s).", resources.size());
-            }
-
             String clusterId = context.getClusterId();
 
-            List<V1KafkaTopic> items = resources
-                    .stream()
+            // Only describe the topics whose names may match the selector.
+            List<V1KafkaTopic> items = stream(context, NameFilter.of(selector), predicate, status)
                     .filter(selector::apply)
                     .map(resource -> addClusterIdToMetadataAnnotations(resource, clusterId))
                     .toList();
+
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Found '{}' kafka topics matching the given selector(s).", items.size());
+            }
             return new V1KafkaTopicList.Builder().withItems(items).build();
         }
     }
 
+    private Stream<V1KafkaTopic> stream(final AdminClientContext context,
+                                        final NameFilter topicFilter,
+                                        final Predicate<ConfigEntry> configPredicate,
+                                        final boolean status) {
+        KafkaTopicService service = topicServiceFactory.apply(context.getAdminClient());
+        return topicFilter.names()
+                .map(names -> service.stream(names, configPredicate, status))
+                .orElseGet(() -> service.stream(topicFilter, configPredicate, status));
+    }
+
     /**
      * {@inheritDoc}
      */
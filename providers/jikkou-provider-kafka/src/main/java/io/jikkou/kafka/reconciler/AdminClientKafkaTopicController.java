@@ -16,6 +16,7 @@ import io.jikkou.core.config.ConfigProperty;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.extension.ContextualExtension;
 import io.jikkou.core.extension.ExtensionContext;
+import io.jikkou.core.models.ConfigValue;
 import io.jikkou.core.models.Configs;
 import io.jikkou.core.models.change.ResourceChange;
 import io.jikkou.core.reconciler.ChangeExecutor;
@@ -23,19 +24,28 @@ import io.jikkou.core.reconciler.ChangeHandler;
 import io.jikkou.core.reconciler.ChangeResult;
 import io.jikkou.core.reconciler.Controller;
 import io.jikkou.core.reconciler.annotations.ControllerConfiguration;
+import io.jikkou.core.selector.NameFilter;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.core.selector.Selectors;
 import io.jikkou.kafka.ApiVersions;
 import io.jikkou.kafka.KafkaExtensionProvider;
 import io.jikkou.kafka.change.topics.*;
+import io.jikkou.kafka.internals.ThrottleAwareBatchExecutor;
 import io.jikkou.kafka.internals.admin.AdminClientContext;
 import io.jikkou.kafka.internals.admin.AdminClientContextFactory;
 import io.jikkou.kafka.models.V1KafkaTopic;
 import io.jikkou.kafka.models.V1KafkaTopicSpec;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +84,8 @@ public final class AdminClientKafkaTopicController
 
     private List<Pattern> topicDeleteExcludePatterns;
 
+    private ThrottleAwareBatchExecutor topicMutationExecutor = new ThrottleAwareBatchExecutor();
+
     /**
      * Creates a new {@link AdminClientKafkaTopicController} instance.
      * CLI requires any empty constructor.
@@ -104,6 +116,7 @@ public final class AdminClientKafkaTopicController
             this.adminClientContextFactory = provider.newAdminClientContextFactory();
         }
         this.topicDeleteExcludePatterns = provider.topicDeleteExcludePatterns();
+        this.topicMutationExecutor = provider.newTopicMutationExecutor();
     }
 
     /**
@@ -116,8 +129,8 @@ public final class AdminClientKafkaTopicController
         try (AdminClientContext clientContext = adminClientContextFactory.createAdminClientContext()) {
             final AdminClient adminClient = clientContext.getAdminClient();
             List<ChangeHandler> handlers = List.of(
-                new CreateTopicChangeHandler(adminClient),
-                new UpdateTopicChangeHandler(adminClient),
+                new CreateTopicChangeHandler(adminClient, topicMutationExecutor),
+                new UpdateTopicChangeHandler(adminClient, topicMutationExecutor),
                 new DeleteTopicChangeHandler(adminClient),
                 new ChangeHandler.None(TopicChange::getDescription)
             );
@@ -155,31 +168,74 @@ public final class AdminClientKafkaTopicController
                 })
                 .toList();
 
-        // Get the list of actual remote resources (unfiltered)
+        boolean configDeleteOrphans = Config.IS_CONFIG_DELETE_ORPHANS_ENABLED.get(context.configuration());
+
+        // Only describe the topics that may be part of a change: the expected topics or, when orphan
+        // topics are deleted, all the topics that may match the selector.
+        NameFilter topicFilter = deleteOrphans ?
+            NameFilter.of(selector) :
+            NameFilter.ofNames(allExpectedKafkaTopics.stream()
+                .map(topic -> topic.getMetadata().getName())
+                .collect(Collectors.toSet())
+            );
+
+        Map<String, V1KafkaTopic> expectedKafkaTopicsByName = allExpectedKafkaTopics.stream()
+                .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity(), (a, b) -> b));
+
+        // Get the list of actual remote resources matching the selector. The selector is applied to the topics
+        // with all their configs, before the configs that can't be part of a change are removed.
         AdminClientKafkaTopicCollector collector = new AdminClientKafkaTopicCollector(adminClientContextFactory);
         collector.init(extensionContext().contextForExtension(AdminClientKafkaTopicCollector.class));
-        List<V1KafkaTopic> allActualKafkaTopics = collector.listAll().getItems();
-
-        // Enrich actual topics with labels from expected topics so label selectors work on both sides
-        Controller.enrichLabelsFromExpected(allActualKafkaTopics, allExpectedKafkaTopics);
+        List<V1KafkaTopic> actualKafkaTopics = collector.listAll(
+            topicFilter,
+            topic -> {
+                // Enrich actual topics with labels from expected topics so label selectors work on both sides
+                V1KafkaTopic expected = expectedKafkaTopicsByName.get(topic.getMetadata().getName());
+                if (expected != null) {
+                    Controller.enrichLabelsFromExpected(List.of(topic), List.of(expected));
+                }
+                return selector.apply(topic);
+            },
+            newPlanConfigPredicate(allExpectedKafkaTopics, configDeleteOrphans)
+        ).getItems();
 
-        // Now apply the selector to both sides
         List<V1KafkaTopic> expectedKafkaTopics = allExpectedKafkaTopics.stream()
                 .filter(selector::apply)
                 .toList();
 
-        List<V1KafkaTopic> actualKafkaTopics = allActualKafkaTopics.stream()
-                .filter(selector::apply)
-                .toList();
-
         TopicChangeComputer changeComputer = new TopicChangeComputer(
             topicDeleteExcludePatterns,
             deleteOrphans,
-            Config.IS_CONFIG_DELETE_ORPHANS_ENABLED.get(context.configuration())
+            configDeleteOrphans
         );
         return changeComputer.computeChanges(actualKafkaTopics, expectedKafkaTopics);
     }
 
+    /**
+     * Creates the predicate for the config entries of the actual topics that are compared when planning.
+     * <p>
+     * Entries are only compared with the configs of the expected topics with the same name, whatever their
+     * source, while the other entries are only deleted if they are dynamic topic configs. Any other entry
+     * can't be part of a change, and is not kept.
+     *
+     * @param expectedTopics               the expected topics, with flattened configs.
+     * @param isConfigDeleteOrphansEnabled whether orphan configs are deleted.
+     * @return a new {@link Predicate}.
+     */
+    static Predicate<ConfigEntry> newPlanConfigPredicate(@NotNull final List<V1KafkaTopic> expectedTopics,
+                                                         final boolean isConfigDeleteOrphansEnabled) {
+        Set<String> expectedConfigNames = expectedTopics.stream()
+            .map(V1KafkaTopic::getSpec)
+            .filter(Objects::nonNull)
+            .map(V1KafkaTopicSpec::getConfigs)
+            .filter(Objects::nonNull)
+            .flatMap(configs -> configs.values().stream())
+            .map(ConfigValue::name)
+            .collect(Collectors.toSet());
+        return entry -> expectedConfigNames.contains(entry.name())
+            || (isConfigDeleteOrphansEnabled && entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG);
+    }
+
     /**
      * {@inheritDoc}
      **/
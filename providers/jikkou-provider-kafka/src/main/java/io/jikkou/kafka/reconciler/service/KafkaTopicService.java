@@ -11,7 +11,6 @@ import static io.jikkou.common.utils.AsyncUtils.getValueOrThrowException;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.models.ObjectMeta;
 import io.jikkou.kafka.KafkaLabelAndAnnotations;
-import io.jikkou.kafka.adapters.KafkaConfigsAdapter;
 import io.jikkou.kafka.internals.ConfigsBuilder;
 import io.jikkou.kafka.internals.Futures;
 import io.jikkou.kafka.models.KafkaTopicPartitionInfo;
@@ -20,13 +19,19 @@ import io.jikkou.kafka.models.V1KafkaTopicSpec;
 import io.jikkou.kafka.models.V1KafkaTopicStatus;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.kafka.clients.admin.*;
 import org.apache.kafka.common.*;
 import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
 /**
@@ -35,7 +40,20 @@ import reactor.core.publisher.Mono;
 public final class KafkaTopicService {
 
     public static final Set<String> NO_CONFIG_MAP_REFS = Collections.emptySet();
+
+    /**
+     * The default maximum number of topics described per request.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * The default maximum number of batches of topics being described concurrently.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+
     private final AdminClient client;
+    private final int batchSize;
+    private final int maxInFlightBatches;
 
     /**
      * Creates a new {@link KafkaTopicService} instance.
@@ -43,7 +61,29 @@ public final class KafkaTopicService {
      * @param client the {@link AdminClient} instance.
      */
     public KafkaTopicService(final AdminClient client) {
+        this(client, DEFAULT_BATCH_SIZE, DEFAULT_MAX_IN_FLIGHT_BATCHES);
+    }
+
+    /**
+     * Creates a new {@link KafkaTopicService} instance.
+     *
+     * @param client             the {@link AdminClient} instance.
+     * @param batchSize          the maximum number of topics described per request.
+     * @param maxInFlightBatches the maximum number of batches of topics being described concurrently.
+     * @since 1.2.0
+     */
+    public KafkaTopicService(final AdminClient client,
+                             final int batchSize,
+                             final int maxInFlightBatches) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, was: " + batchSize);
+        }
+        if (maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("maxInFlightBatches must be positive, was: " + maxInFlightBatches);
+        }
         this.client = Objects.requireNonNull(client, "client cannot be null");
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
     }
 
     /**
@@ -53,17 +93,27 @@ public final class KafkaTopicService {
      * @return the list of V1KafkaTopic.
      */
     public List<V1KafkaTopic> listAll(@NotNull final Predicate<ConfigEntry> configEntryPredicate, boolean status) {
+        return listAll(topic -> true, configEntryPredicate, status);
+    }
 
-        // Gather all topic names
-        Set<String> topics = getValueOrThrowException(
-            Futures.toCompletableFuture(client.listTopics().names()),
-            e -> new JikkouRuntimeException("Failed to list kafka topics", e)
-        );
-        return listAll(topics, configEntryPredicate, status);
+    /**
+     * List the kafka topics whose names match the given predicate, with only config-entries matching
+     * the given predicate. Only the matching topics are described.
+     *
+     * @param topicNamePredicate   The predicate for matching topic names.
+     * @param configEntryPredicate The predicate for matching config entries.
+     * @return the list of V1KafkaTopic.
+     * @since 1.2.0
+     */
+    public List<V1KafkaTopic> listAll(@NotNull final Predicate<String> topicNamePredicate,
+                                      @NotNull final Predicate<ConfigEntry> configEntryPredicate,
+                                      boolean status) {
+        return stream(topicNamePredicate, configEntryPredicate, status).toList();
     }
 
     /**
      * List all kafka topics with only config-entries matching the given predicate.
+     * The given topics that do not exist are ignored.
      *
      * @param topics               The set of topic names.
      * @param configEntryPredicate The predicate for matching config entries.
@@ -72,23 +122,174 @@ public final class KafkaTopicService {
     public List<V1KafkaTopic> listAll(@NotNull final Set<String> topics,
                                       @NotNull final Predicate<ConfigEntry> configEntryPredicate,
                                       boolean status) {
+        return stream(topics, configEntryPredicate, status).toList();
+    }
 
-        // Gather description and configuration for all topics
-        CompletableFuture<List<V1KafkaTopic>> results = getDescriptionForTopics(topics)
-            .thenCombine(getConfigForTopics(topics), (descriptions, configs) -> descriptions.values()
-                .stream()
-                .map(desc -> newTopicResources(desc, configs.get(desc.name()), configEntryPredicate, status))
-                .toList());
+    /**
+     * Streams the kafka topics whose names match the given predicate, with only config-entries matching
+     * the given predicate. Only the matching topics are described.
+     *
+     * @param topicNamePredicate   The predicate for matching topic names.
+     * @param configEntryPredicate The predicate for matching config entries.
+     * @return the lazy stream of V1KafkaTopic.
+     * @see #stream(Set, Predicate, boolean)
+     * @since 1.2.0
+     */
+    public Stream<V1KafkaTopic> stream(@NotNull final Predicate<String> topicNamePredicate,
+                                       @NotNull final Predicate<ConfigEntry> configEntryPredicate,
+                                       boolean status) {
+        return stream(listTopicNames(topicNamePredicate), null, configEntryPredicate, status);
+    }
+
+    /**
+     * Streams the kafka topics whose names match the given predicate and that match the given topic
+     * predicate, with only config-entries matching the given predicate.
+     * <p>
+     * The topic predicate is evaluated on each topic with all its config-entries, before the config-entries
+     * not matching the config predicate are removed, so that topics can be selected on any of their configs.
+     *
+     * @param topicNamePredicate   The predicate for matching topic names.
+     * @param topicPredicate       The predicate for matching topics.
+     * @param configEntryPredicate The predicate for matching config entries.
+     * @return the lazy stream of V1KafkaTopic.
+     * @since 1.2.0
+     */
+    public Stream<V1KafkaTopic> stream(@NotNull final Predicate<String> topicNamePredicate,
+                                       @NotNull final Predicate<V1KafkaTopic> topicPredicate,
+                                       @NotNull final Predicate<ConfigEntry> configEntryPredicate,
+                                       boolean status) {
+        return stream(listTopicNames(topicNamePredicate), topicPredicate, configEntryPredicate, status);
+    }
 
-        return getValueOrThrowException(
-            results,
-            e -> new JikkouRuntimeException("Failed to retrieve kafka topic descriptions/or configurations.", e)
+    private Set<String> listTopicNames(final Predicate<String> topicNamePredicate) {
+        // Gather all topic names
+        Set<String> topics = getValueOrThrowException(
+            Futures.toCompletableFuture(client.listTopics().names()),
+            e -> new JikkouRuntimeException("Failed to list kafka topics", e)
         );
+        return topics.stream()
+            .filter(topicNamePredicate)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Streams the given kafka topics, with only config-entries matching the given predicate.
+     * The given topics that do not exist are ignored.
+     * <p>
+     * Topics are described by batches, in the order of their names, with a bounded number of batches
+     * being described concurrently. The batches are requested as the stream is consumed, so that the
+     * resources of a batch are created while the next batches are being described.
+     * <p>
+     * The config values inherited from the brokers and the cluster are held once, as defaults shared
+     * by the configs of all the streamed topics: the configs of a topic only hold the values overridden
+     * for the topic on top of these defaults.
+     *
+     * @param topics               The set of topic names.
+     * @param configEntryPredicate The predicate for matching config entries.
+     * @return the lazy stream of V1KafkaTopic.
+     * @since 1.2.0
+     */
+    public Stream<V1KafkaTopic> stream(@NotNull final Set<String> topics,
+                                       @NotNull final Predicate<ConfigEntry> configEntryPredicate,
+                                       boolean status) {
+        return stream(topics, null, configEntryPredicate, status);
+    }
+
+    /**
+     * Streams the given kafka topics that match the given topic predicate, with only config-entries
+     * matching the given predicate. The given topics that do not exist are ignored.
+     * <p>
+     * The topic predicate is evaluated on each topic with all its config-entries, before the config-entries
+     * not matching the config predicate are removed, so that topics can be selected on any of their configs.
+     *
+     * @param topics               The set of topic names.
+     * @param topicPredicate       The predicate for matching topics, or {@code null} to match all topics.
+     * @param configEntryPredicate The predicate for matching config entries.
+     * @return the lazy stream of V1KafkaTopic.
+     * @see #stream(Set, Predicate, boolean)
+     * @since 1.2.0
+     */
+    public Stream<V1KafkaTopic> stream(@NotNull final Set<String> topics,
+                                       @Nullable final Predicate<V1KafkaTopic> topicPredicate,
+                                       @NotNull final Predicate<ConfigEntry> configEntryPredicate,
+                                       boolean status) {
+        TopicConfigDefaults configDefaults = new TopicConfigDefaults(configEntryPredicate);
+        TopicConfigDefaults allConfigDefaults = topicPredicate == null ? null : new TopicConfigDefaults(entry -> true);
+        List<String> names = topics.stream().sorted().toList();
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < names.size(); i += batchSize) {
+            batches.add(names.subList(i, Math.min(i + batchSize, names.size())));
+        }
+        Iterator<List<V1KafkaTopic>> iterator = new Iterator<>() {
+            private final Deque<CompletableFuture<TopicBatch>> inFlight = new ArrayDeque<>();
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                fill();
+                return !inFlight.isEmpty();
+            }
+
+            @Override
+            public List<V1KafkaTopic> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CompletableFuture<TopicBatch> head = inFlight.poll();
+                // Request the next batch before creating the resources of this one.
+                fill();
+                TopicBatch batch = getValueOrThrowException(
+                    head,
+                    e -> new JikkouRuntimeException("Failed to retrieve kafka topic descriptions/or configurations.", e)
+                );
+                return batch.descriptions()
+                    .stream()
+                    // A topic may be deleted between the two requests.
+                    .filter(desc -> batch.configs().containsKey(desc.name()))
+                    .sorted(Comparator.comparing(TopicDescription::name))
+                    .map(desc -> newTopicResources(desc, batch.configs().get(desc.name()), topicPredicate, allConfigDefaults, configDefaults, status))
+                    .filter(Objects::nonNull)
+                    .toList();
+            }
+
+            private void fill() {
+                while (inFlight.size() < maxInFlightBatches && next < batches.size()) {
+                    List<String> batch = batches.get(next++);
+                    inFlight.add(getDescriptionForTopics(batch)
+                        .thenCombine(getConfigForTopics(batch), (descriptions, configs) ->
+                            new TopicBatch(descriptions.values(), configs)
+                        )
+                    );
+                }
+            }
+        };
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .flatMap(List::stream);
+    }
+
+    private record TopicBatch(Collection<TopicDescription> descriptions, Map<String, Config> configs) {
+    }
+
+    private V1KafkaTopic newTopicResources(final TopicDescription description,
+                                           final Config config,
+                                           final Predicate<V1KafkaTopic> topicPredicate,
+                                           final TopicConfigDefaults allConfigDefaults,
+                                           final TopicConfigDefaults configDefaults,
+                                           boolean status) {
+        if (topicPredicate == null) {
+            return newTopicResources(description, config, configDefaults, status);
+        }
+        V1KafkaTopic topic = newTopicResources(description, config, allConfigDefaults, status);
+        if (!topicPredicate.test(topic)) {
+            return null;
+        }
+        return topic.withSpec(topic.getSpec().withConfigs(configDefaults.configsOf(config)));
     }
 
     private V1KafkaTopic newTopicResources(final TopicDescription description,
                                            final Config config,
-                                           final Predicate<ConfigEntry> configEntryPredicate,
+                                           final TopicConfigDefaults configDefaults,
                                            boolean status) {
         int rf = computeReplicationFactor(description);
         ObjectMeta.ObjectMetaBuilder objectMetaBuilder = ObjectMeta
@@ -105,7 +306,7 @@ public final class KafkaTopicService {
             .withSpec(V1KafkaTopicSpec.builder()
                 .withPartitions(description.partitions().size())
                 .withReplicas((short) rf)
-                .withConfigs(KafkaConfigsAdapter.of(config, configEntryPredicate))
+                .withConfigs(configDefaults.configsOf(config))
                 .withConfigMapRefs(NO_CONFIG_MAP_REFS)
                 .build()
             );
@@ -168,14 +369,37 @@ public final class KafkaTopicService {
 
         Set<ConfigResource> resources = builder.build().keySet();
         DescribeConfigsResult result = client.describeConfigs(resources);
-        return Futures.toCompletableFuture(result.all())
-            .thenApply(configs -> configs.entrySet()
-                .stream()
-                .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue)));
+        return getValuesForExistingTopics(result.values()
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue)));
     }
 
     private CompletableFuture<Map<String, TopicDescription>> getDescriptionForTopics(final Collection<String> topicNames) {
         DescribeTopicsResult result = client.describeTopics(topicNames);
-        return Futures.toCompletableFuture(result.allTopicNames());
+        return getValuesForExistingTopics(result.topicNameValues());
+    }
+
+    private static <T> CompletableFuture<Map<String, T>> getValuesForExistingTopics(final Map<String, KafkaFuture<T>> futures) {
+        Map<String, T> values = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] all = futures.entrySet()
+            .stream()
+            .map(entry -> Futures.toCompletableFuture(entry.getValue())
+                .<Void>handle((value, error) -> {
+                    if (error == null) {
+                        values.put(entry.getKey(), value);
+                        return null;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                    if (cause instanceof UnknownTopicOrPartitionException) {
+                        return null;
+                    }
+                    throw new CompletionException(cause);
+                })
+            )
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(all).thenApply(unused -> values);
     }
 }
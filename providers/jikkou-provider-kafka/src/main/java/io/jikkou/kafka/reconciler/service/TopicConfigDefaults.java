@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.kafka.reconciler.service;
+
+import io.jikkou.core.models.ConfigValue;
+import io.jikkou.core.models.Configs;
+import io.jikkou.kafka.adapters.KafkaConfigsAdapter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The table of the config values inherited by topics from the brokers and the cluster, i.e., the config
+ * entries whose source is not {@link ConfigEntry.ConfigSource#DYNAMIC_TOPIC_CONFIG}.
+ * <p>
+ * The inherited values are identical for most topics of a cluster. The inherited entries of the first
+ * topic are kept as defaults shared by all the topics, and the configs of each topic only hold its entries
+ * that differ from these defaults, i.e., mostly the values overridden for the topic, on top of the shared
+ * defaults (see {@link Configs#withDefaults(Configs)}). The configs of a topic lacking one of the default
+ * entries hold all its entries.
+ * <p>
+ * A table is only valid for the topics of a single cluster.
+ */
+final class TopicConfigDefaults {
+
+    private final Predicate<ConfigEntry> predicate;
+    private volatile Configs defaults;
+
+    /**
+     * Creates a new {@link TopicConfigDefaults} instance.
+     *
+     * @param predicate the predicate for matching the config entries of the topics.
+     */
+    TopicConfigDefaults(@NotNull final Predicate<ConfigEntry> predicate) {
+        this.predicate = Objects.requireNonNull(predicate, "predicate cannot be null");
+    }
+
+    /**
+     * Creates the configs of a topic, with only the config entries matching the predicate of this table.
+     *
+     * @param config the topic config returned by the brokers.
+     * @return a new {@link Configs}.
+     */
+    Configs configsOf(@NotNull final Config config) {
+        List<ConfigEntry> entries = config.entries().stream().filter(predicate).toList();
+        Configs shared = defaultsOf(entries);
+        Configs configs = Configs.withDefaults(shared);
+        int covered = 0;
+        for (ConfigEntry entry : entries) {
+            ConfigValue value = shared.get(entry.name());
+            if (value != null) {
+                covered++;
+                if (isInherited(entry)
+                    && entry.isDefault() == value.isDefault()
+                    && Objects.equals(entry.value(), value.value())) {
+                    continue;
+                }
+            }
+            configs.add(KafkaConfigsAdapter.of(entry));
+        }
+        if (covered < shared.size()) {
+            // The topic lacks some default entries.
+            Configs all = new Configs();
+            entries.forEach(entry -> all.add(KafkaConfigsAdapter.of(entry)));
+            return all;
+        }
+        return configs;
+    }
+
+    private Configs defaultsOf(final List<ConfigEntry> entries) {
+        Configs current = defaults;
+        if (current == null) {
+            synchronized (this) {
+                current = defaults;
+                if (current == null) {
+                    current = new Configs();
+                    for (ConfigEntry entry : entries) {
+                        if (isInherited(entry)) {
+                            current.add(KafkaConfigsAdapter.of(entry));
+                        }
+                    }
+                    defaults = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static boolean isInherited(final ConfigEntry entry) {
+        return entry.source() != ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG;
+    }
+}
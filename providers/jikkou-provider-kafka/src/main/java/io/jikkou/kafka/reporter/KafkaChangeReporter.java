@@ -17,8 +17,10 @@ import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.io.Jackson;
 import io.jikkou.core.reconciler.ChangeResult;
 import io.jikkou.core.reporter.ChangeReporter;
+import io.jikkou.kafka.KafkaExtensionProvider;
 import io.jikkou.kafka.internals.KafkaRecord;
 import io.jikkou.kafka.internals.admin.AdminClientContext;
+import io.jikkou.kafka.internals.admin.AdminClientContextFactory;
 import io.jikkou.kafka.internals.producer.DefaultProducerFactory;
 import io.jikkou.kafka.internals.producer.KafkaRecordSender;
 import io.jikkou.kafka.internals.producer.ProducerFactory;
@@ -34,7 +36,6 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
-import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +58,8 @@ public class KafkaChangeReporter implements ChangeReporter {
 
     private ProducerFactory<byte[], byte[]> producerFactory;
 
+    private AdminClientContextFactory adminClientContextFactory;
+
     /**
      * Creates a new {@link KafkaChangeReporter} instance.
      */
@@ -88,6 +91,10 @@ public class KafkaChangeReporter implements ChangeReporter {
                     new ByteArraySerializer()
             );
         }
+        if (configuration.isTopicCreationEnabled()) {
+            adminClientContextFactory = context.<KafkaExtensionProvider>provider()
+                    .newAdminClientContextFactory(configuration.adminClientConfig());
+        }
     }
 
     /**
@@ -149,8 +156,8 @@ public class KafkaChangeReporter implements ChangeReporter {
 
     private void checkIfTopicNeedToBeCreated() {
         if (this.configuration.isTopicCreationEnabled()) {
-            try (var adminClient = AdminClient.create(this.configuration.adminClientConfig())) {
-                new AdminClientContext(adminClient).createTopic(
+            try (AdminClientContext context = adminClientContextFactory.createAdminClientContext()) {
+                context.createTopic(
                         this.configuration.topicName(),
                         NUM_PARTITIONS,
                         (short) this.configuration.defaultReplicationFactor()
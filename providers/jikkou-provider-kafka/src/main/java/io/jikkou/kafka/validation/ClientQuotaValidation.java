@@ -50,4 +50,11 @@ public class ClientQuotaValidation implements Validation<V1KafkaClientQuota> {
         return ValidationResult.success();
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -71,4 +71,12 @@ public class TopicConfigKeysValidation extends TopicValidation {
         var message = String.format("Config key '%s' for topic '%s' is not valid", configKey, topicName);
         return new ValidationError(getName(), resource, message);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+}
@@ -83,4 +83,12 @@ public final class TopicMaxNumPartitionsValidation extends TopicValidation {
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -83,4 +83,12 @@ public class TopicMinNumPartitionsValidation extends TopicValidation {
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -85,4 +85,12 @@ public class TopicMinReplicationFactorValidation extends TopicValidation {
 
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
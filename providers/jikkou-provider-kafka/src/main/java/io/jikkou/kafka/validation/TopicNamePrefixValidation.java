@@ -85,4 +85,12 @@ public final class TopicNamePrefixValidation extends TopicValidation {
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
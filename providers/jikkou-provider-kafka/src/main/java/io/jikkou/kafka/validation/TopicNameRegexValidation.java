@@ -105,4 +105,12 @@ public class TopicNameRegexValidation extends TopicValidation {
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.kafka.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+
+class ThrottleAwareBatchExecutorTest {
+
+    @Test
+    void shouldSendRequestsByBatches() throws Exception {
+        // Given
+        ThrottleAwareBatchExecutor executor = new ThrottleAwareBatchExecutor(2, 0);
+        List<List<String>> batches = new ArrayList<>();
+
+        // When
+        Map<String, CompletableFuture<Void>> results = executor.execute(requests("a", "b", "c", "d", "e"), batch -> {
+            synchronized (batches) {
+                batches.add(List.copyOf(batch.keySet()));
+            }
+            return succeeded(batch.keySet());
+        });
+
+        // Then
+        await(results);
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), batches);
+    }
+
+    @Test
+    void shouldRetryOnlyThrottledRequestsAfterThrottleTime() throws Exception {
+        // Given
+        ThrottleAwareBatchExecutor executor = new ThrottleAwareBatchExecutor(3, 1);
+        List<List<String>> batches = new ArrayList<>();
+        List<Long> sentAt = new ArrayList<>();
+
+        // When
+        Map<String, CompletableFuture<Void>> results = executor.execute(requests("a", "b", "c", "d"), batch -> {
+            synchronized (batches) {
+                batches.add(List.copyOf(batch.keySet()));
+                sentAt.add(System.nanoTime());
+            }
+            Map<String, KafkaFuture<Void>> futures = new LinkedHashMap<>(succeeded(batch.keySet()));
+            if (batches.size() == 1) {
+                futures.put("b", failed(new ThrottlingQuotaExceededException(200, "throttled")));
+                futures.put("c", failed(new InvalidTopicException("invalid")));
+            }
+            return futures;
+        });
+
+        // Then
+        await(results);
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("b", "d")), batches);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(sentAt.get(1) - sentAt.get(0)) >= 200);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> results.get("c").get());
+        assertInstanceOf(InvalidTopicException.class, error.getCause());
+    }
+
+    @Test
+    void shouldFailThrottledRequestGivenMaxRetriesExceeded() {
+        // Given
+        ThrottleAwareBatchExecutor executor = new ThrottleAwareBatchExecutor(10, 2);
+        List<Set<String>> batches = new ArrayList<>();
+
+        // When
+        Map<String, CompletableFuture<Void>> results = executor.execute(requests("a"), batch -> {
+            synchronized (batches) {
+                batches.add(batch.keySet());
+            }
+            return Map.of("a", failed(new ThrottlingQuotaExceededException(0, "throttled")));
+        });
+
+        // Then
+        ExecutionException error = assertThrows(ExecutionException.class, () -> results.get("a").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ThrottlingQuotaExceededException.class, error.getCause());
+        assertEquals(3, batches.size());
+    }
+
+    @Test
+    void shouldFailGivenInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ThrottleAwareBatchExecutor(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ThrottleAwareBatchExecutor(1, -1));
+    }
+
+    private static Map<String, Integer> requests(String... keys) {
+        Map<String, Integer> requests = new LinkedHashMap<>();
+        for (String key : keys) {
+            requests.put(key, 1);
+        }
+        return requests;
+    }
+
+    private static Map<String, KafkaFuture<Void>> succeeded(Set<String> keys) {
+        return keys.stream().collect(Collectors.toMap(
+            Function.identity(),
+            key -> KafkaFuture.completedFuture(null),
+            (a, b) -> a,
+            LinkedHashMap::new
+        ));
+    }
+
+    private static KafkaFuture<Void> failed(Throwable error) {
+        KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    private static void await(Map<String, CompletableFuture<Void>> results) throws Exception {
+        CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+            .handle((unused, error) -> null)
+            .get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.kafka.internals.admin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SharedAdminClientPoolTest {
+
+    private static final Map<String, Object> CONFIGS = Map.of("bootstrap.servers", "localhost:9092");
+
+    private final SharedAdminClientPool pool = new SharedAdminClientPool();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AdminClientFactory factory = () -> {
+        created.incrementAndGet();
+        AdminClient client = mock(AdminClient.class);
+        DescribeClusterResult result = mock(DescribeClusterResult.class);
+        when(result.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster-id"));
+        when(client.describeCluster()).thenReturn(result);
+        return client;
+    };
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void shouldShareClientBetweenContextsGivenSameKey() {
+        // Given
+        AdminClient first;
+        try (AdminClientContext context = pool.newAdminClientContext(CONFIGS, factory)) {
+            first = context.getAdminClient();
+        }
+
+        // When
+        AdminClient second;
+        try (AdminClientContext context = pool.newAdminClientContext(Map.copyOf(CONFIGS), factory)) {
+            second = context.getAdminClient();
+        }
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        verify(first, never()).close();
+    }
+
+    @Test
+    void shouldCreateNewClientGivenDifferentKey() {
+        // Given
+        try (AdminClientContext first = pool.newAdminClientContext(CONFIGS, factory);
+             AdminClientContext second = pool.newAdminClientContext(Map.of("bootstrap.servers", "other:9092"), factory)) {
+            // When / Then
+            assertNotSame(first.getAdminClient(), second.getAdminClient());
+            assertEquals(2, created.get());
+        }
+    }
+
+    @Test
+    void shouldDescribeClusterIdOnceGivenSharedClient() {
+        // Given
+        AdminClient client;
+        try (AdminClientContext context = pool.newAdminClientContext(CONFIGS, factory)) {
+            client = context.getAdminClient();
+            assertEquals("cluster-id", context.getClusterId());
+        }
+
+        // When
+        String clusterId;
+        try (AdminClientContext context = pool.newAdminClientContext(CONFIGS, factory)) {
+            clusterId = context.getClusterId();
+        }
+
+        // Then
+        assertEquals("cluster-id", clusterId);
+        verify(client, times(1)).describeCluster();
+    }
+
+    @Test
+    void shouldCloseClientWhenPoolAndLastContextAreClosed() {
+        // Given
+        AdminClientContext context = pool.newAdminClientContext(CONFIGS, factory);
+        AdminClient client = context.getAdminClient();
+
+        // When
+        pool.close();
+
+        // Then
+        verify(client, never()).close();
+        context.close();
+        verify(client, times(1)).close();
+    }
+
+    @Test
+    void shouldEvictIdleClientWhenNewContextIsCreated() {
+        // Given
+        SharedAdminClientPool evicting = new SharedAdminClientPool(Duration.ZERO);
+        AdminClient client;
+        try (AdminClientContext context = evicting.newAdminClientContext(CONFIGS, factory)) {
+            client = context.getAdminClient();
+        }
+        verify(client, never()).close();
+
+        // When
+        AdminClient other;
+        try (AdminClientContext context = evicting.newAdminClientContext(CONFIGS, factory)) {
+            other = context.getAdminClient();
+        }
+
+        // Then
+        verify(client, times(1)).close();
+        assertNotSame(client, other);
+        assertEquals(2, created.get());
+        evicting.close();
+        verify(other, times(1)).close();
+    }
+
+    @Test
+    void shouldNotEvictClientUsedByContext() {
+        // Given
+        SharedAdminClientPool evicting = new SharedAdminClientPool(Duration.ZERO);
+        AdminClientContext context = evicting.newAdminClientContext(CONFIGS, factory);
+        AdminClient client = context.getAdminClient();
+
+        // When
+        try (AdminClientContext other = evicting.newAdminClientContext(CONFIGS, factory)) {
+            // Then
+            assertSame(client, other.getAdminClient());
+        }
+        verify(client, never()).close();
+        context.close();
+        evicting.close();
+        verify(client, times(1)).close();
+    }
+}
@@ -7,18 +7,54 @@
 package io.jikkou.kafka.reconciler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import io.jikkou.core.ReconciliationContext;
+import io.jikkou.core.config.Configuration;
+import io.jikkou.core.extension.ExtensionContext;
+import io.jikkou.core.models.Configs;
 import io.jikkou.core.models.ObjectMeta;
+import io.jikkou.core.models.change.ResourceChange;
 import io.jikkou.core.reconciler.Controller;
+import io.jikkou.core.reconciler.Operation;
+import io.jikkou.core.selector.SelectorFactory;
+import io.jikkou.core.selector.Selectors;
+import io.jikkou.kafka.KafkaExtensionProvider;
+import io.jikkou.kafka.internals.ThrottleAwareBatchExecutor;
+import io.jikkou.kafka.internals.admin.AdminClientContextFactory;
 import io.jikkou.kafka.models.V1KafkaTopic;
+import io.jikkou.kafka.models.V1KafkaTopicSpec;
+import io.jikkou.kafka.reconciler.service.KafkaTopicService;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
 import org.junit.jupiter.api.Test;
 
 class AdminClientKafkaTopicControllerTest {
 
+    private static final Node NODE = new Node(1, "localhost", 9092);
+
     @Test
     void shouldEnrichActualTopicWithLabelsFromExpected() {
         // GIVEN
@@ -112,4 +148,119 @@ class AdminClientKafkaTopicControllerTest {
         assertEquals(Map.of("jikkou.io/kafka.topic.id", "abc-123"),
                 actual.getMetadata().getLabels());
     }
+
+    @Test
+    void shouldKeepOnlyConfigEntriesThatCanBePartOfAChange() {
+        // GIVEN
+        V1KafkaTopic expected = V1KafkaTopic.builder()
+                .withMetadata(ObjectMeta.builder()
+                        .withName("my-topic")
+                        .build())
+                .withSpec(V1KafkaTopicSpec.builder()
+                        .withConfigs(Configs.of("retention.ms", 1000))
+                        .build())
+                .build();
+
+        // WHEN
+        Predicate<ConfigEntry> withConfigDeletion = AdminClientKafkaTopicController
+                .newPlanConfigPredicate(List.of(expected), true);
+        Predicate<ConfigEntry> withoutConfigDeletion = AdminClientKafkaTopicController
+                .newPlanConfigPredicate(List.of(expected), false);
+
+        // THEN
+        ConfigEntry expectedDefault = newConfigEntry("retention.ms", ConfigEntry.ConfigSource.DEFAULT_CONFIG);
+        ConfigEntry otherDefault = newConfigEntry("cleanup.policy", ConfigEntry.ConfigSource.DEFAULT_CONFIG);
+        ConfigEntry otherDynamic = newConfigEntry("cleanup.policy", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG);
+
+        assertTrue(withConfigDeletion.test(expectedDefault));
+        assertFalse(withConfigDeletion.test(otherDefault));
+        assertTrue(withConfigDeletion.test(otherDynamic));
+
+        assertTrue(withoutConfigDeletion.test(expectedDefault));
+        assertFalse(withoutConfigDeletion.test(otherDefault));
+        assertFalse(withoutConfigDeletion.test(otherDynamic));
+    }
+
+    @Test
+    void shouldApplySelectorOnAllConfigsGivenDeleteOrphans() {
+        // GIVEN
+        AdminClient client = mockAdminClient(Map.of(
+            "my-topic", List.of(),
+            "inherited-compact-topic", List.of(newConfigEntry("cleanup.policy", ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG)),
+            "orphan-topic", List.of()
+        ));
+        KafkaExtensionProvider provider = mock(KafkaExtensionProvider.class);
+        when(provider.newKafkaTopicService(client)).thenReturn(new KafkaTopicService(client));
+        when(provider.topicDeleteExcludePatterns()).thenReturn(List.of());
+        when(provider.newTopicMutationExecutor()).thenReturn(new ThrottleAwareBatchExecutor());
+        ExtensionContext extensionContext = mock(ExtensionContext.class);
+        when(extensionContext.provider()).thenReturn(provider);
+        when(extensionContext.contextForExtension(any())).thenReturn(extensionContext);
+
+        AdminClientKafkaTopicController controller = new AdminClientKafkaTopicController(
+            new AdminClientContextFactory(
+                Configuration.of(AdminClientContextFactory.KAFKA_BROKERS_WAIT_FOR_ENABLED.key(), false),
+                () -> client
+            )
+        );
+        controller.init(extensionContext);
+
+        V1KafkaTopic expected = V1KafkaTopic.builder()
+                .withMetadata(ObjectMeta.builder()
+                        .withName("my-topic")
+                        .build())
+                .withSpec(V1KafkaTopicSpec.builder()
+                        .withConfigs(Configs.of("retention.ms", 1000))
+                        .build())
+                .build();
+
+        // WHEN
+        List<ResourceChange> changes = controller.plan(List.of(expected), ReconciliationContext.builder()
+            .selector(Selectors.allMatch(new SelectorFactory().make(List.of("spec.configs.cleanup.policy DOESNOTEXISTS"))))
+            .configuration(Configuration.of(AdminClientKafkaTopicController.Config.IS_DELETE_ORPHANS_ENABLED.key(), true))
+            .build());
+
+        // THEN
+        Map<String, Operation> operations = changes.stream().collect(Collectors.toMap(
+            change -> change.getMetadata().getName(),
+            change -> change.getSpec().getOp()
+        ));
+        assertEquals(Map.of("my-topic", Operation.UPDATE, "orphan-topic", Operation.DELETE), operations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AdminClient mockAdminClient(Map<String, List<ConfigEntry>> topics) {
+        AdminClient client = mock(AdminClient.class);
+        DescribeClusterResult cluster = mock(DescribeClusterResult.class);
+        when(cluster.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster-id"));
+        when(client.describeCluster()).thenReturn(cluster);
+        ListTopicsResult names = mock(ListTopicsResult.class);
+        when(names.names()).thenReturn(KafkaFuture.completedFuture(topics.keySet()));
+        when(client.listTopics()).thenReturn(names);
+        when(client.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> requested = invocation.getArgument(0);
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.topicNameValues()).thenReturn(requested.stream().collect(Collectors.toMap(
+                Function.identity(),
+                name -> KafkaFuture.completedFuture(new TopicDescription(name, false, List.of(
+                    new TopicPartitionInfo(0, NODE, List.of(NODE), List.of(NODE))
+                )))
+            )));
+            return result;
+        });
+        when(client.describeConfigs(anyCollection())).thenAnswer(invocation -> {
+            Collection<ConfigResource> requested = invocation.getArgument(0);
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.values()).thenReturn(requested.stream().collect(Collectors.toMap(
+                Function.identity(),
+                resource -> KafkaFuture.completedFuture(new Config(topics.get(resource.name())))
+            )));
+            return result;
+        });
+        return client;
+    }
+
+    private static ConfigEntry newConfigEntry(String name, ConfigEntry.ConfigSource source) {
+        return new ConfigEntry(name, "value", source, false, false, List.of(), null, null);
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) The original authors
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.jikkou.kafka.reconciler.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jikkou.core.exceptions.JikkouRuntimeException;
+import io.jikkou.core.models.Configs;
+import io.jikkou.kafka.models.V1KafkaTopic;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class KafkaTopicServiceTest {
+
+    private static final Node NODE = new Node(1, "localhost", 9092);
+
+    private AdminClient adminClient;
+    private KafkaTopicService service;
+
+    @BeforeEach
+    void setUp() {
+        adminClient = mock(AdminClient.class);
+        service = new KafkaTopicService(adminClient);
+    }
+
+    @Test
+    void shouldDescribeGivenTopicsAndIgnoreUnknownTopics() {
+        // Given
+        mockDescribeTopics(Map.of(
+            "topic-a", KafkaFuture.completedFuture(newTopicDescription("topic-a")),
+            "topic-b", failedFuture(new UnknownTopicOrPartitionException("topic-b"))
+        ));
+        mockDescribeConfigs(Map.of(
+            new ConfigResource(ConfigResource.Type.TOPIC, "topic-a"), KafkaFuture.completedFuture(new Config(List.of(
+                new ConfigEntry("retention.ms", "1000")
+            ))),
+            new ConfigResource(ConfigResource.Type.TOPIC, "topic-b"), failedFuture(new UnknownTopicOrPartitionException("topic-b"))
+        ));
+
+        // When
+        List<V1KafkaTopic> topics = service.listAll(Set.of("topic-a", "topic-b"), entry -> true, false);
+
+        // Then
+        assertEquals(List.of("topic-a"), topics.stream().map(topic -> topic.getMetadata().getName()).toList());
+        assertEquals("1000", topics.getFirst().getSpec().getConfigs().get("retention.ms").value());
+        verify(adminClient, never()).listTopics();
+    }
+
+    @Test
+    void shouldFailGivenOtherErrorWhenDescribingTopics() {
+        // Given
+        mockDescribeTopics(Map.of(
+            "topic-a", failedFuture(new TimeoutException("timeout"))
+        ));
+        mockDescribeConfigs(Map.of(
+            new ConfigResource(ConfigResource.Type.TOPIC, "topic-a"), KafkaFuture.completedFuture(new Config(List.of()))
+        ));
+
+        // When / Then
+        assertThrows(JikkouRuntimeException.class, () -> service.listAll(Set.of("topic-a"), entry -> true, false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDescribeTopicsByBatchesAsStreamIsConsumed() {
+        // Given
+        KafkaTopicService batchingService = new KafkaTopicService(adminClient, 2, 1);
+        when(adminClient.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.topicNameValues()).thenReturn(names.stream().collect(Collectors.toMap(
+                Function.identity(),
+                name -> KafkaFuture.completedFuture(newTopicDescription(name))
+            )));
+            return result;
+        });
+        when(adminClient.describeConfigs(anyCollection())).thenAnswer(invocation -> {
+            Collection<ConfigResource> resources = invocation.getArgument(0);
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.values()).thenReturn(resources.stream().collect(Collectors.toMap(
+                Function.identity(),
+                resource -> KafkaFuture.completedFuture(new Config(List.of()))
+            )));
+            return result;
+        });
+
+        // When
+        Iterator<V1KafkaTopic> iterator = batchingService
+            .stream(Set.of("topic-e", "topic-d", "topic-c", "topic-b", "topic-a"), entry -> true, false)
+            .iterator();
+
+        // Then
+        verify(adminClient, never()).describeTopics(anyCollection());
+
+        assertEquals("topic-a", iterator.next().getMetadata().getName());
+        // The second batch is requested before the first one is consumed.
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(adminClient, times(2)).describeTopics(captor.capture());
+        assertEquals(List.of(List.of("topic-a", "topic-b"), List.of("topic-c", "topic-d")),
+            captor.getAllValues().stream().map(List::copyOf).toList());
+
+        List<String> remaining = new ArrayList<>();
+        iterator.forEachRemaining(topic -> remaining.add(topic.getMetadata().getName()));
+        assertEquals(List.of("topic-b", "topic-c", "topic-d", "topic-e"), remaining);
+        verify(adminClient, times(3)).describeTopics(anyCollection());
+    }
+
+    @Test
+    void shouldShareInheritedConfigValuesBetweenTopics() {
+        // Given
+        mockDescribeTopics(Map.of(
+            "topic-a", KafkaFuture.completedFuture(newTopicDescription("topic-a")),
+            "topic-b", KafkaFuture.completedFuture(newTopicDescription("topic-b"))
+        ));
+        mockDescribeConfigs(Map.of(
+            new ConfigResource(ConfigResource.Type.TOPIC, "topic-a"), KafkaFuture.completedFuture(new Config(List.of(
+                newConfigEntry("retention.ms", "1000", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG),
+                newConfigEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DEFAULT_CONFIG)
+            ))),
+            new ConfigResource(ConfigResource.Type.TOPIC, "topic-b"), KafkaFuture.completedFuture(new Config(List.of(
+                newConfigEntry("retention.ms", "1000", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG),
+                newConfigEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DEFAULT_CONFIG)
+            )))
+        ));
+
+        // When
+        List<V1KafkaTopic> topics = service.listAll(Set.of("topic-a", "topic-b"), entry -> true, false);
+
+        // Then
+        Configs configsA = topics.get(0).getSpec().getConfigs();
+        Configs configsB = topics.get(1).getSpec().getConfigs();
+        assertSame(configsA.get("cleanup.policy"), configsB.get("cleanup.policy"));
+        assertFalse(configsA.get("cleanup.policy").isDeletable());
+        assertNotSame(configsA.get("retention.ms"), configsB.get("retention.ms"));
+        assertTrue(configsA.get("retention.ms").isDeletable());
+        assertEquals(configsA, configsB);
+    }
+
+    @Test
+    void shouldFailGivenInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new KafkaTopicService(adminClient, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new KafkaTopicService(adminClient, 1, 0));
+    }
+
+    private void mockDescribeTopics(Map<String, KafkaFuture<TopicDescription>> values) {
+        DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+        when(result.topicNameValues()).thenReturn(values);
+        when(adminClient.describeTopics(anyCollection())).thenReturn(result);
+    }
+
+    private void mockDescribeConfigs(Map<ConfigResource, KafkaFuture<Config>> values) {
+        DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+        when(result.values()).thenReturn(values);
+        when(adminClient.describeConfigs(anyCollection())).thenReturn(result);
+    }
+
+    private static ConfigEntry newConfigEntry(String name, String value, ConfigEntry.ConfigSource source) {
+        return new ConfigEntry(name, value, source, false, false, List.of(), ConfigEntry.ConfigType.UNKNOWN, null);
+    }
+
+    private static TopicDescription newTopicDescription(String name) {
+        return new TopicDescription(name, false, List.of(
+            new TopicPartitionInfo(0, NODE, List.of(NODE), List.of(NODE))
+        ));
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(Throwable error) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
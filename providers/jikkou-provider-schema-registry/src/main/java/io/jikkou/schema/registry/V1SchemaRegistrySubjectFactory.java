@@ -16,7 +16,6 @@ import io.jikkou.schema.registry.models.SchemaRegistry;
 import io.jikkou.schema.registry.models.V1SchemaRegistrySubject;
 import io.jikkou.schema.registry.models.V1SchemaRegistrySubjectSpec;
 import io.jikkou.schema.registry.reconciler.internals.SchemaSubjectPrettyPrinter;
-
 import java.util.ArrayList;
 import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
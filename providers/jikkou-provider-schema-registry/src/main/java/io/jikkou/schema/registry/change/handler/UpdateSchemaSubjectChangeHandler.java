@@ -8,8 +8,8 @@ package io.jikkou.schema.registry.change.handler;
 
 import static io.jikkou.core.reconciler.Operation.CREATE;
 import static io.jikkou.core.reconciler.Operation.DELETE;
-import static io.jikkou.core.reconciler.Operation.UPDATE;
 import static io.jikkou.core.reconciler.Operation.NONE;
+import static io.jikkou.core.reconciler.Operation.UPDATE;
 import static io.jikkou.schema.registry.change.SchemaSubjectChangeComputer.*;
 import static io.jikkou.schema.registry.change.SchemaSubjectChangeComputer.DATA_COMPATIBILITY_LEVEL;
 import static io.jikkou.schema.registry.change.SchemaSubjectChangeComputer.DATA_SCHEMA;
@@ -27,9 +27,8 @@ import io.jikkou.schema.registry.model.CompatibilityLevels;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-
-import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
 public final class UpdateSchemaSubjectChangeHandler
@@ -17,6 +17,7 @@ import io.jikkou.core.extension.ContextualExtension;
 import io.jikkou.core.extension.ExtensionContext;
 import io.jikkou.core.models.ResourceList;
 import io.jikkou.core.reconciler.Collector;
+import io.jikkou.core.selector.NameFilter;
 import io.jikkou.core.selector.Selector;
 import io.jikkou.schema.registry.SchemaRegistryExtensionProvider;
 import io.jikkou.schema.registry.V1SchemaRegistrySubjectFactory;
@@ -99,7 +100,11 @@ public class SchemaRegistrySubjectCollector extends ContextualExtension implemen
                                                          @NotNull Selector selector) {
 
         try (AsyncSchemaRegistryApi api = new DefaultAsyncSchemaRegistryApi(SchemaRegistryApiFactory.create(config))) {
-            return listAll(configuration, api.listSubjects().flatMapMany(Flux::fromIterable), api);
+            // Only describe the subjects whose names may match the selector.
+            Flux<String> subjects = api.listSubjects()
+                .flatMapMany(Flux::fromIterable)
+                .filter(NameFilter.of(selector));
+            return listAll(configuration, subjects, api);
         }
     }
 
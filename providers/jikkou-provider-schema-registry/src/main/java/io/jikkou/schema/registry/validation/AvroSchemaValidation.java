@@ -247,4 +247,12 @@ public class AvroSchemaValidation implements Validation<V1SchemaRegistrySubject>
     private static boolean isAvroSchema(V1SchemaRegistrySubject resource) {
         return resource.getSpec().getSchemaType() == SchemaType.AVRO;
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
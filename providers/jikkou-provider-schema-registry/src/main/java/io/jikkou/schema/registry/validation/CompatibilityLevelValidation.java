@@ -68,4 +68,12 @@ public class CompatibilityLevelValidation implements Validation<V1SchemaRegistry
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -110,4 +110,12 @@ public class SubjectNameRegexValidation implements Validation<V1SchemaRegistrySu
         }
         return ValidationResult.success();
     }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
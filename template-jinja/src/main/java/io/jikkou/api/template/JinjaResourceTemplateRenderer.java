@@ -10,14 +10,20 @@ import static java.util.stream.Collectors.toCollection;
 
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.JinjavaConfig;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.InterpreterFactory;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
 import com.hubspot.jinjava.interpret.RenderResult;
 import com.hubspot.jinjava.interpret.TemplateError;
 import com.hubspot.jinjava.loader.CascadingResourceLocator;
 import com.hubspot.jinjava.loader.ClasspathResourceLocator;
 import com.hubspot.jinjava.loader.FileLocator;
+import com.hubspot.jinjava.loader.LocationResolver;
 import com.hubspot.jinjava.loader.ResourceLocator;
 import com.hubspot.jinjava.mode.ExecutionMode;
+import com.hubspot.jinjava.tree.Node;
 import io.jikkou.common.utils.CollectionUtils;
+import io.jikkou.common.utils.LruCache;
 import io.jikkou.core.config.ConfigProperty;
 import io.jikkou.core.config.Configuration;
 import io.jikkou.core.exceptions.ConfigException;
@@ -26,12 +32,20 @@ import io.jikkou.core.template.ResourceTemplateRenderer;
 import io.jikkou.core.template.TemplateBindings;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +76,11 @@ public class JinjaResourceTemplateRenderer implements ResourceTemplateRenderer {
         .required(false)
         .description("File locations from where you want to allow Jinja to load files.");
 
+    public static final ConfigProperty<Integer> TEMPLATE_CACHE_SIZE = ConfigProperty
+        .ofInt(CONFIG_NS + ".templateCacheSize")
+        .defaultValue(256)
+        .description("The maximum number of parsed templates, and of files loaded from the resource locations, kept in cache.");
+
     // list of scopes for bindings
     public enum Scopes {
         LABELS, VALUES, SYSTEM, ENV, PROPS, RESOURCE;
@@ -71,28 +90,34 @@ public class JinjaResourceTemplateRenderer implements ResourceTemplateRenderer {
         }
     }
 
-    private boolean failOnUnknownTokens = true;
+    private volatile boolean failOnUnknownTokens = true;
+
+    private volatile boolean preserveRawTags = false;
 
-    private boolean preserveRawTags = false;
+    private volatile Configuration configuration = Configuration.empty();
+
+    // The engine is created lazily, once per configuration, and is shared by concurrent renderings.
+    private volatile Jinjava engine;
 
     public JinjaResourceTemplateRenderer withFailOnUnknownTokens(final boolean failOnUnknownTokens) {
         this.failOnUnknownTokens = failOnUnknownTokens;
+        this.engine = null;
         return this;
     }
 
     public JinjaResourceTemplateRenderer withPreserveRawTags(final boolean preserveRawTags) {
         this.preserveRawTags = preserveRawTags;
+        this.engine = null;
         return this;
     }
 
-    private Configuration configuration = Configuration.empty();
-
     /**
      * {@inheritDoc}
      **/
     @Override
     public void configure(final @NotNull Configuration config) throws ConfigException {
         this.configuration = config;
+        this.engine = null;
     }
 
     /**
@@ -103,46 +128,93 @@ public class JinjaResourceTemplateRenderer implements ResourceTemplateRenderer {
                          @Nullable final URI location,
                          @NotNull final TemplateBindings bindings) {
         LOG.debug("Starting resource template rendering");
+        Jinjava jinjava = getOrCreateEngine();
+        Map<String, Object> bindingsMap = buildBindingsMapFrom(bindings, location);
+        RenderResult result = jinjava.renderForResult(template, bindingsMap);
+
+        List<TemplateError> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            TemplateError error = errors.getFirst();
+            throw new JikkouRuntimeException(
+                String.format(
+                    "Cannot render resource template. '%s': line %d, start_pos: %d, %s",
+                    formatErrorReason(error.getReason().name()),
+                    error.getLineno(),
+                    error.getStartPosition(),
+                    error.getMessage()
+                )
+            );
+        }
+        LOG.debug("Resource template rendering done");
+        return result.getOutput();
+    }
+
+    private Jinjava getOrCreateEngine() {
+        Jinjava jinjava = engine;
+        if (jinjava == null) {
+            synchronized (this) {
+                jinjava = engine;
+                if (jinjava == null) {
+                    jinjava = newEngine();
+                    engine = jinjava;
+                }
+            }
+        }
+        return jinjava;
+    }
+
+    private Jinjava newEngine() {
+        int cacheSize = TEMPLATE_CACHE_SIZE.get(configuration);
         JinjavaConfig config = JinjavaConfig.newBuilder()
             .withCharset(StandardCharsets.UTF_8)
             .withFailOnUnknownTokens(failOnUnknownTokens)
             .withExecutionMode(new PreserveRawExecutionMode(preserveRawTags))
             .withEnableRecursiveMacroCalls(ENABLE_RECURSIVE_MACRO_CALLS.get(configuration))
+            .withInterperterFactory(new CachingInterpreterFactory(new TemplateCache(cacheSize)))
             .build();
 
         Jinjava jinjava = new Jinjava(config);
 
         List<String> locations = RESOURCE_LOCATIONS_CALLS.getOptional(configuration).orElse(List.of());
         if (!locations.isEmpty()) {
+            List<File> baseDirs = new ArrayList<>();
             List<ResourceLocator> locators = locations.stream().map(baseDir -> {
                 try {
-                    return (ResourceLocator) new FileLocator(new File(baseDir));
+                    ResourceLocator locator = new FileLocator(new File(baseDir));
+                    baseDirs.add(new File(baseDir));
+                    return locator;
                 } catch (FileNotFoundException e) {
                     LOG.warn("Cannot configure Jinja resource location: '{}'. Cause: {}.", baseDir, e.getMessage());
                     return null;
                 }
             }).filter(Objects::nonNull).collect(toCollection(ArrayList::new));
             locators.add(new ClasspathResourceLocator());
-            jinjava.setResourceLocator(new CascadingResourceLocator(locators.toArray(new ResourceLocator[0])));
+            jinjava.setResourceLocator(new CachingResourceLocator(
+                new CascadingResourceLocator(locators.toArray(new ResourceLocator[0])),
+                baseDirs,
+                new LruCache<>(cacheSize)
+            ));
         }
-        Map<String, Object> bindingsMap = buildBindingsMapFrom(bindings, location);
-        RenderResult result = jinjava.renderForResult(template, bindingsMap);
+        return jinjava;
+    }
 
-        List<TemplateError> errors = result.getErrors();
-        if (!errors.isEmpty()) {
-            TemplateError error = errors.getFirst();
-            throw new JikkouRuntimeException(
-                String.format(
-                    "Cannot render resource template. '%s': line %d, start_pos: %d, %s",
-                    formatErrorReason(error.getReason().name()),
-                    error.getLineno(),
-                    error.getStartPosition(),
-                    error.getMessage()
-                )
-            );
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Looks for the default Jinja delimiters of expressions (<code>{{</code>), statements
+     * (<code>{%</code>) and comments (<code>{#</code>).
+     **/
+    @Override
+    public boolean mayContainTokens(@NotNull final String text) {
+        int index = text.indexOf('{');
+        while (index >= 0 && index < text.length() - 1) {
+            char next = text.charAt(index + 1);
+            if (next == '{' || next == '%' || next == '#') {
+                return true;
+            }
+            index = text.indexOf('{', index + 1);
         }
-        LOG.debug("Resource template rendering done");
-        return result.getOutput();
+        return false;
     }
 
     @NotNull
@@ -187,6 +259,187 @@ public class JinjaResourceTemplateRenderer implements ResourceTemplateRenderer {
         return formatted.substring(0, 1).toUpperCase() + formatted.substring(1);
     }
 
+    /**
+     * Creates interpreters sharing a cache of parsed templates.
+     */
+    static final class CachingInterpreterFactory implements InterpreterFactory {
+
+        private final TemplateCache templates;
+
+        CachingInterpreterFactory(final TemplateCache templates) {
+            this.templates = templates;
+        }
+
+        @Override
+        public JinjavaInterpreter newInstance(final JinjavaInterpreter orig) {
+            return new CachingInterpreter(orig, templates);
+        }
+
+        @Override
+        public JinjavaInterpreter newInstance(final Jinjava application,
+                                              final Context context,
+                                              final JinjavaConfig renderConfig) {
+            return new CachingInterpreter(application, context, renderConfig, templates);
+        }
+    }
+
+    static final class CachingInterpreter extends JinjavaInterpreter {
+
+        private final TemplateCache templates;
+
+        CachingInterpreter(final JinjavaInterpreter orig,
+                           final TemplateCache templates) {
+            super(orig);
+            this.templates = templates;
+        }
+
+        CachingInterpreter(final Jinjava application,
+                           final Context context,
+                           final JinjavaConfig renderConfig,
+                           final TemplateCache templates) {
+            super(application, context, renderConfig);
+            this.templates = templates;
+        }
+
+        @Override
+        public Node parse(final String template) {
+            String key = TemplateCache.keyOf(template);
+            Node node = templates.get(key);
+            if (node == null) {
+                int errors = getErrors().size();
+                node = super.parse(template);
+                // Syntax errors are reported while parsing: templates with errors must be parsed again.
+                if (getErrors().size() == errors) {
+                    templates.put(key, node);
+                }
+            }
+            return node;
+        }
+
+        @Override
+        public String getResource(final String resource) throws IOException {
+            String template = super.getResource(resource);
+            templates.markIncluded(TemplateCache.keyOf(template));
+            return template;
+        }
+    }
+
+    /**
+     * The cache of parsed templates, keyed by the SHA-256 digest of their content.
+     * <p>
+     * The templates included or imported are cached from their first parsing. Other templates,
+     * e.g., the resource files, are only cached once parsed a second time, so that the templates
+     * rendered only once are never held.
+     */
+    static final class TemplateCache {
+
+        private final LruCache<String, Node> templates;
+        // The digests of the templates which are cached on their next parsing.
+        private final LruCache<String, Boolean> candidates;
+
+        TemplateCache(final int maxSize) {
+            this.templates = new LruCache<>(maxSize);
+            this.candidates = new LruCache<>(maxSize);
+        }
+
+        @Nullable Node get(final String key) {
+            return templates.get(key);
+        }
+
+        void put(final String key, final Node node) {
+            if (candidates.get(key) != null) {
+                candidates.remove(key);
+                templates.put(key, node);
+            } else {
+                candidates.put(key, Boolean.TRUE);
+            }
+        }
+
+        void markIncluded(final String key) {
+            candidates.put(key, Boolean.TRUE);
+        }
+
+        int size() {
+            return templates.size();
+        }
+
+        static String keyOf(final String template) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(template.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Loads each file included or imported from the configured resource locations only once,
+     * as long as its last-modified time and size do not change.
+     */
+    static final class CachingResourceLocator implements ResourceLocator {
+
+        private final ResourceLocator delegate;
+        private final List<File> baseDirs;
+        private final LruCache<String, CachedResource> resources;
+
+        CachingResourceLocator(final ResourceLocator delegate,
+                               final List<File> baseDirs,
+                               final LruCache<String, CachedResource> resources) {
+            this.delegate = delegate;
+            this.baseDirs = List.copyOf(baseDirs);
+            this.resources = resources;
+        }
+
+        @Override
+        public String getString(final String fullName,
+                                final Charset encoding,
+                                final JinjavaInterpreter interpreter) throws IOException {
+            String key = encoding.name() + ":" + fullName;
+            FileStamp stamp = stampOf(fullName);
+            CachedResource resource = resources.get(key);
+            if (resource == null || !Objects.equals(resource.stamp(), stamp)) {
+                resource = new CachedResource(delegate.getString(fullName, encoding, interpreter), stamp);
+                resources.put(key, resource);
+            }
+            return resource.content();
+        }
+
+        /**
+         * Gets the stamp of the file resolved for the given name, in the same order as the file locators,
+         * or {@code null} if the name is resolved from the classpath.
+         */
+        private @Nullable FileStamp stampOf(final String fullName) {
+            for (File baseDir : baseDirs) {
+                File file = new File(fullName);
+                if (!file.isAbsolute()) {
+                    file = new File(baseDir, fullName);
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        return new FileStamp(file.toPath(), attributes.lastModifiedTime().toMillis(), attributes.size());
+                    }
+                } catch (IOException | InvalidPathException e) {
+                    // The file is not in this location.
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Optional<LocationResolver> getLocationResolver() {
+            return delegate.getLocationResolver();
+        }
+
+        record FileStamp(Path path, long lastModified, long size) {
+        }
+
+        record CachedResource(String content, @Nullable FileStamp stamp) {
+        }
+    }
+
     static class PreserveRawExecutionMode implements ExecutionMode {
         private final boolean preserveRaw;
 
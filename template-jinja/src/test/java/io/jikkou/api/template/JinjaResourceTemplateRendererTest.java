@@ -7,6 +7,8 @@
 package io.jikkou.api.template;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.JinjavaConfig;
 import io.jikkou.common.utils.Classes;
 import io.jikkou.core.exceptions.JikkouRuntimeException;
 import io.jikkou.core.io.Jackson;
@@ -23,6 +25,7 @@ import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -90,6 +93,23 @@ class JinjaResourceTemplateRendererTest {
         }
     }
 
+    @Test
+    void shouldRenderUpdatedIncludeGivenSameRenderer(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path include = tempDir.resolve("include.yaml");
+        Files.writeString(include, "prop: value");
+        JinjaResourceTemplateRenderer renderer = new JinjaResourceTemplateRenderer();
+        renderer.configure(JinjaResourceTemplateRenderer.RESOURCE_LOCATIONS_CALLS.asConfiguration(tempDir.toString()));
+        String template = "{% include 'include.yaml' %}";
+        Assertions.assertEquals("prop: value", renderer.render(template, null, TemplateBindings.defaults()));
+
+        // When
+        Files.writeString(include, "prop: updated-value");
+
+        // Then
+        Assertions.assertEquals("prop: updated-value", renderer.render(template, null, TemplateBindings.defaults()));
+    }
+
     @Test
     void shouldThrowExceptionWhenRenderingTemplateGivenNoFileLocation(@TempDir Path tempDir) throws IOException {
 
@@ -109,4 +129,70 @@ class JinjaResourceTemplateRendererTest {
 
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldDetectTemplateTokens() {
+        JinjaResourceTemplateRenderer renderer = new JinjaResourceTemplateRenderer();
+        Assertions.assertTrue(renderer.mayContainTokens("name: {{ values.name }}"));
+        Assertions.assertTrue(renderer.mayContainTokens("{% if true %}name: test{% endif %}"));
+        Assertions.assertTrue(renderer.mayContainTokens("{# comment #}"));
+        Assertions.assertFalse(renderer.mayContainTokens("config: { key: value }"));
+        Assertions.assertFalse(renderer.mayContainTokens("trailing: {"));
+    }
+
+    @Test
+    void shouldRenderCachedTemplateConcurrentlyGivenDifferentBindings() {
+        // Given
+        JinjaResourceTemplateRenderer renderer = new JinjaResourceTemplateRenderer();
+        String template = "name: {{ values.name }}";
+
+        // When
+        List<String> rendered = IntStream.range(0, 100)
+            .parallel()
+            .mapToObj(i -> renderer.render(
+                template,
+                null,
+                TemplateBindings.defaults().addValues(Map.of("name", "topic-" + i))
+            ))
+            .toList();
+
+        // Then
+        Assertions.assertEquals(
+            IntStream.range(0, 100).mapToObj(i -> "name: topic-" + i).toList(),
+            rendered
+        );
+    }
+
+    @Test
+    void shouldReportSyntaxErrorGivenCachedEngine() {
+        // Given
+        JinjaResourceTemplateRenderer renderer = new JinjaResourceTemplateRenderer();
+        String template = "{% if %}";
+
+        // When - Then
+        Assertions.assertThrows(JikkouRuntimeException.class, () -> renderer.render(template, null, TemplateBindings.defaults()));
+        Assertions.assertThrows(JikkouRuntimeException.class, () -> renderer.render(template, null, TemplateBindings.defaults()));
+    }
+
+    @Test
+    void shouldCacheIncludedTemplatesAndRepeatedTemplates() {
+        // Given
+        JinjaResourceTemplateRenderer.TemplateCache cache = new JinjaResourceTemplateRenderer.TemplateCache(16);
+        Jinjava jinjava = new Jinjava(JinjavaConfig.newBuilder()
+            .withInterperterFactory(new JinjaResourceTemplateRenderer.CachingInterpreterFactory(cache))
+            .build()
+        );
+        jinjava.setResourceLocator((fullName, encoding, interpreter) -> "name: {{ values.name }}");
+        Map<String, Object> bindings = Map.of("values", Map.of("name", "test"));
+
+        // When - Then
+        Assertions.assertEquals("name: test", jinjava.render("{% include 'name.yaml' %}", bindings));
+        Assertions.assertEquals(1, cache.size());
+
+        Assertions.assertEquals("test", jinjava.render("{{ values.name }}", bindings));
+        Assertions.assertEquals(1, cache.size());
+
+        Assertions.assertEquals("test", jinjava.render("{{ values.name }}", bindings));
+        Assertions.assertEquals(2, cache.size());
+    }
+}